@@ -0,0 +1,92 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link VectorQuantizer} keeping only the sign of each component, as one bit.
+ * <p>
+ * The code of a vector with {@literal d} dimensions is {@literal ceil(d / 8)} bytes, 1/32 of the size of
+ * the full-precision vector. Queries are binarized in the same way and scored by the fraction of matching bits
+ * ({@literal 1 - hamming distance / d}), which is computed with {@link Long#bitCount(long)} over 64 bits
+ * at a time.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.VectorQuantizer
+ * @since 0.1.0
+ */
+public class BinaryVectorQuantizer implements VectorQuantizer {
+
+	private static final VarHandle LONG_VIEW =
+		MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+	@Override
+	public @NonNull String getName() {
+		return "binary";
+	}
+
+	@Override
+	public int getCodeLength(int dimensions) {
+		return (dimensions + Byte.SIZE - 1) / Byte.SIZE;
+	}
+
+	@Override
+	public void quantize(@NonNull float[] vector, @NonNull byte[] codes, int offset) {
+
+		int codeLength = getCodeLength(vector.length);
+
+		for (int index = 0; index < codeLength; index++) {
+			codes[offset + index] = 0;
+		}
+
+		for (int index = 0; index < vector.length; index++) {
+			if (vector[index] > 0.0f) {
+				codes[offset + (index >>> 3)] |= (byte) (1 << (index & 7));
+			}
+		}
+	}
+
+	@Override
+	public @NonNull QueryScorer scorer(@NonNull float[] query) {
+
+		int codeLength = getCodeLength(query.length);
+		int dimensions = query.length;
+
+		byte[] queryCode = quantize(query);
+
+		return (codes, offset) -> {
+
+			int differentBits = 0;
+			int index = 0;
+
+			for (; index + Long.BYTES <= codeLength; index += Long.BYTES) {
+				differentBits += Long.bitCount((long) LONG_VIEW.get(queryCode, index)
+					^ (long) LONG_VIEW.get(codes, offset + index));
+			}
+
+			for (; index < codeLength; index++) {
+				differentBits += Integer.bitCount((queryCode[index] ^ codes[offset + index]) & 0xFF);
+			}
+
+			return 1.0f - (float) differentBits / dimensions;
+		};
+	}
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * {@link EmbeddingModel} decorator caching vector embeddings in Redis.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the {@link EmbeddingModel#getName() model name} and the normalized text,
+ * so that the same text embedded by different models never collides. Vectors are stored as compact binary blobs
+ * (see {@link Vectors#toByteArray(float[])}). Lookups for a batch of text are performed with {@literal MGET}
+ * commands sent in a single pipeline, and all cache misses are sent to the target {@link EmbeddingModel}
+ * in one embedding request.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.EmbeddingModel
+ * @see io.vmware.jedis.client.ai.EmbeddingCacheStatistics
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class EmbeddingCache implements EmbeddingModel {
+
+	protected static final int DEFAULT_LOOKUP_BATCH_SIZE = 500;
+
+	protected static final String DEFAULT_KEY_PREFIX = "embeddings";
+	protected static final String HASH_ALGORITHM = "SHA-256";
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	@Setter(AccessLevel.PROTECTED)
+	private int lookupBatchSize = DEFAULT_LOOKUP_BATCH_SIZE;
+
+	@Setter(AccessLevel.PROTECTED)
+	private Duration expirationTimeout;
+
+	@Getter(AccessLevel.PUBLIC)
+	private final EmbeddingCacheStatistics statistics = new EmbeddingCacheStatistics();
+
+	private final EmbeddingModel embeddingModel;
+
+	private final RedisExecutor redisExecutor;
+
+	@Setter(AccessLevel.PROTECTED)
+	private String keyPrefix = DEFAULT_KEY_PREFIX;
+
+	public EmbeddingCache(@NonNull RedisExecutor redisExecutor, @NonNull EmbeddingModel embeddingModel) {
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.embeddingModel = RedisAssertions.requireObject(embeddingModel, "EmbeddingModel is required");
+	}
+
+	protected @Nullable Duration getExpirationTimeout() {
+		return this.expirationTimeout;
+	}
+
+	@Override
+	public @NonNull String getName() {
+		return getEmbeddingModel().getName();
+	}
+
+	@Override
+	public List<float[]> embed(@NonNull List<String> texts) {
+
+		Assert.notNull(texts, "List of text to embed is required");
+
+		if (texts.isEmpty()) {
+			return List.of();
+		}
+
+		int size = texts.size();
+
+		float[][] vectors = new float[size][];
+		byte[][] keys = new byte[size][];
+		String[] normalizedTexts = new String[size];
+
+		for (int index = 0; index < size; index++) {
+			normalizedTexts[index] = normalize(texts.get(index));
+			keys[index] = toKey(normalizedTexts[index]);
+		}
+
+		List<byte[]> cachedValues = lookup(keys);
+
+		Map<String, List<Integer>> misses = new LinkedHashMap<>();
+		Map<String, byte[]> missKeys = new LinkedHashMap<>();
+
+		int hits = 0;
+
+		for (int index = 0; index < size; index++) {
+
+			byte[] cachedValue = cachedValues.get(index);
+
+			if (cachedValue != null) {
+				vectors[index] = Vectors.toFloatArray(cachedValue);
+				hits++;
+			}
+			else {
+				misses.computeIfAbsent(normalizedTexts[index], text -> new ArrayList<>()).add(index);
+				missKeys.putIfAbsent(normalizedTexts[index], keys[index]);
+			}
+		}
+
+		getStatistics().recordHits(hits);
+		getStatistics().recordMisses(size - hits);
+
+		if (!misses.isEmpty()) {
+
+			List<String> missingTexts = new ArrayList<>(misses.keySet());
+			List<float[]> embeddings = embedMisses(missingTexts);
+			List<byte[]> storeKeys = new ArrayList<>(missingTexts.size());
+			List<byte[]> storeValues = new ArrayList<>(missingTexts.size());
+
+			for (int index = 0; index < missingTexts.size(); index++) {
+
+				String text = missingTexts.get(index);
+				float[] vector = embeddings.get(index);
+
+				misses.get(text).forEach(vectorIndex -> vectors[vectorIndex] = vector);
+				storeKeys.add(missKeys.get(text));
+				storeValues.add(Vectors.toByteArray(vector));
+			}
+
+			store(storeKeys, storeValues);
+		}
+
+		return Arrays.asList(vectors);
+	}
+
+	private List<float[]> embedMisses(List<String> texts) {
+
+		long startTime = System.nanoTime();
+
+		List<float[]> embeddings = getEmbeddingModel().embed(texts);
+
+		getStatistics().recordModelCall(texts.size(), System.nanoTime() - startTime);
+
+		Assert.state(embeddings != null && embeddings.size() == texts.size(), () ->
+			String.format("EmbeddingModel [%s] returned [%d] embeddings for [%d] texts", getName(),
+				embeddings != null ? embeddings.size() : 0, texts.size()));
+
+		return embeddings;
+	}
+
+	protected @NonNull List<byte[]> lookup(@NonNull byte[][] keys) {
+
+		long startTime = System.nanoTime();
+
+		List<byte[]> values = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+			List<Response<List<byte[]>>> responses = new ArrayList<>();
+			int batchSize = Math.max(1, getLookupBatchSize());
+
+			for (int index = 0; index < keys.length; index += batchSize) {
+				byte[][] batch = Arrays.copyOfRange(keys, index, Math.min(index + batchSize, keys.length));
+				responses.add(pipeline.mget(batch));
+			}
+
+			pipeline.sync();
+
+			List<byte[]> results = new ArrayList<>(keys.length);
+
+			responses.forEach(response -> results.addAll(response.get()));
+
+			return results;
+		});
+
+		getStatistics().recordRedisTime(System.nanoTime() - startTime);
+
+		return values;
+	}
+
+	protected void store(@NonNull List<byte[]> keys, @NonNull List<byte[]> values) {
+
+		long startTime = System.nanoTime();
+
+		Duration expirationTimeout = getExpirationTimeout();
+		boolean expires = expirationTimeout != null && !expirationTimeout.isZero() && !expirationTimeout.isNegative();
+
+		getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			for (int index = 0; index < keys.size(); index++) {
+				if (expires) {
+					pipeline.psetex(keys.get(index), expirationTimeout.toMillis(), values.get(index));
+				}
+				else {
+					pipeline.set(keys.get(index), values.get(index));
+				}
+			}
+
+			pipeline.sync();
+
+			return null;
+		});
+
+		getStatistics().recordRedisTime(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Normalizes the given text so that trivially different text (Unicode composition, surrounding
+	 * and repeated whitespace) resolves to the same cache entry.
+	 *
+	 * @param text {@link String} to normalize.
+	 * @return the normalized text.
+	 */
+	protected @NonNull String normalize(@Nullable String text) {
+
+		String normalizedText = text != null ? Normalizer.normalize(text, Normalizer.Form.NFC) : "";
+
+		return WHITESPACE.matcher(normalizedText.strip()).replaceAll(" ");
+	}
+
+	protected @NonNull byte[] toKey(@NonNull String normalizedText) {
+
+		MessageDigest messageDigest = newMessageDigest();
+
+		messageDigest.update(getName().getBytes(StandardCharsets.UTF_8));
+		messageDigest.update((byte) 0);
+		messageDigest.update(normalizedText.getBytes(StandardCharsets.UTF_8));
+
+		String hash = HexFormat.of().formatHex(messageDigest.digest());
+
+		return String.format("%s:%s", getKeyPrefix(), hash).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private MessageDigest newMessageDigest() {
+
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM);
+		}
+		catch (NoSuchAlgorithmException cause) {
+			throw new IllegalStateException(String.format("%s is not supported", HASH_ALGORITHM), cause);
+		}
+	}
+
+	public @NonNull EmbeddingCache withExpirationTimeout(@Nullable Duration expirationTimeout) {
+		setExpirationTimeout(expirationTimeout);
+		return this;
+	}
+
+	public @NonNull EmbeddingCache withKeyPrefix(@NonNull String keyPrefix) {
+		Assert.hasText(keyPrefix, () -> String.format("Key prefix [%s] is required", keyPrefix));
+		setKeyPrefix(keyPrefix);
+		return this;
+	}
+
+	public @NonNull EmbeddingCache withLookupBatchSize(int lookupBatchSize) {
+		setLookupBatchSize(lookupBatchSize);
+		return this;
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe statistics recorded by the {@link EmbeddingCache}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.EmbeddingCache
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class EmbeddingCacheStatistics {
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder modelCalls = new LongAdder();
+	private final LongAdder modelNanos = new LongAdder();
+	private final LongAdder modelTexts = new LongAdder();
+	private final LongAdder redisNanos = new LongAdder();
+
+	void recordHits(long count) {
+		this.hits.add(count);
+	}
+
+	void recordMisses(long count) {
+		this.misses.add(count);
+	}
+
+	void recordModelCall(int textCount, long nanos) {
+		this.modelCalls.increment();
+		this.modelTexts.add(textCount);
+		this.modelNanos.add(nanos);
+	}
+
+	void recordRedisTime(long nanos) {
+		this.redisNanos.add(nanos);
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	public long getRequests() {
+		return getHits() + getMisses();
+	}
+
+	public double getHitRate() {
+		long requests = getRequests();
+		return requests > 0 ? (double) getHits() / requests : 0.0d;
+	}
+
+	public long getModelCalls() {
+		return this.modelCalls.sum();
+	}
+
+	public long getModelTexts() {
+		return this.modelTexts.sum();
+	}
+
+	public Duration getModelTime() {
+		return Duration.ofNanos(this.modelNanos.sum());
+	}
+
+	public Duration getRedisTime() {
+		return Duration.ofNanos(this.redisNanos.sum());
+	}
+
+	/**
+	 * Estimates the embedding model latency avoided by cache hits, computed as the number of hits multiplied by
+	 * the average model latency observed per embedded text.
+	 *
+	 * @return the estimated {@link Duration} of model latency saved by the cache.
+	 */
+	public Duration getEstimatedSavedLatency() {
+
+		long modelTexts = getModelTexts();
+
+		return modelTexts > 0
+			? Duration.ofNanos(this.modelNanos.sum() / modelTexts * getHits())
+			: Duration.ZERO;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s { hits = %d, misses = %d, hitRate = %.2f%%, modelCalls = %d, modelTime = %d ms,"
+				+ " redisTime = %d ms, estimatedSavedLatency = %d ms }",
+			getClass().getSimpleName(), getHits(), getMisses(), getHitRate() * 100.0d, getModelCalls(),
+			getModelTime().toMillis(), getRedisTime().toMillis(), getEstimatedSavedLatency().toMillis());
+	}
+}
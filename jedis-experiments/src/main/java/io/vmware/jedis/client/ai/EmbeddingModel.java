@@ -0,0 +1,78 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.util.List;
+
+import org.springframework.ai.embedding.EmbeddingClient;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Java {@link FunctionalInterface} and {@literal Strategy} interface used to compute vector embeddings
+ * for a batch of text.
+ * <p>
+ * Decouples the Redis-backed AI components in this package from the (remote, expensive) Spring AI
+ * {@link EmbeddingClient} so that they can be tested offline with a stand-in model.
+ *
+ * @author John Blum
+ * @see java.lang.FunctionalInterface
+ * @see org.springframework.ai.embedding.EmbeddingClient
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface EmbeddingModel {
+
+	static @NonNull EmbeddingModel from(@NonNull String name, @NonNull EmbeddingClient embeddingClient) {
+
+		Assert.hasText(name, () -> String.format("Name [%s] of the embedding model is required", name));
+		Assert.notNull(embeddingClient, "EmbeddingClient is required");
+
+		return new EmbeddingModel() {
+
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public List<float[]> embed(@NonNull List<String> texts) {
+
+				return embeddingClient.embed(texts).stream()
+					.map(Vectors::toFloatArray)
+					.toList();
+			}
+		};
+	}
+
+	default @NonNull String getName() {
+		return getClass().getName();
+	}
+
+	default @NonNull float[] embed(@NonNull String text) {
+		return embed(List.of(text)).get(0);
+	}
+
+	/**
+	 * Computes an embedding for each given text.
+	 *
+	 * @param texts {@link List} of text to embed.
+	 * @return a {@link List} of vectors in the same order as the given texts.
+	 */
+	List<float[]> embed(@NonNull List<String> texts);
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link VectorQuantizer} using symmetric, per-vector scalar quantization of each component to a signed
+ * {@literal int8}.
+ * <p>
+ * The code of a vector with {@literal d} dimensions is {@literal d + 4} bytes: the {@literal FLOAT32} scale
+ * ({@literal max |component| / 127}) followed by one byte per component, about a quarter of the size of
+ * the full-precision vector. Queries are scored asymmetrically, as the dot product of the full-precision query
+ * and the de-quantized code.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.VectorQuantizer
+ * @since 0.1.0
+ */
+public class Int8VectorQuantizer implements VectorQuantizer {
+
+	protected static final int SCALE_LENGTH = Float.BYTES;
+
+	@Override
+	public @NonNull String getName() {
+		return "int8";
+	}
+
+	@Override
+	public int getCodeLength(int dimensions) {
+		return SCALE_LENGTH + dimensions;
+	}
+
+	@Override
+	public void quantize(@NonNull float[] vector, @NonNull byte[] codes, int offset) {
+
+		float maximum = 0.0f;
+
+		for (float component : vector) {
+			maximum = Math.max(maximum, Math.abs(component));
+		}
+
+		float scale = maximum > 0.0f ? maximum / 127.0f : 1.0f;
+
+		writeFloat(codes, offset, scale);
+
+		for (int index = 0, codeIndex = offset + SCALE_LENGTH; index < vector.length; index++, codeIndex++) {
+			codes[codeIndex] = (byte) Math.max(-127, Math.min(127, Math.round(vector[index] / scale)));
+		}
+	}
+
+	@Override
+	public @NonNull QueryScorer scorer(@NonNull float[] query) {
+
+		return (codes, offset) -> {
+
+			float dotProduct = 0.0f;
+
+			for (int index = 0, codeIndex = offset + SCALE_LENGTH; index < query.length; index++, codeIndex++) {
+				dotProduct += query[index] * codes[codeIndex];
+			}
+
+			return dotProduct * readFloat(codes, offset);
+		};
+	}
+
+	static float readFloat(byte[] bytes, int offset) {
+
+		return Float.intBitsToFloat((bytes[offset] & 0xFF)
+			| (bytes[offset + 1] & 0xFF) << 8
+			| (bytes[offset + 2] & 0xFF) << 16
+			| (bytes[offset + 3] & 0xFF) << 24);
+	}
+
+	static void writeFloat(byte[] bytes, int offset, float value) {
+
+		int bits = Float.floatToIntBits(value);
+
+		bytes[offset] = (byte) bits;
+		bytes[offset + 1] = (byte) (bits >>> 8);
+		bytes[offset + 2] = (byte) (bits >>> 16);
+		bytes[offset + 3] = (byte) (bits >>> 24);
+	}
+}
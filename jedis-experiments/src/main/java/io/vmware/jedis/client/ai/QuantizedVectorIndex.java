@@ -0,0 +1,380 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Vector index keeping only {@link VectorQuantizer quantized} codes in the JVM, while full-precision
+ * {@literal FLOAT32} vectors are stored in Redis.
+ * <p>
+ * A {@link #search(float[], int) search} runs in two phases: first, a cheap scan of all codes in a contiguous
+ * {@literal byte[]} selects the {@literal k * rescoreFactor} best candidates; then, the full-precision vectors of
+ * the candidates are fetched from Redis in one pipelined batch and rescored exactly with the cosine similarity.
+ * <p>
+ * In Redis, each full-precision vector is stored as a String at {@literal <prefix>:vector:<id>}, and all codes are
+ * stored in a Hash at {@literal <prefix>:codes} from which the index can be {@link #load() reloaded}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.VectorQuantizer
+ * @see io.vmware.jedis.client.ai.VectorSearchResult
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class QuantizedVectorIndex {
+
+	protected static final int DEFAULT_INITIAL_CAPACITY = 1024;
+	protected static final int DEFAULT_RESCORE_FACTOR = 4;
+	protected static final int DEFAULT_SCAN_COUNT = 1_000;
+
+	protected static final String DEFAULT_KEY_PREFIX = "vectors";
+
+	@Getter
+	private final int dimensions;
+
+	private int rescoreFactor = DEFAULT_RESCORE_FACTOR;
+
+	private int size;
+
+	private final int codeLength;
+
+	private byte[] codes;
+
+	private final Map<String, Integer> positions = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final RedisExecutor redisExecutor;
+
+	private String keyPrefix = DEFAULT_KEY_PREFIX;
+
+	private String[] ids;
+
+	@Getter
+	private final VectorQuantizer quantizer;
+
+	public QuantizedVectorIndex(@NonNull RedisExecutor redisExecutor, @NonNull VectorQuantizer quantizer,
+			int dimensions) {
+
+		Assert.isTrue(dimensions > 0, () -> String.format("Dimensions [%d] must be greater than 0", dimensions));
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.quantizer = RedisAssertions.requireObject(quantizer, "VectorQuantizer is required");
+		this.dimensions = dimensions;
+		this.codeLength = quantizer.getCodeLength(dimensions);
+		this.codes = new byte[DEFAULT_INITIAL_CAPACITY * this.codeLength];
+		this.ids = new String[DEFAULT_INITIAL_CAPACITY];
+	}
+
+	public int size() {
+		return read(() -> this.size);
+	}
+
+	/**
+	 * Returns the number of bytes used by the quantized codes held in the JVM.
+	 *
+	 * @return the number of bytes used by the quantized codes.
+	 */
+	public long getCodeBytes() {
+		return (long) size() * getCodeLength();
+	}
+
+	/**
+	 * Returns the number of bytes the same vectors take at full ({@literal FLOAT32}) precision.
+	 *
+	 * @return the number of bytes of the full-precision vectors.
+	 */
+	public long getFullPrecisionBytes() {
+		return (long) size() * getDimensions() * Vectors.FLOAT32_SIZE;
+	}
+
+	public double getCompressionRatio() {
+		return (double) getDimensions() * Vectors.FLOAT32_SIZE / getCodeLength();
+	}
+
+	protected @NonNull byte[] toCodesKey() {
+		return (getKeyPrefix() + ":codes").getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull byte[] toVectorKey(@NonNull String id) {
+		return (getKeyPrefix() + ":vector:" + id).getBytes(StandardCharsets.UTF_8);
+	}
+
+	public void add(@NonNull String id, @NonNull float[] vector) {
+		addAll(Map.of(id, vector));
+	}
+
+	/**
+	 * Adds (or replaces) the given vectors, storing the full-precision vectors and codes in Redis
+	 * in one pipelined batch.
+	 *
+	 * @param vectors {@link Map} of identifier to vector.
+	 */
+	public void addAll(@NonNull Map<String, float[]> vectors) {
+
+		Assert.notNull(vectors, "Map of vectors is required");
+
+		List<String> ids = new ArrayList<>(vectors.size());
+		List<byte[]> codes = new ArrayList<>(vectors.size());
+
+		getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			vectors.forEach((id, vector) -> {
+
+				Assert.hasText(id, () -> String.format("Vector ID [%s] is required", id));
+				Assert.isTrue(vector.length == getDimensions(), () -> String.format(
+					"Vector [%s] has [%d] dimensions; expected [%d]", id, vector.length, getDimensions()));
+
+				byte[] code = getQuantizer().quantize(Vectors.normalize(vector));
+
+				pipeline.set(toVectorKey(id), Vectors.toByteArray(vector));
+				pipeline.hset(toCodesKey(), id.getBytes(StandardCharsets.UTF_8), code);
+
+				ids.add(id);
+				codes.add(code);
+			});
+
+			pipeline.sync();
+
+			return null;
+		});
+
+		write(() -> {
+
+			for (int index = 0; index < ids.size(); index++) {
+				put(ids.get(index), codes.get(index));
+			}
+
+			return null;
+		});
+	}
+
+	private void put(String id, byte[] code) {
+
+		Integer position = this.positions.get(id);
+
+		if (position == null) {
+
+			if (this.size == this.ids.length) {
+				this.ids = Arrays.copyOf(this.ids, this.ids.length * 2);
+				this.codes = Arrays.copyOf(this.codes, this.ids.length * getCodeLength());
+			}
+
+			position = this.size++;
+			this.ids[position] = id;
+			this.positions.put(id, position);
+		}
+
+		System.arraycopy(code, 0, this.codes, position * getCodeLength(), getCodeLength());
+	}
+
+	/**
+	 * Loads all codes stored in Redis into this index, without reading any full-precision vectors.
+	 *
+	 * @return this {@link QuantizedVectorIndex}.
+	 */
+	public @NonNull QuantizedVectorIndex load() {
+
+		ScanParams scanParams = new ScanParams().count(DEFAULT_SCAN_COUNT);
+
+		byte[] cursor = ScanParams.SCAN_POINTER_START_BINARY;
+
+		do {
+			byte[] currentCursor = cursor;
+
+			ScanResult<Map.Entry<byte[], byte[]>> scanResult = getRedisExecutor().execute(jedis ->
+				jedis.hscan(toCodesKey(), currentCursor, scanParams));
+
+			RedisAssertions.requireObject(scanResult, "HSCAN returned no reply");
+
+			write(() -> {
+				scanResult.getResult().forEach(entry -> {
+					if (entry.getValue().length == getCodeLength()) {
+						put(new String(entry.getKey(), StandardCharsets.UTF_8), entry.getValue());
+					}
+				});
+				return null;
+			});
+
+			cursor = scanResult.getCursorAsBytes();
+		}
+		while (!Arrays.equals(cursor, ScanParams.SCAN_POINTER_START_BINARY));
+
+		return this;
+	}
+
+	/**
+	 * Searches for the {@literal k} vectors most similar to the given query vector, rescoring
+	 * {@literal k * rescoreFactor} candidates against full-precision vectors.
+	 *
+	 * @param query {@literal float[]} containing the query vector.
+	 * @param k number of results.
+	 * @return a {@link List} of at most {@literal k} {@link VectorSearchResult results}, most similar first,
+	 * scored by exact cosine similarity.
+	 */
+	public @NonNull List<VectorSearchResult> search(@NonNull float[] query, int k) {
+		return search(query, k, getRescoreFactor());
+	}
+
+	public @NonNull List<VectorSearchResult> search(@NonNull float[] query, int k, int rescoreFactor) {
+
+		List<VectorSearchResult> candidates = searchApproximate(query, k * Math.max(rescoreFactor, 1));
+
+		return rescore(query, candidates).stream().limit(k).toList();
+	}
+
+	/**
+	 * Searches for the {@literal k} vectors most similar to the given query vector using only quantized codes.
+	 *
+	 * @param query {@literal float[]} containing the query vector.
+	 * @param k number of results.
+	 * @return a {@link List} of at most {@literal k} {@link VectorSearchResult results}, most similar first,
+	 * scored by the approximate similarity of the {@link VectorQuantizer}.
+	 */
+	public @NonNull List<VectorSearchResult> searchApproximate(@NonNull float[] query, int k) {
+
+		Assert.isTrue(query.length == getDimensions(), () -> String.format(
+			"Query vector has [%d] dimensions; expected [%d]", query.length, getDimensions()));
+
+		Assert.isTrue(k > 0, () -> String.format("k [%d] must be greater than 0", k));
+
+		VectorQuantizer.QueryScorer scorer = getQuantizer().scorer(Vectors.normalize(query));
+
+		return read(() -> {
+
+			PriorityQueue<VectorSearchResult> topResults =
+				new PriorityQueue<>(k + 1, Comparator.comparingDouble(VectorSearchResult::score));
+
+			for (int position = 0, offset = 0; position < this.size; position++, offset += getCodeLength()) {
+
+				float score = scorer.score(this.codes, offset);
+
+				if (topResults.size() < k || score > topResults.peek().score()) {
+
+					topResults.offer(new VectorSearchResult(this.ids[position], score));
+
+					if (topResults.size() > k) {
+						topResults.poll();
+					}
+				}
+			}
+
+			List<VectorSearchResult> results = new ArrayList<>(topResults);
+
+			results.sort(Comparator.comparingDouble(VectorSearchResult::score).reversed());
+
+			return results;
+		});
+	}
+
+	private List<VectorSearchResult> rescore(float[] query, List<VectorSearchResult> candidates) {
+
+		List<byte[]> vectors = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<byte[]>> responses = candidates.stream()
+				.map(candidate -> pipeline.get(toVectorKey(candidate.id())))
+				.toList();
+
+			pipeline.sync();
+
+			return responses.stream().map(Response::get).toList();
+		});
+
+		List<VectorSearchResult> results = new ArrayList<>(candidates.size());
+
+		for (int index = 0; index < candidates.size(); index++) {
+
+			float[] vector = Vectors.toFloatArray(vectors.get(index));
+
+			if (vector != null) {
+				results.add(new VectorSearchResult(candidates.get(index).id(),
+					Vectors.cosineSimilarity(query, vector)));
+			}
+		}
+
+		results.sort(Comparator.comparingDouble(VectorSearchResult::score).reversed());
+
+		return results;
+	}
+
+	private <T> T read(Supplier<T> reader) {
+
+		Lock readLock = getLock().readLock();
+
+		readLock.lock();
+
+		try {
+			return reader.get();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private <T> T write(Supplier<T> writer) {
+
+		Lock writeLock = getLock().writeLock();
+
+		writeLock.lock();
+
+		try {
+			return writer.get();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	public @NonNull QuantizedVectorIndex withKeyPrefix(@NonNull String keyPrefix) {
+		Assert.hasText(keyPrefix, () -> String.format("Key prefix [%s] is required", keyPrefix));
+		this.keyPrefix = keyPrefix;
+		return this;
+	}
+
+	public @NonNull QuantizedVectorIndex withRescoreFactor(int rescoreFactor) {
+		this.rescoreFactor = Math.max(rescoreFactor, 1);
+		return this;
+	}
+}
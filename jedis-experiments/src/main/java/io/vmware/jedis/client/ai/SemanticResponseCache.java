@@ -0,0 +1,368 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.resps.Tuple;
+
+/**
+ * Redis-backed cache of AI model responses keyed by the similarity of prompt embeddings rather than
+ * by the exact prompt text.
+ * <p>
+ * Each entry is stored as a Redis Hash containing the prompt vector (binary {@literal FLOAT32} blob),
+ * the prompt and the response. A Sorted Set indexes entries by creation time, which drives both
+ * {@literal TTL} cleanup of the index and {@literal FIFO} eviction once {@link #getMaxEntries() max entries},
+ * or the {@link #getMaxCandidates() max candidates} if fewer, is exceeded. Entry IDs are zero-padded, so entries
+ * created in the same millisecond are still evicted in creation order.
+ * <p>
+ * Lookups compare the prompt vector with the vectors of at most {@link #getMaxCandidates() max candidates},
+ * the most recently created entries, fetched in a single pipeline, and compute the cosine similarity
+ * in the client. The cost of a lookup is therefore bounded by the number of candidates, and since entries
+ * older than the most recent candidates could never be hit, they are evicted rather than kept; use
+ * a RediSearch vector index for lookups in very large caches.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.EmbeddingModel
+ * @see io.vmware.jedis.client.ai.SemanticResponseCacheStatistics
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class SemanticResponseCache {
+
+	protected static final double DEFAULT_SIMILARITY_THRESHOLD = 0.95d;
+
+	protected static final int DEFAULT_MAX_CANDIDATES = 256;
+	protected static final int DEFAULT_MAX_ENTRIES = DEFAULT_MAX_CANDIDATES;
+
+	protected static final String DEFAULT_KEY_PREFIX = "semantic-cache";
+	protected static final String ENTRY_ID_FORMAT = "%019d";
+
+	protected static final byte[] PROMPT_FIELD = "prompt".getBytes(StandardCharsets.UTF_8);
+	protected static final byte[] RESPONSE_FIELD = "response".getBytes(StandardCharsets.UTF_8);
+	protected static final byte[] VECTOR_FIELD = "vector".getBytes(StandardCharsets.UTF_8);
+
+	@Setter(AccessLevel.PROTECTED)
+	private double similarityThreshold = DEFAULT_SIMILARITY_THRESHOLD;
+
+	@Setter(AccessLevel.PROTECTED)
+	private Duration expirationTimeout;
+
+	@Setter(AccessLevel.PROTECTED)
+	private int maxCandidates = DEFAULT_MAX_CANDIDATES;
+
+	@Setter(AccessLevel.PROTECTED)
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+	private final EmbeddingModel embeddingModel;
+
+	private final RedisExecutor redisExecutor;
+
+	@Getter(AccessLevel.PUBLIC)
+	private final SemanticResponseCacheStatistics statistics = new SemanticResponseCacheStatistics();
+
+	@Setter(AccessLevel.PROTECTED)
+	private String keyPrefix = DEFAULT_KEY_PREFIX;
+
+	public SemanticResponseCache(@NonNull RedisExecutor redisExecutor, @NonNull EmbeddingModel embeddingModel) {
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.embeddingModel = RedisAssertions.requireObject(embeddingModel, "EmbeddingModel is required");
+	}
+
+	protected @Nullable Duration getExpirationTimeout() {
+		return this.expirationTimeout;
+	}
+
+	protected boolean isExpiring() {
+		Duration expirationTimeout = getExpirationTimeout();
+		return expirationTimeout != null && !expirationTimeout.isZero() && !expirationTimeout.isNegative();
+	}
+
+	/**
+	 * Returns the cached response for a prompt similar to the given prompt, or otherwise loads the response with
+	 * the given {@link Function} (for example, a call to the LLM) and caches it.
+	 *
+	 * @param prompt {@link String} containing the prompt.
+	 * @param responseLoader {@link Function} used to compute the response on a cache miss.
+	 * @return the cached or loaded response.
+	 */
+	public @Nullable String get(@NonNull String prompt, @NonNull Function<String, String> responseLoader) {
+
+		Assert.hasText(prompt, "Prompt is required");
+		Assert.notNull(responseLoader, "Response loader Function is required");
+
+		float[] vector = getEmbeddingModel().embed(prompt);
+
+		Optional<String> cachedResponse = lookup(vector);
+
+		if (cachedResponse.isPresent()) {
+			return cachedResponse.get();
+		}
+
+		long startTime = System.nanoTime();
+
+		String response = responseLoader.apply(prompt);
+
+		getStatistics().recordLoad(System.nanoTime() - startTime);
+
+		if (response != null) {
+			put(prompt, vector, response);
+		}
+
+		return response;
+	}
+
+	public @NonNull Optional<String> lookup(@NonNull String prompt) {
+		Assert.hasText(prompt, "Prompt is required");
+		return lookup(getEmbeddingModel().embed(prompt));
+	}
+
+	protected @NonNull Optional<String> lookup(@NonNull float[] vector) {
+
+		Optional<String> response = Optional.ofNullable(getRedisExecutor().execute(jedis -> {
+
+			byte[] nearestEntryKey = findNearestEntryKey(jedis, vector);
+
+			byte[] responseBytes = nearestEntryKey != null ? jedis.hget(nearestEntryKey, RESPONSE_FIELD) : null;
+
+			return responseBytes != null ? new String(responseBytes, StandardCharsets.UTF_8) : null;
+		}));
+
+		if (response.isPresent()) {
+			getStatistics().recordHit();
+		}
+		else {
+			getStatistics().recordMiss();
+		}
+
+		return response;
+	}
+
+	private @Nullable byte[] findNearestEntryKey(@NonNull Jedis jedis, @NonNull float[] vector) {
+
+		byte[] indexKey = toIndexKey();
+
+		if (isExpiring()) {
+			long expired = jedis.zremrangeByScore(indexKey, Double.NEGATIVE_INFINITY,
+				System.currentTimeMillis() - getExpirationTimeout().toMillis());
+			getStatistics().recordExpirations(expired);
+		}
+
+		List<byte[]> entryIds = jedis.zrevrange(indexKey, 0, Math.max(1, getMaxCandidates()) - 1);
+
+		if (entryIds.isEmpty()) {
+			return null;
+		}
+
+		Pipeline pipeline = jedis.pipelined();
+		List<Response<byte[]>> vectorResponses = new ArrayList<>(entryIds.size());
+
+		for (byte[] entryId : entryIds) {
+			vectorResponses.add(pipeline.hget(toEntryKey(entryId), VECTOR_FIELD));
+		}
+
+		pipeline.sync();
+
+		List<byte[]> staleEntryIds = new ArrayList<>();
+
+		byte[] nearestEntryId = null;
+		double nearestSimilarity = getSimilarityThreshold();
+
+		for (int index = 0; index < entryIds.size(); index++) {
+
+			float[] entryVector = Vectors.toFloatArray(vectorResponses.get(index).get());
+
+			if (entryVector == null) {
+				staleEntryIds.add(entryIds.get(index));
+			}
+			else if (entryVector.length == vector.length) {
+
+				double similarity = Vectors.cosineSimilarity(vector, entryVector);
+
+				if (similarity >= nearestSimilarity) {
+					nearestSimilarity = similarity;
+					nearestEntryId = entryIds.get(index);
+				}
+			}
+		}
+
+		if (!staleEntryIds.isEmpty()) {
+			jedis.zrem(indexKey, staleEntryIds.toArray(new byte[0][]));
+			getStatistics().recordExpirations(staleEntryIds.size());
+		}
+
+		return nearestEntryId != null ? toEntryKey(nearestEntryId) : null;
+	}
+
+	public void put(@NonNull String prompt, @NonNull String response) {
+
+		Assert.hasText(prompt, "Prompt is required");
+
+		put(prompt, getEmbeddingModel().embed(prompt), response);
+	}
+
+	protected void put(@NonNull String prompt, @NonNull float[] vector, @NonNull String response) {
+
+		Assert.notNull(response, "Response is required");
+
+		getRedisExecutor().execute(jedis -> {
+
+			byte[] entryId = toEntryId(jedis.incr(toSequenceKey()));
+			byte[] entryKey = toEntryKey(entryId);
+
+			Pipeline pipeline = jedis.pipelined();
+
+			pipeline.hset(entryKey, Map.of(
+				VECTOR_FIELD, Vectors.toByteArray(vector),
+				PROMPT_FIELD, prompt.getBytes(StandardCharsets.UTF_8),
+				RESPONSE_FIELD, response.getBytes(StandardCharsets.UTF_8)
+			));
+
+			if (isExpiring()) {
+				pipeline.pexpire(entryKey, getExpirationTimeout().toMillis());
+			}
+
+			pipeline.zadd(toIndexKey(), System.currentTimeMillis(), entryId);
+
+			Response<Long> size = pipeline.zcard(toIndexKey());
+
+			pipeline.sync();
+
+			evict(jedis, size.get());
+
+			return null;
+		});
+	}
+
+	private void evict(@NonNull Jedis jedis, long size) {
+
+		long overflow = size - Math.max(1, Math.min(getMaxEntries(), getMaxCandidates()));
+
+		if (overflow > 0) {
+
+			List<Tuple> evictedEntries = jedis.zpopmin(toIndexKey(), Math.toIntExact(overflow));
+
+			byte[][] evictedEntryKeys = evictedEntries.stream()
+				.map(Tuple::getBinaryElement)
+				.map(this::toEntryKey)
+				.toArray(byte[][]::new);
+
+			if (evictedEntryKeys.length > 0) {
+				jedis.del(evictedEntryKeys);
+				getStatistics().recordEvictions(evictedEntryKeys.length);
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+
+		getRedisExecutor().execute(jedis -> {
+
+			List<byte[]> entryIds = jedis.zrange(toIndexKey(), 0, -1);
+
+			Pipeline pipeline = jedis.pipelined();
+
+			entryIds.forEach(entryId -> pipeline.del(toEntryKey(entryId)));
+			pipeline.del(toIndexKey());
+			pipeline.sync();
+
+			return null;
+		});
+	}
+
+	/**
+	 * Formats the given sequence number as an entry ID, zero-padded so that the lexicographic order of entry IDs,
+	 * which breaks ties between entries with the same creation time in the index, is the order of creation.
+	 *
+	 * @param sequenceNumber entry sequence number.
+	 * @return the entry ID.
+	 */
+	protected @NonNull byte[] toEntryId(long sequenceNumber) {
+		return String.format(ENTRY_ID_FORMAT, sequenceNumber).getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull byte[] toEntryKey(@NonNull byte[] entryId) {
+		return String.format("%s:entry:%s", getKeyPrefix(), new String(entryId, StandardCharsets.UTF_8))
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull byte[] toIndexKey() {
+		return String.format("%s:index", getKeyPrefix()).getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull byte[] toSequenceKey() {
+		return String.format("%s:sequence", getKeyPrefix()).getBytes(StandardCharsets.UTF_8);
+	}
+
+	public @NonNull SemanticResponseCache withExpirationTimeout(@Nullable Duration expirationTimeout) {
+		setExpirationTimeout(expirationTimeout);
+		return this;
+	}
+
+	public @NonNull SemanticResponseCache withKeyPrefix(@NonNull String keyPrefix) {
+		Assert.hasText(keyPrefix, () -> String.format("Key prefix [%s] is required", keyPrefix));
+		setKeyPrefix(keyPrefix);
+		return this;
+	}
+
+	public @NonNull SemanticResponseCache withMaxCandidates(int maxCandidates) {
+		Assert.isTrue(maxCandidates > 0, () -> String.format("Max candidates [%d] must be greater than 0",
+			maxCandidates));
+		setMaxCandidates(maxCandidates);
+		return this;
+	}
+
+	public @NonNull SemanticResponseCache withMaxEntries(int maxEntries) {
+		Assert.isTrue(maxEntries > 0, () -> String.format("Max entries [%d] must be greater than 0", maxEntries));
+		setMaxEntries(maxEntries);
+		return this;
+	}
+
+	public @NonNull SemanticResponseCache withSimilarityThreshold(double similarityThreshold) {
+
+		Assert.isTrue(similarityThreshold > 0.0d && similarityThreshold <= 1.0d, () ->
+			String.format("Similarity threshold [%s] must be greater than 0.0 and less than or equal to 1.0",
+				similarityThreshold));
+
+		setSimilarityThreshold(similarityThreshold);
+
+		return this;
+	}
+}
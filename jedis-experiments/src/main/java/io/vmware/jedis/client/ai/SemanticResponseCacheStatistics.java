@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe statistics recorded by the {@link SemanticResponseCache}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.SemanticResponseCache
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class SemanticResponseCacheStatistics {
+
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder loaderNanos = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	void recordEvictions(long count) {
+		this.evictions.add(count);
+	}
+
+	void recordExpirations(long count) {
+		this.expirations.add(count);
+	}
+
+	void recordHit() {
+		this.hits.increment();
+	}
+
+	void recordMiss() {
+		this.misses.increment();
+	}
+
+	void recordLoad(long nanos) {
+		this.loaderNanos.add(nanos);
+	}
+
+	public long getEvictions() {
+		return this.evictions.sum();
+	}
+
+	public long getExpirations() {
+		return this.expirations.sum();
+	}
+
+	public long getHits() {
+		return this.hits.sum();
+	}
+
+	public long getMisses() {
+		return this.misses.sum();
+	}
+
+	public long getRequests() {
+		return getHits() + getMisses();
+	}
+
+	public double getHitRate() {
+		long requests = getRequests();
+		return requests > 0 ? (double) getHits() / requests : 0.0d;
+	}
+
+	public Duration getLoaderTime() {
+		return Duration.ofNanos(this.loaderNanos.sum());
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s { hits = %d, misses = %d, hitRate = %.2f%%, evictions = %d, expirations = %d,"
+				+ " loaderTime = %d ms }",
+			getClass().getSimpleName(), getHits(), getMisses(), getHitRate() * 100.0d, getEvictions(),
+			getExpirations(), getLoaderTime().toMillis());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Interface defining a contract for quantizing (compressing) {@literal FLOAT32} vectors into compact codes
+ * and for scoring a full-precision query vector against those codes.
+ * <p>
+ * Scores are approximate similarities (higher is more similar) that preserve the ranking of the cosine similarity
+ * well enough to select candidates for exact rescoring.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.BinaryVectorQuantizer
+ * @see io.vmware.jedis.client.ai.Int8VectorQuantizer
+ * @see io.vmware.jedis.client.ai.QuantizedVectorIndex
+ * @since 0.1.0
+ */
+public interface VectorQuantizer {
+
+	static @NonNull VectorQuantizer binary() {
+		return new BinaryVectorQuantizer();
+	}
+
+	static @NonNull VectorQuantizer int8() {
+		return new Int8VectorQuantizer();
+	}
+
+	default @NonNull String getName() {
+		return getClass().getSimpleName();
+	}
+
+	/**
+	 * Returns the length in bytes of the code of a vector with the given number of dimensions.
+	 *
+	 * @param dimensions number of dimensions of the vector.
+	 * @return the length in bytes of the code.
+	 */
+	int getCodeLength(int dimensions);
+
+	/**
+	 * Quantizes the given (normalized) vector into the given array of codes at the given offset.
+	 *
+	 * @param vector {@literal float[]} containing the normalized vector to quantize.
+	 * @param codes {@literal byte[]} into which the code is written.
+	 * @param offset offset in the array of codes at which the code is written.
+	 */
+	void quantize(@NonNull float[] vector, @NonNull byte[] codes, int offset);
+
+	default @NonNull byte[] quantize(@NonNull float[] vector) {
+		byte[] code = new byte[getCodeLength(vector.length)];
+		quantize(vector, code, 0);
+		return code;
+	}
+
+	/**
+	 * Prepares a {@link QueryScorer} for the given (normalized) query vector.
+	 *
+	 * @param query {@literal float[]} containing the normalized query vector.
+	 * @return a {@link QueryScorer} scoring codes against the query vector.
+	 */
+	@NonNull QueryScorer scorer(@NonNull float[] query);
+
+	/**
+	 * Scores codes against a prepared query vector.
+	 */
+	@FunctionalInterface
+	interface QueryScorer {
+
+		/**
+		 * Returns the approximate similarity of the query vector to the code at the given offset.
+		 *
+		 * @param codes {@literal byte[]} containing codes.
+		 * @param offset offset in the array of codes of the code to score.
+		 * @return the approximate similarity; higher is more similar.
+		 */
+		float score(@NonNull byte[] codes, int offset);
+
+	}
+}
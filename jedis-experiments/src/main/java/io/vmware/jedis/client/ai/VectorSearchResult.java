@@ -0,0 +1,27 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+/**
+ * Java {@link Record} modeling a result of a vector similarity search.
+ *
+ * @author John Blum
+ * @param id {@link String} containing the identifier of the matching vector.
+ * @param score similarity of the matching vector to the query vector; higher is more similar.
+ * @see io.vmware.jedis.client.ai.QuantizedVectorIndex
+ * @since 0.1.0
+ */
+public record VectorSearchResult(String id, double score) { }
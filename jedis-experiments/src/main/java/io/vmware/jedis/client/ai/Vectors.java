@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.ai;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Abstract utility class for encoding and comparing {@literal FLOAT32} vectors.
+ * <p>
+ * Vectors are stored in Redis as compact binary blobs of little-endian IEEE 754 floats, which is the same
+ * layout expected by the RediSearch {@literal VECTOR} field type.
+ *
+ * @author John Blum
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public abstract class Vectors {
+
+	public static final int FLOAT32_SIZE = Float.BYTES;
+
+	public static @NonNull byte[] toByteArray(@NonNull float[] vector) {
+
+		Assert.notNull(vector, "Vector is required");
+
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * FLOAT32_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.asFloatBuffer().put(vector);
+
+		return buffer.array();
+	}
+
+	public static @Nullable float[] toFloatArray(@Nullable byte[] bytes) {
+
+		if (bytes == null) {
+			return null;
+		}
+
+		Assert.isTrue(bytes.length % FLOAT32_SIZE == 0,
+			() -> String.format("Length [%d] of the binary vector must be a multiple of %d", bytes.length, FLOAT32_SIZE));
+
+		float[] vector = new float[bytes.length / FLOAT32_SIZE];
+
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+
+		return vector;
+	}
+
+	public static @NonNull float[] toFloatArray(@NonNull List<? extends Number> vector) {
+
+		Assert.notNull(vector, "Vector is required");
+
+		float[] array = new float[vector.size()];
+
+		for (int index = 0; index < array.length; index++) {
+			array[index] = vector.get(index).floatValue();
+		}
+
+		return array;
+	}
+
+	public static double cosineSimilarity(@NonNull float[] vectorOne, @NonNull float[] vectorTwo) {
+
+		assertSameDimensions(vectorOne, vectorTwo);
+
+		double dotProduct = 0.0d;
+		double normOne = 0.0d;
+		double normTwo = 0.0d;
+
+		for (int index = 0; index < vectorOne.length; index++) {
+			dotProduct += (double) vectorOne[index] * vectorTwo[index];
+			normOne += (double) vectorOne[index] * vectorOne[index];
+			normTwo += (double) vectorTwo[index] * vectorTwo[index];
+		}
+
+		return normOne == 0.0d || normTwo == 0.0d ? 0.0d : dotProduct / (Math.sqrt(normOne) * Math.sqrt(normTwo));
+	}
+
+	public static double dotProduct(@NonNull float[] vectorOne, @NonNull float[] vectorTwo) {
+
+		assertSameDimensions(vectorOne, vectorTwo);
+
+		double dotProduct = 0.0d;
+
+		for (int index = 0; index < vectorOne.length; index++) {
+			dotProduct += (double) vectorOne[index] * vectorTwo[index];
+		}
+
+		return dotProduct;
+	}
+
+	public static @NonNull float[] normalize(@NonNull float[] vector) {
+
+		Assert.notNull(vector, "Vector is required");
+
+		double norm = 0.0d;
+
+		for (float value : vector) {
+			norm += (double) value * value;
+		}
+
+		norm = Math.sqrt(norm);
+
+		float[] normalized = new float[vector.length];
+
+		if (norm > 0.0d) {
+			for (int index = 0; index < vector.length; index++) {
+				normalized[index] = (float) (vector[index] / norm);
+			}
+		}
+
+		return normalized;
+	}
+
+	private static void assertSameDimensions(float[] vectorOne, float[] vectorTwo) {
+
+		Assert.notNull(vectorOne, "Vector one is required");
+		Assert.notNull(vectorTwo, "Vector two is required");
+		Assert.isTrue(vectorOne.length == vectorTwo.length, () ->
+			String.format("Vector dimensions [%d] and [%d] must match", vectorOne.length, vectorTwo.length));
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.springframework.util.Assert;
+
+/**
+ * Empirical distribution of {@link Long#TYPE long} values (for example: value sizes or TTLs) observed in a sample,
+ * bounded by a uniform reservoir.
+ * <p>
+ * {@link #sample(SplittableRandom) Sampling} draws uniformly from the observed values, which reproduces the shape
+ * of the observed distribution, including skew and outliers, without assuming any parametric model.
+ * Not Thread-safe.
+ *
+ * @author John Blum
+ * @see <a href="https://en.wikipedia.org/wiki/Reservoir_sampling">Reservoir sampling</a>
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class EmpiricalDistribution {
+
+	protected static final int DEFAULT_CAPACITY = 10_000;
+
+	private final int capacity;
+
+	private long count;
+
+	private long[] values;
+
+	private final SplittableRandom random = new SplittableRandom(0L);
+
+	private int size;
+
+	private boolean sorted = true;
+
+	public EmpiricalDistribution() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public EmpiricalDistribution(int capacity) {
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+		this.values = new long[Math.min(capacity, 64)];
+		this.capacity = capacity;
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	public void record(long value) {
+
+		this.count++;
+		this.sorted = false;
+
+		if (this.size < this.capacity) {
+
+			if (this.size == this.values.length) {
+				this.values = Arrays.copyOf(this.values, Math.min(this.values.length * 2, this.capacity));
+			}
+
+			this.values[this.size++] = value;
+		}
+		else {
+
+			long index = this.random.nextLong(this.count);
+
+			if (index < this.capacity) {
+				this.values[(int) index] = value;
+			}
+		}
+	}
+
+	/**
+	 * Draws a value from this distribution.
+	 *
+	 * @param random {@link SplittableRandom} used to draw the value.
+	 * @return a value drawn from this distribution, or {@literal 0} if empty.
+	 */
+	public long sample(SplittableRandom random) {
+		return this.size > 0 ? this.values[random.nextInt(this.size)] : 0L;
+	}
+
+	public long percentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0.0d && percentile <= 1.0d,
+			() -> String.format("Percentile [%s] must be between 0.0 and 1.0", percentile));
+
+		if (this.size == 0) {
+			return 0L;
+		}
+
+		if (!this.sorted) {
+			Arrays.sort(this.values, 0, this.size);
+			this.sorted = true;
+		}
+
+		return this.values[Math.max(0, (int) Math.ceil(percentile * this.size) - 1)];
+	}
+
+	public double mean() {
+		return this.size > 0 ? (double) Arrays.stream(this.values, 0, this.size).sum() / this.size : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ count = %d, p50 = %d, p90 = %d, p99 = %d, max = %d }",
+			getCount(), percentile(0.5d), percentile(0.9d), percentile(0.99d), percentile(1.0d));
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.time.Duration;
+
+/**
+ * Java {@link Record} summarizing a dataset generated by the {@link SyntheticDatasetGenerator}.
+ *
+ * @author John Blum
+ * @param keys number of keys generated.
+ * @param elements number of collection elements generated, across all keys.
+ * @param duration {@link Duration} of the generation.
+ * @see io.vmware.jedis.client.dataset.SyntheticDatasetGenerator
+ * @since 0.1.0
+ */
+public record GeneratedDataset(long keys, long elements, Duration duration) {
+
+	public double getKeysPerSecond() {
+		long nanos = duration().toNanos();
+		return nanos > 0 ? keys() * 1_000_000_000.0d / nanos : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ keys = %d, elements = %d, duration = %d ms, throughput = %.0f keys/s }",
+			keys(), elements(), duration().toMillis(), getKeysPerSecond());
+	}
+}
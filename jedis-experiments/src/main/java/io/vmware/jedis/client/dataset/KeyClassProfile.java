@@ -0,0 +1,115 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Profile of a class of Redis keys sharing the same {@link #getPattern() key pattern} and {@link RedisType type}.
+ * <p>
+ * Records the distributions of sizes (bytes of a String value, or number of elements in a collection), element sizes
+ * (bytes of a collection element, or Hash field value) and TTLs of the sampled keys.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.dataset.EmpiricalDistribution
+ * @see io.vmware.jedis.client.dataset.KeyspaceProfile
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class KeyClassProfile {
+
+	private long persistentKeys;
+
+	private final EmpiricalDistribution elementSizes = new EmpiricalDistribution();
+	private final EmpiricalDistribution sizes = new EmpiricalDistribution();
+	private final EmpiricalDistribution ttls = new EmpiricalDistribution();
+
+	private final RedisType type;
+
+	private final String pattern;
+
+	public KeyClassProfile(@NonNull String pattern, @NonNull RedisType type) {
+
+		Assert.hasText(pattern, () -> String.format("Pattern [%s] is required", pattern));
+		Assert.notNull(type, "RedisType is required");
+
+		this.pattern = pattern;
+		this.type = type;
+	}
+
+	public long getCount() {
+		return getSizes().getCount();
+	}
+
+	public @NonNull EmpiricalDistribution getElementSizes() {
+		return this.elementSizes;
+	}
+
+	public @NonNull String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * Returns the share of keys in this class without an expiration.
+	 *
+	 * @return the share of keys in this class without an expiration.
+	 */
+	public double getPersistentRatio() {
+		long count = getCount();
+		return count > 0 ? (double) this.persistentKeys / count : 1.0d;
+	}
+
+	public @NonNull EmpiricalDistribution getSizes() {
+		return this.sizes;
+	}
+
+	/**
+	 * Returns the distribution of TTLs, in milliseconds, of the keys in this class having an expiration.
+	 *
+	 * @return the {@link EmpiricalDistribution} of TTLs in milliseconds.
+	 */
+	public @NonNull EmpiricalDistribution getTtls() {
+		return this.ttls;
+	}
+
+	public @NonNull RedisType getType() {
+		return this.type;
+	}
+
+	void record(long size, long ttlMillis, long[] elementSizes) {
+
+		this.sizes.record(size);
+
+		if (ttlMillis > 0) {
+			this.ttls.record(ttlMillis);
+		}
+		else {
+			this.persistentKeys++;
+		}
+
+		for (long elementSize : elementSizes) {
+			this.elementSizes.record(elementSize);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%-32s %-6s count = %6d, persistent = %5.1f%%, sizes = %s, elementSizes = %s, ttls = %s",
+			getPattern(), getType(), getCount(), getPersistentRatio() * 100.0d, getSizes(), getElementSizes(),
+			getTtls());
+	}
+}
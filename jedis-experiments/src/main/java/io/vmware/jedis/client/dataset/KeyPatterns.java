@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Abstract utility class for deriving key-name patterns (for example: {@literal user:{n}:profile}) from Redis keys
+ * and for generating keys matching a pattern.
+ * <p>
+ * Keys are split into {@literal :}-delimited segments. Numeric, UUID and long hexadecimal segments are replaced
+ * with the {@link #NUMBER}, {@link #UUID} and {@link #HEX} placeholders. Literal segments at a position having
+ * more than a maximum number of distinct values among keys of the same shape are replaced with the {@link #STRING}
+ * placeholder.
+ *
+ * @author John Blum
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public abstract class KeyPatterns {
+
+	public static final String DELIMITER = ":";
+	public static final String HEX = "{hex}";
+	public static final String NUMBER = "{n}";
+	public static final String STRING = "{s}";
+	public static final String UUID = "{uuid}";
+
+	private static final Pattern HEX_PATTERN = Pattern.compile("[0-9a-fA-F]{16,}");
+	private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+");
+	private static final Pattern UUID_PATTERN =
+		Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+	private static final char[] ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+	public static boolean isPlaceholder(@NonNull String segment) {
+		return HEX.equals(segment) || NUMBER.equals(segment) || STRING.equals(segment) || UUID.equals(segment);
+	}
+
+	public static @NonNull String[] toSegments(@NonNull String key) {
+
+		String[] segments = key.split(DELIMITER, -1);
+
+		for (int index = 0; index < segments.length; index++) {
+
+			String segment = segments[index];
+
+			if (UUID_PATTERN.matcher(segment).matches()) {
+				segments[index] = UUID;
+			}
+			else if (NUMBER_PATTERN.matcher(segment).matches()) {
+				segments[index] = NUMBER;
+			}
+			else if (HEX_PATTERN.matcher(segment).matches()) {
+				segments[index] = HEX;
+			}
+		}
+
+		return segments;
+	}
+
+	/**
+	 * Derives the pattern of each key, collapsing high-cardinality literal segments into the {@link #STRING}
+	 * placeholder.
+	 *
+	 * @param keys {@link List} of keys.
+	 * @param maxLiteralValues maximum number of distinct literal values at a segment position among keys
+	 * of the same shape (segment count and first segment) before the position is considered variable.
+	 * @return a {@link List} of patterns in the same order as the given keys.
+	 */
+	public static @NonNull List<String> toPatterns(@NonNull List<String> keys, int maxLiteralValues) {
+
+		List<String[]> segmentedKeys = keys.stream().map(KeyPatterns::toSegments).toList();
+		Map<String, List<Set<String>>> literalValuesByShape = new HashMap<>();
+
+		for (String[] segments : segmentedKeys) {
+
+			List<Set<String>> literalValues =
+				literalValuesByShape.computeIfAbsent(shapeOf(segments), shape -> newSets(segments.length));
+
+			for (int index = 1; index < segments.length; index++) {
+				if (!isPlaceholder(segments[index])) {
+					literalValues.get(index).add(segments[index]);
+				}
+			}
+		}
+
+		List<String> patterns = new ArrayList<>(keys.size());
+
+		for (String[] segments : segmentedKeys) {
+
+			List<Set<String>> literalValues = literalValuesByShape.get(shapeOf(segments));
+
+			for (int index = 1; index < segments.length; index++) {
+				if (literalValues.get(index).size() > maxLiteralValues && !isPlaceholder(segments[index])) {
+					segments[index] = STRING;
+				}
+			}
+
+			patterns.add(String.join(DELIMITER, segments));
+		}
+
+		return patterns;
+	}
+
+	private static String shapeOf(String[] segments) {
+		return segments.length + DELIMITER + segments[0];
+	}
+
+	private static List<Set<String>> newSets(int size) {
+
+		List<Set<String>> sets = new ArrayList<>(size);
+
+		for (int index = 0; index < size; index++) {
+			sets.add(new HashSet<>());
+		}
+
+		return sets;
+	}
+
+	/**
+	 * Generates a key matching the given pattern. The last placeholder is derived from the given, unique
+	 * {@link Long#TYPE id} so that generated keys are unique; other placeholders are random. If the pattern has
+	 * no placeholders, the {@link Long#TYPE id} is appended as an extra segment.
+	 *
+	 * @param pattern {@link String} containing the key pattern.
+	 * @param id unique {@link Long#TYPE id} of the generated key.
+	 * @param random {@link SplittableRandom} used to generate random placeholder values.
+	 * @return a new key matching the pattern.
+	 */
+	public static @NonNull String generateKey(@NonNull String pattern, long id, @NonNull SplittableRandom random) {
+
+		String[] segments = pattern.split(DELIMITER, -1);
+
+		int lastPlaceholder = -1;
+
+		for (int index = 0; index < segments.length; index++) {
+			if (isPlaceholder(segments[index])) {
+				lastPlaceholder = index;
+			}
+		}
+
+		StringBuilder key = new StringBuilder(pattern.length() + 24);
+
+		for (int index = 0; index < segments.length; index++) {
+
+			if (index > 0) {
+				key.append(DELIMITER);
+			}
+
+			String segment = segments[index];
+			boolean unique = index == lastPlaceholder;
+
+			switch (segment) {
+				case NUMBER -> key.append(unique ? id : random.nextInt(100_000));
+				case UUID -> key.append(unique ? new UUID(0x5EED_0000_0000_0000L, id) : new UUID(random.nextLong(),
+					random.nextLong()));
+				case HEX -> key.append(String.format("%016x", unique ? id : random.nextLong()));
+				case STRING -> appendString(key, unique ? id : random.nextLong(0, Long.MAX_VALUE), unique);
+				default -> key.append(segment);
+			}
+		}
+
+		if (lastPlaceholder < 0) {
+			key.append(DELIMITER).append(id);
+		}
+
+		return key.toString();
+	}
+
+	private static void appendString(StringBuilder key, long value, boolean unique) {
+
+		if (unique) {
+			key.append('s').append(Long.toString(value, ALPHANUMERIC.length));
+		}
+		else {
+			for (int count = 0; count < 8; count++, value /= ALPHANUMERIC.length) {
+				key.append(ALPHANUMERIC[(int) (value % ALPHANUMERIC.length)]);
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Profile of a Redis keyspace, built by a {@link KeyspaceProfiler} from a sample of keys, and used by
+ * the {@link SyntheticDatasetGenerator} to reproduce the shape of the keyspace.
+ *
+ * @author John Blum
+ * @param totalKeys total number of keys in the profiled Redis database ({@literal DBSIZE}).
+ * @param sampledKeys number of keys sampled.
+ * @param unsupportedKeys number of sampled keys having an unsupported {@link RedisType type}.
+ * @param keyClasses {@link List} of {@link KeyClassProfile key class profiles}.
+ * @see io.vmware.jedis.client.dataset.KeyClassProfile
+ * @see io.vmware.jedis.client.dataset.KeyspaceProfiler
+ * @since 0.1.0
+ */
+public record KeyspaceProfile(long totalKeys, long sampledKeys, long unsupportedKeys,
+		List<KeyClassProfile> keyClasses) {
+
+	public KeyspaceProfile {
+		keyClasses = keyClasses.stream()
+			.sorted(Comparator.comparingLong(KeyClassProfile::getCount).reversed()
+				.thenComparing(KeyClassProfile::getPattern))
+			.toList();
+	}
+
+	/**
+	 * Returns the share of profiled keys having the given {@link RedisType type}.
+	 *
+	 * @param type {@link RedisType} of keys.
+	 * @return the share of profiled keys having the given {@link RedisType type}.
+	 */
+	public double getTypeRatio(@NonNull RedisType type) {
+
+		long profiledKeys = keyClasses().stream().mapToLong(KeyClassProfile::getCount).sum();
+
+		return profiledKeys > 0
+			? (double) keyClasses().stream()
+				.filter(keyClass -> keyClass.getType() == type)
+				.mapToLong(KeyClassProfile::getCount)
+				.sum() / profiledKeys
+			: 0.0d;
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder report = new StringBuilder(String.format("KeyspaceProfile { totalKeys = %d, sampledKeys = %d,"
+			+ " unsupportedKeys = %d }", totalKeys(), sampledKeys(), unsupportedKeys()));
+
+		keyClasses().forEach(keyClass -> report.append(System.lineSeparator()).append("  ").append(keyClass));
+
+		return report.toString();
+	}
+}
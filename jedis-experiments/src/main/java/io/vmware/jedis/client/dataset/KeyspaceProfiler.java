@@ -0,0 +1,245 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.support.ScanIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * Profiles the shape of a live Redis keyspace by sampling keys with a {@link ScanIterator}.
+ * <p>
+ * For each sampled key, the {@link RedisType type}, TTL, size (bytes of a String value, or number of elements
+ * in a collection) and the sizes of a few random elements are read in pipelined batches. Keys are grouped into
+ * {@link KeyClassProfile key classes} by {@link KeyPatterns key pattern} and type, which together make up
+ * the {@link KeyspaceProfile}. Values themselves are never retained.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.dataset.KeyPatterns
+ * @see io.vmware.jedis.client.dataset.KeyspaceProfile
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @see io.vmware.jedis.client.support.ScanIterator
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class KeyspaceProfiler {
+
+	protected static final int DEFAULT_ELEMENT_SAMPLE_SIZE = 5;
+	protected static final int DEFAULT_MAX_LITERAL_VALUES = 8;
+	protected static final int DEFAULT_MAX_SAMPLED_KEYS = 10_000;
+	protected static final int DEFAULT_SCAN_COUNT = 500;
+
+	protected static final String DEFAULT_KEY_PATTERN = "*";
+
+	private int elementSampleSize = DEFAULT_ELEMENT_SAMPLE_SIZE;
+	private int maxLiteralValues = DEFAULT_MAX_LITERAL_VALUES;
+	private int maxSampledKeys = DEFAULT_MAX_SAMPLED_KEYS;
+	private int scanCount = DEFAULT_SCAN_COUNT;
+
+	private final RedisExecutor redisExecutor;
+
+	private String keyPattern = DEFAULT_KEY_PATTERN;
+
+	public KeyspaceProfiler(@NonNull RedisExecutor redisExecutor) {
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+	}
+
+	/**
+	 * Samples up to {@link #getMaxSampledKeys()} keys matching the {@link #getKeyPattern() key pattern}
+	 * and builds a {@link KeyspaceProfile}.
+	 *
+	 * @return a new {@link KeyspaceProfile}.
+	 */
+	public @NonNull KeyspaceProfile profile() {
+
+		long totalKeys = RedisAssertions.requireObject(getRedisExecutor().execute(Jedis::dbSize),
+			"DBSIZE returned no reply");
+
+		ScanIterator scanIterator = ScanIterator.from(getRedisExecutor()::execute, getKeyPattern(), getScanCount());
+
+		List<KeySample> samples = new ArrayList<>();
+
+		while (scanIterator.hasNext() && samples.size() < getMaxSampledKeys()) {
+
+			List<String> keys = scanIterator.next();
+			List<String> keysToSample = keys.subList(0, Math.min(keys.size(), getMaxSampledKeys() - samples.size()));
+
+			if (!keysToSample.isEmpty()) {
+				samples.addAll(sample(keysToSample));
+			}
+		}
+
+		return toProfile(totalKeys, samples);
+	}
+
+	private List<KeySample> sample(List<String> keys) {
+
+		return getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<String>> types = new ArrayList<>(keys.size());
+			List<Response<Long>> ttls = new ArrayList<>(keys.size());
+
+			for (String key : keys) {
+				types.add(pipeline.type(key));
+				ttls.add(pipeline.pttl(key));
+			}
+
+			pipeline.sync();
+
+			List<Response<Long>> sizes = new ArrayList<>(keys.size());
+			List<Response<?>> elements = new ArrayList<>(keys.size());
+
+			for (int index = 0; index < keys.size(); index++) {
+
+				String key = keys.get(index);
+				RedisType type = RedisType.from(types.get(index).get());
+
+				sizes.add(type != null ? sizeOf(pipeline, key, type) : null);
+				elements.add(type != null ? elementsOf(pipeline, key, type) : null);
+			}
+
+			pipeline.sync();
+
+			List<KeySample> samples = new ArrayList<>(keys.size());
+
+			for (int index = 0; index < keys.size(); index++) {
+
+				String type = types.get(index).get();
+
+				if (!"none".equals(type)) {
+					samples.add(new KeySample(keys.get(index), RedisType.from(type),
+						sizes.get(index) != null ? sizes.get(index).get() : 0L, ttls.get(index).get(),
+						elementSizesOf(elements.get(index))));
+				}
+			}
+
+			return samples;
+		});
+	}
+
+	private Response<Long> sizeOf(Pipeline pipeline, String key, RedisType type) {
+
+		return switch (type) {
+			case HASH -> pipeline.hlen(key);
+			case LIST -> pipeline.llen(key);
+			case SET -> pipeline.scard(key);
+			case STRING -> pipeline.strlen(key);
+			case ZSET -> pipeline.zcard(key);
+		};
+	}
+
+	private @Nullable Response<?> elementsOf(Pipeline pipeline, String key, RedisType type) {
+
+		int count = getElementSampleSize();
+
+		return switch (type) {
+			case HASH -> pipeline.hrandfieldWithValues(key, count);
+			case LIST -> pipeline.lrange(key, 0, count - 1);
+			case SET -> pipeline.srandmember(key, count);
+			case ZSET -> pipeline.zrandmember(key, count);
+			case STRING -> null;
+		};
+	}
+
+	private long[] elementSizesOf(@Nullable Response<?> elements) {
+
+		Object elementValues = elements != null ? elements.get() : null;
+
+		Collection<?> values = elementValues instanceof Map<?, ?> map ? map.values()
+			: elementValues instanceof Collection<?> collection ? collection
+			: List.of();
+
+		return values.stream()
+			.mapToLong(value -> String.valueOf(value).getBytes(StandardCharsets.UTF_8).length)
+			.toArray();
+	}
+
+	private KeyspaceProfile toProfile(long totalKeys, List<KeySample> samples) {
+
+		List<String> patterns = KeyPatterns.toPatterns(samples.stream().map(KeySample::key).toList(),
+			getMaxLiteralValues());
+
+		Map<String, KeyClassProfile> keyClasses = new LinkedHashMap<>();
+
+		long unsupportedKeys = 0;
+
+		for (int index = 0; index < samples.size(); index++) {
+
+			KeySample sample = samples.get(index);
+
+			if (sample.type() == null) {
+				unsupportedKeys++;
+			}
+			else {
+				String pattern = patterns.get(index);
+
+				keyClasses.computeIfAbsent(pattern + ' ' + sample.type(),
+						keyClass -> new KeyClassProfile(pattern, sample.type()))
+					.record(sample.size(), sample.ttl(), sample.elementSizes());
+			}
+		}
+
+		return new KeyspaceProfile(totalKeys, samples.size(), unsupportedKeys, new ArrayList<>(keyClasses.values()));
+	}
+
+	public @NonNull KeyspaceProfiler matching(@NonNull String keyPattern) {
+		Assert.hasText(keyPattern, () -> String.format("Key pattern [%s] is required", keyPattern));
+		this.keyPattern = keyPattern;
+		return this;
+	}
+
+	public @NonNull KeyspaceProfiler withElementSampleSize(int elementSampleSize) {
+		this.elementSampleSize = Math.max(elementSampleSize, 1);
+		return this;
+	}
+
+	public @NonNull KeyspaceProfiler withMaxLiteralValues(int maxLiteralValues) {
+		this.maxLiteralValues = Math.max(maxLiteralValues, 0);
+		return this;
+	}
+
+	public @NonNull KeyspaceProfiler withMaxSampledKeys(int maxSampledKeys) {
+		this.maxSampledKeys = Math.max(maxSampledKeys, 1);
+		return this;
+	}
+
+	public @NonNull KeyspaceProfiler withScanCount(int scanCount) {
+		this.scanCount = Math.max(scanCount, 1);
+		return this;
+	}
+
+	private record KeySample(String key, @Nullable RedisType type, long size, long ttl, long[] elementSizes) { }
+
+}
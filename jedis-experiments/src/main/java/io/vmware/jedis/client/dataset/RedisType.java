@@ -0,0 +1,50 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Enumeration of the Redis data types supported by the {@link KeyspaceProfiler}
+ * and {@link SyntheticDatasetGenerator}.
+ *
+ * @author John Blum
+ * @since 0.1.0
+ */
+public enum RedisType {
+
+	HASH, LIST, SET, STRING, ZSET;
+
+	/**
+	 * Resolves the {@link RedisType} from the reply of the Redis {@literal TYPE} command.
+	 *
+	 * @param type {@link String} returned by the Redis {@literal TYPE} command.
+	 * @return the resolved {@link RedisType}, or {@literal null} if the type is not supported (for example:
+	 * {@literal stream}) or the key no longer exists ({@literal none}).
+	 */
+	public static @Nullable RedisType from(@Nullable String type) {
+
+		if (type != null) {
+			for (RedisType redisType : values()) {
+				if (redisType.name().equalsIgnoreCase(type)) {
+					return redisType;
+				}
+			}
+		}
+
+		return null;
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.dataset;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Generates a synthetic dataset that is statistically equivalent to a {@link KeyspaceProfile profiled} keyspace,
+ * at any scale factor.
+ * <p>
+ * Each generated key is assigned a {@link KeyClassProfile key class} in proportion to the class's share of
+ * the profiled keys. Its name is generated from the class's {@link KeyPatterns key pattern}, while its size,
+ * element sizes and TTL are drawn from the class's {@link EmpiricalDistribution empirical distributions}.
+ * Keys are written in pipelined batches, several batches in parallel. Generation is deterministic
+ * for a given {@link #withSeed(long) seed}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.dataset.GeneratedDataset
+ * @see io.vmware.jedis.client.dataset.KeyspaceProfile
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class SyntheticDatasetGenerator {
+
+	protected static final int DEFAULT_BATCH_SIZE = 1_000;
+	protected static final int DEFAULT_PARALLELISM = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+	protected static final int MAX_ELEMENTS_PER_COMMAND = 1_000;
+
+	protected static final long DEFAULT_SEED = 0x5EEDL;
+
+	private static final char[] ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private long seed = DEFAULT_SEED;
+
+	private final RedisExecutor redisExecutor;
+
+	public SyntheticDatasetGenerator(@NonNull RedisExecutor redisExecutor) {
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+	}
+
+	/**
+	 * Generates a dataset having the shape of the given {@link KeyspaceProfile} with
+	 * {@literal totalKeys * scaleFactor} keys.
+	 *
+	 * @param profile {@link KeyspaceProfile} to reproduce.
+	 * @param scaleFactor factor by which to scale the number of keys in the profiled keyspace.
+	 * @return a {@link GeneratedDataset} summarizing the generated dataset.
+	 * @throws IllegalStateException if any pipelined command writing the dataset fails.
+	 */
+	public @NonNull GeneratedDataset generate(@NonNull KeyspaceProfile profile, double scaleFactor) {
+
+		Assert.notNull(profile, "KeyspaceProfile is required");
+		Assert.isTrue(scaleFactor > 0.0d, () -> String.format("Scale factor [%s] must be greater than 0", scaleFactor));
+		Assert.notEmpty(profile.keyClasses(), "KeyspaceProfile must contain at least one key class");
+
+		List<KeyClassProfile> keyClasses = profile.keyClasses();
+
+		double[] cumulativeWeights = cumulativeWeights(keyClasses);
+
+		long keyCount = Math.round(profile.totalKeys() * scaleFactor);
+		long startTime = System.nanoTime();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(getParallelism());
+
+		try {
+
+			List<Future<Long>> batches = new ArrayList<>();
+
+			for (long batchStart = 0; batchStart < keyCount; batchStart += getBatchSize()) {
+
+				long start = batchStart;
+				long end = Math.min(batchStart + getBatchSize(), keyCount);
+
+				batches.add(executorService.submit(() -> generateBatch(keyClasses, cumulativeWeights, start, end)));
+			}
+
+			long elements = 0;
+
+			for (Future<Long> batch : batches) {
+				elements += batch.get();
+			}
+
+			return new GeneratedDataset(keyCount, elements, Duration.ofNanos(System.nanoTime() - startTime));
+		}
+		catch (ExecutionException cause) {
+			throw new IllegalStateException("Failed to generate synthetic dataset", cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while generating synthetic dataset", cause);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private double[] cumulativeWeights(List<KeyClassProfile> keyClasses) {
+
+		double total = keyClasses.stream().mapToLong(KeyClassProfile::getCount).sum();
+		double[] cumulativeWeights = new double[keyClasses.size()];
+		double cumulativeWeight = 0.0d;
+
+		for (int index = 0; index < cumulativeWeights.length; index++) {
+			cumulativeWeight += keyClasses.get(index).getCount() / total;
+			cumulativeWeights[index] = cumulativeWeight;
+		}
+
+		cumulativeWeights[cumulativeWeights.length - 1] = 1.0d;
+
+		return cumulativeWeights;
+	}
+
+	private long generateBatch(List<KeyClassProfile> keyClasses, double[] cumulativeWeights, long start, long end) {
+
+		SplittableRandom random = new SplittableRandom(getSeed() ^ (start * 0x9E3779B97F4A7C15L));
+
+		Long elements = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			long elementCount = 0;
+
+			for (long id = start; id < end; id++) {
+
+				int classIndex = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+
+				KeyClassProfile keyClass =
+					keyClasses.get(Math.min(classIndex < 0 ? -classIndex - 1 : classIndex, keyClasses.size() - 1));
+
+				String key = KeyPatterns.generateKey(keyClass.getPattern(), id, random);
+
+				elementCount += write(pipeline, key, keyClass, random);
+
+				if (random.nextDouble() >= keyClass.getPersistentRatio() && !keyClass.getTtls().isEmpty()) {
+					pipeline.pexpire(key, Math.max(keyClass.getTtls().sample(random), 1L));
+				}
+			}
+
+			requireNoErrors(pipeline.syncAndReturnAll(), start, end);
+
+			return elementCount;
+		});
+
+		return elements != null ? elements : 0L;
+	}
+
+	private void requireNoErrors(List<Object> replies, long start, long end) {
+
+		JedisDataException firstError = null;
+
+		int errorCount = 0;
+
+		for (Object reply : replies) {
+			if (reply instanceof JedisDataException error) {
+				firstError = firstError != null ? firstError : error;
+				errorCount++;
+			}
+		}
+
+		if (firstError != null) {
+			throw new IllegalStateException(String.format("[%d] of [%d] commands failed writing keys [%d, %d)",
+				errorCount, replies.size(), start, end), firstError);
+		}
+	}
+
+	private long write(Pipeline pipeline, String key, KeyClassProfile keyClass, SplittableRandom random) {
+
+		long size = keyClass.getSizes().sample(random);
+
+		if (keyClass.getType() == RedisType.STRING) {
+			pipeline.set(key, randomString(random, (int) size));
+			return 0L;
+		}
+
+		int elementCount = (int) Math.max(size, 1L);
+
+		for (int chunkStart = 0; chunkStart < elementCount; chunkStart += MAX_ELEMENTS_PER_COMMAND) {
+
+			int chunkSize = Math.min(MAX_ELEMENTS_PER_COMMAND, elementCount - chunkStart);
+
+			switch (keyClass.getType()) {
+				case HASH -> {
+					Map<String, String> fields = new HashMap<>(chunkSize * 2);
+					for (int index = chunkStart; index < chunkStart + chunkSize; index++) {
+						fields.put("field" + index, elementOf(keyClass, random, -1));
+					}
+					pipeline.hset(key, fields);
+				}
+				case LIST -> {
+					String[] elements = new String[chunkSize];
+					for (int index = 0; index < chunkSize; index++) {
+						elements[index] = elementOf(keyClass, random, -1);
+					}
+					pipeline.rpush(key, elements);
+				}
+				case SET -> {
+					String[] members = new String[chunkSize];
+					for (int index = 0; index < chunkSize; index++) {
+						members[index] = elementOf(keyClass, random, chunkStart + index);
+					}
+					pipeline.sadd(key, members);
+				}
+				case ZSET -> {
+					Map<String, Double> members = new HashMap<>(chunkSize * 2);
+					for (int index = chunkStart; index < chunkStart + chunkSize; index++) {
+						members.put(elementOf(keyClass, random, index), random.nextDouble(0.0d, 1_000_000.0d));
+					}
+					pipeline.zadd(key, members);
+				}
+				default -> throw new IllegalStateException(String.format("Unsupported type [%s]", keyClass.getType()));
+			}
+		}
+
+		return elementCount;
+	}
+
+	/**
+	 * Generates an element with a size drawn from the element size distribution of the key class.
+	 * Elements of Sets and Sorted Sets are prefixed with their (unique) index within the collection.
+	 */
+	private String elementOf(KeyClassProfile keyClass, SplittableRandom random, int uniqueIndex) {
+
+		int size = (int) keyClass.getElementSizes().sample(random);
+
+		if (uniqueIndex < 0) {
+			return randomString(random, size);
+		}
+
+		String prefix = Integer.toString(uniqueIndex, Character.MAX_RADIX) + ":";
+
+		return prefix + randomString(random, Math.max(size - prefix.length(), 0));
+	}
+
+	private String randomString(SplittableRandom random, int length) {
+
+		char[] characters = new char[length];
+
+		for (int index = 0; index < length; index++) {
+			characters[index] = ALPHABET[random.nextInt(ALPHABET.length)];
+		}
+
+		return new String(characters);
+	}
+
+	public @NonNull SyntheticDatasetGenerator withBatchSize(int batchSize) {
+		this.batchSize = Math.max(batchSize, 1);
+		return this;
+	}
+
+	public @NonNull SyntheticDatasetGenerator withParallelism(int parallelism) {
+		this.parallelism = Math.max(parallelism, 1);
+		return this;
+	}
+
+	public @NonNull SyntheticDatasetGenerator withSeed(long seed) {
+		this.seed = seed;
+		return this;
+	}
+}
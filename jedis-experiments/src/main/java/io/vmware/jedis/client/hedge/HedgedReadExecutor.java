@@ -0,0 +1,275 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.hedge;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisCallback;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * {@link RedisExecutor} hedging reads across a primary and a replica in order to cut tail latency.
+ * <p>
+ * A read is first sent to the primary. If the primary has not answered within the hedge delay, which tracks
+ * a {@link LatencyWindow latency percentile} of recent primary reads, the same read is sent to the replica and
+ * whichever answers first (successfully) wins. Hedged reads are limited by a {@link HedgingBudget} so that hedging
+ * never adds more than a configured share of extra load.
+ * <p>
+ * Only idempotent reads should be executed with this executor, and callers must tolerate (slightly) stale values
+ * returned by the replica.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.hedge.HedgedReadStatistics
+ * @see io.vmware.jedis.client.hedge.HedgingBudget
+ * @see io.vmware.jedis.client.hedge.LatencyWindow
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @see <a href="https://research.google/pubs/pub40801/">The Tail at Scale</a>
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class HedgedReadExecutor implements AutoCloseable, RedisExecutor {
+
+	protected static final double DEFAULT_BUDGET_RATIO = 0.1d;
+	protected static final double DEFAULT_PERCENTILE = 0.95d;
+
+	protected static final int DEFAULT_BUDGET_BURST = 10;
+	protected static final int MINIMUM_SAMPLES = 100;
+
+	protected static final Duration DEFAULT_INITIAL_HEDGE_DELAY = Duration.ofMillis(5);
+	protected static final Duration DEFAULT_MAXIMUM_HEDGE_DELAY = Duration.ofMillis(50);
+	protected static final Duration DEFAULT_MINIMUM_HEDGE_DELAY = Duration.ofNanos(250_000);
+	protected static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+	/**
+	 * Factory method used to construct a new {@link HedgedReadExecutor} reading from the given primary
+	 * and replica {@link RedisExecutor RedisExecutors}, using its own cached {@link Thread} pool.
+	 *
+	 * @param primary {@link RedisExecutor} for the primary.
+	 * @param replica {@link RedisExecutor} for the replica.
+	 * @return a new {@link HedgedReadExecutor}.
+	 */
+	public static @NonNull HedgedReadExecutor from(@NonNull RedisExecutor primary, @NonNull RedisExecutor replica) {
+
+		ExecutorService executorService = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "hedged-read-" + THREAD_ID.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		return new HedgedReadExecutor(primary, replica, executorService, true);
+	}
+
+	private final boolean ownsExecutorService;
+
+	private Duration initialHedgeDelay = DEFAULT_INITIAL_HEDGE_DELAY;
+	private Duration maximumHedgeDelay = DEFAULT_MAXIMUM_HEDGE_DELAY;
+	private Duration minimumHedgeDelay = DEFAULT_MINIMUM_HEDGE_DELAY;
+	private Duration readTimeout = DEFAULT_READ_TIMEOUT;
+
+	private final ExecutorService executorService;
+
+	@Getter
+	private final HedgedReadStatistics statistics = new HedgedReadStatistics();
+
+	private HedgingBudget budget = new HedgingBudget(DEFAULT_BUDGET_RATIO, DEFAULT_BUDGET_BURST);
+
+	private LatencyWindow latencyWindow = new LatencyWindow(DEFAULT_PERCENTILE);
+
+	private final RedisExecutor primary;
+	private final RedisExecutor replica;
+
+	public HedgedReadExecutor(@NonNull RedisExecutor primary, @NonNull RedisExecutor replica,
+			@NonNull ExecutorService executorService) {
+
+		this(primary, replica, executorService, false);
+	}
+
+	private HedgedReadExecutor(@NonNull RedisExecutor primary, @NonNull RedisExecutor replica,
+			@NonNull ExecutorService executorService, boolean ownsExecutorService) {
+
+		this.primary = RedisAssertions.requireObject(primary, "Primary RedisExecutor is required");
+		this.replica = RedisAssertions.requireObject(replica, "Replica RedisExecutor is required");
+		this.executorService = RedisAssertions.requireObject(executorService, "ExecutorService is required");
+		this.ownsExecutorService = ownsExecutorService;
+	}
+
+	/**
+	 * Returns the current delay after which a read still outstanding on the primary is hedged to the replica.
+	 *
+	 * @return the current hedge {@link Duration delay}.
+	 */
+	public @NonNull Duration getHedgeDelay() {
+
+		LatencyWindow latencyWindow = getLatencyWindow();
+
+		if (latencyWindow.getCount() < MINIMUM_SAMPLES) {
+			return getInitialHedgeDelay();
+		}
+
+		Duration percentileLatency = latencyWindow.getPercentileLatency();
+
+		return percentileLatency.compareTo(getMinimumHedgeDelay()) < 0 ? getMinimumHedgeDelay()
+			: percentileLatency.compareTo(getMaximumHedgeDelay()) > 0 ? getMaximumHedgeDelay()
+			: percentileLatency;
+	}
+
+	@Override
+	public @Nullable <T> T execute(@NonNull RedisCallback<T> callback) {
+
+		Assert.notNull(callback, "RedisCallback is required");
+
+		getStatistics().recordRead();
+		getBudget().onRead();
+
+		long startTime = System.nanoTime();
+
+		CompletableFuture<T> primaryRead = readAsync(getPrimary(), callback);
+
+		primaryRead.whenComplete((result, cause) -> getLatencyWindow().record(System.nanoTime() - startTime));
+
+		try {
+			return primaryRead.get(getHedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException | ExecutionException ignore) {
+			// Primary is slow or failed; hedge if the budget allows it
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading from primary", cause);
+		}
+
+		if (!getBudget().tryAcquire()) {
+			getStatistics().recordBudgetExhausted();
+			return await(primaryRead);
+		}
+
+		getStatistics().recordHedge();
+
+		return await(firstSuccessful(primaryRead, readAsync(getReplica(), callback)));
+	}
+
+	private <T> CompletableFuture<T> readAsync(RedisExecutor redisExecutor, RedisCallback<T> callback) {
+		return CompletableFuture.supplyAsync(() -> redisExecutor.execute(callback), getExecutorService());
+	}
+
+	private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primaryRead,
+			CompletableFuture<T> hedgedRead) {
+
+		CompletableFuture<T> firstRead = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+
+		primaryRead.whenComplete((result, cause) -> {
+			if (cause == null) {
+				firstRead.complete(result);
+			}
+			else if (failures.incrementAndGet() == 2) {
+				firstRead.completeExceptionally(cause);
+			}
+		});
+
+		hedgedRead.whenComplete((result, cause) -> {
+			if (cause == null) {
+				if (firstRead.complete(result)) {
+					getStatistics().recordHedgeWin();
+				}
+			}
+			else if (failures.incrementAndGet() == 2) {
+				firstRead.completeExceptionally(cause);
+			}
+		});
+
+		return firstRead;
+	}
+
+	private <T> T await(Future<T> read) {
+
+		try {
+			return read.get(getReadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException cause) {
+
+			getStatistics().recordFailure();
+
+			Throwable failure = cause.getCause();
+
+			throw failure instanceof RuntimeException runtimeException ? runtimeException
+				: new IllegalStateException("Failed to read from Redis", failure);
+		}
+		catch (TimeoutException cause) {
+			getStatistics().recordFailure();
+			throw new IllegalStateException(String.format("Read timed out after [%s]", getReadTimeout()), cause);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading from Redis", cause);
+		}
+	}
+
+	public @NonNull HedgedReadExecutor withBudget(double ratio, int burst) {
+		this.budget = new HedgingBudget(ratio, burst);
+		return this;
+	}
+
+	public @NonNull HedgedReadExecutor withHedgeDelay(@NonNull Duration initialHedgeDelay,
+			@NonNull Duration minimumHedgeDelay, @NonNull Duration maximumHedgeDelay) {
+
+		Assert.isTrue(!minimumHedgeDelay.isNegative() && minimumHedgeDelay.compareTo(maximumHedgeDelay) <= 0,
+			() -> String.format("Minimum hedge delay [%s] must be between 0 and maximum hedge delay [%s]",
+				minimumHedgeDelay, maximumHedgeDelay));
+
+		this.initialHedgeDelay = RedisAssertions.requireObject(initialHedgeDelay, "Initial hedge delay is required");
+		this.minimumHedgeDelay = minimumHedgeDelay;
+		this.maximumHedgeDelay = maximumHedgeDelay;
+
+		return this;
+	}
+
+	public @NonNull HedgedReadExecutor withPercentile(double percentile) {
+		this.latencyWindow = new LatencyWindow(percentile);
+		return this;
+	}
+
+	public @NonNull HedgedReadExecutor withReadTimeout(@NonNull Duration readTimeout) {
+		this.readTimeout = RedisAssertions.requireObject(readTimeout, "Read timeout is required");
+		return this;
+	}
+
+	@Override
+	public void close() {
+
+		if (this.ownsExecutorService) {
+			getExecutorService().shutdownNow();
+		}
+	}
+}
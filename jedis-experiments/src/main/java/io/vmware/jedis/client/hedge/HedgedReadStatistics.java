@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.hedge;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe statistics recorded by the {@link HedgedReadExecutor}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.hedge.HedgedReadExecutor
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class HedgedReadStatistics {
+
+	private final LongAdder budgetExhausted = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	private final LongAdder reads = new LongAdder();
+
+	void recordBudgetExhausted() {
+		this.budgetExhausted.increment();
+	}
+
+	void recordFailure() {
+		this.failures.increment();
+	}
+
+	void recordHedge() {
+		this.hedges.increment();
+	}
+
+	void recordHedgeWin() {
+		this.hedgeWins.increment();
+	}
+
+	void recordRead() {
+		this.reads.increment();
+	}
+
+	public long getBudgetExhausted() {
+		return this.budgetExhausted.sum();
+	}
+
+	public long getFailures() {
+		return this.failures.sum();
+	}
+
+	public long getHedges() {
+		return this.hedges.sum();
+	}
+
+	public long getHedgeWins() {
+		return this.hedgeWins.sum();
+	}
+
+	public long getReads() {
+		return this.reads.sum();
+	}
+
+	public double getHedgeRate() {
+		long reads = getReads();
+		return reads > 0 ? (double) getHedges() / reads : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%s { reads = %d, hedges = %d, hedgeRate = %.2f%%, hedgeWins = %d,"
+				+ " budgetExhausted = %d, failures = %d }",
+			getClass().getSimpleName(), getReads(), getHedges(), getHedgeRate() * 100.0d, getHedgeWins(),
+			getBudgetExhausted(), getFailures());
+	}
+}
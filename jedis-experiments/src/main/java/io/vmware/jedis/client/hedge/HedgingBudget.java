@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe token bucket limiting hedged reads to a share of all reads.
+ * <p>
+ * Every read deposits {@link #getRatio() ratio} tokens, up to the {@link #getBurst() burst} capacity, and every
+ * hedged read withdraws a whole token. Therefore, the number of hedged reads never exceeds
+ * {@literal ratio * reads + burst}, no matter how slow the primary becomes.
+ *
+ * @author John Blum
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class HedgingBudget {
+
+	protected static final long TOKEN = 1_000L;
+
+	private final AtomicLong tokens;
+
+	private final double ratio;
+
+	private final long capacity;
+	private final long deposit;
+
+	private final int burst;
+
+	public HedgingBudget(double ratio, int burst) {
+
+		Assert.isTrue(ratio >= 0.0d && ratio <= 1.0d,
+			() -> String.format("Ratio [%s] must be between 0.0 and 1.0", ratio));
+
+		Assert.isTrue(burst >= 0, () -> String.format("Burst [%d] must be greater than or equal to 0", burst));
+
+		this.ratio = ratio;
+		this.burst = burst;
+		this.capacity = Math.max(burst, 1) * TOKEN;
+		this.deposit = Math.round(ratio * TOKEN);
+		this.tokens = new AtomicLong(burst * TOKEN);
+	}
+
+	public int getBurst() {
+		return this.burst;
+	}
+
+	public double getRatio() {
+		return this.ratio;
+	}
+
+	public double getAvailableTokens() {
+		return (double) this.tokens.get() / TOKEN;
+	}
+
+	void onRead() {
+		this.tokens.accumulateAndGet(this.deposit, (tokens, deposit) -> Math.min(tokens + deposit, this.capacity));
+	}
+
+	boolean tryAcquire() {
+
+		for (long tokens = this.tokens.get(); tokens >= TOKEN; tokens = this.tokens.get()) {
+			if (this.tokens.compareAndSet(tokens, tokens - TOKEN)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.hedge;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe, fixed-size ring buffer of the most recent latency samples used to estimate latency percentiles.
+ * <p>
+ * Percentiles are recomputed (by sorting a copy of the window) at most once every {@link #getRecomputeInterval()}
+ * samples and cached in between, so reading a percentile on the hot path is cheap.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class LatencyWindow {
+
+	protected static final int DEFAULT_SIZE = 1024;
+	protected static final int DEFAULT_RECOMPUTE_INTERVAL = 64;
+
+	private final AtomicLong count = new AtomicLong();
+
+	private final AtomicLongArray samples;
+
+	private final double percentile;
+
+	private final int recomputeInterval;
+
+	private volatile long cachedPercentileNanos = -1L;
+	private volatile long cachedAtCount = Long.MIN_VALUE;
+
+	public LatencyWindow(double percentile) {
+		this(percentile, DEFAULT_SIZE, DEFAULT_RECOMPUTE_INTERVAL);
+	}
+
+	public LatencyWindow(double percentile, int size, int recomputeInterval) {
+
+		Assert.isTrue(percentile > 0.0d && percentile < 1.0d,
+			() -> String.format("Percentile [%s] must be greater than 0.0 and less than 1.0", percentile));
+
+		Assert.isTrue(size > 0, () -> String.format("Size [%d] must be greater than 0", size));
+
+		Assert.isTrue(recomputeInterval > 0,
+			() -> String.format("Recompute interval [%d] must be greater than 0", recomputeInterval));
+
+		this.percentile = percentile;
+		this.samples = new AtomicLongArray(size);
+		this.recomputeInterval = recomputeInterval;
+	}
+
+	public long getCount() {
+		return this.count.get();
+	}
+
+	public double getPercentile() {
+		return this.percentile;
+	}
+
+	public int getRecomputeInterval() {
+		return this.recomputeInterval;
+	}
+
+	public int getSize() {
+		return this.samples.length();
+	}
+
+	public void record(long nanos) {
+		long index = this.count.getAndIncrement();
+		this.samples.set((int) (index % this.samples.length()), Math.max(nanos, 0L));
+	}
+
+	/**
+	 * Returns the {@link #getPercentile() percentile} of the latencies currently in the window.
+	 *
+	 * @return the {@link Duration} at the {@link #getPercentile() percentile}, or {@link Duration#ZERO}
+	 * if no latencies have been recorded.
+	 */
+	public @NonNull Duration getPercentileLatency() {
+
+		long count = getCount();
+
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+
+		if (count - this.cachedAtCount >= getRecomputeInterval() || this.cachedPercentileNanos < 0) {
+			this.cachedPercentileNanos = computePercentile(count);
+			this.cachedAtCount = count;
+		}
+
+		return Duration.ofNanos(this.cachedPercentileNanos);
+	}
+
+	private long computePercentile(long count) {
+
+		int size = (int) Math.min(count, this.samples.length());
+
+		long[] snapshot = new long[size];
+
+		for (int index = 0; index < size; index++) {
+			snapshot[index] = this.samples.get(index);
+		}
+
+		Arrays.sort(snapshot);
+
+		int rank = (int) Math.ceil(getPercentile() * size) - 1;
+
+		return snapshot[Math.max(0, Math.min(rank, size - 1))];
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.index;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Java {@link Record} modeling the filterable attributes of a catalog entry (for example, a bike)
+ * stored in Redis.
+ *
+ * @author John Blum
+ * @param key {@link String} containing the Redis key of the catalog entry.
+ * @param brand {@link String} containing the brand.
+ * @param type {@link String} containing the type (for example: {@literal Kids Mountain Bike}).
+ * @param material {@link String} containing the material (for example: {@literal carbon}).
+ * @param price {@link Integer#TYPE price} in whole currency units.
+ * @since 0.1.0
+ */
+public record CatalogEntry(String key, String brand, String type, String material, int price) {
+
+	public static final String BRAND_PATH = "brand";
+	public static final String MATERIAL_PATH = "specs.material";
+	public static final String PRICE_PATH = "price";
+	public static final String TYPE_PATH = "type";
+
+	public static final String[] PATHS = { BRAND_PATH, TYPE_PATH, MATERIAL_PATH, PRICE_PATH };
+
+	/**
+	 * Factory method used to construct a new {@link CatalogEntry} from the {@link #PATHS} read from
+	 * a JSON document.
+	 *
+	 * @param key {@link String} containing the Redis key of the JSON document.
+	 * @param pathValues {@link Map} of path to value; may be {@literal null} if the document does not exist.
+	 * @return a new {@link CatalogEntry}, or {@literal null} if the document does not exist.
+	 */
+	public static @Nullable CatalogEntry from(@NonNull String key, @Nullable Map<String, JsonNode> pathValues) {
+
+		if (pathValues == null || pathValues.values().stream().allMatch(value -> value == null || value.isNull())) {
+			return null;
+		}
+
+		return new CatalogEntry(key,
+			textOf(pathValues.get(BRAND_PATH)),
+			textOf(pathValues.get(TYPE_PATH)),
+			textOf(pathValues.get(MATERIAL_PATH)),
+			pathValues.get(PRICE_PATH) != null ? pathValues.get(PRICE_PATH).asInt() : 0);
+	}
+
+	private static @Nullable String textOf(@Nullable JsonNode node) {
+		return node != null && !node.isNull() ? node.asText() : null;
+	}
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.json.JsonDocumentAccessor;
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.support.ScanIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Local, read-optimized, columnar index of {@link CatalogEntry catalog entries} stored in Redis as JSON documents.
+ * <p>
+ * Prices are stored in a primitive {@literal int[]} column, while brand, type and material are dictionary-encoded
+ * (see {@link ColumnDictionary}) with a {@link BitSet} of rows per distinct value. Filter {@link Query queries}
+ * are answered by intersecting {@link BitSet BitSets} and range-checking the price column of the remaining rows,
+ * without any round trip to Redis.
+ * <p>
+ * The index is {@link #load() loaded} by scanning the keys matching a pattern and reading only the indexed paths
+ * of each document through a {@link JsonDocumentAccessor}. Afterwards, it can be {@link #refresh(Collection)
+ * refreshed} incrementally for the keys that changed (for example, keys reported by keyspace notifications);
+ * keys that no longer exist are removed and their rows are reused.
+ *
+ * @author John Blum
+ * @see java.util.BitSet
+ * @see io.vmware.jedis.client.index.CatalogEntry
+ * @see io.vmware.jedis.client.json.JsonDocumentAccessor
+ * @see io.vmware.jedis.client.support.ScanIterator
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class CatalogFilterIndex {
+
+	protected static final int DEFAULT_INITIAL_CAPACITY = 1024;
+	protected static final int DEFAULT_SCAN_COUNT = 500;
+
+	private final BitSet liveRows = new BitSet();
+
+	private final ColumnDictionary brands = new ColumnDictionary();
+	private final ColumnDictionary materials = new ColumnDictionary();
+	private final ColumnDictionary types = new ColumnDictionary();
+
+	private final Deque<Integer> freeRows = new ArrayDeque<>();
+
+	private int rowCount;
+
+	private int[] brandCodes;
+	private int[] materialCodes;
+	private int[] prices;
+	private int[] typeCodes;
+
+	private final JsonDocumentAccessor documentAccessor;
+
+	private final Map<String, Integer> rowsByKey = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final RedisExecutor redisExecutor;
+
+	private String[] keys;
+
+	private final String keyPattern;
+
+	public CatalogFilterIndex(@NonNull RedisExecutor redisExecutor, @NonNull JsonDocumentAccessor documentAccessor,
+			@NonNull String keyPattern) {
+
+		Assert.hasText(keyPattern, () -> String.format("Key pattern [%s] is required", keyPattern));
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.documentAccessor = RedisAssertions.requireObject(documentAccessor, "JsonDocumentAccessor is required");
+		this.keyPattern = keyPattern;
+
+		allocate(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	private void allocate(int capacity) {
+
+		this.brandCodes = this.brandCodes != null ? Arrays.copyOf(this.brandCodes, capacity) : new int[capacity];
+		this.materialCodes = this.materialCodes != null ? Arrays.copyOf(this.materialCodes, capacity)
+			: new int[capacity];
+		this.prices = this.prices != null ? Arrays.copyOf(this.prices, capacity) : new int[capacity];
+		this.typeCodes = this.typeCodes != null ? Arrays.copyOf(this.typeCodes, capacity) : new int[capacity];
+		this.keys = this.keys != null ? Arrays.copyOf(this.keys, capacity) : new String[capacity];
+	}
+
+	/**
+	 * Loads (or reloads) all catalog entries with keys matching the {@link #getKeyPattern() key pattern}.
+	 * <p>
+	 * The existing entries remain queryable while the keys are scanned: each scanned batch is
+	 * {@link #refresh(Collection) refreshed} in place, and once the scan completes, the entries whose keys
+	 * were not scanned (because they no longer exist in Redis, or were only {@link #put(CatalogEntry) put}
+	 * in the index) are removed in a single write.
+	 *
+	 * @return this {@link CatalogFilterIndex}.
+	 */
+	public @NonNull CatalogFilterIndex load() {
+
+		Set<String> scannedKeys = new HashSet<>();
+
+		ScanIterator scanIterator =
+			ScanIterator.from(getRedisExecutor()::execute, getKeyPattern(), DEFAULT_SCAN_COUNT);
+
+		while (scanIterator.hasNext()) {
+
+			List<String> keys = scanIterator.next();
+
+			scannedKeys.addAll(keys);
+			refresh(keys);
+		}
+
+		write(() -> {
+
+			List<String> unscannedKeys = this.rowsByKey.keySet().stream()
+				.filter(key -> !scannedKeys.contains(key))
+				.toList();
+
+			unscannedKeys.forEach(this::doRemove);
+
+			return null;
+		});
+
+		return this;
+	}
+
+	/**
+	 * Incrementally refreshes the index for the given keys, reading only the indexed paths of each document
+	 * in a single batch. Keys whose documents no longer exist are removed from the index.
+	 *
+	 * @param keys {@link Collection} of keys that changed.
+	 */
+	public void refresh(@NonNull Collection<String> keys) {
+
+		Assert.notNull(keys, "Keys are required");
+
+		if (!keys.isEmpty()) {
+
+			List<String> keyList = new ArrayList<>(keys);
+			List<Map<String, JsonNode>> documents = getDocumentAccessor().multiGet(keyList, CatalogEntry.PATHS);
+
+			write(() -> {
+
+				for (int index = 0; index < keyList.size(); index++) {
+
+					CatalogEntry entry = CatalogEntry.from(keyList.get(index), documents.get(index));
+
+					if (entry != null) {
+						doPut(entry);
+					}
+					else {
+						doRemove(keyList.get(index));
+					}
+				}
+
+				return null;
+			});
+		}
+	}
+
+	public void put(@NonNull CatalogEntry entry) {
+		Assert.notNull(entry, "CatalogEntry is required");
+		write(() -> doPut(entry));
+	}
+
+	private int doPut(CatalogEntry entry) {
+
+		Integer existingRow = this.rowsByKey.get(entry.key());
+
+		int row = existingRow != null ? existingRow : nextRow();
+
+		if (existingRow != null) {
+			this.brands.remove(this.brandCodes[row], row);
+			this.materials.remove(this.materialCodes[row], row);
+			this.types.remove(this.typeCodes[row], row);
+		}
+
+		this.brandCodes[row] = this.brands.encode(entry.brand());
+		this.materialCodes[row] = this.materials.encode(entry.material());
+		this.typeCodes[row] = this.types.encode(entry.type());
+		this.prices[row] = entry.price();
+		this.keys[row] = entry.key();
+
+		this.brands.add(this.brandCodes[row], row);
+		this.materials.add(this.materialCodes[row], row);
+		this.types.add(this.typeCodes[row], row);
+		this.liveRows.set(row);
+		this.rowsByKey.put(entry.key(), row);
+
+		return row;
+	}
+
+	private int nextRow() {
+
+		if (!this.freeRows.isEmpty()) {
+			return this.freeRows.pop();
+		}
+
+		if (this.rowCount == this.prices.length) {
+			allocate(this.prices.length * 2);
+		}
+
+		return this.rowCount++;
+	}
+
+	public boolean remove(@NonNull String key) {
+		return Boolean.TRUE.equals(write(() -> doRemove(key)));
+	}
+
+	private boolean doRemove(String key) {
+
+		Integer row = this.rowsByKey.remove(key);
+
+		if (row != null) {
+			this.brands.remove(this.brandCodes[row], row);
+			this.materials.remove(this.materialCodes[row], row);
+			this.types.remove(this.typeCodes[row], row);
+			this.liveRows.clear(row);
+			this.keys[row] = null;
+			this.freeRows.push(row);
+			return true;
+		}
+
+		return false;
+	}
+
+	public @NonNull Optional<CatalogEntry> get(@NonNull String key) {
+
+		return Optional.ofNullable(read(() -> {
+			Integer row = this.rowsByKey.get(key);
+			return row != null ? toEntry(row) : null;
+		}));
+	}
+
+	public int size() {
+		return read(this.liveRows::cardinality);
+	}
+
+	public @NonNull Query query() {
+		return new Query();
+	}
+
+	private CatalogEntry toEntry(int row) {
+
+		return new CatalogEntry(this.keys[row],
+			this.brands.decode(this.brandCodes[row]),
+			this.types.decode(this.typeCodes[row]),
+			this.materials.decode(this.materialCodes[row]),
+			this.prices[row]);
+	}
+
+	private <T> T read(Supplier<T> reader) {
+
+		Lock readLock = getLock().readLock();
+
+		readLock.lock();
+
+		try {
+			return reader.get();
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private <T> T write(Supplier<T> writer) {
+
+		Lock writeLock = getLock().writeLock();
+
+		writeLock.lock();
+
+		try {
+			return writer.get();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * Filter query over the {@link CatalogFilterIndex}. Multiple values for the same attribute are combined
+	 * with {@literal OR}; different attributes are combined with {@literal AND}.
+	 */
+	public class Query {
+
+		private int maximumPrice = Integer.MAX_VALUE;
+		private int minimumPrice = Integer.MIN_VALUE;
+
+		private String[] brands;
+		private String[] materials;
+		private String[] types;
+
+		public @NonNull Query brand(@NonNull String... brands) {
+			this.brands = brands;
+			return this;
+		}
+
+		public @NonNull Query material(@NonNull String... materials) {
+			this.materials = materials;
+			return this;
+		}
+
+		public @NonNull Query type(@NonNull String... types) {
+			this.types = types;
+			return this;
+		}
+
+		public @NonNull Query priceAtLeast(int minimumPrice) {
+			this.minimumPrice = minimumPrice;
+			return this;
+		}
+
+		public @NonNull Query priceAtMost(int maximumPrice) {
+			this.maximumPrice = maximumPrice;
+			return this;
+		}
+
+		public @NonNull Query priceBetween(int minimumPrice, int maximumPrice) {
+			return priceAtLeast(minimumPrice).priceAtMost(maximumPrice);
+		}
+
+		public int count() {
+			return read(() -> matchingRows().cardinality());
+		}
+
+		public @NonNull List<CatalogEntry> entries() {
+			return read(() -> matchingRows().stream().mapToObj(CatalogFilterIndex.this::toEntry).toList());
+		}
+
+		public @NonNull List<String> keys() {
+			return read(() -> matchingRows().stream().mapToObj(row -> CatalogFilterIndex.this.keys[row]).toList());
+		}
+
+		private BitSet matchingRows() {
+
+			BitSet rows = (BitSet) getLiveRows().clone();
+
+			intersect(rows, getBrands(), this.brands);
+			intersect(rows, getMaterials(), this.materials);
+			intersect(rows, getTypes(), this.types);
+
+			if (this.minimumPrice != Integer.MIN_VALUE || this.maximumPrice != Integer.MAX_VALUE) {
+
+				int[] prices = getPrices();
+
+				for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+					if (prices[row] < this.minimumPrice || prices[row] > this.maximumPrice) {
+						rows.clear(row);
+					}
+				}
+			}
+
+			return rows;
+		}
+
+		private void intersect(BitSet rows, ColumnDictionary dictionary, @Nullable String[] values) {
+			if (values != null && values.length > 0) {
+				rows.and(dictionary.rowsMatchingAny(values));
+			}
+		}
+	}
+}
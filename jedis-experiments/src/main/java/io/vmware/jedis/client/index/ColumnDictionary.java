@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.index;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Dictionary encoding of a {@link String} column, mapping each distinct (case-insensitive) value to
+ * a dense {@link Integer#TYPE int} code along with a {@link BitSet} of the rows containing the value.
+ * <p>
+ * Not Thread-safe; access is guarded by the owning {@link CatalogFilterIndex}.
+ *
+ * @author John Blum
+ * @see java.util.BitSet
+ * @see io.vmware.jedis.client.index.CatalogFilterIndex
+ * @since 0.1.0
+ */
+class ColumnDictionary {
+
+	static final int NULL_CODE = -1;
+
+	private final List<BitSet> rows = new ArrayList<>();
+	private final List<String> values = new ArrayList<>();
+
+	private final Map<String, Integer> codes = new HashMap<>();
+
+	private static @Nullable String normalize(@Nullable String value) {
+		return value != null ? value.strip().toLowerCase(Locale.ROOT) : null;
+	}
+
+	int codeOf(@Nullable String value) {
+		String normalizedValue = normalize(value);
+		return normalizedValue != null ? this.codes.getOrDefault(normalizedValue, NULL_CODE) : NULL_CODE;
+	}
+
+	int encode(@Nullable String value) {
+
+		String normalizedValue = normalize(value);
+
+		if (normalizedValue == null) {
+			return NULL_CODE;
+		}
+
+		return this.codes.computeIfAbsent(normalizedValue, key -> {
+			this.values.add(value.strip());
+			this.rows.add(new BitSet());
+			return this.values.size() - 1;
+		});
+	}
+
+	@Nullable String decode(int code) {
+		return code != NULL_CODE ? this.values.get(code) : null;
+	}
+
+	void add(int code, int row) {
+		if (code != NULL_CODE) {
+			this.rows.get(code).set(row);
+		}
+	}
+
+	void remove(int code, int row) {
+		if (code != NULL_CODE) {
+			this.rows.get(code).clear(row);
+		}
+	}
+
+	/**
+	 * Returns a new {@link BitSet} of the rows containing any of the given values.
+	 *
+	 * @param values array of values to match.
+	 * @return a new {@link BitSet} of matching rows.
+	 */
+	@NonNull BitSet rowsMatchingAny(@NonNull String... values) {
+
+		BitSet matchingRows = new BitSet();
+
+		for (String value : values) {
+			int code = codeOf(value);
+			if (code != NULL_CODE) {
+				matchingRows.or(this.rows.get(code));
+			}
+		}
+
+		return matchingRows;
+	}
+
+	int size() {
+		return this.values.size();
+	}
+}
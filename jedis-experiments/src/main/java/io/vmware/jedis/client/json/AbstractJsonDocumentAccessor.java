@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Abstract base class for {@link JsonDocumentAccessor} implementations.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.databind.ObjectMapper
+ * @see io.vmware.jedis.client.json.JsonDocumentAccessor
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public abstract class AbstractJsonDocumentAccessor implements JsonDocumentAccessor {
+
+	private final ObjectMapper objectMapper;
+
+	private final RedisExecutor redisExecutor;
+
+	protected AbstractJsonDocumentAccessor(@NonNull RedisExecutor redisExecutor, @NonNull ObjectMapper objectMapper) {
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.objectMapper = RedisAssertions.requireObject(objectMapper, "ObjectMapper is required");
+	}
+
+	protected @NonNull String requireKey(@NonNull String key) {
+		Assert.hasText(key, () -> String.format("Key [%s] is required", key));
+		return key;
+	}
+
+	protected @NonNull String[] requirePaths(@NonNull String... paths) {
+		Assert.notEmpty(paths, "At least one path is required");
+		return paths;
+	}
+
+	protected @Nullable JsonNode readTree(@Nullable Object json) {
+
+		if (json == null) {
+			return null;
+		}
+
+		try {
+			return json instanceof byte[] bytes
+				? getObjectMapper().readTree(bytes)
+				: getObjectMapper().readTree(String.valueOf(json));
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException("Failed to read JSON", cause);
+		}
+	}
+
+	protected @NonNull JsonNode toJsonNode(@Nullable Object value) {
+		return value instanceof JsonNode jsonNode ? jsonNode
+			: value != null ? getObjectMapper().valueToTree(value)
+			: NullNode.getInstance();
+	}
+
+	protected @NonNull byte[] toJsonBytes(@Nullable Object value) {
+		return toJsonString(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull String toJsonString(@Nullable Object value) {
+
+		try {
+			return getObjectMapper().writeValueAsString(toJsonNode(value));
+		}
+		catch (JsonProcessingException cause) {
+			throw new IllegalArgumentException(String.format("Failed to write value [%s] as JSON", value), cause);
+		}
+	}
+}
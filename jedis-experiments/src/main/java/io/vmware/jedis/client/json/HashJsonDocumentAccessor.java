@@ -0,0 +1,370 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.json;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisExecutor;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+/**
+ * {@link JsonDocumentAccessor} implementation used when the RedisJSON module is not available, storing each
+ * document as a Redis Hash with one field per leaf path (for example: {@literal specs.weight}).
+ * <p>
+ * Leaf values (scalars, arrays and empty objects) are stored as JSON text. Reading an object path (for example:
+ * {@literal specs}) collects the fields under the path prefix. Paths are read with a Lua script returning
+ * the leaf field or the subtree fields of each path, so reading any paths of a document, or of many documents
+ * (pipelined), is a single round trip. Scripts are invoked by their SHA1 digest with {@literal EVALSHA}, and only
+ * loaded (with {@literal SCRIPT LOAD}) when the Redis server replies {@literal NOSCRIPT}, so the script source
+ * is not sent with every call. Object member names must not contain a dot ({@literal .}).
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.json.AbstractJsonDocumentAccessor
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class HashJsonDocumentAccessor extends AbstractJsonDocumentAccessor {
+
+	protected static final String PATH_SEPARATOR = ".";
+
+	/**
+	 * Atomically replaces the subtree at the path (ARGV[1]) with the given field/value pairs (ARGV[2..n]),
+	 * removing the leaf fields of the ancestors of the path, which the subtree replaces. An empty path replaces
+	 * the whole document.
+	 */
+	protected static final byte[] REPLACE_PATH_SCRIPT = """
+		local path = ARGV[1]
+		if path == '' then
+			redis.call('DEL', KEYS[1])
+		else
+			local separator = string.find(path, '.', 1, true)
+			while separator do
+				redis.call('HDEL', KEYS[1], string.sub(path, 1, separator - 1))
+				separator = string.find(path, '.', separator + 1, true)
+			end
+			local prefix = path .. '.'
+			for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do
+				if field == path or string.sub(field, 1, #prefix) == prefix then
+					redis.call('HDEL', KEYS[1], field)
+				end
+			end
+		end
+		if #ARGV > 1 then
+			redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+		end
+		return #ARGV - 1
+		""".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Returns, for each path (ARGV[i]), the leaf field and value at the path, or the fields and values of
+	 * the subtree under the path (all fields for the empty root path), as a flat field/value array.
+	 */
+	protected static final byte[] GET_PATHS_SCRIPT = """
+		local result = {}
+		local fields
+		for i, path in ipairs(ARGV) do
+			local pathValues = {}
+			local value = path ~= '' and redis.call('HGET', KEYS[1], path)
+			if value then
+				pathValues[1] = path
+				pathValues[2] = value
+			else
+				fields = fields or redis.call('HGETALL', KEYS[1])
+				local prefix = path .. '.'
+				for j = 1, #fields, 2 do
+					if path == '' or string.sub(fields[j], 1, #prefix) == prefix then
+						pathValues[#pathValues + 1] = fields[j]
+						pathValues[#pathValues + 1] = fields[j + 1]
+					end
+				end
+			end
+			result[i] = pathValues
+		end
+		return result
+		""".getBytes(StandardCharsets.UTF_8);
+
+	protected static final byte[] GET_PATHS_SCRIPT_SHA = sha1(GET_PATHS_SCRIPT);
+	protected static final byte[] REPLACE_PATH_SCRIPT_SHA = sha1(REPLACE_PATH_SCRIPT);
+
+	/**
+	 * Returns the lowercase hexadecimal SHA1 digest of the given script, by which Redis identifies the script
+	 * in {@literal EVALSHA}.
+	 */
+	private static byte[] sha1(byte[] script) {
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1").digest(script);
+			return HexFormat.of().formatHex(digest).getBytes(StandardCharsets.US_ASCII);
+		}
+		catch (NoSuchAlgorithmException cause) {
+			throw new IllegalStateException("SHA-1 is not supported", cause);
+		}
+	}
+
+	public HashJsonDocumentAccessor(@NonNull RedisExecutor redisExecutor, @NonNull ObjectMapper objectMapper) {
+		super(redisExecutor, objectMapper);
+	}
+
+	protected @NonNull byte[] toBytes(@NonNull String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void delete(@NonNull String key) {
+		getRedisExecutor().execute(jedis -> jedis.del(toBytes(requireKey(key))));
+	}
+
+	@Override
+	public @Nullable JsonNode get(@NonNull String key) {
+
+		Map<byte[], byte[]> fields = getRedisExecutor().execute(jedis -> jedis.hgetAll(toBytes(requireKey(key))));
+
+		return fields == null || fields.isEmpty() ? null : unflatten("", fields);
+	}
+
+	@Override
+	public @Nullable JsonNode get(@NonNull String key, @NonNull String path) {
+		return get(key, new String[] { path }).get(path);
+	}
+
+	@Override
+	public @NonNull Map<String, JsonNode> get(@NonNull String key, @NonNull String... paths) {
+
+		requireKey(key);
+		requirePaths(paths);
+
+		Object reply = getRedisExecutor().execute(jedis ->
+			evalScript(jedis, GET_PATHS_SCRIPT, GET_PATHS_SCRIPT_SHA, List.of(toBytes(key)), toFields(paths)));
+
+		return toPathValues(paths, reply);
+	}
+
+	@Override
+	public @NonNull List<JsonNode> multiGet(@NonNull List<String> keys, @NonNull String path) {
+
+		return multiGet(keys, new String[] { path }).stream()
+			.map(pathValues -> pathValues.get(path))
+			.toList();
+	}
+
+	@Override
+	public @NonNull List<Map<String, JsonNode>> multiGet(@NonNull List<String> keys, @NonNull String... paths) {
+
+		Assert.notNull(keys, "List of keys is required");
+		requirePaths(paths);
+
+		List<byte[]> fields = toFields(paths);
+
+		List<Response<Object>> responses = getRedisExecutor().execute(jedis -> {
+
+			List<Response<Object>> pipelinedResponses = pipelineGetPaths(jedis, keys, fields);
+
+			if (pipelinedResponses.stream().anyMatch(this::isNoScript)) {
+				jedis.scriptLoad(GET_PATHS_SCRIPT);
+				pipelinedResponses = pipelineGetPaths(jedis, keys, fields);
+			}
+
+			return pipelinedResponses;
+		});
+
+		List<Map<String, JsonNode>> results = new ArrayList<>(keys.size());
+
+		responses.forEach(response -> results.add(toPathValues(paths, response.get())));
+
+		return results;
+	}
+
+	@Override
+	public void set(@NonNull String key, @NonNull Object document) {
+		set(key, ROOT_PATH, document);
+	}
+
+	@Override
+	public void set(@NonNull String key, @NonNull String path, @Nullable Object value) {
+
+		requireKey(key);
+
+		String fieldPath = JsonDocumentAccessor.toFieldPath(path);
+
+		Map<String, String> fields = new LinkedHashMap<>();
+
+		flatten(fieldPath, toJsonNode(value), fields);
+
+		List<byte[]> arguments = new ArrayList<>(fields.size() * 2 + 1);
+
+		arguments.add(toBytes(fieldPath));
+
+		fields.forEach((field, fieldValue) -> {
+			arguments.add(toBytes(field));
+			arguments.add(toBytes(fieldValue));
+		});
+
+		getRedisExecutor().execute(jedis ->
+			evalScript(jedis, REPLACE_PATH_SCRIPT, REPLACE_PATH_SCRIPT_SHA, List.of(toBytes(key)), arguments));
+	}
+
+	/**
+	 * Evaluates the script with the given SHA1 digest, loading the script first if the Redis server does not
+	 * have it yet (for example, after a restart or {@literal SCRIPT FLUSH}).
+	 */
+	private Object evalScript(Jedis jedis, byte[] script, byte[] scriptSha, List<byte[]> keys, List<byte[]> arguments) {
+
+		try {
+			return jedis.evalsha(scriptSha, keys, arguments);
+		}
+		catch (JedisNoScriptException ignore) {
+			jedis.scriptLoad(script);
+			return jedis.evalsha(scriptSha, keys, arguments);
+		}
+	}
+
+	private List<Response<Object>> pipelineGetPaths(Jedis jedis, List<String> keys, List<byte[]> fields) {
+
+		Pipeline pipeline = jedis.pipelined();
+		List<Response<Object>> responses = new ArrayList<>(keys.size());
+
+		keys.forEach(key -> responses.add(pipeline.evalsha(GET_PATHS_SCRIPT_SHA,
+			List.of(toBytes(requireKey(key))), fields)));
+
+		pipeline.sync();
+
+		return responses;
+	}
+
+	private boolean isNoScript(Response<Object> response) {
+
+		try {
+			response.get();
+			return false;
+		}
+		catch (JedisNoScriptException ignore) {
+			return true;
+		}
+	}
+
+	private List<byte[]> toFields(String... paths) {
+
+		List<byte[]> fields = new ArrayList<>(paths.length);
+
+		for (String path : paths) {
+			fields.add(toBytes(JsonDocumentAccessor.toFieldPath(path)));
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Converts the {@link #GET_PATHS_SCRIPT} reply, containing the field/value array of each path, into
+	 * the value of each path.
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, JsonNode> toPathValues(String[] paths, Object reply) {
+
+		List<List<byte[]>> pathFields = (List<List<byte[]>>) reply;
+		Map<String, JsonNode> pathValues = new LinkedHashMap<>(paths.length);
+
+		for (int index = 0; index < paths.length; index++) {
+
+			String fieldPath = JsonDocumentAccessor.toFieldPath(paths[index]);
+			List<byte[]> fieldValues = pathFields.get(index);
+
+			pathValues.put(paths[index], fieldValues.isEmpty() ? null
+				: isLeaf(fieldPath, fieldValues) ? readTree(fieldValues.get(1))
+				: unflatten(fieldPath.isEmpty() ? "" : fieldPath.concat(PATH_SEPARATOR), toFieldMap(fieldValues)));
+		}
+
+		return pathValues;
+	}
+
+	private boolean isLeaf(String fieldPath, List<byte[]> fieldValues) {
+		return !fieldPath.isEmpty() && fieldValues.size() == 2
+			&& fieldPath.equals(new String(fieldValues.get(0), StandardCharsets.UTF_8));
+	}
+
+	private Map<byte[], byte[]> toFieldMap(List<byte[]> fieldValues) {
+
+		Map<byte[], byte[]> fields = new LinkedHashMap<>(fieldValues.size() / 2);
+
+		for (int index = 0; index < fieldValues.size(); index += 2) {
+			fields.put(fieldValues.get(index), fieldValues.get(index + 1));
+		}
+
+		return fields;
+	}
+
+	private void flatten(String path, JsonNode node, Map<String, String> fields) {
+
+		if (node.isObject() && !node.isEmpty()) {
+			for (Iterator<Map.Entry<String, JsonNode>> iterator = node.fields(); iterator.hasNext(); ) {
+
+				Map.Entry<String, JsonNode> field = iterator.next();
+
+				Assert.isTrue(!field.getKey().contains(PATH_SEPARATOR),
+					() -> String.format("JSON object member name [%s] must not contain [%s]",
+						field.getKey(), PATH_SEPARATOR));
+
+				flatten(path.isEmpty() ? field.getKey() : path.concat(PATH_SEPARATOR).concat(field.getKey()),
+					field.getValue(), fields);
+			}
+		}
+		else {
+			Assert.isTrue(!path.isEmpty(), "The root of a document must be a non-empty JSON object");
+			fields.put(path, toJsonString(node));
+		}
+	}
+
+	private JsonNode unflatten(String prefix, Map<byte[], byte[]> fields) {
+
+		ObjectNode root = getObjectMapper().createObjectNode();
+
+		fields.forEach((fieldBytes, value) -> {
+
+			String field = new String(fieldBytes, StandardCharsets.UTF_8).substring(prefix.length());
+			String[] names = field.split("\\.");
+
+			ObjectNode parent = root;
+
+			for (int index = 0; index < names.length - 1; index++) {
+				parent = parent.has(names[index]) && parent.get(names[index]).isObject()
+					? (ObjectNode) parent.get(names[index])
+					: parent.putObject(names[index]);
+			}
+
+			parent.set(names[names.length - 1], readTree(value));
+		});
+
+		return root;
+	}
+}
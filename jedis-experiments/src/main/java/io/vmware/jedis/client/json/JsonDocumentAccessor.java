@@ -0,0 +1,132 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.json;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import io.vmware.jedis.client.support.RedisExecutor;
+
+/**
+ * Interface defining a contract for implementors to store JSON documents in Redis and to read or update
+ * individual paths of a document without transferring the whole document.
+ * <p>
+ * Paths use a simple dotted notation (for example: {@literal specs.weight}). A leading {@literal $.}
+ * or {@literal .}, as used by RedisJSON, is accepted and ignored. The {@literal root} path ({@literal $})
+ * refers to the whole document.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.databind.JsonNode
+ * @see io.vmware.jedis.client.json.RedisJsonDocumentAccessor
+ * @see io.vmware.jedis.client.json.HashJsonDocumentAccessor
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public interface JsonDocumentAccessor {
+
+	String REDIS_JSON_MODULE_NAME = "ReJSON";
+	String ROOT_PATH = "$";
+
+	/**
+	 * Factory method used to construct a new {@link JsonDocumentAccessor} backed by the RedisJSON module
+	 * when the module is loaded in the Redis server, or backed by a Redis Hash per document otherwise.
+	 *
+	 * @param redisExecutor {@link RedisExecutor} used to execute commands in Redis.
+	 * @param objectMapper Jackson {@link ObjectMapper} used to (de)serialize JSON.
+	 * @return a new {@link JsonDocumentAccessor}.
+	 * @see #isRedisJsonAvailable(RedisExecutor)
+	 */
+	static @NonNull JsonDocumentAccessor create(@NonNull RedisExecutor redisExecutor,
+			@NonNull ObjectMapper objectMapper) {
+
+		return isRedisJsonAvailable(redisExecutor)
+			? new RedisJsonDocumentAccessor(redisExecutor, objectMapper)
+			: new HashJsonDocumentAccessor(redisExecutor, objectMapper);
+	}
+
+	static boolean isRedisJsonAvailable(@NonNull RedisExecutor redisExecutor) {
+
+		RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+
+		return Boolean.TRUE.equals(redisExecutor.execute(jedis -> jedis.moduleList().stream()
+			.anyMatch(module -> REDIS_JSON_MODULE_NAME.equalsIgnoreCase(module.getName()))));
+	}
+
+	/**
+	 * Converts the given path into the canonical, dotted field path (for example: {@literal specs.weight}).
+	 * The {@literal root} path is converted to an empty {@link String}.
+	 *
+	 * @param path {@link String} containing the path to convert.
+	 * @return the canonical, dotted field path.
+	 */
+	static @NonNull String toFieldPath(@Nullable String path) {
+
+		String fieldPath = StringUtils.hasText(path) ? path.strip() : ROOT_PATH;
+
+		if (fieldPath.startsWith(ROOT_PATH)) {
+			fieldPath = fieldPath.substring(ROOT_PATH.length());
+		}
+
+		return fieldPath.startsWith(".") ? fieldPath.substring(1) : fieldPath;
+	}
+
+	void delete(@NonNull String key);
+
+	@Nullable JsonNode get(@NonNull String key);
+
+	@Nullable JsonNode get(@NonNull String key, @NonNull String path);
+
+	/**
+	 * Reads multiple paths of a single document in one request.
+	 *
+	 * @param key {@link String} containing the key of the document.
+	 * @param paths array of paths to read.
+	 * @return a {@link Map} of the requested paths to their values; a missing path maps to {@literal null}.
+	 */
+	@NonNull Map<String, JsonNode> get(@NonNull String key, @NonNull String... paths);
+
+	/**
+	 * Reads the same path from multiple documents in one request.
+	 *
+	 * @param keys {@link List} of document keys.
+	 * @param path path to read from each document.
+	 * @return a {@link List} of values in the same order as the given keys; a missing document or path
+	 * results in a {@literal null} element.
+	 */
+	@NonNull List<JsonNode> multiGet(@NonNull List<String> keys, @NonNull String path);
+
+	/**
+	 * Reads multiple paths from multiple documents in one round trip.
+	 *
+	 * @param keys {@link List} of document keys.
+	 * @param paths array of paths to read from each document.
+	 * @return a {@link List} of path-to-value {@link Map Maps} in the same order as the given keys.
+	 */
+	@NonNull List<Map<String, JsonNode>> multiGet(@NonNull List<String> keys, @NonNull String... paths);
+
+	void set(@NonNull String key, @NonNull Object document);
+
+	void set(@NonNull String key, @NonNull String path, @Nullable Object value);
+
+}
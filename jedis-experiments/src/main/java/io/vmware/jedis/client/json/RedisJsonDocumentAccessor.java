@@ -0,0 +1,204 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisExecutor;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.json.JsonProtocol.JsonCommand;
+
+/**
+ * {@link JsonDocumentAccessor} implementation storing documents as native RedisJSON values.
+ * <p>
+ * Path reads use {@literal JSON.GET} with JSONPath expressions, so only the selected values are returned by
+ * the server, and reads of the same path across documents use a single {@literal JSON.MGET}.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.json.AbstractJsonDocumentAccessor
+ * @see <a href="https://redis.io/docs/data-types/json/">RedisJSON</a>
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class RedisJsonDocumentAccessor extends AbstractJsonDocumentAccessor {
+
+	public RedisJsonDocumentAccessor(@NonNull RedisExecutor redisExecutor, @NonNull ObjectMapper objectMapper) {
+		super(redisExecutor, objectMapper);
+	}
+
+	protected @NonNull byte[] toJsonPath(@NonNull String path) {
+
+		String fieldPath = JsonDocumentAccessor.toFieldPath(path);
+		String jsonPath = fieldPath.isEmpty() ? ROOT_PATH : ROOT_PATH.concat(".").concat(fieldPath);
+
+		return jsonPath.getBytes(StandardCharsets.UTF_8);
+	}
+
+	protected @NonNull byte[] toBytes(@NonNull String key) {
+		return requireKey(key).getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void delete(@NonNull String key) {
+		getRedisExecutor().execute(jedis -> jedis.del(toBytes(key)));
+	}
+
+	@Override
+	public @Nullable JsonNode get(@NonNull String key) {
+		return readTree(getRedisExecutor().execute(jedis -> jedis.sendCommand(JsonCommand.GET, toBytes(key))));
+	}
+
+	@Override
+	public @Nullable JsonNode get(@NonNull String key, @NonNull String path) {
+
+		Object result = getRedisExecutor().execute(jedis ->
+			jedis.sendCommand(JsonCommand.GET, toBytes(key), toJsonPath(path)));
+
+		return firstMatch(readTree(result));
+	}
+
+	@Override
+	public @NonNull Map<String, JsonNode> get(@NonNull String key, @NonNull String... paths) {
+
+		requirePaths(paths);
+
+		Object result = getRedisExecutor().execute(jedis ->
+			jedis.sendCommand(JsonCommand.GET, toGetArguments(key, paths)));
+
+		return toPathValues(readTree(result), paths);
+	}
+
+	@Override
+	public @NonNull List<JsonNode> multiGet(@NonNull List<String> keys, @NonNull String path) {
+
+		Assert.notNull(keys, "List of keys is required");
+
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+
+		byte[][] arguments = new byte[keys.size() + 1][];
+
+		for (int index = 0; index < keys.size(); index++) {
+			arguments[index] = toBytes(keys.get(index));
+		}
+
+		arguments[keys.size()] = toJsonPath(path);
+
+		List<?> results = (List<?>) getRedisExecutor().execute(jedis -> jedis.sendCommand(JsonCommand.MGET, arguments));
+
+		List<JsonNode> values = new ArrayList<>(keys.size());
+
+		for (Object result : results != null ? results : List.of()) {
+			values.add(firstMatch(readTree(result)));
+		}
+
+		return values;
+	}
+
+	@Override
+	public @NonNull List<Map<String, JsonNode>> multiGet(@NonNull List<String> keys, @NonNull String... paths) {
+
+		Assert.notNull(keys, "List of keys is required");
+		requirePaths(paths);
+
+		List<Object> results = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+			List<Response<Object>> responses = new ArrayList<>(keys.size());
+
+			keys.forEach(key -> responses.add(pipeline.sendCommand(JsonCommand.GET, toGetArguments(key, paths))));
+			pipeline.sync();
+
+			List<Object> values = new ArrayList<>(keys.size());
+
+			responses.forEach(response -> values.add(response.get()));
+
+			return values;
+		});
+
+		List<Map<String, JsonNode>> values = new ArrayList<>(keys.size());
+
+		for (Object result : results != null ? results : List.of()) {
+			values.add(toPathValues(readTree(result), paths));
+		}
+
+		return values;
+	}
+
+	@Override
+	public void set(@NonNull String key, @NonNull Object document) {
+		set(key, ROOT_PATH, document);
+	}
+
+	@Override
+	public void set(@NonNull String key, @NonNull String path, @Nullable Object value) {
+
+		byte[][] arguments = { toBytes(key), toJsonPath(path), toJsonBytes(value) };
+
+		getRedisExecutor().execute(jedis -> jedis.sendCommand(JsonCommand.SET, arguments));
+	}
+
+	private byte[][] toGetArguments(String key, String... paths) {
+
+		byte[][] arguments = new byte[paths.length + 1][];
+
+		arguments[0] = toBytes(key);
+
+		for (int index = 0; index < paths.length; index++) {
+			arguments[index + 1] = toJsonPath(paths[index]);
+		}
+
+		return arguments;
+	}
+
+	/**
+	 * JSONPath queries always return an array of matches; resolve the first match, if any.
+	 */
+	private @Nullable JsonNode firstMatch(@Nullable JsonNode matches) {
+		return matches != null && matches.isArray() && !matches.isEmpty() ? matches.get(0) : null;
+	}
+
+	/**
+	 * {@literal JSON.GET} with a single JSONPath returns an array of matches, whereas multiple JSONPaths return
+	 * an object keyed by path.
+	 */
+	private Map<String, JsonNode> toPathValues(@Nullable JsonNode result, String... paths) {
+
+		Map<String, JsonNode> pathValues = new LinkedHashMap<>(paths.length);
+
+		for (String path : paths) {
+			JsonNode matches = result == null ? null
+				: paths.length == 1 ? result
+				: result.get(new String(toJsonPath(path), StandardCharsets.UTF_8));
+			pathValues.put(path, firstMatch(matches));
+		}
+
+		return pathValues;
+	}
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Bulk loader writing raw, RESP-encoded commands straight to a socket connected to Redis, in the same way as
+ * {@literal redis-cli --pipe}.
+ * <p>
+ * Records from an {@link Iterator} are encoded by a {@link RespCommandWriter} into a reusable
+ * {@link RespCommandBuffer}, bypassing any per-command client objects. Replies are consumed concurrently
+ * by a reader {@link Thread} that only counts them and samples errors, so the client never waits on Redis
+ * between commands. After the last record, an {@literal ECHO} of a random marker is sent; the load is complete
+ * once the reader sees the marker echoed back.
+ *
+ * @author John Blum
+ * @see java.net.Socket
+ * @see io.vmware.jedis.client.protocol.MassInsertResult
+ * @see io.vmware.jedis.client.protocol.RespCommandBuffer
+ * @see io.vmware.jedis.client.protocol.RespCommandWriter
+ * @see <a href="https://redis.io/docs/manual/patterns/bulk-loading/">Redis Mass Insertion</a>
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class MassInsertLoader {
+
+	protected static final int DEFAULT_BUFFER_SIZE = RespCommandBuffer.DEFAULT_CAPACITY;
+	protected static final int DEFAULT_MAX_ERROR_SAMPLES = 10;
+	protected static final int MARKER_LENGTH = 20;
+
+	protected static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+	protected static final Duration DEFAULT_REPLY_TIMEOUT = Duration.ofMinutes(5);
+
+	protected static final byte[] ECHO_COMMAND = "ECHO".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Factory method used to construct a new {@link MassInsertLoader} loading data into the Redis server
+	 * listening on the given {@link String host} and {@link Integer port}.
+	 *
+	 * @param host {@link String} containing the hostname of the Redis server.
+	 * @param port {@link Integer} containing the port of the Redis server.
+	 * @return a new {@link MassInsertLoader}.
+	 */
+	public static @NonNull MassInsertLoader to(@NonNull String host, int port) {
+		return new MassInsertLoader(host, port);
+	}
+
+	private int bufferSize = DEFAULT_BUFFER_SIZE;
+	private int maxErrorSamples = DEFAULT_MAX_ERROR_SAMPLES;
+
+	private final int port;
+
+	private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+	private Duration replyTimeout = DEFAULT_REPLY_TIMEOUT;
+
+	private final String host;
+
+	protected MassInsertLoader(@NonNull String host, int port) {
+
+		Assert.hasText(host, () -> String.format("Host [%s] is required", host));
+		Assert.isTrue(port > 0, () -> String.format("Port [%d] must be greater than 0", port));
+
+		this.host = host;
+		this.port = port;
+	}
+
+	/**
+	 * Loads all records from the given {@link Iterator} into Redis.
+	 *
+	 * @param <T> {@link Class type} of record.
+	 * @param records {@link Iterator} of records to load.
+	 * @param commandWriter {@link RespCommandWriter} used to encode each record as Redis command(s).
+	 * @return a {@link MassInsertResult} summarizing the load.
+	 * @throws UncheckedIOException if the connection to Redis fails.
+	 * @throws IllegalStateException if all replies were not received within the {@link #getReplyTimeout()}.
+	 */
+	public @NonNull <T> MassInsertResult load(@NonNull Iterator<T> records,
+			@NonNull RespCommandWriter<T> commandWriter) {
+
+		Assert.notNull(records, "Iterator of records is required");
+		Assert.notNull(commandWriter, "RespCommandWriter is required");
+
+		byte[] marker = newMarker();
+
+		try (Socket socket = connect()) {
+
+			ReplyReader replyReader = new ReplyReader(socket.getInputStream(), marker);
+			Thread replyReaderThread = new Thread(replyReader, "mass-insert-reply-reader");
+
+			replyReaderThread.setDaemon(true);
+
+			long startTime = System.nanoTime();
+
+			replyReaderThread.start();
+
+			RespCommandBuffer buffer = new RespCommandBuffer(socket.getOutputStream(), getBufferSize());
+
+			while (records.hasNext()) {
+				commandWriter.write(records.next(), buffer);
+			}
+
+			buffer.command(ECHO_COMMAND, marker).flush();
+
+			replyReaderThread.join(getReplyTimeout().toMillis());
+
+			if (replyReaderThread.isAlive()) {
+				throw new IllegalStateException(String.format("Received only [%d] of [%d] replies within [%s]",
+					replyReader.replies, buffer.getCommandCount(), getReplyTimeout()), new TimeoutException());
+			}
+
+			replyReader.rethrowFailure();
+
+			Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+
+			return new MassInsertResult(buffer.getCommandCount() - 1, replyReader.replies - 1, replyReader.errors,
+				Collections.unmodifiableList(replyReader.errorSamples), duration);
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(String.format("Failed to load data into Redis [%s:%d]",
+				getHost(), getPort()), cause);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for replies", cause);
+		}
+	}
+
+	private Socket connect() throws IOException {
+
+		Socket socket = new Socket();
+
+		socket.setReceiveBufferSize(getBufferSize());
+		socket.setSendBufferSize(getBufferSize());
+		socket.connect(new InetSocketAddress(getHost(), getPort()), Math.toIntExact(getConnectTimeout().toMillis()));
+
+		return socket;
+	}
+
+	private byte[] newMarker() {
+
+		byte[] marker = new byte[MARKER_LENGTH];
+
+		for (int index = 0; index < marker.length; index++) {
+			marker[index] = (byte) ThreadLocalRandom.current().nextInt('a', 'z' + 1);
+		}
+
+		return marker;
+	}
+
+	public @NonNull MassInsertLoader withBufferSize(int bufferSize) {
+		Assert.isTrue(bufferSize >= 64, () -> String.format("Buffer size [%d] must be at least 64 bytes", bufferSize));
+		this.bufferSize = bufferSize;
+		return this;
+	}
+
+	public @NonNull MassInsertLoader withConnectTimeout(@NonNull Duration connectTimeout) {
+		this.connectTimeout = RedisAssertions.requireObject(connectTimeout, "Connect timeout is required");
+		return this;
+	}
+
+	public @NonNull MassInsertLoader withMaxErrorSamples(int maxErrorSamples) {
+		this.maxErrorSamples = Math.max(maxErrorSamples, 0);
+		return this;
+	}
+
+	public @NonNull MassInsertLoader withReplyTimeout(@NonNull Duration replyTimeout) {
+		this.replyTimeout = RedisAssertions.requireObject(replyTimeout, "Reply timeout is required");
+		return this;
+	}
+
+	/**
+	 * Reads and counts RESP2 replies until the marker is echoed back, retaining only error messages.
+	 */
+	class ReplyReader implements Runnable {
+
+		private final byte[] marker;
+		private final byte[] scratch;
+
+		private final InputStream inputStream;
+
+		private final List<String> errorSamples = new ArrayList<>();
+
+		private volatile Throwable failure;
+
+		private volatile long errors;
+		private volatile long replies;
+
+		ReplyReader(InputStream inputStream, byte[] marker) {
+			this.inputStream = new BufferedInputStream(inputStream, getBufferSize());
+			this.marker = marker;
+			this.scratch = new byte[Math.max(marker.length, 512)];
+		}
+
+		@Override
+		public void run() {
+
+			try {
+				while (!readReply()) {
+					this.replies++;
+				}
+
+				this.replies++;
+			}
+			catch (Throwable cause) {
+				this.failure = cause;
+			}
+		}
+
+		void rethrowFailure() throws IOException {
+
+			Throwable failure = this.failure;
+
+			if (failure instanceof IOException ioException) {
+				throw ioException;
+			}
+			else if (failure != null) {
+				throw new IllegalStateException("Failed to read replies", failure);
+			}
+		}
+
+		/**
+		 * Reads one (top-level) reply.
+		 *
+		 * @return {@literal true} if the reply was the echoed marker.
+		 */
+		private boolean readReply() throws IOException {
+
+			int type = read();
+
+			switch (type) {
+				case '+', ':' -> skipLine();
+				case '-' -> readError();
+				case '$' -> {
+					return readBulkString();
+				}
+				case '*' -> {
+					for (long count = readLong(); count > 0; count--) {
+						readReply();
+					}
+				}
+				default -> throw new IOException(String.format("Unexpected RESP type [%c]", type));
+			}
+
+			return false;
+		}
+
+		private boolean readBulkString() throws IOException {
+
+			long length = readLong();
+
+			if (length < 0) {
+				return false;
+			}
+
+			boolean marker = false;
+
+			if (length == this.marker.length) {
+				readFully(this.scratch, (int) length);
+				marker = Arrays.equals(this.scratch, 0, (int) length, this.marker, 0, this.marker.length);
+			}
+			else {
+				this.inputStream.skipNBytes(length);
+			}
+
+			this.inputStream.skipNBytes(2);
+
+			return marker;
+		}
+
+		private void readError() throws IOException {
+
+			int length = 0;
+
+			for (int next = read(); next != '\r'; next = read()) {
+				if (length < this.scratch.length) {
+					this.scratch[length++] = (byte) next;
+				}
+			}
+
+			read();
+
+			if (this.errorSamples.size() < getMaxErrorSamples()) {
+				this.errorSamples.add(new String(this.scratch, 0, length, StandardCharsets.UTF_8));
+			}
+
+			this.errors++;
+		}
+
+		private long readLong() throws IOException {
+
+			boolean negative = false;
+			long value = 0;
+
+			for (int next = read(); next != '\r'; next = read()) {
+				if (next == '-') {
+					negative = true;
+				}
+				else {
+					value = value * 10 + (next - '0');
+				}
+			}
+
+			read();
+
+			return negative ? -value : value;
+		}
+
+		private void readFully(byte[] bytes, int length) throws IOException {
+
+			int offset = 0;
+
+			while (offset < length) {
+
+				int count = this.inputStream.read(bytes, offset, length - offset);
+
+				if (count < 0) {
+					throw new EOFException("Connection closed by Redis");
+				}
+
+				offset += count;
+			}
+		}
+
+		private void skipLine() throws IOException {
+
+			while (read() != '\r') { }
+
+			read();
+		}
+
+		private int read() throws IOException {
+
+			int next = this.inputStream.read();
+
+			if (next < 0) {
+				throw new EOFException("Connection closed by Redis");
+			}
+
+			return next;
+		}
+	}
+}
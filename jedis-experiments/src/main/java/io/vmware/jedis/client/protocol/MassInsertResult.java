@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.protocol;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Java {@link Record} summarizing a {@link MassInsertLoader#load mass insertion}.
+ *
+ * @author John Blum
+ * @param commands number of commands sent to Redis.
+ * @param replies number of replies received from Redis.
+ * @param errors number of error replies received from Redis.
+ * @param errorSamples {@link List} containing (a bounded sample of) the error messages returned by Redis.
+ * @param duration {@link Duration} of the load, from the first command written to the last reply read.
+ * @see io.vmware.jedis.client.protocol.MassInsertLoader
+ * @since 0.1.0
+ */
+public record MassInsertResult(long commands, long replies, long errors, List<String> errorSamples,
+		Duration duration) {
+
+	public boolean isComplete() {
+		return replies() == commands();
+	}
+
+	public boolean isSuccessful() {
+		return isComplete() && errors() == 0;
+	}
+
+	public double getCommandsPerSecond() {
+
+		long nanos = duration().toNanos();
+
+		return nanos > 0 ? commands() * 1_000_000_000.0d / nanos : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ commands = %d, replies = %d, errors = %d, duration = %d ms, throughput = %.0f cmds/s }",
+			commands(), replies(), errors(), duration().toMillis(), getCommandsPerSecond());
+	}
+}
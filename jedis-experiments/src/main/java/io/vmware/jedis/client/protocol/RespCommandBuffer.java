@@ -0,0 +1,330 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.protocol;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.jedis.client.support.RedisAssertions;
+
+/**
+ * Reusable buffer encoding Redis commands in the Redis Serialization Protocol (RESP) directly into
+ * a fixed-size {@literal byte[]}, which is written to an {@link OutputStream} whenever it fills up.
+ * <p>
+ * Numeric and {@link CharSequence} arguments are encoded without intermediate {@link String} or {@literal byte[]}
+ * allocations, so encoding a command does not allocate. Not Thread-safe.
+ *
+ * @author John Blum
+ * @see java.io.OutputStream
+ * @see <a href="https://redis.io/docs/reference/protocol-spec/">RESP protocol specification</a>
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class RespCommandBuffer {
+
+	public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	private static final byte ARRAY = '*';
+	private static final byte BULK_STRING = '$';
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+
+	private static final byte[] LONG_MIN_VALUE = String.valueOf(Long.MIN_VALUE).getBytes();
+
+	private final byte[] buffer;
+
+	private int position;
+
+	private long commandCount;
+
+	private final OutputStream outputStream;
+
+	public RespCommandBuffer(@NonNull OutputStream outputStream) {
+		this(outputStream, DEFAULT_CAPACITY);
+	}
+
+	public RespCommandBuffer(@NonNull OutputStream outputStream, int capacity) {
+
+		Assert.isTrue(capacity >= 64, () -> String.format("Capacity [%d] must be at least 64 bytes", capacity));
+
+		this.outputStream = RedisAssertions.requireObject(outputStream, "OutputStream is required");
+		this.buffer = new byte[capacity];
+	}
+
+	public long getCommandCount() {
+		return this.commandCount;
+	}
+
+	/**
+	 * Begins a new command with the given number of arguments, including the command name.
+	 *
+	 * @param argumentCount number of arguments, including the command name, that will follow.
+	 * @return this {@link RespCommandBuffer}.
+	 */
+	public @NonNull RespCommandBuffer command(int argumentCount) {
+
+		Assert.isTrue(argumentCount > 0, () -> String.format("Argument count [%d] must be greater than 0",
+			argumentCount));
+
+		ensureCapacity(24);
+		writeByte(ARRAY);
+		writeDigits(argumentCount);
+		writeCrlf();
+
+		this.commandCount++;
+
+		return this;
+	}
+
+	public @NonNull RespCommandBuffer command(@NonNull byte[]... arguments) {
+
+		command(arguments.length);
+
+		for (byte[] argument : arguments) {
+			argument(argument);
+		}
+
+		return this;
+	}
+
+	public @NonNull RespCommandBuffer argument(@NonNull byte[] argument) {
+
+		writeBulkStringHeader(argument.length);
+
+		if (argument.length > this.buffer.length - this.position) {
+			flushBuffer();
+			writeDirectly(argument);
+		}
+		else {
+			System.arraycopy(argument, 0, this.buffer, this.position, argument.length);
+			this.position += argument.length;
+		}
+
+		ensureCapacity(2);
+		writeCrlf();
+
+		return this;
+	}
+
+	public @NonNull RespCommandBuffer argument(@NonNull CharSequence argument) {
+
+		writeBulkStringHeader(utf8Length(argument));
+
+		for (int index = 0, length = argument.length(); index < length; index++) {
+
+			char character = argument.charAt(index);
+
+			ensureCapacity(4);
+
+			if (character < 0x80) {
+				writeByte((byte) character);
+			}
+			else if (character < 0x800) {
+				writeByte((byte) (0xC0 | (character >> 6)));
+				writeByte((byte) (0x80 | (character & 0x3F)));
+			}
+			else if (Character.isHighSurrogate(character) && index + 1 < length
+					&& Character.isLowSurrogate(argument.charAt(index + 1))) {
+
+				int codePoint = Character.toCodePoint(character, argument.charAt(++index));
+
+				writeByte((byte) (0xF0 | (codePoint >> 18)));
+				writeByte((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				writeByte((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				writeByte((byte) (0x80 | (codePoint & 0x3F)));
+			}
+			else if (Character.isSurrogate(character)) {
+				writeByte((byte) '?');
+			}
+			else {
+				writeByte((byte) (0xE0 | (character >> 12)));
+				writeByte((byte) (0x80 | ((character >> 6) & 0x3F)));
+				writeByte((byte) (0x80 | (character & 0x3F)));
+			}
+		}
+
+		ensureCapacity(2);
+		writeCrlf();
+
+		return this;
+	}
+
+	public @NonNull RespCommandBuffer argument(long argument) {
+
+		writeBulkStringHeader(digitCount(argument));
+		ensureCapacity(22);
+		writeDigits(argument);
+		writeCrlf();
+
+		return this;
+	}
+
+	/**
+	 * Writes a single argument composed of the given {@literal prefix} followed by the decimal digits
+	 * of the given {@link Long#TYPE value} (for example: {@literal key:42}), without allocating.
+	 *
+	 * @param prefix {@literal byte[]} containing the prefix; must fit in the buffer.
+	 * @param value {@link Long#TYPE} value appended to the prefix.
+	 * @return this {@link RespCommandBuffer}.
+	 */
+	public @NonNull RespCommandBuffer argument(@NonNull byte[] prefix, long value) {
+
+		Assert.isTrue(prefix.length <= this.buffer.length - 64,
+			() -> String.format("Prefix length [%d] exceeds buffer capacity", prefix.length));
+
+		writeBulkStringHeader(prefix.length + digitCount(value));
+		ensureCapacity(prefix.length + 22);
+		System.arraycopy(prefix, 0, this.buffer, this.position, prefix.length);
+		this.position += prefix.length;
+		writeDigits(value);
+		writeCrlf();
+
+		return this;
+	}
+
+	/**
+	 * Writes all buffered commands to the {@link OutputStream} and flushes the stream.
+	 */
+	public void flush() {
+
+		flushBuffer();
+
+		try {
+			this.outputStream.flush();
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException("Failed to flush RESP commands", cause);
+		}
+	}
+
+	private void writeBulkStringHeader(int length) {
+		ensureCapacity(24);
+		writeByte(BULK_STRING);
+		writeDigits(length);
+		writeCrlf();
+	}
+
+	private void ensureCapacity(int length) {
+		if (this.position + length > this.buffer.length) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() {
+
+		if (this.position > 0) {
+			writeDirectly(this.buffer, this.position);
+			this.position = 0;
+		}
+	}
+
+	private void writeDirectly(byte[] bytes) {
+		writeDirectly(bytes, bytes.length);
+	}
+
+	private void writeDirectly(byte[] bytes, int length) {
+
+		try {
+			this.outputStream.write(bytes, 0, length);
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException("Failed to write RESP commands", cause);
+		}
+	}
+
+	private void writeByte(byte value) {
+		this.buffer[this.position++] = value;
+	}
+
+	private void writeCrlf() {
+		this.buffer[this.position++] = CR;
+		this.buffer[this.position++] = LF;
+	}
+
+	private void writeDigits(long value) {
+
+		if (value == Long.MIN_VALUE) {
+			System.arraycopy(LONG_MIN_VALUE, 0, this.buffer, this.position, LONG_MIN_VALUE.length);
+			this.position += LONG_MIN_VALUE.length;
+			return;
+		}
+
+		if (value < 0) {
+			writeByte((byte) '-');
+			value = -value;
+		}
+
+		int digitCount = digitCount(value);
+		int index = this.position + digitCount;
+
+		do {
+			this.buffer[--index] = (byte) ('0' + (value % 10));
+			value /= 10;
+		}
+		while (value > 0);
+
+		this.position += digitCount;
+	}
+
+	static int digitCount(long value) {
+
+		if (value == Long.MIN_VALUE) {
+			return LONG_MIN_VALUE.length;
+		}
+
+		int count = value < 0 ? 2 : 1;
+
+		for (long remaining = Math.abs(value); remaining >= 10; remaining /= 10) {
+			count++;
+		}
+
+		return count;
+	}
+
+	static int utf8Length(@NonNull CharSequence value) {
+
+		int length = 0;
+
+		for (int index = 0, size = value.length(); index < size; index++) {
+
+			char character = value.charAt(index);
+
+			if (character < 0x80) {
+				length++;
+			}
+			else if (character < 0x800) {
+				length += 2;
+			}
+			else if (Character.isHighSurrogate(character) && index + 1 < size
+					&& Character.isLowSurrogate(value.charAt(index + 1))) {
+				length += 4;
+				index++;
+			}
+			else if (Character.isSurrogate(character)) {
+				length++;
+			}
+			else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.protocol;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Strategy used to encode a record as one or more Redis commands into a {@link RespCommandBuffer}.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of record.
+ * @see java.lang.FunctionalInterface
+ * @see io.vmware.jedis.client.protocol.RespCommandBuffer
+ * @since 0.1.0
+ */
+@FunctionalInterface
+public interface RespCommandWriter<T> {
+
+	/**
+	 * Writes the Redis command(s) for the given record to the {@link RespCommandBuffer}.
+	 *
+	 * @param record record to encode.
+	 * @param buffer {@link RespCommandBuffer} to write the command(s) to.
+	 */
+	void write(@NonNull T record, @NonNull RespCommandBuffer buffer);
+
+}
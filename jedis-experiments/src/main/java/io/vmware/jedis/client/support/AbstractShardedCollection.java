@@ -0,0 +1,262 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * Abstract base class for a logical Redis collection split across a fixed number of physical keys (shards)
+ * by the hash of each member, so that no single key becomes a {@literal big key}.
+ * <p>
+ * Shard keys are named {@literal <key>:shard:<n>} and deliberately carry no hash tag, so each shard hashes to its
+ * own Redis Cluster slot. Every command therefore addresses a single shard (never several shards in one multi-key
+ * command), which keeps the layout valid on a Redis Cluster. The {@link RedisExecutor} provides a single
+ * {@literal Jedis} connection, however, so multi-member operations, grouped by shard, are fanned out in one pipeline
+ * to one server; spreading the shards of a collection across cluster nodes requires a cluster-aware client.
+ * <p>
+ * Whole-collection scans run in parallel, one (non-blocking) {@literal SCAN} cursor per shard, on a shared,
+ * bounded pool of daemon {@link Thread Threads} unless an {@link Executor} is configured.
+ * <p>
+ * The number of shards is part of the data layout; changing it requires re-sharding the collection.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.support.RedisExecutor
+ * @see io.vmware.jedis.client.support.ShardedHash
+ * @see io.vmware.jedis.client.support.ShardedSet
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public abstract class AbstractShardedCollection {
+
+	protected static final int DEFAULT_SCAN_COUNT = 1_000;
+	protected static final int DEFAULT_SCAN_THREAD_COUNT = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+	protected static final long SCAN_THREAD_KEEP_ALIVE_SECONDS = 60L;
+
+	protected static final String SHARD_KEY_SEPARATOR = ":shard:";
+
+	private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+	private static final ExecutorService DEFAULT_EXECUTOR = newDefaultExecutor();
+
+	private static ExecutorService newDefaultExecutor() {
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_SCAN_THREAD_COUNT, DEFAULT_SCAN_THREAD_COUNT,
+			SCAN_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "sharded-collection-scan-" + THREAD_ID.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	private int scanCount = DEFAULT_SCAN_COUNT;
+
+	private Executor executor = DEFAULT_EXECUTOR;
+
+	private final RedisExecutor redisExecutor;
+
+	@Getter
+	private final String key;
+
+	private final String[] shardKeys;
+
+	protected AbstractShardedCollection(@NonNull RedisExecutor redisExecutor, @NonNull String key, int shardCount) {
+
+		Assert.hasText(key, () -> String.format("Key [%s] is required", key));
+		Assert.isTrue(shardCount > 0, () -> String.format("Shard count [%d] must be greater than 0", shardCount));
+
+		this.redisExecutor = RedisAssertions.requireObject(redisExecutor, "RedisExecutor is required");
+		this.key = key;
+		this.shardKeys = new String[shardCount];
+
+		Arrays.setAll(this.shardKeys, shard -> key + SHARD_KEY_SEPARATOR + shard);
+	}
+
+	public int getShardCount() {
+		return this.shardKeys.length;
+	}
+
+	public @NonNull List<String> getShardKeys() {
+		return Collections.unmodifiableList(Arrays.asList(this.shardKeys));
+	}
+
+	/**
+	 * Determines the shard of the given member, which is stable across JVMs and restarts.
+	 *
+	 * @param member {@link String} containing the member (or Hash field).
+	 * @return the shard of the member, between {@literal 0} and {@literal shardCount - 1}.
+	 */
+	public int shardOf(@NonNull String member) {
+
+		int hash = member.hashCode();
+
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+
+		return Math.floorMod(hash, getShardCount());
+	}
+
+	public @NonNull String shardKeyOf(@NonNull String member) {
+		return this.shardKeys[shardOf(member)];
+	}
+
+	protected @NonNull String shardKey(int shard) {
+		return this.shardKeys[shard];
+	}
+
+	protected @NonNull <T> Map<Integer, List<T>> groupByShard(@NonNull Collection<T> elements,
+			@NonNull Function<T, String> memberFunction) {
+
+		Map<Integer, List<T>> elementsByShard = new HashMap<>();
+
+		for (T element : elements) {
+			elementsByShard.computeIfAbsent(shardOf(memberFunction.apply(element)), shard -> new ArrayList<>())
+				.add(element);
+		}
+
+		return elementsByShard;
+	}
+
+	/**
+	 * Runs the given action once for every shard, in parallel, and waits for all actions to complete.
+	 *
+	 * @param shardAction {@link IntConsumer} accepting the shard.
+	 */
+	protected void forEachShardInParallel(@NonNull IntConsumer shardAction) {
+
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[getShardCount()];
+
+		for (int shard = 0; shard < futures.length; shard++) {
+			int currentShard = shard;
+			futures[shard] = CompletableFuture.runAsync(() -> shardAction.accept(currentShard), getExecutor());
+		}
+
+		try {
+			CompletableFuture.allOf(futures).join();
+		}
+		catch (CompletionException cause) {
+			throw cause.getCause() instanceof RuntimeException runtimeException ? runtimeException : cause;
+		}
+	}
+
+	protected abstract @NonNull Response<Long> sizeOfShard(@NonNull Pipeline pipeline, @NonNull String shardKey);
+
+	/**
+	 * Returns the number of members across all shards, read in one pipeline.
+	 *
+	 * @return the number of members in this collection.
+	 */
+	public long size() {
+
+		Long size = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<Long>> sizes = Arrays.stream(this.shardKeys)
+				.map(shardKey -> sizeOfShard(pipeline, shardKey))
+				.toList();
+
+			pipeline.sync();
+
+			return sizes.stream().mapToLong(Response::get).sum();
+		});
+
+		return size != null ? size : 0L;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0L;
+	}
+
+	/**
+	 * Removes all shards with one {@literal UNLINK} per shard, in one pipeline, which reclaims memory
+	 * in the background.
+	 */
+	public void clear() {
+
+		getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			for (String shardKey : this.shardKeys) {
+				pipeline.unlink(shardKey);
+			}
+
+			pipeline.sync();
+
+			return null;
+		});
+	}
+
+	public void expire(@NonNull Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout is required");
+
+		getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			for (String shardKey : this.shardKeys) {
+				pipeline.pexpire(shardKey, timeout.toMillis());
+			}
+
+			pipeline.sync();
+
+			return null;
+		});
+	}
+
+	protected void setExecutor(@NonNull Executor executor) {
+		this.executor = RedisAssertions.requireObject(executor, "Executor is required");
+	}
+
+	protected void setScanCount(int scanCount) {
+		this.scanCount = Math.max(scanCount, 1);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.support;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Java {@link FunctionalInterface} and {@literal Strategy} interface used to execute a {@link RedisCallback}
+ * with a {@link Jedis} connection acquired from, and released back to, some managed source.
+ * <p>
+ * Since the {@link #execute(RedisCallback)} method is generic, this interface is typically implemented with
+ * a method reference, such as {@literal this::runInRedis}, rather than a lambda.
+ *
+ * @author John Blum
+ * @see java.lang.FunctionalInterface
+ * @see io.vmware.jedis.client.support.RedisCallback
+ * @see redis.clients.jedis.JedisPool
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface RedisExecutor {
+
+	static @NonNull RedisExecutor from(@NonNull JedisPool jedisPool) {
+
+		RedisAssertions.requireObject(jedisPool, "JedisPool is required");
+
+		return new RedisExecutor() {
+
+			@Override
+			public <T> T execute(@NonNull RedisCallback<T> callback) {
+
+				try (Jedis jedis = jedisPool.getResource()) {
+					return callback.doInRedis(jedis);
+				}
+			}
+		};
+	}
+
+	@Nullable <T> T execute(@NonNull RedisCallback<T> callback);
+
+}
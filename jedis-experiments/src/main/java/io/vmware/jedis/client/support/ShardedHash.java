@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Logical Redis Hash sharded across a fixed number of physical Hash keys by the hash of each field.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.support.AbstractShardedCollection
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ShardedHash extends AbstractShardedCollection {
+
+	public ShardedHash(@NonNull RedisExecutor redisExecutor, @NonNull String key, int shardCount) {
+		super(redisExecutor, key, shardCount);
+	}
+
+	@Override
+	protected @NonNull Response<Long> sizeOfShard(@NonNull Pipeline pipeline, @NonNull String shardKey) {
+		return pipeline.hlen(shardKey);
+	}
+
+	public @NonNull Optional<String> get(@NonNull String field) {
+		return Optional.ofNullable(getRedisExecutor().execute(jedis -> jedis.hget(shardKeyOf(field), field)));
+	}
+
+	/**
+	 * Gets the values of the given fields with one {@literal HMGET} per shard, in one pipeline.
+	 *
+	 * @param fields {@link Collection} of fields.
+	 * @return a {@link Map} of field to value containing only the fields that exist.
+	 */
+	public @NonNull Map<String, String> getAll(@NonNull Collection<String> fields) {
+
+		Assert.notNull(fields, "Fields are required");
+
+		Map<Integer, List<String>> fieldsByShard = groupByShard(fields, field -> field);
+
+		return getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+			Map<Integer, Response<List<String>>> responses = new HashMap<>();
+
+			fieldsByShard.forEach((shard, shardFields) ->
+				responses.put(shard, pipeline.hmget(shardKey(shard), shardFields.toArray(String[]::new))));
+
+			pipeline.sync();
+
+			Map<String, String> values = new HashMap<>(fields.size());
+
+			fieldsByShard.forEach((shard, shardFields) -> {
+
+				List<String> shardValues = responses.get(shard).get();
+
+				for (int index = 0; index < shardFields.size(); index++) {
+					if (shardValues.get(index) != null) {
+						values.put(shardFields.get(index), shardValues.get(index));
+					}
+				}
+			});
+
+			return values;
+		});
+	}
+
+	public boolean put(@NonNull String field, @NonNull String value) {
+		Long added = getRedisExecutor().execute(jedis -> jedis.hset(shardKeyOf(field), field, value));
+		return added != null && added > 0;
+	}
+
+	/**
+	 * Sets the given fields with one {@literal HSET} per shard, in one pipeline.
+	 *
+	 * @param fields {@link Map} of field to value.
+	 * @return the number of fields added (as opposed to updated).
+	 */
+	public long putAll(@NonNull Map<String, String> fields) {
+
+		Assert.notNull(fields, "Fields are required");
+
+		Map<Integer, List<Map.Entry<String, String>>> fieldsByShard = groupByShard(fields.entrySet(), Map.Entry::getKey);
+
+		Long added = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<Long>> responses = fieldsByShard.entrySet().stream()
+				.map(shardFields -> pipeline.hset(shardKey(shardFields.getKey()), toMap(shardFields.getValue())))
+				.toList();
+
+			pipeline.sync();
+
+			return responses.stream().mapToLong(Response::get).sum();
+		});
+
+		return added != null ? added : 0L;
+	}
+
+	private Map<String, String> toMap(List<Map.Entry<String, String>> entries) {
+
+		Map<String, String> map = new HashMap<>(entries.size() * 2);
+
+		entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+
+		return map;
+	}
+
+	/**
+	 * Removes the given fields with one {@literal HDEL} per shard, in one pipeline.
+	 *
+	 * @param fields array of fields to remove.
+	 * @return the number of fields removed.
+	 */
+	public long remove(@NonNull String... fields) {
+
+		Map<Integer, List<String>> fieldsByShard = groupByShard(Arrays.asList(fields), field -> field);
+
+		Long removed = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<Long>> responses = fieldsByShard.entrySet().stream()
+				.map(shardFields -> pipeline.hdel(shardKey(shardFields.getKey()),
+					shardFields.getValue().toArray(String[]::new)))
+				.toList();
+
+			pipeline.sync();
+
+			return responses.stream().mapToLong(Response::get).sum();
+		});
+
+		return removed != null ? removed : 0L;
+	}
+
+	/**
+	 * Iterates over all fields and values with one {@literal HSCAN} cursor per shard, scanning shards in parallel.
+	 * The given {@link BiConsumer} is called concurrently and must be Thread-safe.
+	 *
+	 * @param consumer {@link BiConsumer} accepting each field and value.
+	 */
+	public void scan(@NonNull BiConsumer<String, String> consumer) {
+
+		Assert.notNull(consumer, "BiConsumer is required");
+
+		ScanParams scanParams = new ScanParams().count(getScanCount());
+
+		forEachShardInParallel(shard -> {
+
+			String cursor = ScanParams.SCAN_POINTER_START;
+
+			do {
+				String currentCursor = cursor;
+
+				ScanResult<Map.Entry<String, String>> scanResult = getRedisExecutor().execute(jedis ->
+					jedis.hscan(shardKey(shard), currentCursor, scanParams));
+
+				RedisAssertions.requireObject(scanResult, "HSCAN returned no reply")
+					.getResult().forEach(entry -> consumer.accept(entry.getKey(), entry.getValue()));
+
+				cursor = scanResult.getCursor();
+			}
+			while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+		});
+	}
+
+	public @NonNull ShardedHash withExecutor(@NonNull Executor executor) {
+		setExecutor(executor);
+		return this;
+	}
+
+	public @NonNull ShardedHash withScanCount(int scanCount) {
+		setScanCount(scanCount);
+		return this;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+/**
+ * Logical Redis Set sharded across a fixed number of physical Set keys by the hash of each member.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.support.AbstractShardedCollection
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ShardedSet extends AbstractShardedCollection {
+
+	public ShardedSet(@NonNull RedisExecutor redisExecutor, @NonNull String key, int shardCount) {
+		super(redisExecutor, key, shardCount);
+	}
+
+	@Override
+	protected @NonNull Response<Long> sizeOfShard(@NonNull Pipeline pipeline, @NonNull String shardKey) {
+		return pipeline.scard(shardKey);
+	}
+
+	/**
+	 * Adds the given members with one {@literal SADD} per shard, in one pipeline.
+	 *
+	 * @param members array of members to add.
+	 * @return the number of members added (that were not already present).
+	 */
+	public long add(@NonNull String... members) {
+		return addAll(Arrays.asList(members));
+	}
+
+	public long addAll(@NonNull Collection<String> members) {
+		return fanOut(members, (pipeline, shardKey, shardMembers) -> pipeline.sadd(shardKey, shardMembers));
+	}
+
+	public boolean contains(@NonNull String member) {
+		return Boolean.TRUE.equals(getRedisExecutor().execute(jedis -> jedis.sismember(shardKeyOf(member), member)));
+	}
+
+	/**
+	 * Determines membership of the given members with one {@literal SMISMEMBER} per shard, in one pipeline.
+	 *
+	 * @param members {@link Collection} of members.
+	 * @return a {@link Map} of member to whether the member is contained in this Set.
+	 */
+	public @NonNull Map<String, Boolean> containsAll(@NonNull Collection<String> members) {
+
+		Assert.notNull(members, "Members are required");
+
+		Map<Integer, List<String>> membersByShard = groupByShard(members, member -> member);
+
+		return getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+			Map<Integer, Response<List<Boolean>>> responses = new HashMap<>();
+
+			membersByShard.forEach((shard, shardMembers) ->
+				responses.put(shard, pipeline.smismember(shardKey(shard), shardMembers.toArray(String[]::new))));
+
+			pipeline.sync();
+
+			Map<String, Boolean> contained = new HashMap<>(members.size());
+
+			membersByShard.forEach((shard, shardMembers) -> {
+
+				List<Boolean> shardContained = responses.get(shard).get();
+
+				for (int index = 0; index < shardMembers.size(); index++) {
+					contained.put(shardMembers.get(index), shardContained.get(index));
+				}
+			});
+
+			return contained;
+		});
+	}
+
+	public long remove(@NonNull String... members) {
+		return fanOut(Arrays.asList(members), (pipeline, shardKey, shardMembers) -> pipeline.srem(shardKey, shardMembers));
+	}
+
+	private long fanOut(Collection<String> members, ShardCommand shardCommand) {
+
+		Assert.notNull(members, "Members are required");
+
+		Map<Integer, List<String>> membersByShard = groupByShard(members, member -> member);
+
+		Long count = getRedisExecutor().execute(jedis -> {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			List<Response<Long>> responses = membersByShard.entrySet().stream()
+				.map(shardMembers -> shardCommand.execute(pipeline, shardKey(shardMembers.getKey()),
+					shardMembers.getValue().toArray(String[]::new)))
+				.toList();
+
+			pipeline.sync();
+
+			return responses.stream().mapToLong(Response::get).sum();
+		});
+
+		return count != null ? count : 0L;
+	}
+
+	/**
+	 * Iterates over all members with one {@literal SSCAN} cursor per shard, scanning shards in parallel.
+	 * The given {@link Consumer} is called concurrently and must be Thread-safe.
+	 *
+	 * @param consumer {@link Consumer} accepting each member.
+	 */
+	public void scan(@NonNull Consumer<String> consumer) {
+
+		Assert.notNull(consumer, "Consumer is required");
+
+		ScanParams scanParams = new ScanParams().count(getScanCount());
+
+		forEachShardInParallel(shard -> {
+
+			String cursor = ScanParams.SCAN_POINTER_START;
+
+			do {
+				String currentCursor = cursor;
+
+				ScanResult<String> scanResult = getRedisExecutor().execute(jedis ->
+					jedis.sscan(shardKey(shard), currentCursor, scanParams));
+
+				RedisAssertions.requireObject(scanResult, "SSCAN returned no reply").getResult().forEach(consumer);
+
+				cursor = scanResult.getCursor();
+			}
+			while (!ScanParams.SCAN_POINTER_START.equals(cursor));
+		});
+	}
+
+	public @NonNull ShardedSet withExecutor(@NonNull Executor executor) {
+		setExecutor(executor);
+		return this;
+	}
+
+	public @NonNull ShardedSet withScanCount(int scanCount) {
+		setScanCount(scanCount);
+		return this;
+	}
+
+	@FunctionalInterface
+	private interface ShardCommand {
+		Response<Long> execute(Pipeline pipeline, String shardKey, String[] members);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.vmware.jedis.client.ai.EmbeddingCache;
+import io.vmware.jedis.client.ai.EmbeddingCacheStatistics;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+import io.vmware.jedis.client.tests.support.Bikes;
+import io.vmware.jedis.client.tests.support.FakeEmbeddingModel;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.lang.NonNull;
+
+import lombok.Getter;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link EmbeddingCache}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.ai.EmbeddingCache
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @see io.vmware.jedis.client.tests.support.FakeEmbeddingModel
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class EmbeddingCacheIntegrationTests extends AbstractRedisIntegrationTests {
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private @NonNull EmbeddingCache newEmbeddingCache(@NonNull FakeEmbeddingModel model, @NonNull String keyPrefix) {
+		return new EmbeddingCache(RedisExecutor.from(getJedisPool()), model).withKeyPrefix(keyPrefix);
+	}
+
+	@Test
+	public void cacheMissesAreEmbeddedInOneBatchAndServedFromRedisThereafter() {
+
+		List<String> descriptions = Bikes.descriptions();
+
+		FakeEmbeddingModel model = new FakeEmbeddingModel();
+		EmbeddingCache cache = newEmbeddingCache(model, "embeddings:batch");
+
+		List<float[]> embeddings = cache.embed(descriptions);
+
+		assertThat(embeddings).hasSize(descriptions.size());
+		assertThat(model.getCallCount()).hasValue(1);
+		assertThat(model.getTextCount()).hasValue(descriptions.size());
+
+		List<float[]> cachedEmbeddings = cache.embed(descriptions);
+
+		assertThat(model.getCallCount()).hasValue(1);
+		assertThat(cachedEmbeddings).hasSize(descriptions.size());
+
+		for (int index = 0; index < descriptions.size(); index++) {
+			assertThat(cachedEmbeddings.get(index)).containsExactly(embeddings.get(index));
+		}
+
+		EmbeddingCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHits()).isEqualTo(descriptions.size());
+		assertThat(statistics.getMisses()).isEqualTo(descriptions.size());
+		assertThat(statistics.getHitRate()).isEqualTo(0.5d);
+	}
+
+	@Test
+	public void normalizedAndDuplicateTextIsEmbeddedOnce() {
+
+		FakeEmbeddingModel model = new FakeEmbeddingModel();
+		EmbeddingCache cache = newEmbeddingCache(model, "embeddings:normalized");
+
+		List<float[]> embeddings = cache.embed(List.of("Mountain  bike", "  Mountain bike ", "Road bike"));
+
+		assertThat(model.getTextCount()).hasValue(2);
+		assertThat(embeddings.get(0)).containsExactly(embeddings.get(1));
+
+		cache.embed("Mountain\tbike");
+
+		assertThat(model.getCallCount()).hasValue(1);
+		assertThat(cache.getStatistics().getHits()).isOne();
+	}
+
+	@Test
+	public void entriesAreKeyedByModel() {
+
+		FakeEmbeddingModel smallModel = new FakeEmbeddingModel(64, Duration.ZERO);
+		FakeEmbeddingModel largeModel = new FakeEmbeddingModel(128, Duration.ZERO);
+
+		assertThat(newEmbeddingCache(smallModel, "embeddings:models").embed("Kids Bike")).hasSize(64);
+		assertThat(newEmbeddingCache(largeModel, "embeddings:models").embed("Kids Bike")).hasSize(128);
+		assertThat(smallModel.getCallCount()).hasValue(1);
+		assertThat(largeModel.getCallCount()).hasValue(1);
+	}
+
+	@Test
+	public void entriesExpireAndStatisticsReportSavedLatency() {
+
+		FakeEmbeddingModel model = new FakeEmbeddingModel(FakeEmbeddingModel.DEFAULT_DIMENSIONS, Duration.ofMillis(50));
+
+		EmbeddingCache cache = newEmbeddingCache(model, "embeddings:expiring")
+			.withExpirationTimeout(Duration.ofMinutes(5));
+
+		cache.embed("Enduro bike");
+		cache.embed("Enduro bike");
+		cache.embed("Enduro bike");
+
+		EmbeddingCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(model.getCallCount()).hasValue(1);
+		assertThat(statistics.getHits()).isEqualTo(2);
+		assertThat(statistics.getEstimatedSavedLatency()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+
+		runInRedis(jedis -> {
+			jedis.keys("embeddings:expiring:*").forEach(key -> assertThat(jedis.pttl(key)).isPositive());
+			return null;
+		});
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
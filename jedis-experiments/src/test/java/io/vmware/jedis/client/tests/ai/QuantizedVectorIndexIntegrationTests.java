@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import io.vmware.jedis.client.ai.QuantizedVectorIndex;
+import io.vmware.jedis.client.ai.VectorQuantizer;
+import io.vmware.jedis.client.ai.VectorSearchResult;
+import io.vmware.jedis.client.ai.Vectors;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+import io.vmware.jedis.client.tests.support.Bikes;
+import io.vmware.jedis.client.tests.support.FakeEmbeddingModel;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.lang.NonNull;
+
+import lombok.Getter;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link QuantizedVectorIndex}, reporting the memory saved against the recall lost
+ * by {@literal int8} and {@literal binary} quantization on the bikes dataset and a larger synthetic dataset.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.ai.QuantizedVectorIndex
+ * @see io.vmware.jedis.client.ai.VectorQuantizer
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class QuantizedVectorIndexIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int K = 10;
+	private static final int SYNTHETIC_CLUSTERS = 50;
+	private static final int SYNTHETIC_DIMENSIONS = 384;
+	private static final int SYNTHETIC_QUERIES = 100;
+	private static final int SYNTHETIC_VECTORS = 20_000;
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private @NonNull QuantizedVectorIndex newIndex(@NonNull VectorQuantizer quantizer, int dimensions,
+			@NonNull String keyPrefix) {
+
+		return new QuantizedVectorIndex(RedisExecutor.from(getJedisPool()), quantizer, dimensions)
+			.withKeyPrefix(keyPrefix);
+	}
+
+	@Test
+	public void quantizersPreserveSimilarity() {
+
+		float[] vector = Vectors.normalize(new float[] { 0.5f, -0.25f, 0.0f, 1.0f, -1.0f, 0.75f, 0.1f, -0.6f, 0.3f });
+		float[] opposite = Vectors.normalize(new float[] { -0.5f, 0.25f, 0.0f, -1.0f, 1.0f, -0.75f, -0.1f, 0.6f, -0.3f });
+
+		VectorQuantizer int8 = VectorQuantizer.int8();
+		VectorQuantizer binary = VectorQuantizer.binary();
+
+		assertThat(int8.quantize(vector)).hasSize(4 + vector.length);
+		assertThat(binary.quantize(vector)).hasSize(2);
+		assertThat(int8.scorer(vector).score(int8.quantize(vector), 0)).isCloseTo(1.0f, within(0.01f));
+		assertThat(int8.scorer(vector).score(int8.quantize(opposite), 0)).isCloseTo(-1.0f, within(0.01f));
+		assertThat(binary.scorer(vector).score(binary.quantize(vector), 0)).isEqualTo(1.0f);
+		assertThat(binary.scorer(vector).score(binary.quantize(opposite), 0)).isCloseTo(1.0f / 9, within(0.001f));
+	}
+
+	@Test
+	public void bikeDescriptionsRecall() {
+
+		FakeEmbeddingModel model = new FakeEmbeddingModel();
+		List<String> descriptions = Bikes.descriptions();
+		List<float[]> vectors = model.embed(descriptions);
+		List<float[]> queries = model.embed(List.of("lightweight carbon mountain bike for kids",
+			"comfortable electric bike for commuting in the city", "fast road bike for racing"));
+
+		for (VectorQuantizer quantizer : List.of(VectorQuantizer.int8(), VectorQuantizer.binary())) {
+
+			QuantizedVectorIndex index = newIndex(quantizer, model.getDimensions(), "bikes:" + quantizer.getName());
+
+			index.addAll(toMap(vectors));
+
+			for (int position = 0; position < vectors.size(); position++) {
+				assertThat(index.search(vectors.get(position), 1).get(0).id()).isEqualTo(String.valueOf(position));
+			}
+
+			report("bikes", index, 3, recall(index, vectors, queries, 3, 1), recall(index, vectors, queries, 3, 4));
+		}
+	}
+
+	@Test
+	public void syntheticDatasetRecall() {
+
+		SplittableRandom random = new SplittableRandom(42L);
+
+		List<float[]> vectors = clusteredVectors(random);
+		List<float[]> queries = IntStream.range(0, SYNTHETIC_QUERIES)
+			.mapToObj(query -> perturb(vectors.get(random.nextInt(vectors.size())), random, 0.3d))
+			.toList();
+
+		QuantizedVectorIndex int8Index = newIndex(VectorQuantizer.int8(), SYNTHETIC_DIMENSIONS, "synthetic:int8");
+		QuantizedVectorIndex binaryIndex = newIndex(VectorQuantizer.binary(), SYNTHETIC_DIMENSIONS, "synthetic:binary");
+
+		int8Index.addAll(toMap(vectors));
+		binaryIndex.addAll(toMap(vectors));
+
+		double int8Recall = recall(int8Index, vectors, queries, K, 4);
+		double binaryApproximateRecall = recall(binaryIndex, vectors, queries, K, 1);
+		double binaryRecall = recall(binaryIndex, vectors, queries, K, 10);
+
+		report("synthetic", int8Index, K, recall(int8Index, vectors, queries, K, 1), int8Recall);
+		report("synthetic", binaryIndex, K, binaryApproximateRecall, binaryRecall);
+
+		assertThat(int8Index.getFullPrecisionBytes()).isEqualTo((long) SYNTHETIC_VECTORS * SYNTHETIC_DIMENSIONS * 4);
+		assertThat(int8Index.getCompressionRatio()).isGreaterThan(3.9d);
+		assertThat(binaryIndex.getCompressionRatio()).isEqualTo(32.0d);
+		assertThat(int8Recall).isGreaterThanOrEqualTo(0.95d);
+		assertThat(binaryRecall).isGreaterThan(binaryApproximateRecall);
+
+		QuantizedVectorIndex reloadedIndex =
+			newIndex(VectorQuantizer.int8(), SYNTHETIC_DIMENSIONS, "synthetic:int8").load();
+
+		assertThat(reloadedIndex.size()).isEqualTo(SYNTHETIC_VECTORS);
+		assertThat(reloadedIndex.search(queries.get(0), K)).isEqualTo(int8Index.search(queries.get(0), K));
+	}
+
+	/**
+	 * Average fraction of the exact top {@literal k} (by cosine similarity over full-precision vectors)
+	 * found by the index with the given rescore factor.
+	 */
+	private double recall(QuantizedVectorIndex index, List<float[]> vectors, List<float[]> queries, int k,
+			int rescoreFactor) {
+
+		double recall = 0.0d;
+
+		for (float[] query : queries) {
+
+			Set<String> exactResults = exactSearch(vectors, query, k);
+
+			long matches = index.search(query, k, rescoreFactor).stream()
+				.map(VectorSearchResult::id)
+				.filter(exactResults::contains)
+				.count();
+
+			recall += (double) matches / k;
+		}
+
+		return recall / queries.size();
+	}
+
+	private Set<String> exactSearch(List<float[]> vectors, float[] query, int k) {
+
+		double[] scores = vectors.stream().mapToDouble(vector -> Vectors.cosineSimilarity(query, vector)).toArray();
+
+		return new HashSet<>(IntStream.range(0, vectors.size()).boxed()
+			.sorted((one, two) -> Double.compare(scores[two], scores[one]))
+			.limit(k)
+			.map(String::valueOf)
+			.toList());
+	}
+
+	private void report(String dataset, QuantizedVectorIndex index, int k, double approximateRecall,
+			double rescoredRecall) {
+
+		System.out.printf("%-10s %-7s vectors = %6d, full = %,12d bytes, quantized = %,10d bytes (%4.1fx),"
+				+ " recall@%d = %.3f (approximate), %.3f (rescored)%n",
+			dataset, index.getQuantizer().getName(), index.size(), index.getFullPrecisionBytes(),
+			index.getCodeBytes(), index.getCompressionRatio(), k, approximateRecall, rescoredRecall);
+		System.out.flush();
+	}
+
+	private Map<String, float[]> toMap(List<float[]> vectors) {
+
+		Map<String, float[]> map = new LinkedHashMap<>();
+
+		for (int index = 0; index < vectors.size(); index++) {
+			map.put(String.valueOf(index), vectors.get(index));
+		}
+
+		return map;
+	}
+
+	private List<float[]> clusteredVectors(SplittableRandom random) {
+
+		float[][] centers = new float[SYNTHETIC_CLUSTERS][];
+
+		Arrays.setAll(centers, index -> perturb(new float[SYNTHETIC_DIMENSIONS], random, 1.0d));
+
+		return IntStream.range(0, SYNTHETIC_VECTORS)
+			.mapToObj(index -> perturb(centers[random.nextInt(centers.length)], random, 0.6d))
+			.toList();
+	}
+
+	private float[] perturb(float[] vector, SplittableRandom random, double standardDeviation) {
+
+		float[] perturbed = new float[vector.length];
+
+		for (int index = 0; index < vector.length; index++) {
+			perturbed[index] = (float) (vector[index] + standardDeviation * gaussian(random));
+		}
+
+		return perturbed;
+	}
+
+	private double gaussian(SplittableRandom random) {
+		return Math.sqrt(-2.0d * Math.log(1.0d - random.nextDouble())) * Math.cos(2.0d * Math.PI * random.nextDouble());
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.vmware.jedis.client.ai.SemanticResponseCache;
+import io.vmware.jedis.client.ai.SemanticResponseCacheStatistics;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+import io.vmware.jedis.client.tests.support.FakeEmbeddingModel;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.lang.NonNull;
+
+import lombok.Getter;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link SemanticResponseCache}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.ai.SemanticResponseCache
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @see io.vmware.jedis.client.tests.support.FakeEmbeddingModel
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class SemanticResponseCacheIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String KIDS_BIKE_PROMPT = "What is the best kids bike for a 3 year old?";
+	private static final String SIMILAR_KIDS_BIKE_PROMPT = "What's the best kids bike for a 3 year old";
+	private static final String FLAT_TIRE_PROMPT = "How do I fix a flat tire on my road bike?";
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private @NonNull SemanticResponseCache newSemanticResponseCache(@NonNull String keyPrefix) {
+
+		return new SemanticResponseCache(RedisExecutor.from(getJedisPool()), new FakeEmbeddingModel())
+			.withKeyPrefix(keyPrefix)
+			.withSimilarityThreshold(0.8d);
+	}
+
+	private @NonNull Function<String, String> countingLoader(@NonNull AtomicInteger loadCount) {
+		return prompt -> String.format("Answer %d to [%s]", loadCount.incrementAndGet(), prompt);
+	}
+
+	@Test
+	public void similarPromptIsServedFromCache() {
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:similar");
+
+		String response = cache.get(KIDS_BIKE_PROMPT, countingLoader(loadCount));
+		String cachedResponse = cache.get(SIMILAR_KIDS_BIKE_PROMPT, countingLoader(loadCount));
+
+		assertThat(loadCount).hasValue(1);
+		assertThat(cachedResponse).isEqualTo(response);
+
+		SemanticResponseCacheStatistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getHits()).isOne();
+		assertThat(statistics.getMisses()).isOne();
+		assertThat(statistics.getHitRate()).isEqualTo(0.5d);
+	}
+
+	@Test
+	public void dissimilarPromptIsLoaded() {
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:dissimilar");
+
+		String response = cache.get(KIDS_BIKE_PROMPT, countingLoader(loadCount));
+		String otherResponse = cache.get(FLAT_TIRE_PROMPT, countingLoader(loadCount));
+
+		assertThat(loadCount).hasValue(2);
+		assertThat(otherResponse).isNotEqualTo(response);
+		assertThat(cache.lookup(FLAT_TIRE_PROMPT)).hasValue(otherResponse);
+	}
+
+	@Test
+	public void oldestEntriesAreEvictedBeyondMaxEntries() {
+
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:eviction").withMaxEntries(2);
+
+		cache.put(KIDS_BIKE_PROMPT, "Balance bike");
+		cache.put(FLAT_TIRE_PROMPT, "Patch the tube");
+		cache.put("Which bike material is lightest?", "Carbon");
+
+		assertThat(cache.getStatistics().getEvictions()).isOne();
+		assertThat(cache.lookup(KIDS_BIKE_PROMPT)).isEmpty();
+		assertThat(cache.lookup(FLAT_TIRE_PROMPT)).hasValue("Patch the tube");
+	}
+
+	@Test
+	public void entriesCreatedInTheSameMillisecondAreEvictedInCreationOrder() {
+
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:eviction-order").withMaxEntries(8);
+
+		for (int count = 1; count <= 12; count++) {
+			cache.put("Question " + count, "Answer " + count);
+		}
+
+		assertThat(cache.getStatistics().getEvictions()).isEqualTo(4);
+		assertThat(cache.lookup("Question 4")).isEmpty();
+		assertThat(cache.lookup("Question 10")).hasValue("Answer 10");
+		assertThat(cache.lookup("Question 12")).hasValue("Answer 12");
+	}
+
+	@Test
+	public void lookupsAreLimitedToTheMostRecentCandidates() {
+
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:candidates").withMaxCandidates(1);
+
+		cache.put(KIDS_BIKE_PROMPT, "Balance bike");
+		cache.put(FLAT_TIRE_PROMPT, "Patch the tube");
+
+		assertThat(cache.lookup(FLAT_TIRE_PROMPT)).hasValue("Patch the tube");
+		assertThat(cache.lookup(SIMILAR_KIDS_BIKE_PROMPT)).isEmpty();
+	}
+
+	@Test
+	public void entriesBeyondTheCandidateWindowAreEvicted() {
+
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:candidate-window")
+			.withMaxCandidates(2)
+			.withMaxEntries(8);
+
+		cache.put(KIDS_BIKE_PROMPT, "Balance bike");
+		cache.put(FLAT_TIRE_PROMPT, "Patch the tube");
+		cache.put("Which bike material is lightest?", "Carbon");
+
+		assertThat(cache.getStatistics().getEvictions()).isOne();
+		assertThat(cache.lookup(SIMILAR_KIDS_BIKE_PROMPT)).isEmpty();
+		assertThat(cache.lookup(FLAT_TIRE_PROMPT)).hasValue("Patch the tube");
+	}
+
+	@Test
+	public void entriesExpire() throws InterruptedException {
+
+		SemanticResponseCache cache = newSemanticResponseCache("semantic-cache:expiration")
+			.withExpirationTimeout(Duration.ofMillis(200));
+
+		cache.put(KIDS_BIKE_PROMPT, "Balance bike");
+
+		assertThat(cache.lookup(SIMILAR_KIDS_BIKE_PROMPT)).hasValue("Balance bike");
+
+		Thread.sleep(500);
+
+		assertThat(cache.lookup(SIMILAR_KIDS_BIKE_PROMPT)).isEmpty();
+		assertThat(cache.getStatistics().getExpirations()).isOne();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
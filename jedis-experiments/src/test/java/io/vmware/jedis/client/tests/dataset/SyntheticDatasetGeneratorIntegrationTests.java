@@ -0,0 +1,240 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.dataset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+import io.vmware.jedis.client.dataset.GeneratedDataset;
+import io.vmware.jedis.client.dataset.KeyClassProfile;
+import io.vmware.jedis.client.dataset.KeyPatterns;
+import io.vmware.jedis.client.dataset.KeyspaceProfile;
+import io.vmware.jedis.client.dataset.KeyspaceProfiler;
+import io.vmware.jedis.client.dataset.RedisType;
+import io.vmware.jedis.client.dataset.SyntheticDatasetGenerator;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+/**
+ * Integration Tests for {@link KeyspaceProfiler} and {@link SyntheticDatasetGenerator}.
+ * <p>
+ * A keyspace with a known shape is written to database 0, profiled, and reproduced at twice the scale
+ * in database 1, which is then profiled again and compared with the original.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.dataset.KeyspaceProfiler
+ * @see io.vmware.jedis.client.dataset.SyntheticDatasetGenerator
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class SyntheticDatasetGeneratorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final double SCALE_FACTOR = 2.0d;
+
+	private static final int LEADERBOARD_COUNT = 50;
+	private static final int QUEUE_COUNT = 20;
+	private static final int SESSION_COUNT = 300;
+	private static final int SYNTHETIC_DATABASE = 1;
+	private static final int USER_COUNT = 600;
+
+	private static final long SESSION_TTL_MILLIS = 600_000L;
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private JedisPool syntheticJedisPool;
+
+	@BeforeEach
+	public void writeProductionLikeKeyspace() {
+
+		this.syntheticJedisPool = new JedisPool(new GenericObjectPoolConfig<>(), redisContainer.getHost(),
+			redisContainer.getMappedPort(REDIS_PORT), Protocol.DEFAULT_TIMEOUT, null, SYNTHETIC_DATABASE);
+
+		runInRedis(jedis -> {
+
+			jedis.flushAll();
+
+			Pipeline pipeline = jedis.pipelined();
+
+			for (int id = 0; id < USER_COUNT; id++) {
+				pipeline.hset("user:" + id, Map.of("name", "User " + id, "email", "user" + id + "@example.com",
+					"country", id % 2 == 0 ? "US" : "DE"));
+			}
+
+			for (int id = 0; id < SESSION_COUNT; id++) {
+				pipeline.psetex("session:" + UUID.randomUUID(), SESSION_TTL_MILLIS, "x".repeat(100 + id % 50));
+			}
+
+			for (int id = 0; id < LEADERBOARD_COUNT; id++) {
+				for (int member = 0; member < 20; member++) {
+					pipeline.zadd("leaderboard:" + id, member, "player:" + member);
+				}
+			}
+
+			for (int id = 0; id < QUEUE_COUNT; id++) {
+				pipeline.rpush("queue:jobs:" + id, "job-a", "job-b", "job-c");
+			}
+
+			for (String name : List.of("jon", "jane", "bob", "cookie", "dill", "fro", "hoe", "joe", "lan", "moe")) {
+				pipeline.set("people:doe:" + name, name + " Doe");
+			}
+
+			pipeline.sync();
+
+			return null;
+		});
+	}
+
+	@AfterEach
+	public void closeSyntheticJedisPool() {
+		this.syntheticJedisPool.close();
+	}
+
+	@Test
+	public void keyPatternsReplaceVariableSegments() {
+
+		List<String> patterns = KeyPatterns.toPatterns(List.of("user:42", "session:" + UUID.randomUUID(),
+			"cache:0123456789abcdef0123", "people:doe:jon", "people:doe:jane", "people:doe:bob"), 2);
+
+		assertThat(patterns).containsExactly("user:{n}", "session:{uuid}", "cache:{hex}",
+			"people:doe:{s}", "people:doe:{s}", "people:doe:{s}");
+	}
+
+	@Test
+	public void profileReproducesKeyspaceShape() {
+
+		KeyspaceProfile profile = new KeyspaceProfiler(RedisExecutor.from(getJedisPool())).profile();
+
+		System.out.println(profile);
+
+		long totalKeys = USER_COUNT + SESSION_COUNT + LEADERBOARD_COUNT + QUEUE_COUNT + 10;
+
+		assertThat(profile.totalKeys()).isEqualTo(totalKeys);
+		assertThat(profile.sampledKeys()).isEqualTo(totalKeys);
+
+		KeyClassProfile users = keyClass(profile, "user:{n}", RedisType.HASH).orElseThrow();
+		KeyClassProfile sessions = keyClass(profile, "session:{uuid}", RedisType.STRING).orElseThrow();
+
+		assertThat(users.getCount()).isEqualTo(USER_COUNT);
+		assertThat(users.getSizes().percentile(0.5d)).isEqualTo(3);
+		assertThat(users.getPersistentRatio()).isEqualTo(1.0d);
+		assertThat(sessions.getPersistentRatio()).isZero();
+		assertThat(sessions.getTtls().percentile(0.5d)).isBetween(SESSION_TTL_MILLIS - 60_000L, SESSION_TTL_MILLIS);
+		assertThat(keyClass(profile, "leaderboard:{n}", RedisType.ZSET)).isPresent();
+		assertThat(keyClass(profile, "queue:jobs:{n}", RedisType.LIST)).isPresent();
+		assertThat(keyClass(profile, "people:doe:{s}", RedisType.STRING)).isPresent();
+
+		GeneratedDataset dataset = new SyntheticDatasetGenerator(RedisExecutor.from(getSyntheticJedisPool()))
+			.withBatchSize(100)
+			.generate(profile, SCALE_FACTOR);
+
+		System.out.printf("Generated %s%n", dataset);
+
+		try (Jedis jedis = getSyntheticJedisPool().getResource()) {
+			assertThat(jedis.dbSize()).isEqualTo(Math.round(totalKeys * SCALE_FACTOR));
+		}
+
+		KeyspaceProfile syntheticProfile = new KeyspaceProfiler(RedisExecutor.from(getSyntheticJedisPool())).profile();
+
+		System.out.println(syntheticProfile);
+		System.out.flush();
+
+		for (RedisType type : RedisType.values()) {
+			assertThat(syntheticProfile.getTypeRatio(type)).isCloseTo(profile.getTypeRatio(type), within(0.05d));
+		}
+
+		KeyClassProfile syntheticUsers = keyClass(syntheticProfile, "user:{n}", RedisType.HASH).orElseThrow();
+		KeyClassProfile syntheticSessions = keyClass(syntheticProfile, "session:{uuid}", RedisType.STRING).orElseThrow();
+
+		assertThat(syntheticUsers.getSizes().percentile(0.5d)).isEqualTo(3);
+		assertThat(syntheticSessions.getPersistentRatio()).isZero();
+		assertThat(syntheticSessions.getSizes().percentile(0.5d))
+			.isCloseTo(sessions.getSizes().percentile(0.5d), within(10L));
+	}
+
+	@Test
+	public void generationFailsWhenPipelinedCommandsFail() {
+
+		KeyspaceProfile profile = new KeyspaceProfiler(RedisExecutor.from(getJedisPool())).profile();
+
+		try (Jedis jedis = getSyntheticJedisPool().getResource()) {
+
+			Pipeline pipeline = jedis.pipelined();
+
+			// User keys written as Strings cause the generated HSET commands to fail with WRONGTYPE
+			for (long id = 0; id < Math.round(profile.totalKeys() * SCALE_FACTOR); id++) {
+				pipeline.set("user:" + id, "conflict");
+			}
+
+			pipeline.sync();
+		}
+
+		SyntheticDatasetGenerator generator = new SyntheticDatasetGenerator(RedisExecutor.from(getSyntheticJedisPool()))
+			.withBatchSize(100);
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> generator.generate(profile, SCALE_FACTOR))
+			.withMessage("Failed to generate synthetic dataset")
+			.havingRootCause()
+			.isInstanceOf(JedisDataException.class)
+			.withMessageStartingWith("WRONGTYPE");
+	}
+
+	private Optional<KeyClassProfile> keyClass(KeyspaceProfile profile, String pattern, RedisType type) {
+
+		return profile.keyClasses().stream()
+			.filter(keyClass -> keyClass.getPattern().equals(pattern) && keyClass.getType() == type)
+			.findFirst();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vmware.jedis.client.hedge.HedgedReadExecutor;
+import io.vmware.jedis.client.support.RedisCallback;
+import io.vmware.jedis.client.support.RedisExecutor;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.lang.NonNull;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link HedgedReadExecutor} using a Redis primary and replica, with delay injected
+ * into a share of the reads sent to the primary.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.testcontainers.containers.GenericContainer
+ * @see org.testcontainers.containers.Network
+ * @see io.vmware.jedis.client.hedge.HedgedReadExecutor
+ * @since 0.1.0
+ */
+@Testcontainers
+@SuppressWarnings("unused")
+public class HedgedReadExecutorIntegrationTests {
+
+	private static final int KEY_COUNT = 100;
+	private static final int READS = 2_000;
+	private static final int REDIS_PORT = 6379;
+	private static final int SLOW_READ_INTERVAL = 50;
+
+	private static final Duration INJECTED_DELAY = Duration.ofMillis(40);
+
+	private static final String DEFAULT_REDIS_DOCKER_IMAGE_VERSION = "7.2-rc2-alpine";
+	private static final String PRIMARY_ALIAS = "redis-primary";
+
+	private static final DockerImageName REDIS_DOCKER_IMAGE =
+		DockerImageName.parse(String.format("redis:%s",
+			System.getProperty("redis.version", DEFAULT_REDIS_DOCKER_IMAGE_VERSION)));
+
+	private static final Network network = Network.newNetwork();
+
+	@Container
+	@SuppressWarnings("all")
+	private static final GenericContainer<?> primaryContainer = new GenericContainer<>(REDIS_DOCKER_IMAGE)
+		.withExposedPorts(REDIS_PORT)
+		.withNetwork(network)
+		.withNetworkAliases(PRIMARY_ALIAS);
+
+	@Container
+	@SuppressWarnings("all")
+	private static final GenericContainer<?> replicaContainer = new GenericContainer<>(REDIS_DOCKER_IMAGE)
+		.withCommand("redis-server", "--replicaof", PRIMARY_ALIAS, String.valueOf(REDIS_PORT))
+		.withExposedPorts(REDIS_PORT)
+		.withNetwork(network)
+		.dependsOn(primaryContainer);
+
+	private static JedisPool primaryPool;
+	private static JedisPool replicaPool;
+
+	@BeforeAll
+	public static void writeKeysToPrimaryAndWaitForReplication() {
+
+		primaryPool = new JedisPool(primaryContainer.getHost(), primaryContainer.getMappedPort(REDIS_PORT));
+		replicaPool = new JedisPool(replicaContainer.getHost(), replicaContainer.getMappedPort(REDIS_PORT));
+
+		try (Jedis jedis = primaryPool.getResource()) {
+
+			for (int index = 0; index < KEY_COUNT; index++) {
+				jedis.set(key(index), value(index));
+			}
+
+			assertThat(jedis.waitReplicas(1, 10_000L)).isEqualTo(1L);
+		}
+
+		try (Jedis jedis = replicaPool.getResource()) {
+			assertThat(jedis.dbSize()).isEqualTo(KEY_COUNT);
+		}
+	}
+
+	@AfterAll
+	public static void closeJedisPools() {
+
+		if (primaryPool != null) {
+			primaryPool.close();
+		}
+
+		if (replicaPool != null) {
+			replicaPool.close();
+		}
+	}
+
+	private static String key(int index) {
+		return "key:" + index;
+	}
+
+	private static String value(int index) {
+		return "value:" + index;
+	}
+
+	private static RedisCallback<String> read(int index) {
+		return jedis -> jedis.get(key(index));
+	}
+
+	/**
+	 * Wraps the given {@link RedisExecutor} to delay every {@literal interval}th execution by the given delay,
+	 * simulating a Redis node that is occasionally slow (for example, because of a fork or a network hiccup).
+	 */
+	private static RedisExecutor withInjectedDelay(RedisExecutor redisExecutor, int interval, Duration delay) {
+
+		AtomicLong executions = new AtomicLong();
+
+		return new RedisExecutor() {
+
+			@Override
+			public <T> T execute(@NonNull RedisCallback<T> callback) {
+
+				if (executions.incrementAndGet() % interval == 0) {
+					try {
+						Thread.sleep(delay.toMillis());
+					}
+					catch (InterruptedException ignore) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				return redisExecutor.execute(callback);
+			}
+		};
+	}
+
+	private static Duration percentile(long[] latencies, double percentile) {
+
+		long[] sortedLatencies = latencies.clone();
+
+		Arrays.sort(sortedLatencies);
+
+		return Duration.ofNanos(sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1]);
+	}
+
+	private static long[] measureReads(RedisExecutor redisExecutor) {
+
+		long[] latencies = new long[READS];
+
+		for (int read = 0; read < READS; read++) {
+
+			int index = read % KEY_COUNT;
+			long startTime = System.nanoTime();
+
+			assertThat(redisExecutor.execute(read(index))).isEqualTo(value(index));
+
+			latencies[read] = System.nanoTime() - startTime;
+		}
+
+		return latencies;
+	}
+
+	@Test
+	public void hedgedReadsCutTailLatency() {
+
+		RedisExecutor slowPrimary =
+			withInjectedDelay(RedisExecutor.from(primaryPool), SLOW_READ_INTERVAL, INJECTED_DELAY);
+
+		Duration unhedgedP99 = percentile(measureReads(slowPrimary), 0.99d);
+
+		try (HedgedReadExecutor hedgedReadExecutor =
+				HedgedReadExecutor.from(slowPrimary, RedisExecutor.from(replicaPool))) {
+
+			Duration hedgedP99 = percentile(measureReads(hedgedReadExecutor), 0.99d);
+
+			System.out.printf("Unhedged p99 [%d µs]; hedged p99 [%d µs]; hedge delay [%d µs]%n%s%n",
+				unhedgedP99.toNanos() / 1_000, hedgedP99.toNanos() / 1_000,
+				hedgedReadExecutor.getHedgeDelay().toNanos() / 1_000, hedgedReadExecutor.getStatistics());
+			System.out.flush();
+
+			assertThat(unhedgedP99).isGreaterThanOrEqualTo(INJECTED_DELAY);
+			assertThat(hedgedP99).isLessThan(INJECTED_DELAY.dividedBy(2));
+			assertThat(hedgedReadExecutor.getStatistics().getHedgeWins()).isPositive();
+			assertThat(hedgedReadExecutor.getStatistics().getFailures()).isZero();
+		}
+	}
+
+	@Test
+	public void hedgingNeverExceedsBudget() {
+
+		double budgetRatio = 0.05d;
+		int budgetBurst = 5;
+
+		RedisExecutor alwaysSlowPrimary = withInjectedDelay(RedisExecutor.from(primaryPool), 1, Duration.ofMillis(2));
+
+		try (HedgedReadExecutor hedgedReadExecutor =
+				HedgedReadExecutor.from(alwaysSlowPrimary, RedisExecutor.from(replicaPool))
+					.withBudget(budgetRatio, budgetBurst)) {
+
+			for (int read = 0; read < READS / 4; read++) {
+				assertThat(hedgedReadExecutor.execute(read(read % KEY_COUNT))).isEqualTo(value(read % KEY_COUNT));
+			}
+
+			long reads = hedgedReadExecutor.getStatistics().getReads();
+			long hedges = hedgedReadExecutor.getStatistics().getHedges();
+
+			assertThat(hedges).isPositive();
+			assertThat(hedges).isLessThanOrEqualTo(Math.round(budgetRatio * reads) + budgetBurst);
+			assertThat(hedgedReadExecutor.getStatistics().getBudgetExhausted()).isPositive();
+		}
+	}
+
+	@Test
+	public void hedgedReadMasksFailedPrimary() {
+
+		RedisExecutor failingPrimary = new RedisExecutor() {
+
+			@Override
+			public <T> T execute(@NonNull RedisCallback<T> callback) {
+				throw new IllegalStateException("Primary unavailable");
+			}
+		};
+
+		try (HedgedReadExecutor hedgedReadExecutor =
+				HedgedReadExecutor.from(failingPrimary, RedisExecutor.from(replicaPool))) {
+
+			assertThat(hedgedReadExecutor.execute(read(1))).isEqualTo(value(1));
+			assertThat(hedgedReadExecutor.getStatistics().getHedgeWins()).isOne();
+		}
+	}
+}
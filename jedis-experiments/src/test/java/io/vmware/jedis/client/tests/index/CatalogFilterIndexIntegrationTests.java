@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.vmware.jedis.client.index.CatalogEntry;
+import io.vmware.jedis.client.index.CatalogFilterIndex;
+import io.vmware.jedis.client.json.JsonDocumentAccessor;
+import io.vmware.jedis.client.support.RedisCallback;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+import io.vmware.jedis.client.tests.support.Bikes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.lang.NonNull;
+
+import lombok.Getter;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link CatalogFilterIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.index.CatalogFilterIndex
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class CatalogFilterIndexIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int QUERY_ITERATIONS = 100_000;
+
+	private static final String KEY_PREFIX = "catalog:bikes:";
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private CatalogFilterIndex index;
+
+	private JsonDocumentAccessor documentAccessor;
+
+	@BeforeEach
+	public void loadCatalogIndex() {
+
+		RedisExecutor redisExecutor = RedisExecutor.from(getJedisPool());
+
+		this.documentAccessor = JsonDocumentAccessor.create(redisExecutor, Bikes.getObjectMapper());
+
+		List<JsonNode> bikes = Bikes.load();
+
+		for (int index = 0; index < bikes.size(); index++) {
+			this.documentAccessor.set(KEY_PREFIX + index, bikes.get(index));
+		}
+
+		this.index = new CatalogFilterIndex(redisExecutor, this.documentAccessor, KEY_PREFIX + "*").load();
+
+		assertThat(this.index.size()).isEqualTo(bikes.size());
+	}
+
+	@Test
+	public void filterByTypeMaterialAndPrice() {
+
+		assertThat(this.index.query().type("Kids Mountain Bike").material("carbon").priceAtMost(1000).keys())
+			.isEmpty();
+
+		assertThat(this.index.query().type("kids mountain bike").material("Carbon").priceAtMost(1500).entries())
+			.extracting(CatalogEntry::brand)
+			.containsExactly("Bicyk");
+
+		assertThat(this.index.query().type("Mountain Bike").material("alloy").priceBetween(1000, 3300).entries())
+			.extracting(CatalogEntry::brand)
+			.containsExactlyInAnyOrder("Noka Bikes", "nHill");
+
+		assertThat(this.index.query().type("Kids Bike", "Kids Mountain Bike").count()).isEqualTo(3);
+		assertThat(this.index.query().brand("Peaknetic").count()).isEqualTo(2);
+		assertThat(this.index.query().material("titanium").count()).isZero();
+	}
+
+	@Test
+	public void refreshChangedAndDeletedEntries() {
+
+		String hillcraftKey = KEY_PREFIX + 1;
+		String jiggerKey = KEY_PREFIX + 0;
+
+		this.documentAccessor.set(hillcraftKey, "price", 950);
+		this.documentAccessor.delete(jiggerKey);
+		this.index.refresh(List.of(hillcraftKey, jiggerKey));
+
+		assertThat(this.index.query().type("Kids Mountain Bike").material("carbon").priceAtMost(1000).keys())
+			.containsExactly(hillcraftKey);
+
+		assertThat(this.index.get(jiggerKey)).isEmpty();
+		assertThat(this.index.query().type("Kids Bike").count()).isZero();
+
+		this.index.put(new CatalogEntry(jiggerKey, "Velorim", "Kids Bike", "aluminium", 250));
+
+		assertThat(this.index.query().type("Kids Bike").priceAtMost(260).keys()).containsExactly(jiggerKey);
+		assertThat(this.index.size()).isEqualTo(Bikes.load().size());
+	}
+
+	@Test
+	public void reloadRemovesDeletedEntries() {
+
+		String jiggerKey = KEY_PREFIX + 0;
+		String velorimKey = KEY_PREFIX + "velorim";
+
+		this.documentAccessor.delete(jiggerKey);
+		this.index.put(new CatalogEntry(velorimKey, "Velorim", "Kids Bike", "aluminium", 250));
+		this.index.load();
+
+		assertThat(this.index.get(jiggerKey)).isEmpty();
+		assertThat(this.index.get(velorimKey)).isEmpty();
+		assertThat(this.index.query().type("Kids Bike").count()).isZero();
+		assertThat(this.index.size()).isEqualTo(Bikes.load().size() - 1);
+	}
+
+	@Test
+	public void reloadKeepsEntriesQueryableWhileScanning() {
+
+		AtomicReference<CatalogFilterIndex> index = new AtomicReference<>();
+		List<Integer> sizesWhileScanning = new CopyOnWriteArrayList<>();
+		RedisExecutor redisExecutor = RedisExecutor.from(getJedisPool());
+
+		RedisExecutor scanningRedisExecutor = new RedisExecutor() {
+
+			@Override
+			public <T> T execute(@NonNull RedisCallback<T> callback) {
+				sizesWhileScanning.add(index.get().size());
+				return redisExecutor.execute(callback);
+			}
+		};
+
+		index.set(new CatalogFilterIndex(scanningRedisExecutor, this.documentAccessor, KEY_PREFIX + "*"));
+		index.get().load();
+		sizesWhileScanning.clear();
+		index.get().load();
+
+		assertThat(sizesWhileScanning).isNotEmpty().containsOnly(Bikes.load().size());
+		assertThat(index.get().size()).isEqualTo(Bikes.load().size());
+	}
+
+	@Test
+	public void filteringIsLocal() {
+
+		long startTime = System.nanoTime();
+		int count = 0;
+
+		for (int iteration = 0; iteration < QUERY_ITERATIONS; iteration++) {
+			count += this.index.query().type("Mountain Bike").material("alloy").priceAtMost(3300).count();
+		}
+
+		long averageNanos = (System.nanoTime() - startTime) / QUERY_ITERATIONS;
+
+		System.out.printf("Average query time [%d ns]%n", averageNanos);
+		System.out.flush();
+
+		assertThat(count).isEqualTo(2 * QUERY_ITERATIONS);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.vmware.jedis.client.json.HashJsonDocumentAccessor;
+import io.vmware.jedis.client.json.JsonDocumentAccessor;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+import io.vmware.jedis.client.tests.support.Bikes;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link JsonDocumentAccessor} using a Redis server without the RedisJSON module,
+ * which falls back to the {@link HashJsonDocumentAccessor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.json.HashJsonDocumentAccessor
+ * @see io.vmware.jedis.client.json.JsonDocumentAccessor
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class JsonDocumentAccessorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String KEY_PREFIX = "bikes:";
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private JsonDocumentAccessor documentAccessor;
+
+	private List<JsonNode> bikes;
+
+	@BeforeEach
+	public void storeBikesInRedis() {
+
+		this.bikes = Bikes.load();
+		this.documentAccessor =
+			JsonDocumentAccessor.create(RedisExecutor.from(getJedisPool()), Bikes.getObjectMapper());
+
+		for (int index = 0; index < this.bikes.size(); index++) {
+			this.documentAccessor.set(KEY_PREFIX + index, this.bikes.get(index));
+		}
+	}
+
+	@Test
+	public void fallsBackToHashPerDocument() {
+		assertThat(this.documentAccessor).isInstanceOf(HashJsonDocumentAccessor.class);
+	}
+
+	@Test
+	public void getWholeDocument() {
+		assertThat(this.documentAccessor.get(KEY_PREFIX + 0)).isEqualTo(this.bikes.get(0));
+		assertThat(this.documentAccessor.get("bikes:non-existing")).isNull();
+	}
+
+	@Test
+	public void getPaths() {
+
+		JsonNode bike = this.bikes.get(1);
+
+		assertThat(this.documentAccessor.get(KEY_PREFIX + 1, "price")).isEqualTo(bike.get("price"));
+		assertThat(this.documentAccessor.get(KEY_PREFIX + 1, "$.specs.weight")).isEqualTo(bike.at("/specs/weight"));
+		assertThat(this.documentAccessor.get(KEY_PREFIX + 1, "specs")).isEqualTo(bike.get("specs"));
+		assertThat(this.documentAccessor.get(KEY_PREFIX + 1, "non.existing")).isNull();
+
+		Map<String, JsonNode> pathValues = this.documentAccessor.get(KEY_PREFIX + 1, "model", "specs.material");
+
+		assertThat(pathValues).containsEntry("model", bike.get("model"));
+		assertThat(pathValues).containsEntry("specs.material", bike.at("/specs/material"));
+	}
+
+	@Test
+	public void setPaths() {
+
+		String key = KEY_PREFIX + 2;
+
+		this.documentAccessor.set(key, "price", 999);
+		this.documentAccessor.set(key, "specs", Map.of("material", "carbon"));
+
+		assertThat(this.documentAccessor.get(key, "price").asInt()).isEqualTo(999);
+		assertThat(this.documentAccessor.get(key, "specs.material").asText()).isEqualTo("carbon");
+		assertThat(this.documentAccessor.get(key, "specs.weight")).isNull();
+		assertThat(this.documentAccessor.get(key, "model")).isEqualTo(this.bikes.get(2).get("model"));
+	}
+
+	@Test
+	public void setChildPathReplacesAncestorLeaf() {
+
+		String key = KEY_PREFIX + 2;
+
+		this.documentAccessor.set(key, "specs", "unknown");
+		this.documentAccessor.set(key, "specs.weight", 9.5);
+
+		assertThat(this.documentAccessor.get(key, "specs")).isEqualTo(Bikes.getObjectMapper().valueToTree(
+			Map.of("weight", 9.5)));
+
+		try (Jedis jedis = getJedisPool().getResource()) {
+			assertThat(jedis.hexists(key, "specs")).isFalse();
+		}
+	}
+
+	@Test
+	public void scriptsAreLoadedWhenMissing() {
+
+		String key = KEY_PREFIX + 3;
+
+		flushScripts();
+		this.documentAccessor.set(key, "price", 1234);
+		flushScripts();
+
+		assertThat(this.documentAccessor.get(key, "price").asInt()).isEqualTo(1234);
+
+		flushScripts();
+
+		assertThat(this.documentAccessor.multiGet(List.of(key, KEY_PREFIX + 4), "price"))
+			.containsExactly(this.documentAccessor.get(key, "price"), this.bikes.get(4).get("price"));
+	}
+
+	private void flushScripts() {
+		try (Jedis jedis = getJedisPool().getResource()) {
+			jedis.scriptFlush();
+		}
+	}
+
+	@Test
+	public void multiGetPaths() {
+
+		List<String> keys = IntStream.range(0, this.bikes.size()).mapToObj(index -> KEY_PREFIX + index).toList();
+
+		List<JsonNode> prices = this.documentAccessor.multiGet(keys, "price");
+
+		assertThat(prices).hasSize(this.bikes.size());
+
+		for (int index = 0; index < this.bikes.size(); index++) {
+			assertThat(prices.get(index)).isEqualTo(this.bikes.get(index).get("price"));
+		}
+
+		List<Map<String, JsonNode>> pathValues =
+			this.documentAccessor.multiGet(keys, "type", "specs.material", "specs");
+
+		assertThat(pathValues).hasSize(this.bikes.size());
+		assertThat(pathValues.get(3)).containsEntry("type", this.bikes.get(3).get("type"));
+		assertThat(pathValues.get(3)).containsEntry("specs.material", this.bikes.get(3).at("/specs/material"));
+
+		for (int index = 0; index < this.bikes.size(); index++) {
+			assertThat(pathValues.get(index)).containsEntry("specs", this.bikes.get(index).get("specs"));
+		}
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
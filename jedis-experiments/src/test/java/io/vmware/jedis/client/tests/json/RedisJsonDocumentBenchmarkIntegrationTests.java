@@ -0,0 +1,200 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.vmware.jedis.client.json.JsonDocumentAccessor;
+import io.vmware.jedis.client.json.RedisJsonDocumentAccessor;
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.tests.support.Bikes;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.lang.NonNull;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests and benchmarks comparing path-level reads of RedisJSON documents to full document reads
+ * of JSON stored as Redis Strings, measuring both latency and bytes sent on the wire by the Redis server
+ * ({@literal total_net_output_bytes}).
+ * <p>
+ * Requires a Redis Stack server, which includes the RedisJSON module.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.testcontainers.containers.GenericContainer
+ * @see io.vmware.jedis.client.json.RedisJsonDocumentAccessor
+ * @since 0.1.0
+ */
+@Testcontainers
+@SuppressWarnings("unused")
+public class RedisJsonDocumentBenchmarkIntegrationTests {
+
+	private static final int ITERATIONS = 10_000;
+	private static final int REDIS_PORT = 6379;
+
+	private static final String DEFAULT_REDIS_STACK_DOCKER_IMAGE_VERSION = "7.2.0-v6";
+	private static final String JSON_KEY_PREFIX = "bikes:json:";
+	private static final String STRING_KEY_PREFIX = "bikes:string:";
+
+	private static final DockerImageName REDIS_STACK_DOCKER_IMAGE =
+		DockerImageName.parse(String.format("redis/redis-stack-server:%s",
+			System.getProperty("redis-stack.version", DEFAULT_REDIS_STACK_DOCKER_IMAGE_VERSION)));
+
+	@Container
+	@SuppressWarnings("all")
+	private static final GenericContainer<?> redisStackContainer = new GenericContainer<>(REDIS_STACK_DOCKER_IMAGE)
+		.withExposedPorts(REDIS_PORT);
+
+	private static JedisPool jedisPool;
+
+	private static JsonDocumentAccessor documentAccessor;
+
+	private static List<JsonNode> bikes;
+
+	@BeforeAll
+	public static void storeBikesInRedis() {
+
+		jedisPool = new JedisPool(redisStackContainer.getHost(), redisStackContainer.getMappedPort(REDIS_PORT));
+		documentAccessor = JsonDocumentAccessor.create(RedisExecutor.from(jedisPool), Bikes.getObjectMapper());
+		bikes = Bikes.load();
+
+		try (Jedis jedis = jedisPool.getResource()) {
+			for (int index = 0; index < bikes.size(); index++) {
+				documentAccessor.set(JSON_KEY_PREFIX + index, bikes.get(index));
+				jedis.set(STRING_KEY_PREFIX + index, bikes.get(index).toString());
+			}
+		}
+	}
+
+	@AfterAll
+	public static void closeJedisPool() {
+
+		if (jedisPool != null) {
+			jedisPool.close();
+		}
+	}
+
+	@Test
+	public void usesRedisJson() {
+		assertThat(documentAccessor).isInstanceOf(RedisJsonDocumentAccessor.class);
+		assertThat(documentAccessor.get(JSON_KEY_PREFIX + 0)).isEqualTo(bikes.get(0));
+	}
+
+	@Test
+	public void pathReadTransfersLessThanFullDocumentRead() {
+
+		Measurement fullDocument = measure("GET full document", () -> {
+			try (Jedis jedis = jedisPool.getResource()) {
+				for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+					Bikes.getObjectMapper().readTree(jedis.get(STRING_KEY_PREFIX + (iteration % bikes.size())))
+						.get("price");
+				}
+			}
+			catch (Exception cause) {
+				throw new IllegalStateException(cause);
+			}
+		});
+
+		Measurement pathRead = measure("JSON.GET $.price", () -> {
+			for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+				documentAccessor.get(JSON_KEY_PREFIX + (iteration % bikes.size()), "price");
+			}
+		});
+
+		assertThat(pathRead.bytes()).isLessThan(fullDocument.bytes() / 5);
+	}
+
+	@Test
+	public void multiKeyPathReadTransfersLessThanFullDocumentMultiGet() {
+
+		String[] stringKeys = IntStream.range(0, bikes.size()).mapToObj(index -> STRING_KEY_PREFIX + index)
+			.toArray(String[]::new);
+
+		List<String> jsonKeys = IntStream.range(0, bikes.size()).mapToObj(index -> JSON_KEY_PREFIX + index)
+			.toList();
+
+		Measurement fullDocuments = measure("MGET full documents", () -> {
+			try (Jedis jedis = jedisPool.getResource()) {
+				for (int iteration = 0; iteration < ITERATIONS / bikes.size(); iteration++) {
+					jedis.mget(stringKeys);
+				}
+			}
+		});
+
+		Measurement pathReads = measure("JSON.MGET $.price", () -> {
+			for (int iteration = 0; iteration < ITERATIONS / bikes.size(); iteration++) {
+				documentAccessor.multiGet(jsonKeys, "price");
+			}
+		});
+
+		assertThat(documentAccessor.multiGet(jsonKeys, "price"))
+			.containsExactlyElementsOf(bikes.stream().map(bike -> bike.get("price")).toList());
+
+		assertThat(pathReads.bytes()).isLessThan(fullDocuments.bytes() / 5);
+	}
+
+	private @NonNull Measurement measure(@NonNull String name, @NonNull Runnable runnable) {
+
+		long bytesBefore = totalNetOutputBytes();
+		long startTime = System.nanoTime();
+
+		runnable.run();
+
+		Duration duration = Duration.ofNanos(System.nanoTime() - startTime);
+		Measurement measurement = new Measurement(name, totalNetOutputBytes() - bytesBefore, duration);
+
+		System.out.println(measurement);
+		System.out.flush();
+
+		return measurement;
+	}
+
+	private long totalNetOutputBytes() {
+
+		try (Jedis jedis = jedisPool.getResource()) {
+			return jedis.info("stats").lines()
+				.filter(line -> line.startsWith("total_net_output_bytes:"))
+				.map(line -> line.substring(line.indexOf(':') + 1).strip())
+				.mapToLong(Long::parseLong)
+				.findFirst()
+				.orElse(0L);
+		}
+	}
+
+	record Measurement(String name, long bytes, Duration duration) {
+
+		@Override
+		public String toString() {
+			return String.format("%-24s %,12d bytes %,8d ms", name(), bytes(), duration().toMillis());
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import io.vmware.jedis.client.protocol.MassInsertLoader;
+import io.vmware.jedis.client.protocol.MassInsertResult;
+import io.vmware.jedis.client.protocol.RespCommandWriter;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link MassInsertLoader}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.protocol.MassInsertLoader
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class MassInsertLoaderIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int KEY_COUNT = 1_000_000;
+
+	private static final byte[] INCR = "INCR".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] KEY_PREFIX = "key:".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] SET = "SET".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] VALUE_PREFIX = "value:".getBytes(StandardCharsets.US_ASCII);
+
+	private static final RespCommandWriter<Long> SET_KEY_VALUE = (id, buffer) ->
+		buffer.command(3).argument(SET).argument(KEY_PREFIX, id).argument(VALUE_PREFIX, id);
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private MassInsertLoader loader;
+
+	@BeforeEach
+	public void setup() {
+		runInRedis(Jedis::flushAll);
+		this.loader = MassInsertLoader.to(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+	}
+
+	@Test
+	public void massInsertMillionKeys() {
+
+		MassInsertResult result = this.loader.load(LongStream.range(0, KEY_COUNT).boxed().iterator(), SET_KEY_VALUE);
+
+		System.out.printf("Mass insert %s%n", result);
+		System.out.flush();
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.commands()).isEqualTo(KEY_COUNT);
+		assertThat(result.replies()).isEqualTo(KEY_COUNT);
+		assertThat(runInRedis(Jedis::dbSize)).isEqualTo(KEY_COUNT);
+		assertThat(this.<String>runInRedis(jedis -> jedis.get("key:999999"))).isEqualTo("value:999999");
+	}
+
+	@Test
+	public void massInsertCountsErrorReplies() {
+
+		RespCommandWriter<Long> incrementEvenKeys = (id, buffer) -> {
+			SET_KEY_VALUE.write(id, buffer);
+			if (id % 2 == 0) {
+				buffer.command(2).argument(INCR).argument(KEY_PREFIX, id);
+			}
+		};
+
+		MassInsertResult result = this.loader.withMaxErrorSamples(3)
+			.load(List.of(0L, 1L, 2L, 3L, 4L).iterator(), incrementEvenKeys);
+
+		assertThat(result.isComplete()).isTrue();
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.commands()).isEqualTo(8);
+		assertThat(result.errors()).isEqualTo(3);
+		assertThat(result.errorSamples()).hasSize(3)
+			.allSatisfy(error -> assertThat(error).startsWith("ERR value is not an integer"));
+		assertThat(runInRedis(Jedis::dbSize)).isEqualTo(5);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
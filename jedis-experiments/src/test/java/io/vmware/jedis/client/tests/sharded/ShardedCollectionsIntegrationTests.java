@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.sharded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.vmware.jedis.client.support.RedisExecutor;
+import io.vmware.jedis.client.support.ShardedHash;
+import io.vmware.jedis.client.support.ShardedSet;
+import io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+import lombok.Getter;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Integration Tests for {@link ShardedHash} and {@link ShardedSet}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.context.SpringBootTest
+ * @see io.vmware.jedis.client.support.ShardedHash
+ * @see io.vmware.jedis.client.support.ShardedSet
+ * @see io.vmware.jedis.client.tests.support.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@SpringBootTest
+@SuppressWarnings("unused")
+public class ShardedCollectionsIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int BATCH_SIZE = 10_000;
+	private static final int MEMBER_COUNT = 200_000;
+	private static final int SHARD_COUNT = 16;
+
+	@Autowired
+	private JedisPool jedisPool;
+
+	private RedisExecutor redisExecutor;
+
+	@BeforeEach
+	public void setup() {
+		runInRedis(Jedis::flushAll);
+		this.redisExecutor = RedisExecutor.from(getJedisPool());
+	}
+
+	@Test
+	public void shardedSetSpreadsMembersEvenlyAcrossShards() {
+
+		ShardedSet tenantSet = new ShardedSet(getRedisExecutor(), "tenant:42:members", SHARD_COUNT);
+
+		for (int batchStart = 0; batchStart < MEMBER_COUNT; batchStart += BATCH_SIZE) {
+			assertThat(tenantSet.addAll(members(batchStart, batchStart + BATCH_SIZE))).isEqualTo(BATCH_SIZE);
+		}
+
+		assertThat(tenantSet.add("member:0", "member:1")).isZero();
+		assertThat(tenantSet.size()).isEqualTo(MEMBER_COUNT);
+
+		long expectedShardSize = MEMBER_COUNT / SHARD_COUNT;
+
+		runInRedis(jedis -> {
+
+			assertThat(jedis.exists(tenantSet.getKey())).isFalse();
+
+			for (String shardKey : tenantSet.getShardKeys()) {
+				assertThat(jedis.scard(shardKey)).isBetween(expectedShardSize * 9 / 10, expectedShardSize * 11 / 10);
+			}
+
+			return null;
+		});
+
+		assertThat(tenantSet.contains("member:123")).isTrue();
+		assertThat(tenantSet.contains("member:-1")).isFalse();
+		assertThat(tenantSet.containsAll(List.of("member:7", "member:-7", "member:199999")))
+			.isEqualTo(Map.of("member:7", true, "member:-7", false, "member:199999", true));
+
+		Set<String> scannedMembers = ConcurrentHashMap.newKeySet();
+
+		tenantSet.scan(scannedMembers::add);
+
+		assertThat(scannedMembers).hasSize(MEMBER_COUNT);
+		assertThat(tenantSet.remove("member:0", "member:1", "member:-1")).isEqualTo(2);
+		assertThat(tenantSet.size()).isEqualTo(MEMBER_COUNT - 2);
+
+		tenantSet.clear();
+
+		assertThat(tenantSet.isEmpty()).isTrue();
+		assertThat(runInRedis(Jedis::dbSize)).isZero();
+	}
+
+	@Test
+	public void shardedHashFansOutAndMergesResults() {
+
+		ShardedHash tenantHash = new ShardedHash(getRedisExecutor(), "tenant:42:profiles", SHARD_COUNT)
+			.withScanCount(500);
+
+		for (int batchStart = 0; batchStart < MEMBER_COUNT; batchStart += BATCH_SIZE) {
+
+			Map<String, String> fields = members(batchStart, batchStart + BATCH_SIZE).stream()
+				.collect(Collectors.toMap(member -> member, member -> "value-of-" + member));
+
+			assertThat(tenantHash.putAll(fields)).isEqualTo(BATCH_SIZE);
+		}
+
+		assertThat(tenantHash.size()).isEqualTo(MEMBER_COUNT);
+		assertThat(tenantHash.get("member:42")).hasValue("value-of-member:42");
+		assertThat(tenantHash.get("member:-42")).isEmpty();
+		assertThat(tenantHash.getAll(List.of("member:1", "member:2", "member:-3")))
+			.isEqualTo(Map.of("member:1", "value-of-member:1", "member:2", "value-of-member:2"));
+
+		assertThat(tenantHash.put("member:1", "updated")).isFalse();
+		assertThat(tenantHash.get("member:1")).hasValue("updated");
+
+		Map<String, String> scannedFields = new ConcurrentHashMap<>();
+
+		tenantHash.scan(scannedFields::put);
+
+		assertThat(scannedFields).hasSize(MEMBER_COUNT);
+		assertThat(scannedFields.get("member:199999")).isEqualTo("value-of-member:199999");
+		assertThat(tenantHash.remove("member:1", "member:2", "member:-3")).isEqualTo(2);
+		assertThat(tenantHash.size()).isEqualTo(MEMBER_COUNT - 2);
+	}
+
+	private List<String> members(int start, int end) {
+		return IntStream.range(start, end).mapToObj(index -> "member:" + index).toList();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		JedisPool jedisPool() {
+			return new JedisPool(redisContainer.getHost(), redisContainer.getMappedPort(REDIS_PORT));
+		}
+	}
+}
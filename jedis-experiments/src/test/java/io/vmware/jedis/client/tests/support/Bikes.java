@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Abstract utility class used to load the {@literal bikes.json} catalog test resource.
+ *
+ * @author John Blum
+ * @see com.fasterxml.jackson.databind.JsonNode
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public abstract class Bikes {
+
+	public static final String BIKES_JSON_RESOURCE = "/bikes.json";
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	public static @NonNull List<JsonNode> load() {
+
+		try (InputStream in = Bikes.class.getResourceAsStream(BIKES_JSON_RESOURCE)) {
+
+			List<JsonNode> bikes = new ArrayList<>();
+
+			OBJECT_MAPPER.readTree(in).path("bikes").forEach(bikes::add);
+
+			return bikes;
+		}
+		catch (IOException cause) {
+			throw new UncheckedIOException(String.format("Failed to load [%s]", BIKES_JSON_RESOURCE), cause);
+		}
+	}
+
+	public static @NonNull List<String> descriptions() {
+		return load().stream().map(bike -> bike.path("description").asText()).toList();
+	}
+
+	public static @NonNull ObjectMapper getObjectMapper() {
+		return OBJECT_MAPPER;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.jedis.client.tests.support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+
+import io.vmware.jedis.client.ai.EmbeddingModel;
+import io.vmware.jedis.client.ai.Vectors;
+import lombok.Getter;
+
+/**
+ * Offline, deterministic stand-in for a remote {@link EmbeddingModel}.
+ * <p>
+ * Text is embedded using the {@literal hashing trick} over lowercase word tokens, so texts sharing most of their
+ * words produce vectors with a high cosine similarity. An optional latency can be simulated per model call.
+ *
+ * @author John Blum
+ * @see io.vmware.jedis.client.ai.EmbeddingModel
+ * @since 0.1.0
+ */
+@Getter
+@SuppressWarnings("unused")
+public class FakeEmbeddingModel implements EmbeddingModel {
+
+	public static final int DEFAULT_DIMENSIONS = 256;
+
+	private final AtomicInteger callCount = new AtomicInteger(0);
+	private final AtomicInteger textCount = new AtomicInteger(0);
+
+	private final int dimensions;
+
+	private final Duration latency;
+
+	public FakeEmbeddingModel() {
+		this(DEFAULT_DIMENSIONS, Duration.ZERO);
+	}
+
+	public FakeEmbeddingModel(int dimensions, @NonNull Duration latency) {
+		this.dimensions = dimensions;
+		this.latency = latency;
+	}
+
+	@Override
+	public @NonNull String getName() {
+		return String.format("fake-embedding-model-%d", getDimensions());
+	}
+
+	@Override
+	public List<float[]> embed(@NonNull List<String> texts) {
+
+		this.callCount.incrementAndGet();
+		this.textCount.addAndGet(texts.size());
+
+		simulateLatency();
+
+		return texts.stream().map(this::embedText).toList();
+	}
+
+	private float[] embedText(String text) {
+
+		float[] vector = new float[getDimensions()];
+
+		for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+			if (!token.isEmpty()) {
+				int hash = token.hashCode();
+				int index = Math.floorMod(hash, getDimensions());
+				vector[index] += (hash & 0x80000) == 0 ? 1.0f : -1.0f;
+			}
+		}
+
+		return Vectors.normalize(vector);
+	}
+
+	private void simulateLatency() {
+
+		if (!getLatency().isZero()) {
+			try {
+				Thread.sleep(getLatency().toMillis());
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable range of Redis Cluster hash slots backed by a fixed {@literal long[256]} (16384 bits), answering
+ * {@link #contains(int)} with a single array access and bit test, without boxing or hashing.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.connection.RedisClusterNode.SlotRange
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public final class BitSetSlotRange {
+
+	private static final int WORD_COUNT = ClusterKeySlot.SLOT_COUNT / Long.SIZE;
+
+	/**
+	 * Factory method used to construct a new {@link BitSetSlotRange} containing the slots of the given
+	 * Spring Data Redis {@link RedisClusterNode.SlotRange}.
+	 *
+	 * @param slotRange {@link RedisClusterNode.SlotRange} to copy.
+	 * @return a new {@link BitSetSlotRange}.
+	 */
+	public static @NonNull BitSetSlotRange from(@NonNull RedisClusterNode.SlotRange slotRange) {
+		Assert.notNull(slotRange, "SlotRange is required");
+		return of(slotRange.getSlotsArray());
+	}
+
+	public static @NonNull BitSetSlotRange of(@NonNull Collection<Integer> slots) {
+		Assert.notNull(slots, "Slots are required");
+		return of(slots.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	public static @NonNull BitSetSlotRange of(@NonNull int... slots) {
+
+		long[] words = new long[WORD_COUNT];
+
+		for (int slot : slots) {
+			assertSlot(slot);
+			words[slot >>> 6] |= 1L << slot;
+		}
+
+		return new BitSetSlotRange(words);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link BitSetSlotRange} containing the contiguous slots
+	 * from {@literal lowerBound} to {@literal upperBound}, inclusive.
+	 *
+	 * @param lowerBound first slot in the range.
+	 * @param upperBound last slot in the range.
+	 * @return a new {@link BitSetSlotRange}.
+	 */
+	public static @NonNull BitSetSlotRange range(int lowerBound, int upperBound) {
+
+		assertSlot(lowerBound);
+		assertSlot(upperBound);
+
+		Assert.isTrue(lowerBound <= upperBound, () -> String.format("Lower bound [%d] must not be greater than"
+			+ " upper bound [%d]", lowerBound, upperBound));
+
+		BitSet bitSet = new BitSet(ClusterKeySlot.SLOT_COUNT);
+
+		bitSet.set(lowerBound, upperBound + 1);
+
+		return new BitSetSlotRange(Arrays.copyOf(bitSet.toLongArray(), WORD_COUNT));
+	}
+
+	private static void assertSlot(int slot) {
+		Assert.isTrue(slot >= 0 && slot < ClusterKeySlot.SLOT_COUNT,
+			() -> String.format("Slot [%d] must be between 0 and %d", slot, ClusterKeySlot.SLOT_COUNT - 1));
+	}
+
+	private final long[] words;
+
+	private BitSetSlotRange(long[] words) {
+		this.words = words;
+	}
+
+	public boolean contains(int slot) {
+		return slot >= 0 && slot < ClusterKeySlot.SLOT_COUNT && (this.words[slot >>> 6] & (1L << slot)) != 0;
+	}
+
+	public int cardinality() {
+
+		int cardinality = 0;
+
+		for (long word : this.words) {
+			cardinality += Long.bitCount(word);
+		}
+
+		return cardinality;
+	}
+
+	public boolean isEmpty() {
+		return cardinality() == 0;
+	}
+
+	public @NonNull int[] toArray() {
+		return BitSet.valueOf(this.words).stream().toArray();
+	}
+
+	public @NonNull RedisClusterNode.SlotRange toSlotRange() {
+		return new RedisClusterNode.SlotRange(BitSet.valueOf(this.words));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return this == obj || (obj instanceof BitSetSlotRange that && Arrays.equals(this.words, that.words));
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.words);
+	}
+
+	@Override
+	public String toString() {
+		return BitSet.valueOf(this.words).toString();
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Abstract utility class computing the Redis Cluster hash slot of a key, {@literal CRC16(key) mod 16384},
+ * honoring {@literal {hash tags}}, without allocating.
+ * <p>
+ * Unlike Spring Data Redis's {@link org.springframework.data.redis.connection.ClusterSlotHashUtil}, a
+ * {@link CharSequence} key is hashed by encoding its characters to UTF-8 on the fly rather than by first
+ * converting the key to a {@literal byte[]}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.connection.ClusterSlotHashUtil
+ * @see <a href="https://redis.io/docs/reference/cluster-spec/#key-distribution-model">Key distribution model</a>
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public abstract class ClusterKeySlot {
+
+	public static final int SLOT_COUNT = 16384;
+
+	private static final int SLOT_MASK = SLOT_COUNT - 1;
+
+	private static final char[] CRC16_TABLE = new char[256];
+
+	static {
+		for (int index = 0; index < CRC16_TABLE.length; index++) {
+
+			int crc = index << 8;
+
+			for (int bit = 0; bit < 8; bit++) {
+				crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+			}
+
+			CRC16_TABLE[index] = (char) crc;
+		}
+	}
+
+	/**
+	 * Computes the hash slot of the given key.
+	 *
+	 * @param key {@literal byte[]} containing the key.
+	 * @return the hash slot of the key in the range {@literal [0, 16384)}.
+	 */
+	public static int slot(@NonNull byte[] key) {
+
+		int start = 0;
+		int end = key.length;
+		int open = indexOf(key, (byte) '{', 0);
+
+		if (open >= 0) {
+
+			int close = indexOf(key, (byte) '}', open + 1);
+
+			if (close > open + 1) {
+				start = open + 1;
+				end = close;
+			}
+		}
+
+		int crc = 0;
+
+		for (int index = start; index < end; index++) {
+			crc = update(crc, key[index]);
+		}
+
+		return crc & SLOT_MASK;
+	}
+
+	/**
+	 * Computes the hash slot of the UTF-8 encoding of the given key.
+	 *
+	 * @param key {@link CharSequence} containing the key.
+	 * @return the hash slot of the key in the range {@literal [0, 16384)}.
+	 */
+	public static int slot(@NonNull CharSequence key) {
+
+		int start = 0;
+		int end = key.length();
+		int open = indexOf(key, '{', 0);
+
+		if (open >= 0) {
+
+			int close = indexOf(key, '}', open + 1);
+
+			if (close > open + 1) {
+				start = open + 1;
+				end = close;
+			}
+		}
+
+		int crc = 0;
+
+		for (int index = start; index < end; index++) {
+
+			char character = key.charAt(index);
+
+			if (character < 0x80) {
+				crc = update(crc, character);
+			}
+			else if (character < 0x800) {
+				crc = update(crc, 0xC0 | (character >> 6));
+				crc = update(crc, 0x80 | (character & 0x3F));
+			}
+			else if (Character.isHighSurrogate(character) && index + 1 < end
+					&& Character.isLowSurrogate(key.charAt(index + 1))) {
+
+				int codePoint = Character.toCodePoint(character, key.charAt(++index));
+
+				crc = update(crc, 0xF0 | (codePoint >> 18));
+				crc = update(crc, 0x80 | ((codePoint >> 12) & 0x3F));
+				crc = update(crc, 0x80 | ((codePoint >> 6) & 0x3F));
+				crc = update(crc, 0x80 | (codePoint & 0x3F));
+			}
+			else if (Character.isSurrogate(character)) {
+				crc = update(crc, '?');
+			}
+			else {
+				crc = update(crc, 0xE0 | (character >> 12));
+				crc = update(crc, 0x80 | ((character >> 6) & 0x3F));
+				crc = update(crc, 0x80 | (character & 0x3F));
+			}
+		}
+
+		return crc & SLOT_MASK;
+	}
+
+	private static int update(int crc, int value) {
+		return ((crc << 8) ^ CRC16_TABLE[((crc >>> 8) ^ value) & 0xFF]) & 0xFFFF;
+	}
+
+	private static int indexOf(byte[] key, byte value, int fromIndex) {
+
+		for (int index = fromIndex; index < key.length; index++) {
+			if (key[index] == value) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static int indexOf(CharSequence key, char value, int fromIndex) {
+
+		for (int index = fromIndex, length = key.length(); index < length; index++) {
+			if (key.charAt(index) == value) {
+				return index;
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.io.PrintStream;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Report comparing the JMH {@link RunResult results} of the same benchmarks run with each {@link RedisDriver},
+ * grouped by workload (benchmark), payload size and concurrency (number of benchmark {@link Thread Threads}).
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.results.RunResult
+ * @see io.vmware.spring.data.redis.connection.RedisDriver
+ * @see io.vmware.spring.data.redis.connection.RedisTemplateDriverBenchmarks
+ * @since 0.1.0
+ */
+public class DriverComparisonReport {
+
+	protected static final String DRIVER_PARAMETER = "driver";
+	protected static final String PAYLOAD_SIZE_PARAMETER = "payloadSize";
+
+	/**
+	 * Factory method used to construct a new {@link DriverComparisonReport} from the given JMH
+	 * {@link RunResult results}.
+	 *
+	 * @param results {@link Collection} of JMH {@link RunResult results} with a {@literal driver} parameter.
+	 * @return a new {@link DriverComparisonReport}.
+	 */
+	public static @NonNull DriverComparisonReport from(@NonNull Collection<RunResult> results) {
+
+		Assert.notNull(results, "RunResults are required");
+
+		DriverComparisonReport report = new DriverComparisonReport();
+
+		for (RunResult result : results) {
+
+			BenchmarkParams params = result.getParams();
+			String driver = params.getParam(DRIVER_PARAMETER);
+
+			if (driver != null) {
+
+				String payloadSize = params.getParamsKeys().contains(PAYLOAD_SIZE_PARAMETER)
+					? params.getParam(PAYLOAD_SIZE_PARAMETER) : "-";
+
+				Row row = report.rows.computeIfAbsent(new RowKey(workloadOf(params.getBenchmark()),
+					payloadSize, params.getThreads()), key -> new Row());
+
+				row.results.put(RedisDriver.valueOf(driver), result.getPrimaryResult());
+			}
+		}
+
+		return report;
+	}
+
+	private static String workloadOf(String benchmark) {
+
+		String methodName = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+
+		return methodName.startsWith("measure") ? methodName.substring("measure".length()) : methodName;
+	}
+
+	private final Map<RowKey, Row> rows = new TreeMap<>();
+
+	private DriverComparisonReport() { }
+
+	/**
+	 * Prints this report as a table to the given {@link PrintStream}.
+	 *
+	 * @param out {@link PrintStream} to print to.
+	 */
+	public void print(@NonNull PrintStream out) {
+
+		String format = "%-24s %8s %8s %18s %18s %-8s %7s%n";
+
+		out.printf(format, "Workload", "Payload", "Threads", "Jedis", "Lettuce", "Winner", "Ratio");
+		out.println("-".repeat(97));
+
+		this.rows.forEach((key, row) -> {
+
+			Result<?> jedis = row.results.get(RedisDriver.JEDIS);
+			Result<?> lettuce = row.results.get(RedisDriver.LETTUCE);
+
+			String winner = "-";
+			String ratio = "-";
+
+			if (jedis != null && lettuce != null) {
+
+				boolean jedisWins = jedis.getScore() >= lettuce.getScore();
+				double slower = Math.min(jedis.getScore(), lettuce.getScore());
+
+				winner = jedisWins ? "Jedis" : "Lettuce";
+				ratio = slower > 0 ? String.format("%.2fx", Math.max(jedis.getScore(), lettuce.getScore()) / slower)
+					: "-";
+			}
+
+			out.printf(format, key.workload(), key.payloadSize(), key.threads(), toString(jedis), toString(lettuce),
+				winner, ratio);
+		});
+
+		out.flush();
+	}
+
+	private String toString(Result<?> result) {
+		return result != null ? String.format("%.0f %s", result.getScore(), abbreviate(result.getScoreUnit())) : "-";
+	}
+
+	private String abbreviate(String scoreUnit) {
+		return StringUtils.hasText(scoreUnit) ? scoreUnit.replace("ops/", "/") : "";
+	}
+
+	private record RowKey(String workload, String payloadSize, int threads) implements Comparable<RowKey> {
+
+		@Override
+		public int compareTo(RowKey that) {
+
+			int result = this.workload.compareTo(that.workload);
+
+			result = result != 0 ? result : Integer.compare(toInt(this.payloadSize), toInt(that.payloadSize));
+
+			return result != 0 ? result : Integer.compare(this.threads, that.threads);
+		}
+
+		private static int toInt(String value) {
+			return StringUtils.hasText(value) && Character.isDigit(value.charAt(0)) ? Integer.parseInt(value) : -1;
+		}
+	}
+
+	private static class Row {
+
+		private final Map<RedisDriver, Result<?>> results = new EnumMap<>(RedisDriver.class);
+
+	}
+}
@@ -17,6 +17,7 @@ package io.vmware.spring.data.redis.connection;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -34,16 +35,23 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.ClusterTopology;
 import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisNode;
 
 import lombok.Getter;
 
 /**
- * JMH Benchmarks for Spring Data Redis {@link RedisClusterNode.SlotRange}.
+ * JMH Benchmarks for Spring Data Redis {@link RedisClusterNode.SlotRange} compared to {@link BitSetSlotRange},
+ * and for routing keys to cluster nodes with Spring Data Redis {@link ClusterTopology} compared to
+ * {@link SlotRoutingTable} at different cluster sizes.
  *
  * @author John Blum
  * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.redis.connection.ClusterTopology
  * @see org.springframework.data.redis.connection.RedisClusterNode.SlotRange
+ * @see io.vmware.spring.data.redis.connection.BitSetSlotRange
+ * @see io.vmware.spring.data.redis.connection.SlotRoutingTable
  * @since 0.1.0
  */
 @Fork(value = 1)
@@ -62,7 +70,41 @@ public class RedisClusterNodeSlotRangeBenchmarks {
 	public void measureSlotRangeContainsSlot(Blackhole blackhole, ExecutionPlan executionPlan) {
 
 		for (int slot = 0; slot < executionPlan.getIterations(); slot++) {
-			executionPlan.containsSlot(slot);
+			blackhole.consume(executionPlan.containsSlot(slot));
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@SuppressWarnings("unused")
+	public void measureBitSetSlotRangeContainsSlot(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		for (int slot = 0; slot < executionPlan.getIterations(); slot++) {
+			blackhole.consume(executionPlan.bitSetContainsSlot(slot));
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@SuppressWarnings("unused")
+	public void measureClusterTopologyKeyRouting(Blackhole blackhole, RoutingPlan routingPlan) {
+
+		ClusterTopology clusterTopology = routingPlan.getClusterTopology();
+
+		for (byte[] key : routingPlan.getKeys()) {
+			blackhole.consume(clusterTopology.getKeyServingMasterNode(key));
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@SuppressWarnings("unused")
+	public void measureSlotRoutingTableKeyRouting(Blackhole blackhole, RoutingPlan routingPlan) {
+
+		SlotRoutingTable routingTable = routingPlan.getRoutingTable();
+
+		for (byte[] key : routingPlan.getKeys()) {
+			blackhole.consume(routingTable.nodeIndexForKey(key));
 		}
 	}
 
@@ -74,6 +116,8 @@ public class RedisClusterNodeSlotRangeBenchmarks {
 		@Param({ "2000", "3000", "5000", "10000" })
 		private int iterations;
 
+		private BitSetSlotRange bitSetSlotRange;
+
 		private RedisClusterNode.SlotRange slotRange;
 
 		@Setup(Level.Iteration)
@@ -88,10 +132,65 @@ public class RedisClusterNodeSlotRangeBenchmarks {
 			}
 
 			this.slotRange = new RedisClusterNode.SlotRange(slots);
+			this.bitSetSlotRange = BitSetSlotRange.of(slots);
 		}
 
 		boolean containsSlot(int slot) {
 			return getSlotRange().contains(slot);
 		}
+
+		boolean bitSetContainsSlot(int slot) {
+			return getBitSetSlotRange().contains(slot);
+		}
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class RoutingPlan {
+
+		private static final int KEY_COUNT = 10_000;
+
+		@Param({ "3", "6", "12", "48", "96" })
+		private int clusterSize;
+
+		private byte[][] keys;
+
+		private ClusterTopology clusterTopology;
+
+		private SlotRoutingTable routingTable;
+
+		@Setup(Level.Trial)
+		public void setup() {
+
+			Set<RedisClusterNode> nodes = new HashSet<>(getClusterSize());
+
+			int slotsPerNode = ClusterKeySlot.SLOT_COUNT / getClusterSize();
+
+			for (int node = 0; node < getClusterSize(); node++) {
+
+				int lowerBound = node * slotsPerNode;
+				int upperBound = node == getClusterSize() - 1 ? ClusterKeySlot.SLOT_COUNT - 1
+					: lowerBound + slotsPerNode - 1;
+
+				nodes.add(RedisClusterNode.newRedisClusterNode()
+					.listeningAt("10.0.0." + node, 6379)
+					.withId("node-" + node)
+					.promotedAs(RedisNode.NodeType.MASTER)
+					.linkState(RedisClusterNode.LinkState.CONNECTED)
+					.serving(new RedisClusterNode.SlotRange(lowerBound, upperBound))
+					.build());
+			}
+
+			this.clusterTopology = new ClusterTopology(nodes);
+			this.routingTable = SlotRoutingTable.from(this.clusterTopology);
+			this.keys = new byte[KEY_COUNT][];
+
+			Random random = new Random(KEY_COUNT);
+
+			for (int index = 0; index < KEY_COUNT; index++) {
+				this.keys[index] = ("user:" + random.nextInt(1_000_000) + ":session").getBytes();
+			}
+		}
 	}
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.lang.reflect.Method;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Enumeration of the Redis drivers (client libraries) supported by Spring Data Redis, used to create
+ * an initialized {@link RedisConnectionFactory} for a standalone Redis server outside a Spring container
+ * (for example, in JMH Benchmarks).
+ * <p>
+ * The {@literal Jedis} driver is only on the classpath with the {@literal jedis} Maven profile, so
+ * the {@literal JedisConnectionFactory} is created reflectively, keeping this module compilable with
+ * the {@literal lettuce} profile.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.connection.RedisConnectionFactory
+ * @since 0.1.0
+ */
+public enum RedisDriver {
+
+	JEDIS {
+
+		@Override
+		protected @NonNull RedisConnectionFactory newConnectionFactory(@NonNull RedisStandaloneConfiguration configuration) {
+
+			Assert.state(ClassUtils.isPresent(JEDIS_CONNECTION_FACTORY_CLASS_NAME, getClassLoader()),
+				"Jedis is not on the classpath; build with the jedis Maven profile");
+
+			try {
+				Class<?> connectionFactoryType =
+					ClassUtils.forName(JEDIS_CONNECTION_FACTORY_CLASS_NAME, getClassLoader());
+
+				return (RedisConnectionFactory) BeanUtils.instantiateClass(
+					connectionFactoryType.getConstructor(RedisStandaloneConfiguration.class), configuration);
+			}
+			catch (ClassNotFoundException | NoSuchMethodException cause) {
+				throw new IllegalStateException("Failed to create JedisConnectionFactory", cause);
+			}
+		}
+
+		@Override
+		protected void configurePoolSize(@NonNull RedisConnectionFactory connectionFactory, int poolSize) {
+
+			Method getPoolConfig = ReflectionUtils.findMethod(connectionFactory.getClass(), "getPoolConfig");
+			Object poolConfig = getPoolConfig != null ? ReflectionUtils.invokeMethod(getPoolConfig, connectionFactory)
+				: null;
+
+			Assert.state(poolConfig != null, "JedisConnectionFactory does not pool connections");
+
+			for (String poolSizeProperty : new String[] { "setMaxTotal", "setMaxIdle" }) {
+
+				Method setPoolSize = ReflectionUtils.findMethod(poolConfig.getClass(), poolSizeProperty, int.class);
+
+				Assert.state(setPoolSize != null, () -> String.format("Pool configuration [%s] has no method [%s]",
+					poolConfig.getClass().getName(), poolSizeProperty));
+
+				ReflectionUtils.invokeMethod(setPoolSize, poolConfig, poolSize);
+			}
+		}
+	},
+
+	LETTUCE {
+
+		@Override
+		protected @NonNull RedisConnectionFactory newConnectionFactory(@NonNull RedisStandaloneConfiguration configuration) {
+			return new LettuceConnectionFactory(configuration);
+		}
+	};
+
+	public static final String DEFAULT_HOST = "localhost";
+	public static final int DEFAULT_PORT = 6379;
+	public static final int DEFAULT_POOL_SIZE = 8;
+
+	protected static final String JEDIS_CONNECTION_FACTORY_CLASS_NAME =
+		"org.springframework.data.redis.connection.jedis.JedisConnectionFactory";
+
+	public static final String REDIS_HOST_PROPERTY = "redis.host";
+	public static final String REDIS_PORT_PROPERTY = "redis.port";
+
+	/**
+	 * Creates and initializes a new {@link RedisConnectionFactory} for this driver connecting to the Redis server
+	 * configured with the {@literal redis.host} and {@literal redis.port} System properties, defaulting to
+	 * {@literal localhost:6379}.
+	 *
+	 * @return a new, initialized {@link RedisConnectionFactory}.
+	 * @see #connectionFactory(String, int)
+	 */
+	public @NonNull RedisConnectionFactory connectionFactory() {
+		return connectionFactory(System.getProperty(REDIS_HOST_PROPERTY, DEFAULT_HOST),
+			Integer.getInteger(REDIS_PORT_PROPERTY, DEFAULT_PORT));
+	}
+
+	/**
+	 * Creates and initializes a new {@link RedisConnectionFactory} for this driver connecting to the Redis server
+	 * at the given {@link String host} and {@link Integer port}.
+	 * <p>
+	 * The caller is responsible for destroying the returned {@link RedisConnectionFactory}.
+	 *
+	 * @param host {@link String} containing the Redis server host.
+	 * @param port {@link Integer} Redis server port.
+	 * @return a new, initialized {@link RedisConnectionFactory}.
+	 */
+	public @NonNull RedisConnectionFactory connectionFactory(@NonNull String host, int port) {
+		return connectionFactory(host, port, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Creates and initializes a new {@link RedisConnectionFactory} for this driver connecting to the Redis server
+	 * configured with the {@literal redis.host} and {@literal redis.port} System properties, pooling up to
+	 * the given number of connections.
+	 * <p>
+	 * Only the {@literal Jedis} driver pools connections, one per concurrent operation; the {@literal Lettuce}
+	 * driver shares a single, thread-safe connection and ignores the pool size.
+	 *
+	 * @param poolSize maximum number of pooled connections; must be greater than {@literal 0}.
+	 * @return a new, initialized {@link RedisConnectionFactory}.
+	 * @see #connectionFactory(String, int, int)
+	 */
+	public @NonNull RedisConnectionFactory connectionFactory(int poolSize) {
+		return connectionFactory(System.getProperty(REDIS_HOST_PROPERTY, DEFAULT_HOST),
+			Integer.getInteger(REDIS_PORT_PROPERTY, DEFAULT_PORT), poolSize);
+	}
+
+	/**
+	 * Creates and initializes a new {@link RedisConnectionFactory} for this driver connecting to the Redis server
+	 * at the given {@link String host} and {@link Integer port}, pooling up to the given number of connections.
+	 * <p>
+	 * The caller is responsible for destroying the returned {@link RedisConnectionFactory}.
+	 *
+	 * @param host {@link String} containing the Redis server host.
+	 * @param port {@link Integer} Redis server port.
+	 * @param poolSize maximum number of pooled connections; must be greater than {@literal 0}.
+	 * @return a new, initialized {@link RedisConnectionFactory}.
+	 */
+	public @NonNull RedisConnectionFactory connectionFactory(@NonNull String host, int port, int poolSize) {
+
+		Assert.hasText(host, () -> String.format("Host [%s] is required", host));
+		Assert.isTrue(poolSize > 0, () -> String.format("Pool size [%d] must be greater than 0", poolSize));
+
+		RedisConnectionFactory connectionFactory = newConnectionFactory(new RedisStandaloneConfiguration(host, port));
+
+		configurePoolSize(connectionFactory, poolSize);
+
+		if (connectionFactory instanceof InitializingBean initializingBean) {
+			try {
+				initializingBean.afterPropertiesSet();
+			}
+			catch (Exception cause) {
+				throw new IllegalStateException(String.format("Failed to initialize RedisConnectionFactory [%s]",
+					connectionFactory.getClass().getName()), cause);
+			}
+		}
+
+		return connectionFactory;
+	}
+
+	protected @NonNull ClassLoader getClassLoader() {
+		return RedisDriver.class.getClassLoader();
+	}
+
+	protected abstract @NonNull RedisConnectionFactory newConnectionFactory(
+		@NonNull RedisStandaloneConfiguration configuration);
+
+	protected void configurePoolSize(@NonNull RedisConnectionFactory connectionFactory, int poolSize) { }
+
+	/**
+	 * Destroys the given {@link RedisConnectionFactory} created by a {@link RedisDriver}.
+	 *
+	 * @param connectionFactory {@link RedisConnectionFactory} to destroy.
+	 */
+	public static void destroy(RedisConnectionFactory connectionFactory) {
+
+		if (connectionFactory instanceof DisposableBean disposableBean) {
+			try {
+				disposableBean.destroy();
+			}
+			catch (Exception cause) {
+				throw new IllegalStateException(String.format("Failed to destroy RedisConnectionFactory [%s]",
+					connectionFactory.getClass().getName()), cause);
+			}
+		}
+	}
+}
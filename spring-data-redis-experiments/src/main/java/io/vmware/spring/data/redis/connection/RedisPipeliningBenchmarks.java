@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import io.vmware.spring.data.redis.core.PartitionedPipelineExecutor;
+import io.vmware.spring.data.redis.core.StreamingPipelineExecutor;
+import lombok.Getter;
+
+/**
+ * JMH Benchmarks comparing Redis Pipelining strategies when adding a batch of elements to a Redis Set:
+ * a single pipeline on a single connection ({@link RedisTemplate#executePipelined(RedisCallback)}),
+ * a {@link StreamingPipelineExecutor windowed pipeline} discarding replies, and
+ * {@link PartitionedPipelineExecutor partitioned pipelines} on concurrent connections.
+ * <p>
+ * Each benchmark operation stores one batch of {@literal elementCount} elements. Requires a Redis server running
+ * at {@literal localhost:6379}, or at the {@literal redis.host} and {@literal redis.port} System properties.
+ * Throughput is reported in batches per second and {@link Mode#SampleTime} reports batch latency percentiles.
+ * The Set is deleted before each batch, so every batch adds new members. The {@literal chunkSize} parameter
+ * only applies to the windowed and partitioned pipelines, and the {@literal concurrency} parameter only applies
+ * to the partitioned pipelines.
+ * Run with {@literal -prof gc} to report the allocation rate, for example:
+ *
+ * <pre>
+ * <code>
+ * java -cp ... io.vmware.spring.data.redis.connection.RedisPipeliningBenchmarks -prof gc -p driver=LETTUCE
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see io.vmware.spring.data.redis.connection.RedisDriver
+ * @see io.vmware.spring.data.redis.core.PartitionedPipelineExecutor
+ * @see io.vmware.spring.data.redis.core.StreamingPipelineExecutor
+ * @since 0.1.0
+ */
+@Fork(value = 1)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+public class RedisPipeliningBenchmarks {
+
+	public static void main(String[] args) throws IOException {
+		org.openjdk.jmh.Main.main(args);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureSinglePipeline(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		List<String> elements = executionPlan.getElements();
+		RedisTemplate<String, Object> redisTemplate = executionPlan.getRedisTemplate();
+
+		blackhole.consume(redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+
+			byte[] key = executionPlan.getKey();
+
+			for (String element : elements) {
+				connection.setCommands().sAdd(key, executionPlan.serialize(element));
+			}
+
+			return null;
+		}));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureStreamingPipeline(Blackhole blackhole, ExecutionPlan executionPlan,
+			StreamingPlan streamingPlan) {
+
+		byte[] key = executionPlan.getKey();
+
+		blackhole.consume(streamingPlan.getStreamingPipelineExecutor().execute(executionPlan.getElements(),
+			(connection, element) -> connection.setCommands().sAdd(key, executionPlan.serialize(element))));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measurePartitionedPipelines(Blackhole blackhole, ExecutionPlan executionPlan,
+			PartitionedPlan partitionedPlan) {
+
+		String key = ExecutionPlan.KEY;
+
+		blackhole.consume(partitionedPlan.getPartitionedPipelineExecutor().execute(executionPlan.getElements(),
+			(operations, element) -> operations.opsForSet().add(key, element)));
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class ExecutionPlan {
+
+		static final String KEY = "benchmark:pipelining:set";
+
+		@Param({ "10000", "100000" })
+		private int elementCount;
+
+		@Param({ "string", "jdk", "json" })
+		private String serializer;
+
+		@Param({ "JEDIS", "LETTUCE" })
+		private RedisDriver driver;
+
+		private final byte[] key = KEY.getBytes();
+
+		private List<String> elements;
+
+		private RedisConnectionFactory connectionFactory;
+
+		private RedisSerializer<Object> valueSerializer;
+
+		private RedisTemplate<String, Object> redisTemplate;
+
+		@Setup(Level.Trial)
+		public void setup() {
+
+			this.elements = new ArrayList<>(getElementCount());
+
+			for (int count = 0; count < getElementCount(); count++) {
+				this.elements.add(UUID.randomUUID().toString());
+			}
+
+			this.valueSerializer = newValueSerializer(getSerializer());
+			this.connectionFactory = getDriver().connectionFactory();
+			this.redisTemplate = new RedisTemplate<>();
+			this.redisTemplate.setConnectionFactory(this.connectionFactory);
+			this.redisTemplate.setKeySerializer(RedisSerializer.string());
+			this.redisTemplate.setValueSerializer(this.valueSerializer);
+			this.redisTemplate.afterPropertiesSet();
+		}
+
+		@Setup(Level.Invocation)
+		public void deleteSet() {
+			getRedisTemplate().delete(KEY);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			getRedisTemplate().delete(KEY);
+			RedisDriver.destroy(getConnectionFactory());
+		}
+
+		byte[] serialize(Object value) {
+			return getValueSerializer().serialize(value);
+		}
+
+		static RedisSerializer<Object> newValueSerializer(String serializer) {
+
+			return switch (serializer) {
+				case "jdk" -> new JdkSerializationRedisSerializer();
+				case "json" -> new GenericJackson2JsonRedisSerializer();
+				case "string" -> new StringValueRedisSerializer();
+				default -> throw new IllegalArgumentException(String.format("Serializer [%s] is not supported",
+					serializer));
+			};
+		}
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class StreamingPlan {
+
+		@Param({ "1000", "10000" })
+		private int chunkSize;
+
+		private StreamingPipelineExecutor streamingPipelineExecutor;
+
+		@Setup(Level.Trial)
+		public void setup(ExecutionPlan executionPlan) {
+			this.streamingPipelineExecutor = new StreamingPipelineExecutor(executionPlan.getRedisTemplate())
+				.withWindowSize(getChunkSize());
+		}
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class PartitionedPlan {
+
+		@Param({ "1000", "10000" })
+		private int chunkSize;
+
+		@Param({ "1", "4" })
+		private int concurrency;
+
+		private PartitionedPipelineExecutor<String, Object> partitionedPipelineExecutor;
+
+		@Setup(Level.Trial)
+		public void setup(ExecutionPlan executionPlan) {
+			this.partitionedPipelineExecutor = new PartitionedPipelineExecutor<>(executionPlan.getRedisTemplate())
+				.withChunkSize(getChunkSize())
+				.withConcurrency(getConcurrency());
+		}
+	}
+
+	static class StringValueRedisSerializer implements RedisSerializer<Object> {
+
+		@Override
+		public byte[] serialize(Object value) {
+			return value != null ? RedisSerializer.string().serialize(value.toString()) : null;
+		}
+
+		@Override
+		public Object deserialize(byte[] bytes) {
+			return RedisSerializer.string().deserialize(bytes);
+		}
+	}
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import lombok.Getter;
+
+/**
+ * JMH Benchmarks running the same string, hash, list, set, scan and pub/sub workloads through
+ * a {@link StringRedisTemplate} on both the {@literal Jedis} and {@literal Lettuce}
+ * {@link RedisConnectionFactory connection factories}, varying the payload size and the number of
+ * concurrent benchmark {@link Thread Threads}.
+ * <p>
+ * The {@link #main(String[])} method runs the benchmarks once per concurrency level (configured with
+ * the {@literal benchmark.concurrency} System property, default {@literal 1,4,16}) and prints
+ * a {@link DriverComparisonReport} comparing the drivers for every workload, payload size and concurrency level.
+ * Additional JMH command-line options (for example: {@literal -prof gc}) are passed through. Requires
+ * a Redis server running at {@literal localhost:6379}, or at the {@literal redis.host} and {@literal redis.port}
+ * System properties. The Jedis connection pool is sized to the number of benchmark {@link Thread Threads}, and
+ * only the keys written by the benchmarks are deleted afterwards. The pub/sub benchmark reports the number of
+ * messages received by a subscriber compared to the number published.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.redis.core.StringRedisTemplate
+ * @see io.vmware.spring.data.redis.connection.DriverComparisonReport
+ * @see io.vmware.spring.data.redis.connection.RedisDriver
+ * @since 0.1.0
+ */
+@Fork(value = 1)
+@Measurement(iterations = 3, time = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@BenchmarkMode(Mode.Throughput)
+public class RedisTemplateDriverBenchmarks {
+
+	public static final String CONCURRENCY_PROPERTY = "benchmark.concurrency";
+	public static final String DEFAULT_CONCURRENCY = "1,4,16";
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+		List<RunResult> results = new ArrayList<>();
+
+		for (int threads : concurrencyLevels()) {
+
+			Options options = new OptionsBuilder()
+				.parent(commandLineOptions)
+				.include(RedisTemplateDriverBenchmarks.class.getName())
+				.threads(threads)
+				.build();
+
+			results.addAll(new Runner(options).run());
+		}
+
+		DriverComparisonReport.from(results).print(System.out);
+	}
+
+	private static int[] concurrencyLevels() {
+
+		return Arrays.stream(System.getProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY).split(","))
+			.map(String::trim)
+			.mapToInt(Integer::parseInt)
+			.toArray();
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureStringSetAndGet(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		String key = executionPlan.randomKey(ExecutionPlan.STRING_KEY_PREFIX);
+
+		executionPlan.getRedisTemplate().opsForValue().set(key, executionPlan.getPayload());
+		blackhole.consume(executionPlan.getRedisTemplate().opsForValue().get(key));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureHashPutAndGet(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		String field = executionPlan.randomKey("field:");
+
+		executionPlan.getRedisTemplate().opsForHash().put(ExecutionPlan.HASH_KEY, field, executionPlan.getPayload());
+		blackhole.consume(executionPlan.getRedisTemplate().opsForHash().get(ExecutionPlan.HASH_KEY, field));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureListPushAndPop(Blackhole blackhole, ExecutionPlan executionPlan, ThreadPlan threadPlan) {
+
+		executionPlan.getRedisTemplate().opsForList().leftPush(threadPlan.getListKey(), executionPlan.getPayload());
+		blackhole.consume(executionPlan.getRedisTemplate().opsForList().rightPop(threadPlan.getListKey()));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureSetAddAndIsMember(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		String member = executionPlan.randomKey(executionPlan.getPayload());
+
+		executionPlan.getRedisTemplate().opsForSet().add(ExecutionPlan.SET_KEY, member);
+		blackhole.consume(executionPlan.getRedisTemplate().opsForSet().isMember(ExecutionPlan.SET_KEY, member));
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureScan(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		ScanOptions scanOptions = ScanOptions.scanOptions().match(ExecutionPlan.SCAN_KEY_PREFIX + "*").count(1000).build();
+
+		try (Cursor<String> cursor = executionPlan.getRedisTemplate().scan(scanOptions)) {
+			while (cursor.hasNext()) {
+				blackhole.consume(cursor.next());
+			}
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measurePublish(Blackhole blackhole, ExecutionPlan executionPlan) {
+		executionPlan.getRedisTemplate().convertAndSend(ExecutionPlan.CHANNEL, executionPlan.getPayload());
+		executionPlan.getPublishedMessages().increment();
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class ExecutionPlan {
+
+		static final int KEY_SPACE_SIZE = 10_000;
+		static final int SCAN_KEY_COUNT = 10_000;
+
+		static final long MESSAGE_DELIVERY_TIMEOUT_MILLIS = 5_000L;
+
+		static final String CHANNEL = "benchmark:channel";
+		static final String HASH_KEY = "benchmark:hash";
+		static final String SCAN_KEY_PREFIX = "benchmark:scan:";
+		static final String SET_KEY = "benchmark:set";
+		static final String STRING_KEY_PREFIX = "benchmark:string:";
+
+		@Param({ "64", "1024", "16384" })
+		private int payloadSize;
+
+		@Param({ "JEDIS", "LETTUCE" })
+		private RedisDriver driver;
+
+		private final LongAdder publishedMessages = new LongAdder();
+		private final LongAdder receivedMessages = new LongAdder();
+
+		private RedisConnectionFactory connectionFactory;
+
+		private RedisMessageListenerContainer listenerContainer;
+
+		private StringRedisTemplate redisTemplate;
+
+		private String payload;
+
+		@Setup(Level.Trial)
+		public void setup(BenchmarkParams benchmarkParams) {
+
+			// One pooled (Jedis) connection per benchmark Thread, plus one for the listener container's subscription
+			int poolSize = benchmarkParams.getThreads() + 1;
+
+			this.payload = "x".repeat(getPayloadSize());
+			this.connectionFactory = getDriver().connectionFactory(poolSize);
+			this.redisTemplate = new StringRedisTemplate(this.connectionFactory);
+
+			this.redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+
+				for (int count = 0; count < SCAN_KEY_COUNT; count++) {
+					connection.stringCommands().set((SCAN_KEY_PREFIX + count).getBytes(), new byte[0]);
+				}
+
+				return null;
+			});
+
+			this.listenerContainer = new RedisMessageListenerContainer();
+			this.listenerContainer.setConnectionFactory(this.connectionFactory);
+			this.listenerContainer.addMessageListener((message, pattern) -> this.receivedMessages.increment(),
+				new ChannelTopic(CHANNEL));
+			this.listenerContainer.afterPropertiesSet();
+			this.listenerContainer.start();
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws Exception {
+
+			reportReceivedMessages();
+
+			this.listenerContainer.destroy();
+
+			deleteKeys();
+
+			RedisDriver.destroy(getConnectionFactory());
+		}
+
+		/**
+		 * Deletes the keys written by the benchmarks; lists are emptied by each operation, and so removed by Redis.
+		 */
+		private void deleteKeys() {
+
+			this.redisTemplate.executePipelined((RedisCallback<?>) connection -> {
+
+				connection.keyCommands().del(HASH_KEY.getBytes(), SET_KEY.getBytes());
+
+				for (int count = 0; count < KEY_SPACE_SIZE; count++) {
+					connection.keyCommands().del((STRING_KEY_PREFIX + count).getBytes());
+				}
+
+				for (int count = 0; count < SCAN_KEY_COUNT; count++) {
+					connection.keyCommands().del((SCAN_KEY_PREFIX + count).getBytes());
+				}
+
+				return null;
+			});
+		}
+
+		private void reportReceivedMessages() throws InterruptedException {
+
+			long publishedMessages = getPublishedMessages().sum();
+
+			if (publishedMessages > 0) {
+
+				long deadline = System.currentTimeMillis() + MESSAGE_DELIVERY_TIMEOUT_MILLIS;
+
+				while (getReceivedMessages().sum() < publishedMessages && System.currentTimeMillis() < deadline) {
+					Thread.sleep(10L);
+				}
+
+				System.out.printf("%nMESSAGES: published [%d], received [%d]%n", publishedMessages,
+					getReceivedMessages().sum());
+			}
+		}
+
+		String randomKey(String prefix) {
+			return prefix.concat(String.valueOf(ThreadLocalRandom.current().nextInt(KEY_SPACE_SIZE)));
+		}
+	}
+
+	@Getter
+	@State(Scope.Thread)
+	@SuppressWarnings("unused")
+	public static class ThreadPlan {
+
+		private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+		private final String listKey = "benchmark:list:" + THREAD_ID.incrementAndGet();
+
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.connection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable Redis Cluster topology lookup table mapping each of the 16384 hash slots to the index of the
+ * master {@link RedisClusterNode} serving the slot in a {@literal short[16384]}.
+ * <p>
+ * Routing a key costs one {@link ClusterKeySlot CRC16} computation and one array access, independent of
+ * the number of nodes in the cluster, where Spring Data Redis's {@link ClusterTopology} iterates the nodes
+ * and tests each node's {@link RedisClusterNode.SlotRange}. The table is rebuilt (not mutated) when
+ * the topology changes.
+ *
+ * @author John Blum
+ * @see io.vmware.spring.data.redis.connection.ClusterKeySlot
+ * @see org.springframework.data.redis.connection.ClusterTopology
+ * @see org.springframework.data.redis.connection.RedisClusterNode
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public final class SlotRoutingTable {
+
+	public static final short UNASSIGNED = -1;
+
+	/**
+	 * Factory method used to construct a new {@link SlotRoutingTable} from the master nodes of the given
+	 * {@link ClusterTopology}.
+	 *
+	 * @param clusterTopology {@link ClusterTopology} to route.
+	 * @return a new {@link SlotRoutingTable}.
+	 */
+	public static @NonNull SlotRoutingTable from(@NonNull ClusterTopology clusterTopology) {
+		Assert.notNull(clusterTopology, "ClusterTopology is required");
+		return from(clusterTopology.getMasterNodes());
+	}
+
+	/**
+	 * Factory method used to construct a new {@link SlotRoutingTable} from the given (master)
+	 * {@link RedisClusterNode nodes} and the slots they serve.
+	 *
+	 * @param nodes {@link Collection} of {@link RedisClusterNode nodes}.
+	 * @return a new {@link SlotRoutingTable}.
+	 * @throws IllegalArgumentException if more than one node serves the same slot,
+	 * or there are more than {@link Short#MAX_VALUE} nodes.
+	 */
+	public static @NonNull SlotRoutingTable from(@NonNull Collection<RedisClusterNode> nodes) {
+
+		Assert.notNull(nodes, "RedisClusterNodes are required");
+		Assert.isTrue(nodes.size() <= Short.MAX_VALUE, () -> String.format("Number of nodes [%d] must not exceed %d",
+			nodes.size(), Short.MAX_VALUE));
+
+		short[] nodeIndexes = new short[ClusterKeySlot.SLOT_COUNT];
+
+		Arrays.fill(nodeIndexes, UNASSIGNED);
+
+		List<RedisClusterNode> nodeList = new ArrayList<>(nodes);
+
+		for (short nodeIndex = 0; nodeIndex < nodeList.size(); nodeIndex++) {
+
+			RedisClusterNode node = nodeList.get(nodeIndex);
+
+			for (int slot : node.getSlotRange().getSlotsArray()) {
+
+				int slotToAssign = slot;
+				short existingNodeIndex = nodeIndexes[slot];
+
+				Assert.isTrue(existingNodeIndex == UNASSIGNED, () -> String.format("Slot [%d] is served by both"
+					+ " node [%s] and node [%s]", slotToAssign, nodeList.get(existingNodeIndex), node));
+
+				nodeIndexes[slot] = nodeIndex;
+			}
+		}
+
+		return new SlotRoutingTable(nodeList.toArray(new RedisClusterNode[0]), nodeIndexes);
+	}
+
+	private final short[] nodeIndexes;
+
+	private final RedisClusterNode[] nodes;
+
+	private SlotRoutingTable(RedisClusterNode[] nodes, short[] nodeIndexes) {
+		this.nodes = nodes;
+		this.nodeIndexes = nodeIndexes;
+	}
+
+	public int getNodeCount() {
+		return this.nodes.length;
+	}
+
+	public @NonNull RedisClusterNode getNode(int nodeIndex) {
+		return this.nodes[nodeIndex];
+	}
+
+	/**
+	 * Returns the index of the node serving the given slot.
+	 *
+	 * @param slot hash slot.
+	 * @return the index of the node serving the slot, or {@link #UNASSIGNED} if no node serves the slot.
+	 */
+	public int nodeIndexForSlot(int slot) {
+		return this.nodeIndexes[slot];
+	}
+
+	public int nodeIndexForKey(@NonNull byte[] key) {
+		return this.nodeIndexes[ClusterKeySlot.slot(key)];
+	}
+
+	public int nodeIndexForKey(@NonNull CharSequence key) {
+		return this.nodeIndexes[ClusterKeySlot.slot(key)];
+	}
+
+	public @Nullable RedisClusterNode nodeForSlot(int slot) {
+		int nodeIndex = nodeIndexForSlot(slot);
+		return nodeIndex != UNASSIGNED ? this.nodes[nodeIndex] : null;
+	}
+
+	public @Nullable RedisClusterNode nodeForKey(@NonNull byte[] key) {
+		return nodeForSlot(ClusterKeySlot.slot(key));
+	}
+
+	public @Nullable RedisClusterNode nodeForKey(@NonNull CharSequence key) {
+		return nodeForSlot(ClusterKeySlot.slot(key));
+	}
+
+	/**
+	 * Determines whether every slot is served by a node.
+	 *
+	 * @return a boolean value indicating whether every slot is served by a node.
+	 */
+	public boolean isComplete() {
+
+		for (short nodeIndex : this.nodeIndexes) {
+			if (nodeIndex == UNASSIGNED) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Hi/lo allocator of unique {@link Long#TYPE long} ids, reserving blocks of ids from a counter in Redis with a single
+ * {@literal INCRBY} per block and issuing the ids of the block locally.
+ * <p>
+ * Every {@link Thread} has its own block, so issuing an id does not contend with other {@link Thread Threads}
+ * and only calls Redis when the block of the calling {@link Thread} is used up. Since all allocators sharing
+ * the same counter key reserve disjoint blocks, ids are unique across allocators, {@link Thread Threads} and
+ * application instances. Ids are positive and increase within a {@link Thread}, but they are not contiguous:
+ * ids of a partially used block are lost when the {@link Thread} (or the application) ends.
+ * <p>
+ * The size of the block of each {@link Thread} adapts to its consumption rate: the block size is doubled (up to
+ * the {@link #withMaximumBlockSize(long) maximum block size}) when a block lasted less than half of the
+ * {@link #withTargetRefillInterval(Duration) target refill interval}, and halved (down to the
+ * {@link #withMinimumBlockSize(long) minimum block size}) when it lasted more than 4 times the interval. A busy
+ * {@link Thread} therefore calls Redis about once per refill interval, while an idle {@link Thread} loses few ids.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see <a href="https://redis.io/commands/incrby/">INCRBY</a>
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class BlockIdAllocator {
+
+	protected static final long DEFAULT_INITIAL_BLOCK_SIZE = 100L;
+	protected static final long DEFAULT_MAXIMUM_BLOCK_SIZE = 1L << 20;
+	protected static final long DEFAULT_MINIMUM_BLOCK_SIZE = 10L;
+
+	protected static final Duration DEFAULT_TARGET_REFILL_INTERVAL = Duration.ofMillis(100);
+
+	private final AtomicLong largestBlockSize = new AtomicLong();
+
+	private final byte[] counterKey;
+
+	private long initialBlockSize = DEFAULT_INITIAL_BLOCK_SIZE;
+	private long maximumBlockSize = DEFAULT_MAXIMUM_BLOCK_SIZE;
+	private long minimumBlockSize = DEFAULT_MINIMUM_BLOCK_SIZE;
+	private long targetRefillNanos = DEFAULT_TARGET_REFILL_INTERVAL.toNanos();
+
+	private final LongAdder blockCount = new LongAdder();
+	private final LongAdder reservedIdCount = new LongAdder();
+
+	private final RedisTemplate<?, ?> redisTemplate;
+
+	private final String counterKeyName;
+
+	@Getter(AccessLevel.NONE)
+	private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+	/**
+	 * Constructs a new {@link BlockIdAllocator}.
+	 *
+	 * @param redisTemplate {@link RedisTemplate} used to reserve blocks.
+	 * @param counterKey {@link String} containing the (UTF-8) key of the counter in Redis; all allocators issuing
+	 * unique ids must use the same key.
+	 */
+	public BlockIdAllocator(@NonNull RedisTemplate<?, ?> redisTemplate, @NonNull String counterKey) {
+
+		Assert.hasText(counterKey, "Counter key is required");
+
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+		this.counterKeyName = counterKey;
+		this.counterKey = counterKey.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public @NonNull String getCounterKey() {
+		return this.counterKeyName;
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of this allocator.
+	 *
+	 * @return a snapshot of the {@link Statistics} of this allocator.
+	 */
+	public @NonNull Statistics getStatistics() {
+		return new Statistics(this.blockCount.sum(), this.reservedIdCount.sum(), this.largestBlockSize.get());
+	}
+
+	/**
+	 * Returns the next id of the block of the calling {@link Thread}, reserving a new block if the block is used up.
+	 *
+	 * @return a unique, positive id.
+	 * @throws org.springframework.dao.DataAccessException if a new block cannot be reserved.
+	 */
+	public long nextId() {
+
+		Block block = this.blocks.get();
+
+		if (block.next > block.last) {
+			refill(block);
+		}
+
+		return block.next++;
+	}
+
+	private void refill(Block block) {
+
+		long nowNanos = System.nanoTime();
+
+		if (block.reservedNanos != 0L) {
+
+			long elapsedNanos = nowNanos - block.reservedNanos;
+
+			if (elapsedNanos < this.targetRefillNanos / 2) {
+				block.size = Math.min(block.size * 2, this.maximumBlockSize);
+			}
+			else if (elapsedNanos > this.targetRefillNanos * 4) {
+				block.size = Math.max(block.size / 2, this.minimumBlockSize);
+			}
+		}
+		else {
+			block.size = Math.min(Math.max(this.initialBlockSize, this.minimumBlockSize), this.maximumBlockSize);
+		}
+
+		long size = block.size;
+
+		Long last = getRedisTemplate().execute((RedisCallback<Long>) connection ->
+			connection.stringCommands().incrBy(this.counterKey, size));
+
+		if (last == null) {
+			throw new InvalidDataAccessApiUsageException(String.format("INCRBY of counter [%s] returned no reply;"
+				+ " BlockIdAllocator cannot be used in a pipeline or transaction", getCounterKey()));
+		}
+
+		block.next = last - size + 1;
+		block.last = last;
+		block.reservedNanos = nowNanos;
+
+		this.blockCount.increment();
+		this.reservedIdCount.add(size);
+		this.largestBlockSize.accumulateAndGet(size, Math::max);
+	}
+
+	public @NonNull BlockIdAllocator withInitialBlockSize(long initialBlockSize) {
+		Assert.isTrue(initialBlockSize > 0, () -> String.format("Initial block size [%d] must be greater than 0",
+			initialBlockSize));
+		this.initialBlockSize = initialBlockSize;
+		return this;
+	}
+
+	public @NonNull BlockIdAllocator withMaximumBlockSize(long maximumBlockSize) {
+		Assert.isTrue(maximumBlockSize > 0, () -> String.format("Maximum block size [%d] must be greater than 0",
+			maximumBlockSize));
+		this.maximumBlockSize = maximumBlockSize;
+		return this;
+	}
+
+	public @NonNull BlockIdAllocator withMinimumBlockSize(long minimumBlockSize) {
+		Assert.isTrue(minimumBlockSize > 0, () -> String.format("Minimum block size [%d] must be greater than 0",
+			minimumBlockSize));
+		this.minimumBlockSize = minimumBlockSize;
+		return this;
+	}
+
+	/**
+	 * Configures how long a block should last at the current consumption rate of a {@link Thread}, which determines
+	 * how often each busy {@link Thread} calls Redis.
+	 *
+	 * @param targetRefillInterval {@link Duration} of the target refill interval; must be at least 1 ms.
+	 * @return this {@link BlockIdAllocator}.
+	 */
+	public @NonNull BlockIdAllocator withTargetRefillInterval(@NonNull Duration targetRefillInterval) {
+
+		Assert.isTrue(targetRefillInterval != null && targetRefillInterval.toMillis() >= 1,
+			() -> String.format("Target refill interval [%s] must be at least 1 ms", targetRefillInterval));
+
+		this.targetRefillNanos = targetRefillInterval.toNanos();
+
+		return this;
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a {@link BlockIdAllocator}.
+	 *
+	 * @param blocks number of blocks reserved, which is the number of calls to Redis.
+	 * @param reservedIds total number of ids in the reserved blocks (issued or not).
+	 * @param largestBlockSize size of the largest block reserved.
+	 */
+	public record Statistics(long blocks, long reservedIds, long largestBlockSize) { }
+
+	/**
+	 * Block of ids {@literal [next, last]} owned by a single {@link Thread}.
+	 */
+	private static class Block {
+
+		private long last = 0L;
+		private long next = 1L;
+		private long reservedNanos = 0L;
+		private long size;
+
+	}
+}
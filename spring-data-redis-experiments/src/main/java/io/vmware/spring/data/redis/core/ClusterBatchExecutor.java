@@ -0,0 +1,521 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.vmware.spring.data.redis.connection.ClusterKeySlot;
+import io.vmware.spring.data.redis.connection.SlotRoutingTable;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Executes multi-key commands ({@literal MGET}, {@literal MSET}, {@literal DEL}) for large batches of keys
+ * in a Redis Cluster using a {@link RedisTemplate} configured with the {@literal Lettuce} driver.
+ * <p>
+ * Spring Data Redis rejects keys in different hash slots with {@literal CROSSSLOT}, or falls back to one command
+ * per key. Instead, this executor groups the keys by {@link ClusterKeySlot hash slot} and then by the master node
+ * serving each slot, using a {@link SlotRoutingTable}. All single-slot multi-key commands for a node are sent on
+ * that node's connection without waiting for replies, and all nodes are written to concurrently. A batch therefore
+ * costs about one round trip per node. Results are put back in the order of the keys.
+ * <p>
+ * During resharding, a node may reply with a {@literal MOVED} or {@literal ASK} redirection. The affected
+ * single-slot commands are retried through the cluster-routed Lettuce connection, which follows redirections
+ * ({@literal ASKING} included). After a {@literal MOVED}, the {@link SlotRoutingTable} is rebuilt from the current
+ * cluster topology. While a slot is migrating, a multi-key command whose keys are split between the source and
+ * the target node is rejected with {@literal TRYAGAIN}; the command is then retried, through the cluster-routed
+ * connection, up to the {@link #withTryAgainAttempts(int) configured number of times}, backing off exponentially
+ * from the {@link #withTryAgainBackoff(Duration) initial backoff} between attempts.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the Redis key.
+ * @param <V> {@link Class type} of the Redis value.
+ * @see io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands
+ * @see io.vmware.spring.data.redis.connection.ClusterKeySlot
+ * @see io.vmware.spring.data.redis.connection.SlotRoutingTable
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class ClusterBatchExecutor<K, V> {
+
+	protected static final int DEFAULT_TRY_AGAIN_ATTEMPTS = 5;
+
+	protected static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+	protected static final Duration DEFAULT_TRY_AGAIN_BACKOFF = Duration.ofMillis(10);
+
+	private static final String ASK_ERROR_PREFIX = "ASK ";
+	private static final String MOVED_ERROR_PREFIX = "MOVED ";
+	private static final String TRY_AGAIN_ERROR_PREFIX = "TRYAGAIN ";
+
+	private final AtomicLong redirections = new AtomicLong();
+	private final AtomicLong tryAgains = new AtomicLong();
+
+	private Duration timeout = DEFAULT_TIMEOUT;
+	private Duration tryAgainBackoff = DEFAULT_TRY_AGAIN_BACKOFF;
+
+	private int tryAgainAttempts = DEFAULT_TRY_AGAIN_ATTEMPTS;
+
+	private final RedisTemplate<K, V> redisTemplate;
+
+	private volatile SlotRoutingTable routingTable;
+
+	public ClusterBatchExecutor(@NonNull RedisTemplate<K, V> redisTemplate) {
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+	}
+
+	/**
+	 * Returns the number of {@literal MOVED} and {@literal ASK} redirections handled so far.
+	 *
+	 * @return the number of redirections handled.
+	 */
+	public long getRedirectionCount() {
+		return this.redirections.get();
+	}
+
+	/**
+	 * Returns the number of commands retried after a {@literal TRYAGAIN} error so far.
+	 *
+	 * @return the number of {@literal TRYAGAIN} retries.
+	 */
+	public long getTryAgainCount() {
+		return this.tryAgains.get();
+	}
+
+	/**
+	 * Gets the values of all given keys.
+	 *
+	 * @param keys {@link Collection} of keys.
+	 * @return {@link List} of values in the order of the keys; the value of a missing key is {@literal null}.
+	 */
+	public @NonNull List<V> multiGet(@NonNull Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys are required");
+
+		byte[][] serializedKeys = serializeKeys(keys);
+		Object[] values = new Object[serializedKeys.length];
+
+		execute(serializedKeys, (commands, slotBatch) -> commands.mget(slotBatch.select(serializedKeys)),
+			(slotBatch, keyValues) -> {
+				for (int index = 0; index < slotBatch.size; index++) {
+					KeyValue<byte[], byte[]> keyValue = keyValues.get(index);
+					values[slotBatch.keyIndexes[index]] =
+						keyValue.hasValue() ? deserializeValue(keyValue.getValue()) : null;
+				}
+			});
+
+		return Arrays.asList(toValues(values));
+	}
+
+	/**
+	 * Sets all given key/value pairs.
+	 *
+	 * @param entries {@link Map} of keys and values to set.
+	 */
+	public void multiSet(@NonNull Map<K, V> entries) {
+
+		Assert.notNull(entries, "Entries are required");
+
+		List<K> keys = new ArrayList<>(entries.keySet());
+
+		byte[][] serializedKeys = serializeKeys(keys);
+		byte[][] serializedValues = new byte[serializedKeys.length][];
+
+		for (int index = 0; index < serializedValues.length; index++) {
+			serializedValues[index] = serializeValue(entries.get(keys.get(index)));
+		}
+
+		execute(serializedKeys, (commands, slotBatch) -> {
+
+			Map<byte[], byte[]> slotEntries = new LinkedHashMap<>(slotBatch.size * 2);
+
+			for (int index = 0; index < slotBatch.size; index++) {
+				int keyIndex = slotBatch.keyIndexes[index];
+				slotEntries.put(serializedKeys[keyIndex], serializedValues[keyIndex]);
+			}
+
+			return commands.mset(slotEntries);
+
+		}, (slotBatch, reply) -> { });
+	}
+
+	/**
+	 * Deletes all given keys.
+	 *
+	 * @param keys {@link Collection} of keys to delete.
+	 * @return the number of keys deleted.
+	 */
+	public long delete(@NonNull Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys are required");
+
+		AtomicLong deleted = new AtomicLong();
+
+		byte[][] serializedKeys = serializeKeys(keys);
+
+		execute(serializedKeys, (commands, slotBatch) -> commands.del(slotBatch.select(serializedKeys)),
+			(slotBatch, count) -> deleted.addAndGet(count));
+
+		return deleted.get();
+	}
+
+	private <R> void execute(byte[][] keys, SlotCommand<R> command, BiConsumer<SlotBatch, R> resultHandler) {
+
+		if (keys.length == 0) {
+			return;
+		}
+
+		RedisClusterConnection clusterConnection = getConnectionFactory().getClusterConnection();
+
+		try {
+
+			RedisAdvancedClusterAsyncCommands<byte[], byte[]> routedCommands = nativeCommands(clusterConnection);
+
+			SlotRoutingTable routingTable = resolveRoutingTable(clusterConnection);
+
+			Map<Integer, List<SlotBatch>> slotBatchesByNode = groupByNode(routingTable, groupBySlot(keys));
+
+			List<PendingCommand<R>> pendingCommands = new ArrayList<>();
+
+			slotBatchesByNode.forEach((nodeIndex, slotBatches) -> {
+
+				RedisClusterAsyncCommands<byte[], byte[]> nodeCommands =
+					nodeCommands(routedCommands, routingTable.getNode(nodeIndex));
+
+				for (SlotBatch slotBatch : slotBatches) {
+					pendingCommands.add(new PendingCommand<>(slotBatch,
+						command.execute(nodeCommands, slotBatch)));
+				}
+			});
+
+			boolean moved = false;
+
+			for (PendingCommand<R> pendingCommand : pendingCommands) {
+
+				SlotBatch slotBatch = pendingCommand.slotBatch();
+				RedisFuture<R> future = pendingCommand.future();
+
+				boolean redirected = false;
+				int tryAgainAttempt = 0;
+
+				while (true) {
+					try {
+						resultHandler.accept(slotBatch, await(future));
+						break;
+					}
+					catch (RedisCommandExecutionException cause) {
+
+						if (isRedirection(cause) && !redirected) {
+							this.redirections.incrementAndGet();
+							moved |= isMoved(cause);
+							redirected = true;
+						}
+						else if (isTryAgain(cause) && tryAgainAttempt < getTryAgainAttempts()) {
+							this.tryAgains.incrementAndGet();
+							backoff(tryAgainAttempt++);
+						}
+						else {
+							throw new RedisSystemException(cause.getMessage(), cause);
+						}
+
+						future = command.execute(routedCommands, slotBatch);
+					}
+				}
+			}
+
+			if (moved) {
+				this.routingTable = null;
+			}
+		}
+		finally {
+			clusterConnection.close();
+		}
+	}
+
+	private <R> R await(RedisFuture<R> future) {
+
+		try {
+			return future.get(getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch (ExecutionException cause) {
+
+			if (cause.getCause() instanceof RedisCommandExecutionException commandException) {
+				throw commandException;
+			}
+
+			throw new RedisSystemException("Failed to execute cluster batch command", cause.getCause());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new RedisSystemException("Interrupted while executing cluster batch command", cause);
+		}
+		catch (TimeoutException cause) {
+			throw new RedisSystemException(String.format("Cluster batch command timed out after [%d] ms",
+				getTimeout().toMillis()), cause);
+		}
+	}
+
+	/**
+	 * Waits before the given (zero-based) {@literal TRYAGAIN} retry, doubling the backoff with each retry.
+	 */
+	private void backoff(int tryAgainAttempt) {
+
+		try {
+			Thread.sleep(getTryAgainBackoff().toMillis() << Math.min(tryAgainAttempt, 16));
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new RedisSystemException("Interrupted while backing off after TRYAGAIN", cause);
+		}
+	}
+
+	private RedisConnectionFactory getConnectionFactory() {
+
+		RedisConnectionFactory connectionFactory = getRedisTemplate().getConnectionFactory();
+
+		Assert.state(connectionFactory != null, "RedisConnectionFactory was not configured");
+
+		return connectionFactory;
+	}
+
+	@SuppressWarnings("unchecked")
+	private RedisAdvancedClusterAsyncCommands<byte[], byte[]> nativeCommands(RedisClusterConnection clusterConnection) {
+
+		Object nativeConnection = clusterConnection.getNativeConnection();
+
+		if (nativeConnection instanceof RedisAdvancedClusterAsyncCommands<?, ?> clusterAsyncCommands) {
+			return (RedisAdvancedClusterAsyncCommands<byte[], byte[]>) clusterAsyncCommands;
+		}
+
+		throw new InvalidDataAccessApiUsageException(String.format("ClusterBatchExecutor requires a Lettuce cluster"
+			+ " connection; but was [%s]", nativeConnection != null ? nativeConnection.getClass().getName() : null));
+	}
+
+	private RedisClusterAsyncCommands<byte[], byte[]> nodeCommands(
+			RedisAdvancedClusterAsyncCommands<byte[], byte[]> routedCommands, RedisClusterNode node) {
+
+		try {
+			return routedCommands.getConnection(node.getId());
+		}
+		catch (IllegalArgumentException ignore) {
+			// Lettuce does not know the node (yet); let Lettuce route the commands
+			return routedCommands;
+		}
+	}
+
+	private SlotRoutingTable resolveRoutingTable(RedisClusterConnection clusterConnection) {
+
+		SlotRoutingTable routingTable = this.routingTable;
+
+		if (routingTable == null) {
+			routingTable = SlotRoutingTable.from(new ClusterTopology(toSet(clusterConnection.clusterGetNodes())));
+			this.routingTable = routingTable;
+		}
+
+		return routingTable;
+	}
+
+	private static Set<RedisClusterNode> toSet(Iterable<RedisClusterNode> nodes) {
+
+		Set<RedisClusterNode> nodeSet = new LinkedHashSet<>();
+
+		nodes.forEach(nodeSet::add);
+
+		return nodeSet;
+	}
+
+	private Map<Integer, SlotBatch> groupBySlot(byte[][] keys) {
+
+		Map<Integer, SlotBatch> slotBatches = new LinkedHashMap<>();
+
+		for (int index = 0; index < keys.length; index++) {
+			slotBatches.computeIfAbsent(ClusterKeySlot.slot(keys[index]), SlotBatch::new).add(index);
+		}
+
+		return slotBatches;
+	}
+
+	private Map<Integer, List<SlotBatch>> groupByNode(SlotRoutingTable routingTable,
+			Map<Integer, SlotBatch> slotBatches) {
+
+		Map<Integer, List<SlotBatch>> slotBatchesByNode = new LinkedHashMap<>();
+
+		for (SlotBatch slotBatch : slotBatches.values()) {
+
+			int nodeIndex = routingTable.nodeIndexForSlot(slotBatch.slot);
+
+			if (nodeIndex == SlotRoutingTable.UNASSIGNED) {
+				this.routingTable = null;
+				throw new RedisSystemException(String.format("No node serves slot [%d]", slotBatch.slot), null);
+			}
+
+			slotBatchesByNode.computeIfAbsent(nodeIndex, index -> new ArrayList<>()).add(slotBatch);
+		}
+
+		return slotBatchesByNode;
+	}
+
+	private boolean isMoved(RedisCommandExecutionException cause) {
+		return String.valueOf(cause.getMessage()).startsWith(MOVED_ERROR_PREFIX);
+	}
+
+	private boolean isRedirection(RedisCommandExecutionException cause) {
+		String message = String.valueOf(cause.getMessage());
+		return message.startsWith(MOVED_ERROR_PREFIX) || message.startsWith(ASK_ERROR_PREFIX);
+	}
+
+	private boolean isTryAgain(RedisCommandExecutionException cause) {
+		return String.valueOf(cause.getMessage()).startsWith(TRY_AGAIN_ERROR_PREFIX);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[][] serializeKeys(Collection<K> keys) {
+
+		RedisSerializer<K> keySerializer = (RedisSerializer<K>) getRedisTemplate().getKeySerializer();
+
+		byte[][] serializedKeys = new byte[keys.size()][];
+
+		int index = 0;
+
+		for (K key : keys) {
+			serializedKeys[index++] = keySerializer.serialize(key);
+		}
+
+		return serializedKeys;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serializeValue(V value) {
+		return ((RedisSerializer<V>) getRedisTemplate().getValueSerializer()).serialize(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private V deserializeValue(byte[] value) {
+		return ((RedisSerializer<V>) getRedisTemplate().getValueSerializer()).deserialize(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private V[] toValues(Object[] values) {
+		return (V[]) values;
+	}
+
+	public @NonNull ClusterBatchExecutor<K, V> withTimeout(@NonNull Duration timeout) {
+		Assert.isTrue(timeout != null && !timeout.isNegative() && !timeout.isZero(),
+			() -> String.format("Timeout [%s] must be greater than 0", timeout));
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of times a command rejected with {@literal TRYAGAIN} is retried.
+	 *
+	 * @param tryAgainAttempts maximum number of retries; must not be negative.
+	 * @return this {@link ClusterBatchExecutor}.
+	 */
+	public @NonNull ClusterBatchExecutor<K, V> withTryAgainAttempts(int tryAgainAttempts) {
+		Assert.isTrue(tryAgainAttempts >= 0, () -> String.format("Try again attempts [%d] must not be negative",
+			tryAgainAttempts));
+		this.tryAgainAttempts = tryAgainAttempts;
+		return this;
+	}
+
+	/**
+	 * Configures the backoff before the first retry of a command rejected with {@literal TRYAGAIN}, which doubles
+	 * with each further retry.
+	 *
+	 * @param tryAgainBackoff {@link Duration} of the initial backoff; must not be negative.
+	 * @return this {@link ClusterBatchExecutor}.
+	 */
+	public @NonNull ClusterBatchExecutor<K, V> withTryAgainBackoff(@NonNull Duration tryAgainBackoff) {
+		Assert.isTrue(tryAgainBackoff != null && !tryAgainBackoff.isNegative(),
+			() -> String.format("Try again backoff [%s] must not be negative", tryAgainBackoff));
+		this.tryAgainBackoff = tryAgainBackoff;
+		return this;
+	}
+
+	@FunctionalInterface
+	private interface SlotCommand<R> {
+
+		RedisFuture<R> execute(RedisClusterAsyncCommands<byte[], byte[]> commands, SlotBatch slotBatch);
+
+	}
+
+	private record PendingCommand<R>(SlotBatch slotBatch, RedisFuture<R> future) { }
+
+	private static class SlotBatch {
+
+		private final int slot;
+
+		private int size;
+
+		private int[] keyIndexes = new int[4];
+
+		private SlotBatch(int slot) {
+			this.slot = slot;
+		}
+
+		private void add(int keyIndex) {
+
+			if (this.size == this.keyIndexes.length) {
+				this.keyIndexes = Arrays.copyOf(this.keyIndexes, this.size * 2);
+			}
+
+			this.keyIndexes[this.size++] = keyIndex;
+		}
+
+		private byte[][] select(byte[][] keys) {
+
+			byte[][] slotKeys = new byte[this.size][];
+
+			for (int index = 0; index < this.size; index++) {
+				slotKeys[index] = keys[this.keyIndexes[index]];
+			}
+
+			return slotKeys;
+		}
+	}
+}
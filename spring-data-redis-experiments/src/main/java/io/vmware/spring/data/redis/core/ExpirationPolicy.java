@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Interface defining the policy determining the time-to-live (TTL) of each key written to Redis.
+ * <p>
+ * Keys written together with the same {@link #fixed(Duration) fixed} TTL also expire together, causing a spike of
+ * expirations on the Redis server and a burst of cache misses in clients. A {@link #jittered(Duration, double)
+ * jittered} TTL spreads the expiration of keys written together over an interval around the TTL.
+ *
+ * @author John Blum
+ * @see java.time.Duration
+ * @see org.springframework.data.redis.core.RedisOperations
+ * @see io.vmware.spring.data.redis.core.TimeBucketedExpiration
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface ExpirationPolicy {
+
+	/**
+	 * Keys do not expire.
+	 *
+	 * @return an {@link ExpirationPolicy} writing persistent keys.
+	 */
+	static @NonNull ExpirationPolicy none() {
+		return () -> Duration.ZERO;
+	}
+
+	/**
+	 * Every key expires after the given TTL; {@link Duration#ZERO} writes persistent keys.
+	 *
+	 * @param timeToLive {@link Duration} of the TTL; must not be negative.
+	 * @return an {@link ExpirationPolicy} with a fixed TTL.
+	 */
+	static @NonNull ExpirationPolicy fixed(@NonNull Duration timeToLive) {
+		assertTimeToLive(timeToLive);
+		return () -> timeToLive;
+	}
+
+	/**
+	 * The TTL of each key is chosen uniformly between {@literal timeToLive * (1 - jitter)} and
+	 * {@literal timeToLive * (1 + jitter)} (and is at least 1 ms), so the average TTL is the given TTL.
+	 *
+	 * @param timeToLive {@link Duration} of the average TTL; must be greater than {@literal 0}.
+	 * @param jitter fraction of the TTL by which the TTL of each key varies, between {@literal 0} and {@literal 1}.
+	 * @return an {@link ExpirationPolicy} with a jittered TTL.
+	 */
+	static @NonNull ExpirationPolicy jittered(@NonNull Duration timeToLive, double jitter) {
+
+		assertTimeToLive(timeToLive);
+		Assert.isTrue(!timeToLive.isZero(), "Time-to-live of a jittered expiration policy must not be 0");
+		Assert.isTrue(jitter >= 0.0d && jitter <= 1.0d, () -> String.format("Jitter [%s] must be between 0 and 1",
+			jitter));
+
+		long timeToLiveMillis = timeToLive.toMillis();
+		long jitterMillis = Math.round(timeToLiveMillis * jitter);
+
+		long minimumMillis = timeToLiveMillis - jitterMillis;
+		long maximumMillis = timeToLiveMillis + jitterMillis;
+
+		return jitterMillis == 0 ? () -> timeToLive : () ->
+			Duration.ofMillis(Math.max(1L, ThreadLocalRandom.current().nextLong(minimumMillis, maximumMillis + 1)));
+	}
+
+	private static void assertTimeToLive(Duration timeToLive) {
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative(),
+			() -> String.format("Time-to-live [%s] must not be negative", timeToLive));
+	}
+
+	/**
+	 * Returns the TTL of the next key written; {@link Duration#ZERO} if the key does not expire.
+	 *
+	 * @return the {@link Duration} of the TTL of the next key.
+	 */
+	@NonNull Duration nextTimeToLive();
+
+	/**
+	 * Sets the value of the given key with the {@link #nextTimeToLive() next TTL} of this policy.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param operations {@link RedisOperations} used to write the key.
+	 * @param key key to set.
+	 * @param value value of the key.
+	 * @return the {@link Duration} of the TTL of the key; {@link Duration#ZERO} if the key does not expire.
+	 */
+	default @NonNull <K, V> Duration set(@NonNull RedisOperations<K, V> operations, @NonNull K key, V value) {
+
+		Duration timeToLive = nextTimeToLive();
+
+		if (timeToLive.isZero()) {
+			operations.opsForValue().set(key, value);
+		}
+		else {
+			operations.opsForValue().set(key, value, timeToLive);
+		}
+
+		return timeToLive;
+	}
+}
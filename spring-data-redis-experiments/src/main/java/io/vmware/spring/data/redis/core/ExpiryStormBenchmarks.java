@@ -0,0 +1,247 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.lang.Nullable;
+
+import io.vmware.spring.data.redis.connection.RedisDriver;
+import io.vmware.spring.data.redis.serializer.PrefixedKeyEncoder;
+import lombok.Getter;
+
+/**
+ * JMH Benchmarks measuring the latency of Redis reads while a large number of keys written together expire,
+ * with a {@link ExpirationPolicy#fixed(Duration) fixed} TTL, a {@link ExpirationPolicy#jittered(Duration, double)
+ * jittered} TTL, and in a {@link TimeBucketedExpiration time-bucketed} container.
+ * <p>
+ * Before each iteration, {@literal keyCount} keys are written so that (with a fixed TTL) they all expire at the same
+ * instant, {@literal expireAfter} seconds into the iteration. With a jittered TTL, the expiration of the keys is
+ * spread over {@literal +/- 50%} of the TTL around that instant, and with time buckets all keys are fields of one
+ * Hash that expires at that instant (freed in the background, since the benchmark configures the server with
+ * {@literal lazyfree-lazy-expire yes}, restoring the original setting afterwards). During the iteration,
+ * a persistent key is read in a loop, and {@link Mode#SampleTime} reports the read latency percentiles;
+ * the tail percentiles show the expiry storm.
+ * <p>
+ * Requires a Redis server running at {@literal localhost:6379}, or at the {@literal redis.host} and
+ * {@literal redis.port} System properties, for example:
+ *
+ * <pre>
+ * <code>
+ * java -cp ... io.vmware.spring.data.redis.core.ExpiryStormBenchmarks -p keyCount=1000000
+ * </code>
+ * </pre>
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see io.vmware.spring.data.redis.core.ExpirationPolicy
+ * @see io.vmware.spring.data.redis.core.TimeBucketedExpiration
+ * @since 0.1.0
+ */
+@Fork(value = 1)
+@Measurement(iterations = 3, time = 10)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1, time = 10)
+@BenchmarkMode(Mode.SampleTime)
+public class ExpiryStormBenchmarks {
+
+	public static void main(String[] args) throws IOException {
+		org.openjdk.jmh.Main.main(args);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public String measureReadLatencyDuringMassExpiry(ExecutionPlan executionPlan) {
+		return executionPlan.getRedisTemplate().opsForValue().get(ExecutionPlan.PROBE_KEY);
+	}
+
+	public enum ExpiryMode {
+		FIXED, JITTERED, BUCKETED
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class ExecutionPlan {
+
+		static final int CHUNK_SIZE = 10_000;
+
+		static final double JITTER = 0.5d;
+
+		static final String LAZYFREE_LAZY_EXPIRE = "lazyfree-lazy-expire";
+
+		static final String BUCKET_KEY_PREFIX = "benchmark:expiry:bucket:";
+		static final String KEY_PREFIX = "benchmark:expiry:key:";
+		static final String PROBE_KEY = "benchmark:expiry:probe";
+
+		@Param({ "FIXED", "JITTERED", "BUCKETED" })
+		private ExpiryMode mode;
+
+		@Param({ "500000" })
+		private int keyCount;
+
+		@Param({ "3" })
+		private int expireAfter;
+
+		@Param({ "LETTUCE" })
+		private RedisDriver driver;
+
+		private final byte[] value = "value".getBytes(StandardCharsets.UTF_8);
+
+		private ExpirationPolicy jitteredExpirationPolicy;
+
+		private final PrefixedKeyEncoder keyEncoder = PrefixedKeyEncoder.forPrefix(KEY_PREFIX);
+
+		private RedisConnectionFactory connectionFactory;
+
+		private StringRedisTemplate redisTemplate;
+
+		private String originalLazyfreeLazyExpire;
+
+		private TimeBucketedExpiration<String> bucketedExpiration;
+
+		@Setup(Level.Trial)
+		public void setup() {
+
+			this.connectionFactory = getDriver().connectionFactory();
+			this.redisTemplate = new StringRedisTemplate(this.connectionFactory);
+			this.originalLazyfreeLazyExpire = getConfig(LAZYFREE_LAZY_EXPIRE);
+			setConfig(LAZYFREE_LAZY_EXPIRE, "yes");
+			this.redisTemplate.opsForValue().set(PROBE_KEY, "probe");
+
+			Duration timeToLive = Duration.ofSeconds(getExpireAfter());
+
+			this.jitteredExpirationPolicy = ExpirationPolicy.jittered(timeToLive, JITTER);
+			this.bucketedExpiration = new TimeBucketedExpiration<>(this.redisTemplate, BUCKET_KEY_PREFIX)
+				.withMaximumTimeToLive(timeToLive.plusSeconds(1));
+		}
+
+		/**
+		 * Writes the keys in pipelined chunks, so that they expire at the same instant regardless of how long
+		 * writing them takes (the TTL of the jittered keys is offset from that instant).
+		 */
+		@Setup(Level.Iteration)
+		public void writeExpiringKeys() {
+
+			long expirationTimeMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(getExpireAfter());
+
+			for (int chunkStart = 0; chunkStart < getKeyCount(); chunkStart += CHUNK_SIZE) {
+
+				int chunkEnd = Math.min(chunkStart + CHUNK_SIZE, getKeyCount());
+
+				if (getMode() == ExpiryMode.BUCKETED) {
+					writeBucketedKeys(chunkStart, chunkEnd, expirationTimeMillis);
+				}
+				else {
+					writeKeys(chunkStart, chunkEnd, expirationTimeMillis);
+				}
+			}
+		}
+
+		private void writeBucketedKeys(int chunkStart, int chunkEnd, long expirationTimeMillis) {
+
+			Map<String, String> entries = new HashMap<>(chunkEnd - chunkStart);
+
+			for (int index = chunkStart; index < chunkEnd; index++) {
+				entries.put(KEY_PREFIX + index, "value");
+			}
+
+			Duration timeToLive = Duration.ofMillis(Math.max(expirationTimeMillis - System.currentTimeMillis(), 1L));
+
+			getBucketedExpiration().setAll(entries, timeToLive);
+		}
+
+		private void writeKeys(int chunkStart, int chunkEnd, long expirationTimeMillis) {
+
+			long timeToLiveMillis = TimeUnit.SECONDS.toMillis(getExpireAfter());
+
+			getRedisTemplate().executePipelined((RedisCallback<?>) connection -> {
+
+				for (int index = chunkStart; index < chunkEnd; index++) {
+
+					long jitterMillis = getMode() == ExpiryMode.JITTERED
+						? getJitteredExpirationPolicy().nextTimeToLive().toMillis() - timeToLiveMillis
+						: 0L;
+
+					long keyExpirationTimeMillis = expirationTimeMillis + jitterMillis;
+
+					connection.stringCommands().set(getKeyEncoder().encode(index), getValue(),
+						Expiration.unixTimestamp(keyExpirationTimeMillis, TimeUnit.MILLISECONDS),
+						RedisStringCommands.SetOption.upsert());
+				}
+
+				return null;
+			});
+		}
+
+		private @Nullable String getConfig(String parameter) {
+
+			Properties config = getRedisTemplate().execute((RedisCallback<Properties>) connection ->
+				connection.serverCommands().getConfig(parameter));
+
+			return config != null ? config.getProperty(parameter) : null;
+		}
+
+		private void setConfig(String parameter, String value) {
+			getRedisTemplate().execute((RedisCallback<?>) connection -> {
+				connection.serverCommands().setConfig(parameter, value);
+				return null;
+			});
+		}
+
+		/**
+		 * Deletes the probe key and restores the {@literal lazyfree-lazy-expire} configuration of the Redis server.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() {
+
+			try {
+				getRedisTemplate().delete(PROBE_KEY);
+
+				if (getOriginalLazyfreeLazyExpire() != null) {
+					setConfig(LAZYFREE_LAZY_EXPIRE, getOriginalLazyfreeLazyExpire());
+				}
+			}
+			finally {
+				RedisDriver.destroy(getConnectionFactory());
+			}
+		}
+	}
+}
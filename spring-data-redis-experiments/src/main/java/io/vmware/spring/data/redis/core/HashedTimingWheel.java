@@ -0,0 +1,488 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.slf4j.Logger;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed timing wheel scheduling a (very) large number of {@link Timeout timeouts} with {@literal O(1)}
+ * {@link #schedule(Object, Duration) insert} and {@link Timeout#cancel() cancel}, and passing the element of
+ * every expired timeout to an expiry handler.
+ * <p>
+ * The wheel is an array of {@link #getWheelSize() wheel size} buckets, each a doubly-linked list of timeouts.
+ * A single worker {@link Thread} advances one bucket every {@link #getTickDuration() tick} and expires the timeouts
+ * of the bucket whose remaining rounds (full turns of the wheel) have elapsed. Timeouts are therefore expired at most
+ * one tick late, and never early. Threads scheduling and cancelling timeouts only append to lock-free queues,
+ * which the worker drains at every tick, so the buckets are only ever touched by the worker.
+ * <p>
+ * The expiry handler runs on the worker {@link Thread} and must not block.
+ *
+ * @author John Blum
+ * @param <T> {@link Class type} of the elements scheduled to expire.
+ * @see <a href="http://www.cs.columbia.edu/~nahum/w6998/papers/ton97-timing-wheels.pdf">Hashed and
+ * Hierarchical Timing Wheels</a>
+ * @since 0.1.0
+ */
+@Slf4j
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+	public static final int DEFAULT_WHEEL_SIZE = 512;
+
+	public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+	protected static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+	protected static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+	private final AtomicLong cancelledCount = new AtomicLong();
+	private final AtomicLong expiredCount = new AtomicLong();
+	private final AtomicLong maxLatenessNanos = new AtomicLong();
+	private final AtomicLong pendingCount = new AtomicLong();
+	private final AtomicLong totalLatenessNanos = new AtomicLong();
+
+	private final Bucket<T>[] wheel;
+
+	private final Consumer<? super T> expiryHandler;
+
+	private final int mask;
+
+	private final long startTime;
+	private final long tickNanos;
+
+	private final Queue<Timeout<T>> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout<T>> scheduledTimeouts = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean running;
+
+	private Thread worker;
+
+	public HashedTimingWheel(@NonNull Consumer<? super T> expiryHandler) {
+		this(expiryHandler, DEFAULT_TICK_DURATION, DEFAULT_WHEEL_SIZE);
+	}
+
+	/**
+	 * Constructs a new {@link HashedTimingWheel}.
+	 *
+	 * @param expiryHandler {@link Consumer} handling the element of each expired {@link Timeout}.
+	 * @param tickDuration {@link Duration} of a tick, which is the precision of the timeouts.
+	 * @param wheelSize number of buckets, rounded up to a power of 2; a wheel turn is {@literal wheelSize} ticks.
+	 */
+	@SuppressWarnings("unchecked")
+	public HashedTimingWheel(@NonNull Consumer<? super T> expiryHandler, @NonNull Duration tickDuration,
+			int wheelSize) {
+
+		Assert.isTrue(tickDuration != null && tickDuration.toMillis() >= 1,
+			() -> String.format("Tick duration [%s] must be at least 1 ms", tickDuration));
+
+		Assert.isTrue(wheelSize > 0 && wheelSize <= 1 << 30,
+			() -> String.format("Wheel size [%d] must be between 1 and 2^30", wheelSize));
+
+		int normalizedWheelSize = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+
+		this.expiryHandler = ObjectUtils.requireObject(expiryHandler, "Expiry handler is required");
+		this.tickNanos = tickDuration.toNanos();
+		this.wheel = (Bucket<T>[]) new Bucket<?>[normalizedWheelSize];
+		this.mask = normalizedWheelSize - 1;
+		this.startTime = System.nanoTime();
+
+		for (int index = 0; index < normalizedWheelSize; index++) {
+			this.wheel[index] = new Bucket<>();
+		}
+	}
+
+	public @NonNull Duration getTickDuration() {
+		return Duration.ofNanos(this.tickNanos);
+	}
+
+	public int getWheelSize() {
+		return this.wheel.length;
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of this timing wheel.
+	 *
+	 * @return a snapshot of the {@link Statistics} of this timing wheel.
+	 */
+	public @NonNull Statistics getStatistics() {
+
+		long expired = getExpiredCount().get();
+
+		return new Statistics(getPendingCount().get(), expired, getCancelledCount().get(),
+			Duration.ofNanos(expired > 0 ? getTotalLatenessNanos().get() / expired : 0L),
+			Duration.ofNanos(getMaxLatenessNanos().get()));
+	}
+
+	/**
+	 * Starts the worker {@link Thread}. Timeouts scheduled before the wheel is started expire once it is started.
+	 *
+	 * @return this {@link HashedTimingWheel}.
+	 */
+	public synchronized @NonNull HashedTimingWheel<T> start() {
+
+		if (!isRunning()) {
+			this.running = true;
+			this.worker = new Thread(this::runWorker, "hashed-timing-wheel");
+			this.worker.setDaemon(true);
+			this.worker.start();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Schedules the given element to expire after the given delay.
+	 *
+	 * @param element element passed to the expiry handler when the {@link Timeout} expires.
+	 * @param delay {@link Duration} after which the element expires; negative delays expire at the next tick.
+	 * @return the scheduled {@link Timeout}, which can be {@link Timeout#cancel() cancelled}.
+	 */
+	public @NonNull Timeout<T> schedule(@NonNull T element, @NonNull Duration delay) {
+
+		Assert.notNull(element, "Element is required");
+		Assert.notNull(delay, "Delay is required");
+
+		long deadline = System.nanoTime() - this.startTime + Math.max(saturatedNanos(delay), 0L);
+
+		Timeout<T> timeout = new Timeout<>(this, element, deadline);
+
+		getPendingCount().incrementAndGet();
+		this.scheduledTimeouts.add(timeout);
+
+		return timeout;
+	}
+
+	private static long saturatedNanos(Duration duration) {
+
+		try {
+			return duration.toNanos();
+		}
+		catch (ArithmeticException cause) {
+			return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE / 2;
+		}
+	}
+
+	void cancelled(Timeout<T> timeout) {
+		getPendingCount().decrementAndGet();
+		getCancelledCount().incrementAndGet();
+		this.cancelledTimeouts.add(timeout);
+	}
+
+	private void runWorker() {
+
+		long tick = 0L;
+
+		while (isRunning()) {
+
+			long tickDeadline = waitForTick(tick);
+
+			if (tickDeadline < 0) {
+				continue;
+			}
+
+			removeCancelledTimeouts();
+			transferScheduledTimeouts(tick);
+			expire(this.wheel[(int) (tick & this.mask)], tickDeadline);
+
+			tick++;
+		}
+	}
+
+	/**
+	 * Waits until the end of the given tick.
+	 *
+	 * @return the deadline of the tick relative to the start time, or {@literal -1} if the wheel was stopped.
+	 */
+	private long waitForTick(long tick) {
+
+		long tickDeadline = this.tickNanos * (tick + 1);
+
+		while (isRunning()) {
+
+			long remainingNanos = tickDeadline - (System.nanoTime() - this.startTime);
+
+			if (remainingNanos <= 0) {
+				return tickDeadline;
+			}
+
+			LockSupport.parkNanos(this, remainingNanos);
+		}
+
+		return -1L;
+	}
+
+	private void removeCancelledTimeouts() {
+
+		for (Timeout<T> timeout = this.cancelledTimeouts.poll(); timeout != null;
+				timeout = this.cancelledTimeouts.poll()) {
+
+			Bucket<T> bucket = timeout.bucket;
+
+			if (bucket != null) {
+				bucket.remove(timeout);
+			}
+		}
+	}
+
+	private void transferScheduledTimeouts(long tick) {
+
+		for (int count = 0; count < MAX_TRANSFERS_PER_TICK; count++) {
+
+			Timeout<T> timeout = this.scheduledTimeouts.poll();
+
+			if (timeout == null) {
+				break;
+			}
+
+			if (timeout.state == Timeout.STATE_SCHEDULED) {
+
+				long expiryTick = Math.max(timeout.deadline / this.tickNanos, tick);
+
+				timeout.remainingRounds = (expiryTick - tick) / this.wheel.length;
+				this.wheel[(int) (expiryTick & this.mask)].add(timeout);
+			}
+		}
+	}
+
+	private void expire(Bucket<T> bucket, long tickDeadline) {
+
+		Timeout<T> timeout = bucket.head;
+
+		while (timeout != null) {
+
+			Timeout<T> next = timeout.next;
+
+			if (timeout.state != Timeout.STATE_SCHEDULED) {
+				bucket.remove(timeout);
+			}
+			else if (timeout.remainingRounds <= 0) {
+				bucket.remove(timeout);
+				expire(timeout, tickDeadline);
+			}
+			else {
+				timeout.remainingRounds--;
+			}
+
+			timeout = next;
+		}
+	}
+
+	private void expire(Timeout<T> timeout, long tickDeadline) {
+
+		if (timeout.expire()) {
+
+			long latenessNanos = Math.max(System.nanoTime() - this.startTime - timeout.deadline, 0L);
+
+			getPendingCount().decrementAndGet();
+			getExpiredCount().incrementAndGet();
+			getTotalLatenessNanos().addAndGet(latenessNanos);
+			getMaxLatenessNanos().accumulateAndGet(latenessNanos, Math::max);
+
+			try {
+				getExpiryHandler().accept(timeout.getElement());
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn("Expiry handler failed for [{}]", timeout.getElement(), cause);
+			}
+		}
+	}
+
+	/**
+	 * Stops the worker {@link Thread}; timeouts that have not expired are discarded.
+	 */
+	@Override
+	public void close() {
+
+		Thread worker;
+
+		synchronized (this) {
+			this.running = false;
+			worker = this.worker;
+			this.worker = null;
+		}
+
+		if (worker != null) {
+
+			LockSupport.unpark(worker);
+
+			try {
+				worker.join(DEFAULT_CLOSE_TIMEOUT.toMillis());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	protected Logger getLogger() {
+		return log;
+	}
+
+	/**
+	 * Timeout of an element scheduled in a {@link HashedTimingWheel}.
+	 *
+	 * @param <T> {@link Class type} of the element.
+	 */
+	public static final class Timeout<T> {
+
+		static final int STATE_SCHEDULED = 0;
+		static final int STATE_CANCELLED = 1;
+		static final int STATE_EXPIRED = 2;
+
+		@SuppressWarnings("rawtypes")
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+			AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+		private final HashedTimingWheel<T> timingWheel;
+
+		private final long deadline;
+
+		private final T element;
+
+		// Accessed only by the worker Thread
+		private Bucket<T> bucket;
+		private Timeout<T> next;
+		private Timeout<T> previous;
+		private long remainingRounds;
+
+		private volatile int state;
+
+		Timeout(HashedTimingWheel<T> timingWheel, T element, long deadline) {
+			this.timingWheel = timingWheel;
+			this.element = element;
+			this.deadline = deadline;
+		}
+
+		public @NonNull T getElement() {
+			return this.element;
+		}
+
+		public boolean isCancelled() {
+			return this.state == STATE_CANCELLED;
+		}
+
+		public boolean isExpired() {
+			return this.state == STATE_EXPIRED;
+		}
+
+		/**
+		 * Cancels this {@link Timeout} so that it never expires.
+		 *
+		 * @return a boolean value indicating whether this {@link Timeout} was cancelled, which is {@literal false}
+		 * if it has already expired or been cancelled.
+		 */
+		public boolean cancel() {
+
+			if (STATE.compareAndSet(this, STATE_SCHEDULED, STATE_CANCELLED)) {
+				this.timingWheel.cancelled(this);
+				return true;
+			}
+
+			return false;
+		}
+
+		boolean expire() {
+			return STATE.compareAndSet(this, STATE_SCHEDULED, STATE_EXPIRED);
+		}
+
+		public @NonNull Duration getRemaining() {
+			long remainingNanos = this.deadline - (System.nanoTime() - this.timingWheel.startTime);
+			return Duration.ofNanos(Math.max(remainingNanos, 0L));
+		}
+	}
+
+	/**
+	 * Doubly-linked list of {@link Timeout timeouts}; accessed only by the worker {@link Thread}.
+	 */
+	private static final class Bucket<T> {
+
+		private Timeout<T> head;
+		private Timeout<T> tail;
+
+		void add(Timeout<T> timeout) {
+
+			timeout.bucket = this;
+
+			if (this.head == null) {
+				this.head = timeout;
+				this.tail = timeout;
+			}
+			else {
+				this.tail.next = timeout;
+				timeout.previous = this.tail;
+				this.tail = timeout;
+			}
+		}
+
+		void remove(Timeout<T> timeout) {
+
+			if (timeout.bucket != this) {
+				return;
+			}
+
+			if (timeout.previous != null) {
+				timeout.previous.next = timeout.next;
+			}
+			else {
+				this.head = timeout.next;
+			}
+
+			if (timeout.next != null) {
+				timeout.next.previous = timeout.previous;
+			}
+			else {
+				this.tail = timeout.previous;
+			}
+
+			timeout.bucket = null;
+			timeout.next = null;
+			timeout.previous = null;
+		}
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a {@link HashedTimingWheel}.
+	 *
+	 * @param pending number of scheduled timeouts that have neither expired nor been cancelled.
+	 * @param expired number of expired timeouts.
+	 * @param cancelled number of cancelled timeouts.
+	 * @param averageLateness average {@link Duration} between the deadline and the expiry of a timeout.
+	 * @param maxLateness maximum {@link Duration} between the deadline and the expiry of a timeout.
+	 */
+	public record Statistics(long pending, long expired, long cancelled, Duration averageLateness,
+		Duration maxLateness) { }
+
+}
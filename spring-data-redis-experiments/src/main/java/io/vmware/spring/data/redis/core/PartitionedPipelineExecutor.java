@@ -0,0 +1,283 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Executes Redis commands for a (very) large collection of elements by splitting the elements into chunks
+ * and running each chunk in its own pipeline, {@link RedisTemplate#executePipelined(SessionCallback) executed}
+ * on its own connection, with bounded concurrency.
+ * <p>
+ * Running one pipeline per element pays a network round trip per element, while running all elements in one
+ * pipeline serializes on a single connection (and, with a parallel stream, is not even Thread-safe). Partitioning
+ * sits between these two extremes. At most {@link #getConcurrency() concurrency} chunks are in flight at once;
+ * elements are pulled from the {@link Iterable} only as chunks are started, so in-flight memory is bounded by
+ * {@literal concurrency * chunkSize} elements.
+ * <p>
+ * A failing chunk does not stop other chunks; failures and individual command errors are reported in
+ * the aggregate {@link PipelineExecutionResult}. When the driver does not return the results of a failed pipeline,
+ * as with Lettuce, the pipeline counts as a single command error. When results are
+ * {@link #withResultsCollected(boolean) collected}, they are returned per pipeline, so that the results of
+ * the pipelines that succeeded still line up with their elements.
+ *
+ * @author John Blum
+ * @param <K> {@link Class type} of the Redis key.
+ * @param <V> {@link Class type} of the Redis value.
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see io.vmware.spring.data.redis.core.PipelineExecutionResult
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class PartitionedPipelineExecutor<K, V> {
+
+	protected static final int DEFAULT_CHUNK_SIZE = 10_000;
+	protected static final int DEFAULT_CONCURRENCY = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+	private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+	private boolean collectResults;
+
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	private final RedisTemplate<K, V> redisTemplate;
+
+	public PartitionedPipelineExecutor(@NonNull RedisTemplate<K, V> redisTemplate) {
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+	}
+
+	/**
+	 * Executes the given {@link ElementCallback} for every element, in partitioned pipelines.
+	 *
+	 * @param <T> {@link Class type} of the elements.
+	 * @param elements {@link Iterable} of elements.
+	 * @param callback {@link ElementCallback} issuing the Redis command(s) for an element.
+	 * @return the aggregate {@link PipelineExecutionResult}.
+	 */
+	public @NonNull <T> PipelineExecutionResult execute(@NonNull Iterable<T> elements,
+			@NonNull ElementCallback<K, V, T> callback) {
+
+		Assert.notNull(elements, "Elements are required");
+		Assert.notNull(callback, "ElementCallback is required");
+
+		ExecutorService executorService = newExecutorService();
+
+		Semaphore inFlightChunks = new Semaphore(getConcurrency());
+
+		LongAdder commandErrors = new LongAdder();
+
+		List<PipelineExecutionResult.PipelineFailure> failures = Collections.synchronizedList(new ArrayList<>());
+
+		Map<Integer, List<Object>> resultsByChunk = new ConcurrentHashMap<>();
+
+		Iterator<T> iterator = elements.iterator();
+
+		long startTime = System.nanoTime();
+		long elementCount = 0;
+		int chunkCount = 0;
+
+		try {
+			while (iterator.hasNext()) {
+
+				inFlightChunks.acquire();
+
+				List<T> chunk = nextChunk(iterator);
+
+				int chunkIndex = chunkCount++;
+				long firstElement = elementCount;
+
+				elementCount += chunk.size();
+
+				executorService.execute(() -> {
+					try {
+						List<Object> results = getRedisTemplate().executePipelined(toSessionCallback(chunk, callback));
+
+						if (isCollectResults()) {
+							resultsByChunk.put(chunkIndex, results);
+						}
+					}
+					catch (RedisPipelineException cause) {
+
+						if (isCollectResults() && !cause.getPipelineResult().isEmpty()) {
+							resultsByChunk.put(chunkIndex, cause.getPipelineResult());
+						}
+
+						commandErrors.add(countErrors(cause));
+						failures.add(new PipelineExecutionResult.PipelineFailure(chunkIndex, firstElement, chunk.size(),
+							cause));
+					}
+					catch (RuntimeException cause) {
+						failures.add(new PipelineExecutionResult.PipelineFailure(chunkIndex, firstElement, chunk.size(),
+							cause));
+					}
+					finally {
+						inFlightChunks.release();
+					}
+				});
+			}
+
+			inFlightChunks.acquire(getConcurrency());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while executing pipelines", cause);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		List<PipelineExecutionResult.PipelineFailure> sortedFailures = new ArrayList<>(failures);
+
+		sortedFailures.sort((one, two) -> Integer.compare(one.pipeline(), two.pipeline()));
+
+		return new PipelineExecutionResult(elementCount, chunkCount, commandErrors.sum(),
+			Collections.unmodifiableList(sortedFailures), toResults(resultsByChunk, chunkCount),
+			Duration.ofNanos(System.nanoTime() - startTime));
+	}
+
+	private ExecutorService newExecutorService() {
+
+		return Executors.newFixedThreadPool(getConcurrency(), runnable -> {
+			Thread thread = new Thread(runnable, "partitioned-pipeline-" + THREAD_ID.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	private <T> List<T> nextChunk(Iterator<T> iterator) {
+
+		List<T> chunk = new ArrayList<>(getChunkSize());
+
+		while (iterator.hasNext() && chunk.size() < getChunkSize()) {
+			chunk.add(iterator.next());
+		}
+
+		return chunk;
+	}
+
+	private <T> SessionCallback<Object> toSessionCallback(List<T> chunk, ElementCallback<K, V, T> callback) {
+
+		return new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <OK, OV> Object execute(@NonNull RedisOperations<OK, OV> operations) throws DataAccessException {
+
+				RedisOperations<K, V> typedOperations = (RedisOperations<K, V>) operations;
+
+				for (T element : chunk) {
+					callback.execute(typedOperations, element);
+				}
+
+				return null;
+			}
+		};
+	}
+
+	private long countErrors(RedisPipelineException cause) {
+
+		List<Object> pipelineResults = cause.getPipelineResult();
+
+		// Lettuce fails the pipeline on the first failed command without returning the results of the pipeline
+		return pipelineResults.isEmpty() ? 1L
+			: pipelineResults.stream().filter(Throwable.class::isInstance).count();
+	}
+
+	/**
+	 * Returns the results of each chunk in chunk order, keeping a {@literal null} slot for every chunk that failed
+	 * without returning its results.
+	 */
+	private List<List<Object>> toResults(Map<Integer, List<Object>> resultsByChunk, int chunkCount) {
+
+		if (!isCollectResults()) {
+			return Collections.emptyList();
+		}
+
+		List<List<Object>> results = new ArrayList<>(chunkCount);
+
+		for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+			List<Object> chunkResults = resultsByChunk.get(chunkIndex);
+			results.add(chunkResults != null ? Collections.unmodifiableList(chunkResults) : null);
+		}
+
+		return Collections.unmodifiableList(results);
+	}
+
+	public @NonNull PartitionedPipelineExecutor<K, V> withChunkSize(int chunkSize) {
+		Assert.isTrue(chunkSize > 0, () -> String.format("Chunk size [%d] must be greater than 0", chunkSize));
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	public @NonNull PartitionedPipelineExecutor<K, V> withConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, () -> String.format("Concurrency [%d] must be greater than 0", concurrency));
+		this.concurrency = concurrency;
+		return this;
+	}
+
+	/**
+	 * Configures whether the (deserialized) results of all commands are collected and returned per pipeline,
+	 * in element order. The results of a failed pipeline are those returned by the driver, with the exception
+	 * of each failed command in its place, or {@literal null} if the driver did not return them (as with Lettuce).
+	 * Disabled by default to keep memory bounded.
+	 *
+	 * @param collectResults boolean indicating whether to collect results.
+	 * @return this {@link PartitionedPipelineExecutor}.
+	 */
+	public @NonNull PartitionedPipelineExecutor<K, V> withResultsCollected(boolean collectResults) {
+		this.collectResults = collectResults;
+		return this;
+	}
+
+	/**
+	 * Callback issuing the Redis command(s) for one element using pipelined {@link RedisOperations}.
+	 *
+	 * @param <K> {@link Class type} of the Redis key.
+	 * @param <V> {@link Class type} of the Redis value.
+	 * @param <T> {@link Class type} of the element.
+	 */
+	@FunctionalInterface
+	public interface ElementCallback<K, V, T> {
+
+		void execute(@NonNull RedisOperations<K, V> operations, @NonNull T element);
+
+	}
+}
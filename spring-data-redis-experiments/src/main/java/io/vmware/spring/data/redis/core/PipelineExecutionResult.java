@@ -0,0 +1,66 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Java {@link Record} aggregating the outcome of executing a (large) batch of Redis commands in pipelines.
+ *
+ * @author John Blum
+ * @param elements number of elements processed.
+ * @param pipelines number of pipelines executed.
+ * @param commandErrors number of individual commands that failed, counting each failed pipeline
+ * as one error when the driver does not return its results.
+ * @param failures {@link List} of {@link PipelineFailure pipeline failures}.
+ * @param results {@link List} of the command results of each pipeline, in pipeline order, if results were
+ * collected; otherwise an empty {@link List}. The slot of a failed pipeline holds the results returned by
+ * the driver, with exceptions in place of failed commands, or {@literal null} if the driver did not return them.
+ * @param duration {@link Duration} of the execution.
+ * @see io.vmware.spring.data.redis.core.PartitionedPipelineExecutor
+ * @since 0.1.0
+ */
+public record PipelineExecutionResult(long elements, int pipelines, long commandErrors, List<PipelineFailure> failures,
+		List<List<Object>> results, Duration duration) {
+
+	public boolean isSuccessful() {
+		return failures().isEmpty() && commandErrors() == 0;
+	}
+
+	public double getElementsPerSecond() {
+		long nanos = duration().toNanos();
+		return nanos > 0 ? elements() * 1_000_000_000.0d / nanos : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("{ elements = %d, pipelines = %d, commandErrors = %d, failedPipelines = %d,"
+				+ " duration = %d ms, throughput = %.0f elements/s }", elements(), pipelines(), commandErrors(),
+			failures().size(), duration().toMillis(), getElementsPerSecond());
+	}
+
+	/**
+	 * Java {@link Record} describing a pipeline that failed.
+	 *
+	 * @param pipeline index of the pipeline (chunk).
+	 * @param firstElement index of the first element in the pipeline.
+	 * @param size number of elements in the pipeline.
+	 * @param cause {@link Throwable} that caused the pipeline to fail.
+	 */
+	public record PipelineFailure(int pipeline, long firstElement, int size, Throwable cause) { }
+
+}
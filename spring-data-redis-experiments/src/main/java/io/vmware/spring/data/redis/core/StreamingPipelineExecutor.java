@@ -0,0 +1,364 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.FutureResult;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import io.lettuce.core.protocol.RedisCommand;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Executes Redis commands for a (very) large number of elements in a pipeline on a single connection,
+ * streaming each reply to a {@link ReplyConsumer} instead of materializing every reply in one {@link List}
+ * as {@link RedisTemplate#executePipelined(RedisCallback)} does.
+ * <p>
+ * Spring Data Redis only hands out pipeline replies when the pipeline is closed, so the pipeline is opened
+ * and closed in windows of {@link #getWindowSize() window size} elements. The replies of a window are passed to
+ * the {@link ReplyConsumer} (or {@link ReplyConsumer#discard() discarded}) and released before the next window
+ * is opened, which keeps memory constant regardless of the total number of elements.
+ * <p>
+ * Replies are raw driver replies ({@literal byte[]} for bulk strings) unless a value {@link RedisSerializer}
+ * is {@link #withValueSerializer(RedisSerializer) configured}. Errors of individual commands are passed to
+ * the {@link ReplyConsumer} in place of the reply and do not stop the execution.
+ * <p>
+ * Lettuce fails a pipeline on its first failed command without returning the replies of the other commands.
+ * The replies of a failed Lettuce pipeline window are therefore recovered from the commands queued in the window,
+ * so that every command of the window is still passed to the {@link ReplyConsumer} at its own index. A command
+ * whose reply cannot be recovered is passed with the {@link RedisPipelineException} as its error.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.connection.RedisConnection#openPipeline()
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see io.vmware.spring.data.redis.core.PipelineExecutionResult
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class StreamingPipelineExecutor {
+
+	protected static final int DEFAULT_WINDOW_SIZE = 1_000;
+
+	protected static final Duration RECOVERED_REPLY_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final String LETTUCE_PIPELINE_FIELD_NAME = "ppline";
+
+	private int windowSize = DEFAULT_WINDOW_SIZE;
+
+	private final RedisTemplate<?, ?> redisTemplate;
+
+	private RedisSerializer<?> valueSerializer;
+
+	public StreamingPipelineExecutor(@NonNull RedisTemplate<?, ?> redisTemplate) {
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+	}
+
+	/**
+	 * Executes the given {@link ElementCallback} for every element in pipelined windows, discarding all replies.
+	 *
+	 * @param <T> {@link Class type} of the elements.
+	 * @param elements {@link Iterable} of elements.
+	 * @param callback {@link ElementCallback} issuing the Redis command(s) for an element.
+	 * @return the aggregate {@link PipelineExecutionResult}.
+	 * @see #execute(Iterable, ElementCallback, ReplyConsumer)
+	 */
+	public @NonNull <T> PipelineExecutionResult execute(@NonNull Iterable<T> elements,
+			@NonNull ElementCallback<T> callback) {
+
+		return execute(elements, callback, ReplyConsumer.discard());
+	}
+
+	/**
+	 * Executes the given {@link ElementCallback} for every element in pipelined windows, passing every reply,
+	 * in command order, to the given {@link ReplyConsumer}.
+	 *
+	 * @param <T> {@link Class type} of the elements.
+	 * @param elements {@link Iterable} of elements.
+	 * @param callback {@link ElementCallback} issuing the Redis command(s) for an element.
+	 * @param replyConsumer {@link ReplyConsumer} receiving each reply.
+	 * @return the aggregate {@link PipelineExecutionResult}.
+	 */
+	public @NonNull <T> PipelineExecutionResult execute(@NonNull Iterable<T> elements,
+			@NonNull ElementCallback<T> callback, @NonNull ReplyConsumer replyConsumer) {
+
+		Assert.notNull(elements, "Elements are required");
+		Assert.notNull(callback, "ElementCallback is required");
+		Assert.notNull(replyConsumer, "ReplyConsumer is required");
+
+		long startTime = System.nanoTime();
+
+		ExecutionState state = new ExecutionState();
+
+		getRedisTemplate().execute((RedisCallback<Void>) connection -> {
+
+			Iterator<T> iterator = elements.iterator();
+
+			while (iterator.hasNext()) {
+
+				long firstElement = state.elements;
+				int windowElements = 0;
+
+				connection.openPipeline();
+
+				try {
+					while (iterator.hasNext() && windowElements < getWindowSize()) {
+						callback.execute(connection, iterator.next());
+						windowElements++;
+					}
+				}
+				finally {
+					state.elements += windowElements;
+					closeWindow(connection, state, firstElement, windowElements, replyConsumer);
+				}
+			}
+
+			return null;
+		}, true);
+
+		return new PipelineExecutionResult(state.elements, state.windows, state.commandErrors,
+			Collections.unmodifiableList(state.failures), Collections.emptyList(),
+			Duration.ofNanos(System.nanoTime() - startTime));
+	}
+
+	private void closeWindow(RedisConnection connection, ExecutionState state, long firstElement, int size,
+			ReplyConsumer replyConsumer) {
+
+		List<Object> replies;
+
+		try {
+			replies = connection.closePipeline();
+		}
+		catch (RedisPipelineException cause) {
+			replies = recoverReplies(connection, cause);
+			state.failures.add(new PipelineExecutionResult.PipelineFailure(state.windows, firstElement, size, cause));
+		}
+
+		state.windows++;
+
+		boolean discard = replyConsumer == ReplyConsumer.DISCARD;
+
+		for (Object reply : replies) {
+
+			long index = state.replies++;
+
+			if (reply instanceof Throwable error) {
+				state.commandErrors++;
+				if (!discard) {
+					replyConsumer.accept(index, null, error);
+				}
+			}
+			else if (!discard) {
+				replyConsumer.accept(index, deserialize(reply), null);
+			}
+		}
+	}
+
+	/**
+	 * Returns the replies of a failed pipeline window. Where the driver returned fewer replies than commands were
+	 * queued, as Lettuce does, the replies are recovered from the queued commands.
+	 */
+	private List<Object> recoverReplies(RedisConnection connection, RedisPipelineException cause) {
+
+		List<Object> replies = cause.getPipelineResult();
+		List<FutureResult<?>> queuedCommands = queuedLettuceCommands(connection);
+
+		if (queuedCommands.size() <= replies.size()) {
+			return replies;
+		}
+
+		List<Object> recoveredReplies = new ArrayList<>(queuedCommands.size());
+
+		for (FutureResult<?> queuedCommand : queuedCommands) {
+
+			RedisCommand<?, ?, ?> command = (RedisCommand<?, ?, ?>) queuedCommand.getResultHolder();
+
+			if (!awaitCompletion(command)) {
+				recoveredReplies.add(cause);
+			}
+			else if (command.getOutput().hasError()) {
+				recoveredReplies.add(new InvalidDataAccessApiUsageException(command.getOutput().getError()));
+			}
+			// Like the Lettuce pipeline, status replies are not returned
+			else if (!queuedCommand.isStatus()) {
+				recoveredReplies.add(queuedCommand.conversionRequired()
+					? queuedCommand.convert(queuedCommand.get())
+					: queuedCommand.get());
+			}
+		}
+
+		return recoveredReplies;
+	}
+
+	/**
+	 * Returns the commands queued in the pipeline of a Lettuce connection, which are kept until the next pipeline
+	 * is opened; returns an empty {@link List} for other drivers.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<FutureResult<?>> queuedLettuceCommands(RedisConnection connection) {
+
+		RedisConnection targetConnection = connection;
+
+		while (targetConnection instanceof DecoratedRedisConnection decoratedConnection) {
+			targetConnection = decoratedConnection.getDelegate();
+		}
+
+		if (targetConnection instanceof LettuceConnection) {
+
+			Field pipelineField = ReflectionUtils.findField(LettuceConnection.class, LETTUCE_PIPELINE_FIELD_NAME);
+
+			if (pipelineField != null) {
+				ReflectionUtils.makeAccessible(pipelineField);
+				Object queuedCommands = ReflectionUtils.getField(pipelineField, targetConnection);
+				return queuedCommands instanceof List<?> list ? (List<FutureResult<?>>) list : Collections.emptyList();
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	private boolean awaitCompletion(RedisCommand<?, ?, ?> command) {
+
+		if (command instanceof Future<?> future) {
+			try {
+				future.get(RECOVERED_REPLY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+			}
+			catch (ExecutionException ignore) {
+				// The error is read from the command output
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+			catch (TimeoutException cause) {
+				return false;
+			}
+		}
+
+		return command.isDone();
+	}
+
+	private @Nullable Object deserialize(@Nullable Object reply) {
+
+		RedisSerializer<?> valueSerializer = getValueSerializer();
+
+		if (valueSerializer == null) {
+			return reply;
+		}
+		else if (reply instanceof byte[] bytes) {
+			return valueSerializer.deserialize(bytes);
+		}
+		else if (reply instanceof List<?> list) {
+
+			List<Object> values = new ArrayList<>(list.size());
+
+			for (Object element : list) {
+				values.add(deserialize(element));
+			}
+
+			return values;
+		}
+
+		return reply;
+	}
+
+	/**
+	 * Configures the number of elements per pipeline window, which bounds the number of replies held in memory.
+	 *
+	 * @param windowSize number of elements per pipeline window; must be greater than {@literal 0}.
+	 * @return this {@link StreamingPipelineExecutor}.
+	 */
+	public @NonNull StreamingPipelineExecutor withWindowSize(int windowSize) {
+		Assert.isTrue(windowSize > 0, () -> String.format("Window size [%d] must be greater than 0", windowSize));
+		this.windowSize = windowSize;
+		return this;
+	}
+
+	public @NonNull StreamingPipelineExecutor withValueSerializer(@Nullable RedisSerializer<?> valueSerializer) {
+		this.valueSerializer = valueSerializer;
+		return this;
+	}
+
+	/**
+	 * Callback issuing the Redis command(s) for one element on a pipelined {@link RedisConnection}.
+	 *
+	 * @param <T> {@link Class type} of the element.
+	 */
+	@FunctionalInterface
+	public interface ElementCallback<T> {
+
+		void execute(@NonNull RedisConnection connection, @NonNull T element);
+
+	}
+
+	/**
+	 * Consumer of pipeline replies, receiving either the reply or the error of each command, in command order.
+	 */
+	@FunctionalInterface
+	public interface ReplyConsumer {
+
+		ReplyConsumer DISCARD = (index, reply, error) -> { };
+
+		static @NonNull ReplyConsumer discard() {
+			return DISCARD;
+		}
+
+		/**
+		 * Accepts the reply of the command at the given index.
+		 *
+		 * @param index {@link Long#TYPE index} of the command across all pipeline windows.
+		 * @param reply reply of the command; {@literal null} if the command failed or replied {@literal nil}.
+		 * @param error {@link Throwable} if the command failed; otherwise {@literal null}.
+		 */
+		void accept(long index, @Nullable Object reply, @Nullable Throwable error);
+
+	}
+
+	private static class ExecutionState {
+
+		private int windows;
+
+		private long commandErrors;
+		private long elements;
+		private long replies;
+
+		private final List<PipelineExecutionResult.PipelineFailure> failures = new ArrayList<>();
+
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Writes short-lived entries as fields of per-interval Redis Hash containers that expire as a single key, rather
+ * than as individual expiring keys, so that Redis expires one container per {@link #getBucketInterval() interval}
+ * instead of every key.
+ * <p>
+ * An entry written with a TTL is stored in the container of the interval in which its TTL elapses, which expires
+ * (with {@literal EXPIREAT}) at the end of the interval. Entries therefore never expire early, and expire at most
+ * one interval late. A container is named {@literal <prefix><bucket>}, where the bucket is the end of the interval
+ * in epoch milliseconds divided by the interval, so all writers using the same prefix and interval share containers.
+ * <p>
+ * Since the whole container is freed when it expires, large containers should be freed asynchronously by
+ * configuring the Redis server with {@literal lazyfree-lazy-expire yes}.
+ * <p>
+ * The bucket of each entry is recorded in an index Hash named {@literal <prefix>index:<partition>}, where
+ * the partition is the time of the write divided by the {@link #withMaximumTimeToLive(Duration) maximum TTL}
+ * plus one interval, and which expires once every entry written during the partition has expired. Reads and
+ * deletes look up the bucket of the entry in the current and previous index partitions, and then only access
+ * the container of that bucket. Writes remove the entry only from the container of its previously indexed
+ * bucket, so that an entry written again with a different TTL is only held by the container of its latest TTL.
+ * All writers using the same prefix must therefore use the same interval and maximum TTL.
+ *
+ * @author John Blum
+ * @param <V> {@link Class type} of the values, serialized with the hash value serializer of the {@link RedisTemplate}.
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see io.vmware.spring.data.redis.core.ExpirationPolicy
+ * @see <a href="https://redis.io/commands/expireat/">EXPIREAT</a>
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class TimeBucketedExpiration<V> {
+
+	public static final Duration DEFAULT_BUCKET_INTERVAL = Duration.ofSeconds(1);
+	public static final Duration DEFAULT_MAXIMUM_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+	private Clock clock = Clock.systemUTC();
+
+	private long maximumTimeToLiveMillis = DEFAULT_MAXIMUM_TIME_TO_LIVE.toMillis();
+
+	private final long bucketIntervalMillis;
+
+	private final RedisTemplate<String, V> redisTemplate;
+
+	private final String containerKeyPrefix;
+
+	public TimeBucketedExpiration(@NonNull RedisTemplate<String, V> redisTemplate, @NonNull String containerKeyPrefix) {
+		this(redisTemplate, containerKeyPrefix, DEFAULT_BUCKET_INTERVAL);
+	}
+
+	/**
+	 * Constructs a new {@link TimeBucketedExpiration}.
+	 *
+	 * @param redisTemplate {@link RedisTemplate} used to write the containers.
+	 * @param containerKeyPrefix {@link String} containing the prefix of the container keys.
+	 * @param bucketInterval {@link Duration} of the interval of each container; must be at least 1 ms.
+	 */
+	public TimeBucketedExpiration(@NonNull RedisTemplate<String, V> redisTemplate, @NonNull String containerKeyPrefix,
+			@NonNull Duration bucketInterval) {
+
+		Assert.hasText(containerKeyPrefix, "Container key prefix is required");
+		Assert.isTrue(bucketInterval != null && bucketInterval.toMillis() >= 1,
+			() -> String.format("Bucket interval [%s] must be at least 1 ms", bucketInterval));
+
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+		this.containerKeyPrefix = containerKeyPrefix;
+		this.bucketIntervalMillis = bucketInterval.toMillis();
+	}
+
+	public @NonNull Duration getBucketInterval() {
+		return Duration.ofMillis(this.bucketIntervalMillis);
+	}
+
+	public @NonNull Duration getMaximumTimeToLive() {
+		return Duration.ofMillis(this.maximumTimeToLiveMillis);
+	}
+
+	/**
+	 * Returns the key of the container holding entries whose TTL elapses at the given time.
+	 *
+	 * @param expirationTime {@link Instant} at which the TTL of an entry elapses.
+	 * @return the key of the container.
+	 */
+	public @NonNull String containerKey(@NonNull Instant expirationTime) {
+		return containerKey(bucket(expirationTime.toEpochMilli()));
+	}
+
+	/**
+	 * Sets the value of the given key, which expires after the given TTL.
+	 *
+	 * @param key {@link String} containing the key, stored as a field of the container.
+	 * @param value value of the key.
+	 * @param timeToLive {@link Duration} of the TTL; must be greater than {@literal 0} and at most
+	 * the {@link #getMaximumTimeToLive() maximum TTL}.
+	 */
+	public void set(@NonNull String key, @NonNull V value, @NonNull Duration timeToLive) {
+		setAll(Map.of(key, value), timeToLive);
+	}
+
+	/**
+	 * Sets the values of the given keys, which expire after the given TTL. The previously indexed buckets of the keys
+	 * are read first, and then a single pipeline sends one {@literal HSET} and one {@literal PEXPIREAT} for each of
+	 * the container and the index, plus one {@literal HDEL} for each other container previously holding the keys.
+	 *
+	 * @param entries {@link Map} of keys to values.
+	 * @param timeToLive {@link Duration} of the TTL; must be greater than {@literal 0} and at most
+	 * the {@link #getMaximumTimeToLive() maximum TTL}.
+	 */
+	public void setAll(@NonNull Map<String, ? extends V> entries, @NonNull Duration timeToLive) {
+
+		Assert.notNull(entries, "Entries are required");
+		Assert.isTrue(timeToLive != null && !timeToLive.isNegative() && !timeToLive.isZero()
+				&& timeToLive.toMillis() <= this.maximumTimeToLiveMillis,
+			() -> String.format("Time-to-live [%s] must be greater than 0 and at most [%s]", timeToLive,
+				getMaximumTimeToLive()));
+
+		if (!entries.isEmpty()) {
+
+			long nowMillis = getClock().millis();
+			long bucket = bucket(nowMillis + timeToLive.toMillis());
+			long partition = partition(nowMillis);
+			List<String> keys = new ArrayList<>(entries.keySet());
+			Map<String, Long> indexedBuckets = indexedBuckets(keys, nowMillis);
+
+			Map<Long, List<byte[]>> previousBucketFields = new HashMap<>();
+			Map<byte[], byte[]> containerFields = new LinkedHashMap<>(entries.size());
+			Map<byte[], byte[]> indexFields = new LinkedHashMap<>(entries.size());
+			byte[] rawBucket = String.valueOf(bucket).getBytes(StandardCharsets.UTF_8);
+
+			for (Map.Entry<String, ? extends V> entry : entries.entrySet()) {
+
+				byte[] field = rawHashKey(entry.getKey());
+				Long previousBucket = indexedBuckets.get(entry.getKey());
+
+				if (previousBucket != null && previousBucket != bucket) {
+					previousBucketFields.computeIfAbsent(previousBucket, key -> new ArrayList<>()).add(field);
+				}
+
+				containerFields.put(field, rawHashValue(entry.getValue()));
+				indexFields.put(field, rawBucket);
+			}
+
+			byte[] containerKey = rawKey(containerKey(bucket));
+			byte[] indexKey = rawKey(indexKey(partition));
+
+			getRedisTemplate().executePipelined((RedisCallback<?>) connection -> {
+
+				previousBucketFields.forEach((previousBucket, fields) -> connection.hashCommands()
+					.hDel(rawKey(containerKey(previousBucket)), fields.toArray(new byte[0][])));
+
+				connection.hashCommands().hMSet(containerKey, containerFields);
+				connection.keyCommands().pExpireAt(containerKey, bucket * this.bucketIntervalMillis);
+				connection.hashCommands().hMSet(indexKey, indexFields);
+				connection.keyCommands().pExpireAt(indexKey, (partition + 2) * indexPartitionMillis());
+
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Returns the value of the given key, or {@literal null} if the key does not exist or has expired.
+	 *
+	 * @param key {@link String} containing the key.
+	 * @return the value of the given key.
+	 */
+	public @Nullable V get(@NonNull String key) {
+
+		Long bucket = indexedBuckets(List.of(key), getClock().millis()).get(key);
+
+		return bucket != null ? getRedisTemplate().<String, V>opsForHash().get(containerKey(bucket), key) : null;
+	}
+
+	/**
+	 * Deletes the given key from the container of its indexed bucket, and from the index.
+	 *
+	 * @param key {@link String} containing the key.
+	 * @return a boolean value indicating whether the key was deleted.
+	 */
+	public boolean delete(@NonNull String key) {
+
+		long nowMillis = getClock().millis();
+		long partition = partition(nowMillis);
+		Long bucket = indexedBuckets(List.of(key), nowMillis).get(key);
+
+		if (bucket == null) {
+			return false;
+		}
+
+		byte[] field = rawHashKey(key);
+
+		List<Object> deletedCounts = getRedisTemplate().executePipelined((RedisCallback<?>) connection -> {
+			connection.hashCommands().hDel(rawKey(containerKey(bucket)), field);
+			connection.hashCommands().hDel(rawKey(indexKey(partition)), field);
+			connection.hashCommands().hDel(rawKey(indexKey(partition - 1)), field);
+			return null;
+		});
+
+		return deletedCounts.get(0) instanceof Long deleted && deleted > 0;
+	}
+
+	/**
+	 * Returns the buckets of the given keys recorded in the current and previous index partitions, preferring
+	 * the current partition, in a single pipeline with two {@literal HMGET}. Keys without a bucket are omitted.
+	 */
+	private Map<String, Long> indexedBuckets(List<String> keys, long nowMillis) {
+
+		long partition = partition(nowMillis);
+		byte[][] fields = keys.stream().map(this::rawHashKey).toArray(byte[][]::new);
+
+		List<Object> results = getRedisTemplate().executePipelined((RedisCallback<?>) connection -> {
+			connection.hashCommands().hMGet(rawKey(indexKey(partition)), fields);
+			connection.hashCommands().hMGet(rawKey(indexKey(partition - 1)), fields);
+			return null;
+		}, RedisSerializer.string());
+
+		List<?> currentBuckets = (List<?>) results.get(0);
+		List<?> previousBuckets = (List<?>) results.get(1);
+		Map<String, Long> buckets = new HashMap<>(keys.size());
+
+		for (int index = 0; index < keys.size(); index++) {
+
+			Object bucket = currentBuckets.get(index) != null ? currentBuckets.get(index) : previousBuckets.get(index);
+
+			if (bucket != null) {
+				buckets.put(keys.get(index), Long.valueOf(bucket.toString()));
+			}
+		}
+
+		return buckets;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawKey(String key) {
+		return ((RedisSerializer<String>) getRedisTemplate().getKeySerializer()).serialize(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawHashKey(String key) {
+		return ((RedisSerializer<String>) getRedisTemplate().getHashKeySerializer()).serialize(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] rawHashValue(V value) {
+		return ((RedisSerializer<V>) getRedisTemplate().getHashValueSerializer()).serialize(value);
+	}
+
+	/**
+	 * Returns the length of an index partition, in which every entry written at the start of the partition expires,
+	 * so that the entries of the current time are recorded in the current or the previous partition.
+	 */
+	private long indexPartitionMillis() {
+		return this.maximumTimeToLiveMillis + this.bucketIntervalMillis;
+	}
+
+	private long partition(long timeMillis) {
+		return Math.floorDiv(timeMillis, indexPartitionMillis());
+	}
+
+	private String indexKey(long partition) {
+		return getContainerKeyPrefix().concat("index:").concat(String.valueOf(partition));
+	}
+
+	/**
+	 * Returns the bucket of the interval ending at or after the given time, so that entries never expire early.
+	 */
+	private long bucket(long expirationTimeMillis) {
+		return -Math.floorDiv(-expirationTimeMillis, this.bucketIntervalMillis);
+	}
+
+	private String containerKey(long bucket) {
+		return getContainerKeyPrefix().concat(String.valueOf(bucket));
+	}
+
+	public @NonNull TimeBucketedExpiration<V> withClock(@NonNull Clock clock) {
+		this.clock = ObjectUtils.requireObject(clock, "Clock is required");
+		return this;
+	}
+
+	/**
+	 * Configures the maximum TTL of the entries, which determines the length of the index partitions.
+	 *
+	 * @param maximumTimeToLive {@link Duration} of the maximum TTL; must be at least 1 ms.
+	 * @return this {@link TimeBucketedExpiration}.
+	 */
+	public @NonNull TimeBucketedExpiration<V> withMaximumTimeToLive(@NonNull Duration maximumTimeToLive) {
+
+		Assert.isTrue(maximumTimeToLive != null && maximumTimeToLive.toMillis() >= 1,
+			() -> String.format("Maximum time-to-live [%s] must be at least 1 ms", maximumTimeToLive));
+
+		this.maximumTimeToLiveMillis = maximumTimeToLive.toMillis();
+
+		return this;
+	}
+}
@@ -22,7 +22,6 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
-import org.springframework.data.redis.core.RedisTemplate;
 
 import example.chat.bot.config.EnableChatBot;
 import example.chat.client.ConsoleChatClientApplication;
@@ -30,6 +29,7 @@ import example.chat.event.ChatEventListener;
 import example.chat.event.ChatEventPublisher;
 import example.chat.model.Chat;
 import io.vmware.spring.data.redis.pubsub.client.config.RedisConfiguration;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -56,18 +56,19 @@ public class SpringRedisChatClientApplication {
 	}
 
 	@Bean
-	ApplicationRunner redisChatPublishingRunner(RedisTemplate<Object, Object> redisTemplate,
+	ApplicationRunner redisChatPublishingRunner(BatchingChatPublisher batchingChatPublisher,
 			ChatEventPublisher<Chat> chatEventSourcePublisher) {
 
-		return arguments -> chatEventSourcePublisher.register(newRedisPublishingChatEventListener(redisTemplate));
+		return arguments ->
+			chatEventSourcePublisher.register(newRedisPublishingChatEventListener(batchingChatPublisher));
 	}
 
-	protected ChatEventListener<Chat> newRedisPublishingChatEventListener(RedisTemplate<Object, Object> redisTemplate) {
+	protected ChatEventListener<Chat> newRedisPublishingChatEventListener(BatchingChatPublisher chatPublisher) {
 
 		return chatEvent -> {
 			Chat chat = chatEvent.requireChat();
 			logDebug("DEBUG [{}]", chat);
-			redisTemplate.convertAndSend(RedisConfiguration.CHAT_REDIS_CHANNEL_NAME, chat);
+			chatPublisher.publish(chat);
 		};
 	}
 
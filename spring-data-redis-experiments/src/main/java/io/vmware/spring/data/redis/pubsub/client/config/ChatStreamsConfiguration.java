@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import example.chat.model.Chat;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
+import io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamConsumer;
+import io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamPublisher;
+
+/**
+ * Spring {@link Configuration} replacing the Redis pub/sub chat transport with a Redis Stream
+ * and a consumer group when the {@literal chat-streams} profile is active.
+ *
+ * @author John Blum
+ * @see org.springframework.context.annotation.Configuration
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamConsumer
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamPublisher
+ * @since 0.1.0
+ */
+@Configuration
+@Profile(ChatStreamsConfiguration.CHAT_STREAMS_PROFILE)
+@SuppressWarnings("unused")
+public class ChatStreamsConfiguration {
+
+	public static final String CHAT_STREAMS_PROFILE = "chat-streams";
+	public static final String CHAT_STREAM_GROUP_NAME = "chat-clients";
+	public static final String CHAT_STREAM_KEY = "chatroom:stream";
+
+	@Bean
+	BatchingChatPublisher chatStreamPublisher(RedisTemplate<String, Chat> chatRedisTemplate,
+			@Value("${example.chat.streams.max-length:100000}") long maxLength,
+			@Value("${example.chat.publisher.queue-capacity:10000}") int queueCapacity,
+			@Value("${example.chat.publisher.batch-size:256}") int batchSize,
+			@Value("${example.chat.publisher.flush-interval:10ms}") Duration flushInterval,
+			@Value("${example.chat.publisher.overflow-policy:BLOCK}")
+				BatchingChatPublisher.OverflowPolicy overflowPolicy) {
+
+		return new ChatStreamPublisher(chatRedisTemplate, CHAT_STREAM_KEY, queueCapacity)
+			.withMaxLength(maxLength)
+			.withBatchSize(batchSize)
+			.withFlushInterval(flushInterval)
+			.withOverflowPolicy(overflowPolicy)
+			.start();
+	}
+
+	@Bean
+	ChatStreamConsumer chatStreamConsumer(RedisTemplate<String, Chat> chatRedisTemplate,
+			MessageListener chatMessageListener,
+			@Value("${example.chat.streams.group:" + CHAT_STREAM_GROUP_NAME + "}") String groupName,
+			@Value("${example.chat.streams.consumers:1}") int consumerCount,
+			@Value("${example.chat.streams.batch-size:100}") int batchSize,
+			@Value("${example.chat.streams.block-timeout:1s}") Duration blockTimeout,
+			@Value("${example.chat.streams.min-idle-time:30s}") Duration minIdleTime) {
+
+		return new ChatStreamConsumer(chatRedisTemplate, CHAT_STREAM_KEY, groupName, chatMessageListener)
+			.withConsumerCount(consumerCount)
+			.withBatchSize(batchSize)
+			.withBlockTimeout(blockTimeout)
+			.withMinIdleTime(minIdleTime)
+			.start();
+	}
+}
@@ -16,23 +16,44 @@
 package io.vmware.spring.data.redis.pubsub.client.config;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.cp.elements.lang.Renderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.util.ErrorHandler;
+import org.springframework.util.StringUtils;
 
 import example.chat.model.Chat;
+import io.vmware.spring.data.redis.core.ExpirationPolicy;
+import io.vmware.spring.data.redis.core.TimeBucketedExpiration;
+import io.vmware.spring.data.redis.pubsub.client.data.KeyDistribution;
 import io.vmware.spring.data.redis.pubsub.client.data.RedisKeyValueGenerator;
+import io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator;
+import io.vmware.spring.data.redis.pubsub.client.data.ValueSizeDistribution;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatHeaderPredicate;
 import io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener;
 import io.vmware.spring.data.redis.pubsub.client.event.ExpiringRedisKeysEventListener;
+import io.vmware.spring.data.redis.pubsub.client.event.KeyExpirationTracker;
+import io.vmware.spring.data.redis.pubsub.client.event.StripedMessageListener;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelopeRedisSerializer;
 import io.vmware.spring.data.redis.pubsub.client.support.ConsoleToStringChatRenderer;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,6 +70,7 @@ import lombok.extern.slf4j.Slf4j;
 public class RedisConfiguration {
 
 	public static final String CHAT_REDIS_CHANNEL_NAME = "chatroom";
+	public static final String EXPIRY_BUCKET_KEY_PREFIX = "expiry:bucket:";
 
 	@Bean
 	Renderer<Chat> chatClientRenderer() {
@@ -56,19 +78,125 @@ public class RedisConfiguration {
 	}
 
 	@Bean
-	ChatMessageListener chatMessageListener(Renderer<Chat> chatRenderer) {
-		return chat -> chat.render(chatRenderer);
+	RedisTemplate<String, Chat> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+		RedisTemplate<String, Chat> chatRedisTemplate = new RedisTemplate<>();
+
+		chatRedisTemplate.setConnectionFactory(connectionFactory);
+		chatRedisTemplate.setKeySerializer(RedisSerializer.string());
+		chatRedisTemplate.setValueSerializer(ChatEnvelopeRedisSerializer.INSTANCE);
+
+		return chatRedisTemplate;
+	}
+
+	@Bean
+	@Profile("!" + ChatStreamsConfiguration.CHAT_STREAMS_PROFILE)
+	BatchingChatPublisher batchingChatPublisher(RedisTemplate<String, Chat> chatRedisTemplate,
+			@Value("${example.chat.publisher.queue-capacity:10000}") int queueCapacity,
+			@Value("${example.chat.publisher.batch-size:256}") int batchSize,
+			@Value("${example.chat.publisher.flush-interval:10ms}") Duration flushInterval,
+			@Value("${example.chat.publisher.flush-mode:PIPELINED}") BatchingChatPublisher.FlushMode flushMode,
+			@Value("${example.chat.publisher.overflow-policy:BLOCK}")
+				BatchingChatPublisher.OverflowPolicy overflowPolicy) {
+
+		return new BatchingChatPublisher(chatRedisTemplate, CHAT_REDIS_CHANNEL_NAME, queueCapacity)
+			.withBatchSize(batchSize)
+			.withFlushInterval(flushInterval)
+			.withFlushMode(flushMode)
+			.withOverflowPolicy(overflowPolicy)
+			.start();
+	}
+
+	@Bean
+	ChatMessageListener chatMessageListener(Renderer<Chat> chatRenderer,
+			@Value("${example.chat.listener.senders:}") String[] senders) {
+
+		ChatMessageListener chatMessageListener = ChatMessageListener.rendering(chatRenderer);
+
+		List<String> senderIds = Arrays.stream(senders).filter(StringUtils::hasText).map(String::trim).toList();
+
+		return senderIds.isEmpty() ? chatMessageListener
+			: ChatMessageListener.filtered(ChatHeaderPredicate.fromSenders(senderIds), chatMessageListener);
+	}
+
+	@Bean
+	@Profile("!" + ChatStreamsConfiguration.CHAT_STREAMS_PROFILE)
+	StripedMessageListener stripedChatMessageListener(MessageListener chatMessageListener,
+			@Value("${example.chat.listener.stripes:0}") int stripeCount,
+			@Value("${example.chat.listener.stripe-queue-capacity:1000}") int queueCapacity) {
+
+		int resolvedStripeCount = stripeCount > 0 ? stripeCount : Runtime.getRuntime().availableProcessors();
+
+		return new StripedMessageListener(chatMessageListener, resolvedStripeCount, queueCapacity)
+			.withMessageSplitter(this::splitChatBatch)
+			.withStripeKeyExtractor(this::chatSenderOrChannelHash)
+			.withErrorHandler(redisMessageListenerContainerErrorHandler())
+			.start();
+	}
+
+	/**
+	 * Splits a batch envelope into its chat envelopes, so that each chat is striped by its own sender. A sender's
+	 * chats may be published both alone and in batches combined with other senders, and would otherwise reach
+	 * different stripes.
+	 */
+	private void splitChatBatch(Message message, Consumer<Message> unitConsumer) {
+
+		byte[] body = message.getBody();
+
+		if (ChatEnvelope.isEnvelope(body) && ChatEnvelope.messageType(body) == ChatEnvelope.MessageType.BATCH) {
+			ChatEnvelope.forEachBatchEntry(body, envelope ->
+				unitConsumer.accept(new DefaultMessage(message.getChannel(), envelope)));
+		}
+		else {
+			unitConsumer.accept(message);
+		}
+	}
+
+	/**
+	 * Stripes enveloped chats by sender, preserving the order of the chats of each sender, and other messages
+	 * (including chats without a sender) by channel.
+	 */
+	private int chatSenderOrChannelHash(Message message) {
+
+		byte[] body = message.getBody();
+
+		return ChatEnvelope.isEnvelope(body) && ChatEnvelope.senderHash(body) != 0
+			? ChatEnvelope.senderHash(body)
+			: Arrays.hashCode(message.getChannel());
+	}
+
+	/**
+	 * Subscribes the {@link StripedMessageListener} on a dedicated {@link RedisMessageListenerContainer} dispatching
+	 * messages in order on the subscription thread, as required by the {@link StripedMessageListener}.
+	 */
+	@Bean
+	@Profile("!" + ChatStreamsConfiguration.CHAT_STREAMS_PROFILE)
+	RedisMessageListenerContainer chatMessageListenerContainer(RedisConnectionFactory connectionFactory,
+			StripedMessageListener stripedChatMessageListener) {
+
+		RedisMessageListenerContainer messageListenerContainer = new RedisMessageListenerContainer();
+
+		messageListenerContainer.setConnectionFactory(connectionFactory);
+		messageListenerContainer.setErrorHandler(redisMessageListenerContainerErrorHandler());
+		messageListenerContainer.setTaskExecutor(new SyncTaskExecutor());
+
+		messageListenerContainer.addMessageListener(stripedChatMessageListener,
+			ChannelTopic.of(CHAT_REDIS_CHANNEL_NAME));
+
+		return messageListenerContainer;
 	}
 
+	/**
+	 * {@link RedisMessageListenerContainer} for all other subscriptions (such as keyspace notifications), dispatching
+	 * messages with its default {@link java.util.concurrent.Executor} rather than on the subscription thread.
+	 */
 	@Bean
-	RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-			MessageListener chatMessageListener) {
+	RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
 
 		RedisMessageListenerContainer messageListenerContainer = new RedisMessageListenerContainer();
 
 		messageListenerContainer.setConnectionFactory(connectionFactory);
 		messageListenerContainer.setErrorHandler(redisMessageListenerContainerErrorHandler());
-		messageListenerContainer.addMessageListener(chatMessageListener, ChannelTopic.of(CHAT_REDIS_CHANNEL_NAME));
 
 		return messageListenerContainer;
 	}
@@ -83,13 +211,82 @@ public class RedisConfiguration {
 	}
 
 	@Bean
-	KeyExpirationEventMessageListener keyExpirationEventMessageListener(RedisMessageListenerContainer listenerContainer) {
-		return new KeyExpirationEventMessageListener(listenerContainer);
+	KeyExpirationTracker keyExpirationTracker(ApplicationEventPublisher eventPublisher) {
+		return new KeyExpirationTracker(eventPublisher).start();
+	}
+
+	@Bean
+	KeyExpirationEventMessageListener keyExpirationEventMessageListener(
+			RedisMessageListenerContainer redisMessageListenerContainer, KeyExpirationTracker keyExpirationTracker) {
+
+		return keyExpirationTracker.newKeyExpirationEventMessageListener(redisMessageListenerContainer);
 	}
 
 	@Bean
 	@Profile("generate-redis-keys-values")
-	RedisKeyValueGenerator redisKeyValueGenerator(RedisTemplate<String, String> redisTemplate) {
-		return new RedisKeyValueGenerator(redisTemplate).withExpirationTimeout(Duration.ofSeconds(1));
+	RedisKeyValueGenerator redisKeyValueGenerator(RedisTemplate<String, String> redisTemplate,
+			KeyExpirationTracker keyExpirationTracker,
+			@Value("${example.redis.keyvalue.expiration.timeout:1s}") Duration expirationTimeout,
+			@Value("${example.redis.keyvalue.expiration.jitter:0}") double expirationJitter,
+			@Value("${example.redis.keyvalue.expiration.bucket-interval:0s}") Duration bucketInterval) {
+
+		ExpirationPolicy expirationPolicy = expirationJitter > 0 && !expirationTimeout.isZero()
+			? ExpirationPolicy.jittered(expirationTimeout, expirationJitter)
+			: ExpirationPolicy.fixed(expirationTimeout);
+
+		if (bucketInterval.isZero() || expirationTimeout.isZero()) {
+			return new RedisKeyValueGenerator(redisTemplate)
+				.withExpirationPolicy(expirationPolicy)
+				.withExpirationTracker(keyExpirationTracker);
+		}
+
+		log.warn("Keys are written to time-bucketed containers; the KeyExpirationTracker does not track them");
+
+		long maximumTimeToLiveMillis = Math.round(expirationTimeout.toMillis() * (1 + expirationJitter));
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(redisTemplate, EXPIRY_BUCKET_KEY_PREFIX, bucketInterval)
+				.withMaximumTimeToLive(Duration.ofMillis(maximumTimeToLiveMillis));
+
+		return new RedisKeyValueGenerator(redisTemplate)
+			.withExpirationPolicy(expirationPolicy)
+			.withBucketedExpiration(bucketedExpiration);
+	}
+
+	@Bean
+	@Profile("redis-load-generator")
+	RedisLoadGenerator redisLoadGenerator(RedisTemplate<String, String> redisTemplate,
+			@Value("${example.redis.load.target-rate:10000}") int targetRate,
+			@Value("${example.redis.load.threads:4}") int threadCount,
+			@Value("${example.redis.load.duration:0s}") Duration duration,
+			@Value("${example.redis.load.key-count:100000}") long keyCount,
+			@Value("${example.redis.load.key-distribution:uniform}") String keyDistribution,
+			@Value("${example.redis.load.value-size-min:64}") int minimumValueSize,
+			@Value("${example.redis.load.value-size-max:64}") int maximumValueSize,
+			@Value("${example.redis.load.mix.read:80}") double readWeight,
+			@Value("${example.redis.load.mix.write:20}") double writeWeight,
+			@Value("${example.redis.load.mix.delete:0}") double deleteWeight,
+			@Value("${example.redis.load.report-interval:5s}") Duration reportInterval) {
+
+		return new RedisKeyValueGenerator(redisTemplate).newLoadGenerator()
+			.withTargetRate(targetRate)
+			.withThreadCount(threadCount)
+			.withDuration(duration)
+			.withKeyDistribution(keyDistribution(keyDistribution, keyCount))
+			.withValueSizeDistribution(ValueSizeDistribution.uniform(minimumValueSize, maximumValueSize))
+			.withOperationMix(RedisLoadGenerator.OperationMix.of(readWeight, writeWeight, deleteWeight))
+			.withReportInterval(reportInterval)
+			.start();
+	}
+
+	private KeyDistribution keyDistribution(String name, long keyCount) {
+
+		return switch (name.trim().toLowerCase()) {
+			case "hotspot" -> KeyDistribution.hotspot(keyCount, 0.01d, 0.9d);
+			case "uniform" -> KeyDistribution.uniform(keyCount);
+			case "zipfian" -> KeyDistribution.zipfian(keyCount, 0.99d);
+			default -> throw new IllegalArgumentException(String.format("Key distribution [%s] is not supported",
+				name));
+		};
 	}
 }
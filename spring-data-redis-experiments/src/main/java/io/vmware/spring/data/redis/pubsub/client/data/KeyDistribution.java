@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.data;
+
+import java.util.random.RandomGenerator;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Interface defining a distribution of key indexes in the range {@literal [0, keyCount)}, used to choose
+ * the key of each operation generated by a {@link RedisLoadGenerator}.
+ *
+ * @author John Blum
+ * @see java.util.random.RandomGenerator
+ * @see io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface KeyDistribution {
+
+	/**
+	 * Every key is equally likely.
+	 *
+	 * @param keyCount number of keys; must be greater than {@literal 0}.
+	 * @return a uniform {@link KeyDistribution}.
+	 */
+	static @NonNull KeyDistribution uniform(long keyCount) {
+		assertKeyCount(keyCount);
+		return random -> random.nextLong(keyCount);
+	}
+
+	/**
+	 * A fraction of hot keys receives a fraction of the operations; the remaining operations are spread uniformly
+	 * over the remaining keys. For example, {@literal hotspot(n, 0.01, 0.9)} sends 90% of the operations to 1%
+	 * of the keys.
+	 *
+	 * @param keyCount number of keys; must be greater than {@literal 0}.
+	 * @param hotKeyFraction fraction of the keys that are hot, between {@literal 0} and {@literal 1}.
+	 * @param hotOperationFraction fraction of the operations on hot keys, between {@literal 0} and {@literal 1}.
+	 * @return a hotspot {@link KeyDistribution}.
+	 */
+	static @NonNull KeyDistribution hotspot(long keyCount, double hotKeyFraction, double hotOperationFraction) {
+
+		assertKeyCount(keyCount);
+		assertFraction(hotKeyFraction, "Hot key fraction");
+		assertFraction(hotOperationFraction, "Hot operation fraction");
+
+		long hotKeyCount = Math.max(1L, Math.min(keyCount, (long) (keyCount * hotKeyFraction)));
+		long coldKeyCount = keyCount - hotKeyCount;
+
+		return random -> coldKeyCount == 0 || random.nextDouble() < hotOperationFraction
+			? random.nextLong(hotKeyCount)
+			: hotKeyCount + random.nextLong(coldKeyCount);
+	}
+
+	/**
+	 * Key popularity follows a Zipfian (power law) distribution, where the key with rank {@literal i} is chosen
+	 * with a probability proportional to {@literal 1 / i^theta}; key {@literal 0} is the most popular.
+	 *
+	 * @param keyCount number of keys; must be greater than {@literal 0}.
+	 * @param theta skew of the distribution, between {@literal 0} (exclusive) and {@literal 1} (exclusive);
+	 * YCSB uses {@literal 0.99}.
+	 * @return a Zipfian {@link KeyDistribution}.
+	 * @see <a href="https://dl.acm.org/doi/10.1145/191839.191886">Quickly Generating Billion-Record Synthetic
+	 * Databases</a>
+	 */
+	static @NonNull KeyDistribution zipfian(long keyCount, double theta) {
+
+		assertKeyCount(keyCount);
+		Assert.isTrue(theta > 0.0d && theta < 1.0d, () -> String.format("Theta [%s] must be between 0 and 1", theta));
+
+		double zetaN = zeta(keyCount, theta);
+		double zeta2 = zeta(Math.min(keyCount, 2L), theta);
+		double alpha = 1.0d / (1.0d - theta);
+		double eta = (1.0d - Math.pow(2.0d / keyCount, 1.0d - theta)) / (1.0d - zeta2 / zetaN);
+		double secondRankThreshold = 1.0d + Math.pow(0.5d, theta);
+
+		return random -> {
+
+			double u = random.nextDouble();
+			double uz = u * zetaN;
+
+			if (uz < 1.0d) {
+				return 0L;
+			}
+			else if (uz < secondRankThreshold) {
+				return Math.min(1L, keyCount - 1);
+			}
+
+			return Math.min((long) (keyCount * Math.pow(eta * u - eta + 1.0d, alpha)), keyCount - 1);
+		};
+	}
+
+	private static double zeta(long count, double theta) {
+
+		double sum = 0.0d;
+
+		for (long rank = 1; rank <= count; rank++) {
+			sum += 1.0d / Math.pow(rank, theta);
+		}
+
+		return sum;
+	}
+
+	private static void assertKeyCount(long keyCount) {
+		Assert.isTrue(keyCount > 0, () -> String.format("Key count [%d] must be greater than 0", keyCount));
+	}
+
+	private static void assertFraction(double fraction, String name) {
+		Assert.isTrue(fraction >= 0.0d && fraction <= 1.0d,
+			() -> String.format("%s [%s] must be between 0 and 1", name, fraction));
+	}
+
+	/**
+	 * Returns the index of the next key.
+	 *
+	 * @param random {@link RandomGenerator} of the calling {@link Thread}.
+	 * @return the index of the next key in the range {@literal [0, keyCount)}.
+	 */
+	long nextKeyIndex(@NonNull RandomGenerator random);
+
+}
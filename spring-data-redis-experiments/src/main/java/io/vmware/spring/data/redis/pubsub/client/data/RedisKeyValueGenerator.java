@@ -17,29 +17,50 @@ package io.vmware.spring.data.redis.pubsub.client.data;
 
 import java.time.Duration;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.cp.elements.lang.ObjectUtils;
 import org.slf4j.Logger;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import io.vmware.spring.data.redis.core.BlockIdAllocator;
+import io.vmware.spring.data.redis.core.ExpirationPolicy;
+import io.vmware.spring.data.redis.core.TimeBucketedExpiration;
+import io.vmware.spring.data.redis.pubsub.client.event.KeyExpirationTracker;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Spring {@link Service} used to automatically generate Redis keys and values with optional expiration.
+ * <p>
+ * The TTL of each key is determined by an {@link ExpirationPolicy}, which can jitter the TTL so that keys written
+ * together do not expire together. Alternatively, expiring keys can be written to the per-interval containers of
+ * a {@link TimeBucketedExpiration}, which expire as one key.
+ * <p>
+ * Key numbers are issued by a {@link BlockIdAllocator} sharing a counter in Redis, so that keys are unique across
+ * all generators writing to the same Redis server.
+ * <p>
+ * Expiring keys are tracked with an optional {@link KeyExpirationTracker}, which raises expiry events
+ * when the expiration timeout elapses rather than when Redis evicts the key. Keys written to time-bucketed
+ * containers are not tracked, since Redis expires their container rather than the keys. For sustained load
+ * at a target rate, use a {@link #newLoadGenerator() RedisLoadGenerator} writing keys with the same prefix
+ * and expiration.
  *
  * @author John Blum
  * @see java.time.Duration
  * @see org.springframework.data.redis.core.RedisTemplate
  * @see org.springframework.scheduling.annotation.EnableScheduling
  * @see org.springframework.stereotype.Service
+ * @see io.vmware.spring.data.redis.core.BlockIdAllocator
+ * @see io.vmware.spring.data.redis.core.ExpirationPolicy
+ * @see io.vmware.spring.data.redis.core.TimeBucketedExpiration
+ * @see io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator
+ * @see io.vmware.spring.data.redis.pubsub.client.event.KeyExpirationTracker
  * @since 0.1.0
  */
 @Slf4j
@@ -48,24 +69,29 @@ import lombok.extern.slf4j.Slf4j;
 @SuppressWarnings("unused")
 public class RedisKeyValueGenerator {
 
-	protected static final AtomicInteger keyNumber = new AtomicInteger(0);
-
 	protected static final Duration DEFAULT_EXPIRATION_TIMEOUT = Duration.ZERO;
 
 	protected static final String KEY_PREFIX = "key";
+	protected static final String KEY_NUMBER_COUNTER_KEY = "sequence:key";
 
-	@Setter(AccessLevel.PROTECTED)
-	private Duration expirationTimeout;
+	@Getter(AccessLevel.PROTECTED)
+	private ExpirationPolicy expirationPolicy = ExpirationPolicy.fixed(DEFAULT_EXPIRATION_TIMEOUT);
+
+	@Getter(AccessLevel.PROTECTED)
+	private KeyExpirationTracker expirationTracker;
+
+	@Getter(AccessLevel.PROTECTED)
+	private TimeBucketedExpiration<String> bucketedExpiration;
+
+	@Getter(AccessLevel.PROTECTED)
+	private BlockIdAllocator keyNumberAllocator;
 
 	@Getter(AccessLevel.PROTECTED)
 	private final RedisTemplate<String, String> redisTemplate;
 
 	public RedisKeyValueGenerator(@NonNull RedisTemplate<String, String> redisTemplate) {
 		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
-	}
-
-	protected @NonNull Duration getExpirationTimeout() {
-		return ObjectUtils.returnFirstNonNullValue(this.expirationTimeout, DEFAULT_EXPIRATION_TIMEOUT);
+		this.keyNumberAllocator = new BlockIdAllocator(redisTemplate, KEY_NUMBER_COUNTER_KEY);
 	}
 
 	@Scheduled(fixedRateString = "${example.redis.keyvalue.generation.rate:1000}")
@@ -74,21 +100,51 @@ public class RedisKeyValueGenerator {
 		String key = generateKey();
 		String value = generateValue();
 
-		Duration expirationTimeout = getExpirationTimeout();
+		Duration timeToLive = getExpirationPolicy().nextTimeToLive();
+		TimeBucketedExpiration<String> bucketedExpiration = getBucketedExpiration();
+
+		logInfo("KEY [{}] VALUE [{}] with EXPIRATION [{}]", key, value, timeToLive);
+
+		if (timeToLive.isZero()) {
+			getRedisTemplate().opsForValue().set(key, value);
+		}
+		else if (bucketedExpiration != null) {
+			// The key expires with its container, which is not tracked
+			bucketedExpiration.set(key, value, timeToLive);
+		}
+		else {
 
-		logInfo("KEY [{}] VALUE [{}] with EXPIRATION [{}]", key, value, expirationTimeout);
+			getRedisTemplate().opsForValue().set(key, value, timeToLive);
 
-		getRedisTemplate().opsForValue().set(key, value, expirationTimeout);
+			KeyExpirationTracker expirationTracker = getExpirationTracker();
+
+			if (expirationTracker != null) {
+				expirationTracker.track(key, timeToLive);
+			}
+		}
 	}
 
 	protected @NonNull String generateKey() {
-		return KEY_PREFIX.concat(String.valueOf(keyNumber.incrementAndGet()));
+		return KEY_PREFIX.concat(String.valueOf(getKeyNumberAllocator().nextId()));
 	}
 
 	protected @NonNull String generateValue() {
 		return UUID.randomUUID().toString();
 	}
 
+	/**
+	 * Creates a new, unstarted {@link RedisLoadGenerator} using the {@link RedisTemplate}, key prefix and
+	 * {@link ExpirationPolicy} of this generator.
+	 *
+	 * @return a new {@link RedisLoadGenerator}.
+	 */
+	public @NonNull RedisLoadGenerator newLoadGenerator() {
+
+		return new RedisLoadGenerator(getRedisTemplate())
+			.withKeyPrefix(KEY_PREFIX)
+			.withExpirationPolicy(getExpirationPolicy());
+	}
+
 	protected Logger getLogger() {
 		return log;
 	}
@@ -102,8 +158,48 @@ public class RedisKeyValueGenerator {
 		}
 	}
 
-	public @NonNull RedisKeyValueGenerator withExpirationTimeout(Duration expirationTimeout) {
-		setExpirationTimeout(expirationTimeout);
+	/**
+	 * Configures a {@link TimeBucketedExpiration} receiving the keys written with a TTL, which then expire
+	 * with their container rather than individually.
+	 *
+	 * @param bucketedExpiration {@link TimeBucketedExpiration} receiving expiring keys; may be {@literal null}.
+	 * @return this {@link RedisKeyValueGenerator}.
+	 */
+	public @NonNull RedisKeyValueGenerator withBucketedExpiration(
+			@Nullable TimeBucketedExpiration<String> bucketedExpiration) {
+
+		this.bucketedExpiration = bucketedExpiration;
+		warnIfExpiringKeysAreNotTracked();
+
+		return this;
+	}
+
+	public @NonNull RedisKeyValueGenerator withExpirationPolicy(@NonNull ExpirationPolicy expirationPolicy) {
+		this.expirationPolicy = ObjectUtils.requireObject(expirationPolicy, "ExpirationPolicy is required");
 		return this;
 	}
+
+	public @NonNull RedisKeyValueGenerator withExpirationTimeout(@Nullable Duration expirationTimeout) {
+		return withExpirationPolicy(ExpirationPolicy.fixed(
+			ObjectUtils.returnFirstNonNullValue(expirationTimeout, DEFAULT_EXPIRATION_TIMEOUT)));
+	}
+
+	public @NonNull RedisKeyValueGenerator withKeyNumberAllocator(@NonNull BlockIdAllocator keyNumberAllocator) {
+		this.keyNumberAllocator = ObjectUtils.requireObject(keyNumberAllocator, "BlockIdAllocator is required");
+		return this;
+	}
+
+	public @NonNull RedisKeyValueGenerator withExpirationTracker(@Nullable KeyExpirationTracker expirationTracker) {
+		this.expirationTracker = expirationTracker;
+		warnIfExpiringKeysAreNotTracked();
+		return this;
+	}
+
+	private void warnIfExpiringKeysAreNotTracked() {
+
+		if (getBucketedExpiration() != null && getExpirationTracker() != null) {
+			getLogger().warn("Keys written to time-bucketed containers are not tracked by the KeyExpirationTracker;"
+				+ " no expiry events are raised for them");
+		}
+	}
 }
@@ -0,0 +1,621 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.data;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.cp.elements.lang.ObjectUtils;
+import org.slf4j.Logger;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.spring.data.redis.core.ExpirationPolicy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open-loop load generator issuing a configurable mix of {@literal GET}, {@literal SET} and {@literal DEL}
+ * operations through a {@link RedisTemplate} at a target rate, similar to {@literal redis-benchmark} but
+ * exercising the Spring Data Redis stack.
+ * <p>
+ * The {@link #withTargetRate(int) target rate} is divided evenly over the worker {@link Thread Threads}.
+ * Each worker follows a fixed schedule of intended start times, and does not wait for a slow operation before
+ * counting down to the next one: when a worker falls behind, it issues the overdue operations back-to-back.
+ * Latency is measured from the intended start time rather than from the time the operation was actually sent,
+ * which corrects for coordinated omission, so that a stall is reflected in the latency of every operation
+ * scheduled during the stall. The uncorrected service time is recorded as well.
+ * <p>
+ * Latencies are recorded in HdrHistogram {@link Recorder Recorders}; a {@link Report} of the latency percentiles
+ * of the last interval is passed to the {@link #withReportListener(Consumer) report listener} (by default, logged)
+ * every {@link #withReportInterval(Duration) report interval}, and a cumulative {@link Report} is available
+ * from {@link #getReport()}.
+ *
+ * @author John Blum
+ * @see org.HdrHistogram.Recorder
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see io.vmware.spring.data.redis.pubsub.client.data.KeyDistribution
+ * @see io.vmware.spring.data.redis.pubsub.client.data.ValueSizeDistribution
+ * @see <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>
+ * @since 0.1.0
+ */
+@Slf4j
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class RedisLoadGenerator implements AutoCloseable {
+
+	protected static final int DEFAULT_KEY_COUNT = 100_000;
+	protected static final int DEFAULT_TARGET_RATE = 10_000;
+	protected static final int DEFAULT_THREAD_COUNT = 4;
+	protected static final int DEFAULT_VALUE_SIZE = 64;
+
+	protected static final int SIGNIFICANT_VALUE_DIGITS = 3;
+
+	protected static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(10);
+	protected static final Duration DEFAULT_REPORT_INTERVAL = Duration.ofSeconds(5);
+
+	private static final char[] VALUE_CHARACTERS =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+	private static final int VALUE_SOURCE_LENGTH = 64 * 1024;
+
+	private static final String VALUE_SOURCE = newValueSource();
+
+	private static String newValueSource() {
+
+		SplittableRandom random = new SplittableRandom(VALUE_SOURCE_LENGTH);
+		char[] characters = new char[VALUE_SOURCE_LENGTH];
+
+		for (int index = 0; index < characters.length; index++) {
+			characters[index] = VALUE_CHARACTERS[random.nextInt(VALUE_CHARACTERS.length)];
+		}
+
+		return new String(characters);
+	}
+
+	private volatile boolean running;
+
+	private volatile long startNanos;
+	private volatile long stopNanos;
+
+	private Duration duration = Duration.ZERO;
+	private ExpirationPolicy expirationPolicy = ExpirationPolicy.none();
+	private Duration reportInterval = DEFAULT_REPORT_INTERVAL;
+
+	private Consumer<Report> reportListener = report -> logInfo("{}", report);
+
+	private int targetRate = DEFAULT_TARGET_RATE;
+	private int threadCount = DEFAULT_THREAD_COUNT;
+
+	@Getter(AccessLevel.NONE)
+	private final Histogram totalLatency = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+
+	@Getter(AccessLevel.NONE)
+	private final Histogram totalServiceTime = new Histogram(SIGNIFICANT_VALUE_DIGITS);
+
+	private KeyDistribution keyDistribution = KeyDistribution.uniform(DEFAULT_KEY_COUNT);
+
+	private final List<Thread> workers = new ArrayList<>();
+
+	private final AtomicInteger activeWorkers = new AtomicInteger();
+
+	private final LongAdder errorCount = new LongAdder();
+
+	@Getter(AccessLevel.NONE)
+	private long intervalErrorCount;
+
+	@Getter(AccessLevel.NONE)
+	private long intervalStartNanos;
+
+	private OperationMix operationMix = OperationMix.of(80, 20, 0);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	private final Recorder latencyRecorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+	private final Recorder serviceTimeRecorder = new Recorder(SIGNIFICANT_VALUE_DIGITS);
+
+	private String keyPrefix = RedisKeyValueGenerator.KEY_PREFIX;
+
+	private Thread reporter;
+
+	private ValueSizeDistribution valueSizeDistribution = ValueSizeDistribution.fixed(DEFAULT_VALUE_SIZE);
+
+	public RedisLoadGenerator(@NonNull RedisTemplate<String, String> redisTemplate) {
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Returns the cumulative {@link Report} since the load generator was started, including the operations
+	 * recorded since the last interval report.
+	 *
+	 * @return the cumulative {@link Report}.
+	 */
+	public synchronized @NonNull Report getReport() {
+
+		collectInterval();
+
+		long endNanos = this.stopNanos > 0 ? this.stopNanos : System.nanoTime();
+		long elapsedNanos = this.startNanos > 0 ? endNanos - this.startNanos : 0L;
+
+		return new Report(Duration.ofNanos(elapsedNanos), this.errorCount.sum(), this.totalLatency.copy(),
+			this.totalServiceTime.copy());
+	}
+
+	/**
+	 * Starts the worker and reporter {@link Thread Threads}. The load generator runs until it is {@link #close()
+	 * closed} or, if configured, the {@link #withDuration(Duration) duration} has elapsed. When the duration has
+	 * elapsed, the load generator stops when its last worker finishes, and reports the cumulative {@link Report}.
+	 *
+	 * @return this {@link RedisLoadGenerator}.
+	 */
+	public synchronized @NonNull RedisLoadGenerator start() {
+
+		if (!isRunning()) {
+
+			this.running = true;
+			this.startNanos = System.nanoTime();
+			this.stopNanos = 0L;
+			this.intervalStartNanos = this.startNanos;
+
+			long endNanos = this.duration.isZero() ? Long.MAX_VALUE : this.startNanos + this.duration.toNanos();
+			long intervalNanos = TimeUnit.SECONDS.toNanos(1) * this.threadCount / this.targetRate;
+
+			this.activeWorkers.set(this.threadCount);
+
+			for (int index = 0; index < this.threadCount; index++) {
+
+				long firstStartNanos = this.startNanos + index * intervalNanos / this.threadCount;
+				Worker worker = new Worker(index, firstStartNanos, intervalNanos, endNanos);
+				Thread thread = new Thread(worker::run, "redis-load-generator-" + index);
+
+				thread.setDaemon(true);
+				thread.start();
+				this.workers.add(thread);
+			}
+
+			this.reporter = new Thread(this::report, "redis-load-generator-reporter");
+			this.reporter.setDaemon(true);
+			this.reporter.start();
+		}
+
+		return this;
+	}
+
+	/**
+	 * {@link #start() Starts} the load generator for the given {@link Duration} and waits for it to finish.
+	 *
+	 * @param duration {@link Duration} of the run.
+	 * @return the cumulative {@link Report} of the run.
+	 */
+	public @NonNull Report run(@NonNull Duration duration) {
+
+		withDuration(duration).start();
+		awaitWorkers(duration.plus(DEFAULT_CLOSE_TIMEOUT));
+		close();
+
+		return getReport();
+	}
+
+	/**
+	 * Stops the worker {@link Thread Threads}, waiting at most {@link #DEFAULT_CLOSE_TIMEOUT} for outstanding
+	 * operations to complete, and reports the cumulative {@link Report}.
+	 */
+	@Override
+	public void close() {
+
+		boolean wasRunning;
+
+		synchronized (this) {
+			wasRunning = this.running;
+			this.running = false;
+		}
+
+		if (wasRunning) {
+			awaitWorkers(DEFAULT_CLOSE_TIMEOUT);
+			this.stopNanos = System.nanoTime();
+			stopReporter();
+			logInfo("TOTAL {}", getReport());
+		}
+	}
+
+	/**
+	 * Stops the load generator when the last worker has finished because the duration has elapsed; otherwise,
+	 * the load generator was closed and {@link #close()} reports the cumulative {@link Report}.
+	 */
+	private void workerFinished() {
+
+		if (this.activeWorkers.decrementAndGet() == 0) {
+
+			boolean durationElapsed;
+
+			synchronized (this) {
+				durationElapsed = this.running;
+				this.running = false;
+			}
+
+			stopReporter();
+
+			if (durationElapsed) {
+				this.stopNanos = System.nanoTime();
+				logInfo("TOTAL {}", getReport());
+			}
+		}
+	}
+
+	private void stopReporter() {
+
+		Thread reporter;
+
+		synchronized (this) {
+			reporter = this.reporter;
+			this.reporter = null;
+		}
+
+		if (reporter != null) {
+			reporter.interrupt();
+		}
+	}
+
+	private void awaitWorkers(Duration timeout) {
+
+		long deadlineNanos = System.nanoTime() + timeout.toNanos();
+
+		for (Thread worker : this.workers) {
+			try {
+				TimeUnit.NANOSECONDS.timedJoin(worker, Math.max(deadlineNanos - System.nanoTime(), 1L));
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void report() {
+
+		while (isRunning()) {
+			try {
+				Thread.sleep(this.reportInterval.toMillis());
+				getReportListener().accept(collectInterval());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn("Failed to report load", cause);
+			}
+		}
+	}
+
+	/**
+	 * Takes the interval histograms from the {@link Recorder Recorders}, adds them to the cumulative histograms
+	 * and returns the {@link Report} of the interval.
+	 */
+	private synchronized Report collectInterval() {
+
+		long nowNanos = System.nanoTime();
+		long errors = this.errorCount.sum();
+
+		Histogram latency = this.latencyRecorder.getIntervalHistogram();
+		Histogram serviceTime = this.serviceTimeRecorder.getIntervalHistogram();
+
+		this.totalLatency.add(latency);
+		this.totalServiceTime.add(serviceTime);
+
+		Report report = new Report(Duration.ofNanos(nowNanos - this.intervalStartNanos),
+			errors - this.intervalErrorCount, latency, serviceTime);
+
+		this.intervalErrorCount = errors;
+		this.intervalStartNanos = nowNanos;
+
+		return report;
+	}
+
+	protected void execute(@NonNull Operation operation, @NonNull String key, @NonNull RandomGenerator random) {
+
+		switch (operation) {
+			case READ -> getRedisTemplate().opsForValue().get(key);
+			case WRITE -> getExpirationPolicy().set(getRedisTemplate(), key,
+				generateValue(getValueSizeDistribution().nextSize(random), random));
+			case DELETE -> getRedisTemplate().delete(key);
+		}
+	}
+
+	protected @NonNull String generateKey(long keyIndex) {
+		return getKeyPrefix().concat(String.valueOf(keyIndex));
+	}
+
+	/**
+	 * Generates a value of the given size from a random offset of a pre-generated source of random characters,
+	 * repeating the source for values larger than the source.
+	 */
+	protected @NonNull String generateValue(int size, @NonNull RandomGenerator random) {
+
+		if (size <= VALUE_SOURCE_LENGTH) {
+			int offset = random.nextInt(VALUE_SOURCE_LENGTH - size + 1);
+			return VALUE_SOURCE.substring(offset, offset + size);
+		}
+
+		StringBuilder value = new StringBuilder(size);
+
+		while (value.length() < size) {
+			value.append(VALUE_SOURCE, 0, Math.min(VALUE_SOURCE_LENGTH, size - value.length()));
+		}
+
+		return value.toString();
+	}
+
+	protected Logger getLogger() {
+		return log;
+	}
+
+	protected void logInfo(String message, Object... arguments) {
+
+		Logger logger = getLogger();
+
+		if (logger.isInfoEnabled()) {
+			logger.info(message, arguments);
+		}
+	}
+
+	/**
+	 * Configures how long the load generator runs after it is started; {@link Duration#ZERO} (the default)
+	 * runs the load generator until it is closed.
+	 *
+	 * @param duration {@link Duration} of the run; must not be negative.
+	 * @return this {@link RedisLoadGenerator}.
+	 */
+	public @NonNull RedisLoadGenerator withDuration(@NonNull Duration duration) {
+
+		Assert.isTrue(duration != null && !duration.isNegative(),
+			() -> String.format("Duration [%s] must not be negative", duration));
+
+		this.duration = duration;
+
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withExpirationPolicy(@NonNull ExpirationPolicy expirationPolicy) {
+		this.expirationPolicy = ObjectUtils.requireObject(expirationPolicy, "ExpirationPolicy is required");
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withExpirationTimeout(@NonNull Duration expirationTimeout) {
+		return withExpirationPolicy(ExpirationPolicy.fixed(expirationTimeout));
+	}
+
+	public @NonNull RedisLoadGenerator withKeyDistribution(@NonNull KeyDistribution keyDistribution) {
+		this.keyDistribution = ObjectUtils.requireObject(keyDistribution, "KeyDistribution is required");
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withKeyPrefix(@NonNull String keyPrefix) {
+		Assert.notNull(keyPrefix, "Key prefix is required");
+		this.keyPrefix = keyPrefix;
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withOperationMix(@NonNull OperationMix operationMix) {
+		this.operationMix = ObjectUtils.requireObject(operationMix, "OperationMix is required");
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withReportInterval(@NonNull Duration reportInterval) {
+
+		Assert.isTrue(reportInterval != null && reportInterval.toMillis() > 0,
+			() -> String.format("Report interval [%s] must be at least 1 ms", reportInterval));
+
+		this.reportInterval = reportInterval;
+
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withReportListener(@NonNull Consumer<Report> reportListener) {
+		this.reportListener = ObjectUtils.requireObject(reportListener, "Report listener is required");
+		return this;
+	}
+
+	/**
+	 * Configures the total number of operations per second issued by all worker {@link Thread Threads}.
+	 *
+	 * @param targetRate target number of operations per second; must be greater than {@literal 0}.
+	 * @return this {@link RedisLoadGenerator}.
+	 */
+	public @NonNull RedisLoadGenerator withTargetRate(int targetRate) {
+		Assert.isTrue(targetRate > 0, () -> String.format("Target rate [%d] must be greater than 0", targetRate));
+		this.targetRate = targetRate;
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withThreadCount(int threadCount) {
+		Assert.isTrue(threadCount > 0, () -> String.format("Thread count [%d] must be greater than 0", threadCount));
+		this.threadCount = threadCount;
+		return this;
+	}
+
+	public @NonNull RedisLoadGenerator withValueSizeDistribution(
+			@NonNull ValueSizeDistribution valueSizeDistribution) {
+
+		this.valueSizeDistribution =
+			ObjectUtils.requireObject(valueSizeDistribution, "ValueSizeDistribution is required");
+
+		return this;
+	}
+
+	/**
+	 * {@link Enum Enumeration} of the operations issued by the {@link RedisLoadGenerator}.
+	 */
+	public enum Operation {
+		READ, WRITE, DELETE
+	}
+
+	/**
+	 * Java {@link Record} defining the relative weights of the {@link Operation Operations}; for example,
+	 * {@literal OperationMix.of(80, 20, 0)} issues 80% reads and 20% writes.
+	 *
+	 * @param read weight of {@link Operation#READ} operations.
+	 * @param write weight of {@link Operation#WRITE} operations.
+	 * @param delete weight of {@link Operation#DELETE} operations.
+	 */
+	public record OperationMix(double read, double write, double delete) {
+
+		public static @NonNull OperationMix of(double read, double write, double delete) {
+			return new OperationMix(read, write, delete);
+		}
+
+		public OperationMix {
+			Assert.isTrue(read >= 0 && write >= 0 && delete >= 0 && read + write + delete > 0,
+				() -> String.format("Operation weights [%s, %s, %s] must not be negative and must not all be 0",
+					read, write, delete));
+		}
+
+		public @NonNull Operation next(@NonNull RandomGenerator random) {
+
+			double value = random.nextDouble() * (read() + write() + delete());
+
+			return value < read() ? Operation.READ
+				: value < read() + write() ? Operation.WRITE
+				: Operation.DELETE;
+		}
+	}
+
+	/**
+	 * Java {@link Record} containing the latency histograms (in nanoseconds) of a reporting interval, or of
+	 * the whole run.
+	 *
+	 * @param elapsed {@link Duration} covered by the report.
+	 * @param errors number of operations that failed; failed operations are not recorded in the histograms.
+	 * @param latency {@link Histogram} of the latency measured from the intended start time of each operation,
+	 * corrected for coordinated omission.
+	 * @param serviceTime {@link Histogram} of the latency measured from the actual start time of each operation.
+	 */
+	public record Report(Duration elapsed, long errors, Histogram latency, Histogram serviceTime) {
+
+		public long operations() {
+			return latency().getTotalCount();
+		}
+
+		public double throughput() {
+			long elapsedNanos = elapsed().toNanos();
+			return elapsedNanos > 0 ? operations() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0.0d;
+		}
+
+		public @NonNull Duration latencyAt(double percentile) {
+			return Duration.ofNanos(latency().getValueAtPercentile(percentile));
+		}
+
+		public @NonNull Duration serviceTimeAt(double percentile) {
+			return Duration.ofNanos(serviceTime().getValueAtPercentile(percentile));
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("[%.1f s] operations [%d] errors [%d] throughput [%.0f ops/s]"
+					+ " latency p50 [%s] p90 [%s] p99 [%s] p99.9 [%s] max [%s] (service time p99 [%s] max [%s])",
+				elapsed().toMillis() / 1000.0d, operations(), errors(), throughput(),
+				millis(latencyAt(50.0d)), millis(latencyAt(90.0d)), millis(latencyAt(99.0d)),
+				millis(latencyAt(99.9d)), millis(latency().getMaxValue()),
+				millis(serviceTimeAt(99.0d)), millis(serviceTime().getMaxValue()));
+		}
+
+		private static String millis(Duration duration) {
+			return millis(duration.toNanos());
+		}
+
+		private static String millis(long nanos) {
+			return String.format("%.3f ms", nanos / 1_000_000.0d);
+		}
+	}
+
+	/**
+	 * Worker issuing operations on a fixed schedule of intended start times. Each worker has its own
+	 * {@link RandomGenerator}.
+	 */
+	private class Worker {
+
+		private final long endNanos;
+		private final long intervalNanos;
+
+		private long intendedStartNanos;
+
+		private final RandomGenerator random;
+
+		Worker(int index, long firstStartNanos, long intervalNanos, long endNanos) {
+			this.intendedStartNanos = firstStartNanos;
+			this.intervalNanos = Math.max(intervalNanos, 1L);
+			this.endNanos = endNanos;
+			this.random = new SplittableRandom(System.nanoTime() + index);
+		}
+
+		void run() {
+
+			try {
+				issueOperations();
+			}
+			finally {
+				workerFinished();
+			}
+		}
+
+		private void issueOperations() {
+
+			while (isRunning() && this.intendedStartNanos < this.endNanos) {
+
+				long startNanos = System.nanoTime();
+
+				if (startNanos < this.intendedStartNanos) {
+					LockSupport.parkNanos(this.intendedStartNanos - startNanos);
+					continue;
+				}
+
+				Operation operation = getOperationMix().next(this.random);
+				String key = generateKey(getKeyDistribution().nextKeyIndex(this.random));
+
+				try {
+					execute(operation, key, this.random);
+
+					long endNanos = System.nanoTime();
+
+					getLatencyRecorder().recordValue(endNanos - this.intendedStartNanos);
+					getServiceTimeRecorder().recordValue(endNanos - startNanos);
+				}
+				catch (RuntimeException cause) {
+					getErrorCount().increment();
+				}
+
+				this.intendedStartNanos += this.intervalNanos;
+			}
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.data;
+
+import java.util.random.RandomGenerator;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Interface defining a distribution of value sizes, in bytes, used to size the values written by
+ * a {@link RedisLoadGenerator}.
+ *
+ * @author John Blum
+ * @see java.util.random.RandomGenerator
+ * @see io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface ValueSizeDistribution {
+
+	static @NonNull ValueSizeDistribution fixed(int size) {
+		assertSize(size);
+		return random -> size;
+	}
+
+	static @NonNull ValueSizeDistribution uniform(int minimumSize, int maximumSize) {
+
+		assertSize(minimumSize);
+		Assert.isTrue(maximumSize >= minimumSize, () -> String.format("Maximum size [%d] must be at least [%d]",
+			maximumSize, minimumSize));
+
+		return random -> random.nextInt(minimumSize, maximumSize + 1);
+	}
+
+	/**
+	 * Sizes are exponentially distributed around the mean and capped at the maximum, modeling workloads with
+	 * mostly small values and a long tail of large values.
+	 *
+	 * @param meanSize mean value size; must be greater than {@literal 0}.
+	 * @param maximumSize maximum value size; must be at least the mean.
+	 * @return an exponential {@link ValueSizeDistribution}.
+	 */
+	static @NonNull ValueSizeDistribution exponential(int meanSize, int maximumSize) {
+
+		Assert.isTrue(meanSize > 0, () -> String.format("Mean size [%d] must be greater than 0", meanSize));
+		Assert.isTrue(maximumSize >= meanSize, () -> String.format("Maximum size [%d] must be at least [%d]",
+			maximumSize, meanSize));
+
+		return random -> (int) Math.min(Math.round(random.nextExponential() * meanSize), maximumSize);
+	}
+
+	private static void assertSize(int size) {
+		Assert.isTrue(size >= 0, () -> String.format("Size [%d] must not be negative", size));
+	}
+
+	int nextSize(@NonNull RandomGenerator random);
+
+}
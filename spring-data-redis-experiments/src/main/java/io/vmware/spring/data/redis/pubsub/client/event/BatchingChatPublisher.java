@@ -0,0 +1,540 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.slf4j.Logger;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import example.chat.event.ChatEvent;
+import example.chat.event.ChatEventListener;
+import example.chat.model.Chat;
+import io.vmware.spring.data.redis.core.StreamingPipelineExecutor;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous {@link ChatEventListener} publishing {@link Chat Chats} to Redis pub/sub in batches.
+ * <p>
+ * {@link #handle(ChatEvent) Handled} chats are put in a bounded queue and returned immediately, so the threads
+ * firing {@link ChatEvent ChatEvents} (for example, the chat bot scheduler threads) no longer wait for
+ * a {@literal PUBLISH} round trip per chat. A single flusher thread drains the queue and flushes a batch when
+ * it reaches the {@link #getBatchSize() batch size}, or when the {@link #getFlushInterval() flush interval}
+ * has elapsed since the first chat of the batch was taken from the queue, whichever comes first.
+ * <p>
+ * A batch is flushed on one connection with the {@link StreamingPipelineExecutor}, either as one pipelined
+ * {@literal PUBLISH} per chat ({@link FlushMode#PIPELINED}, the default), or as one
+ * {@link ChatEnvelope#writeBatch(List, long) batch envelope} per channel ({@link FlushMode#BATCHED}), which
+ * {@link ChatMessageListener ChatMessageListeners} split back into individual chats. Batching requires a value
+ * {@link RedisSerializer} writing {@link ChatEnvelope ChatEnvelopes}. Subclasses may {@link #send(RedisConnection, byte[], byte[]) send}
+ * messages with a command other than {@literal PUBLISH}.
+ * <p>
+ * When the queue is full, the {@link OverflowPolicy} either blocks the caller for at most the
+ * {@link #getOfferTimeout() offer timeout} (backpressure) and then drops the chat, drops the newest chat, or
+ * drops the oldest queued chat. Queue depth, published, dropped and failed chats, as well as flush counts and
+ * latencies are available from {@link #getStatistics()}.
+ *
+ * @author John Blum
+ * @see example.chat.event.ChatEventListener
+ * @see io.vmware.spring.data.redis.core.StreamingPipelineExecutor
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
+ * @since 0.1.0
+ */
+@Slf4j
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class BatchingChatPublisher implements ChatEventListener<Chat>, AutoCloseable {
+
+	protected static final int DEFAULT_BATCH_SIZE = 256;
+	protected static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+	protected static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+	protected static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+	protected static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofMillis(100);
+
+	protected static final FlushMode DEFAULT_FLUSH_MODE = FlushMode.PIPELINED;
+
+	private final AtomicLong flushCount = new AtomicLong();
+	private final AtomicLong maxFlushNanos = new AtomicLong();
+	private final AtomicLong totalFlushNanos = new AtomicLong();
+
+	private final BlockingQueue<Chat> queue;
+
+	private volatile boolean running;
+
+	private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+	private Duration offerTimeout = DEFAULT_OFFER_TIMEOUT;
+
+	private FlushMode flushMode = DEFAULT_FLUSH_MODE;
+
+	private Function<Chat, String> channelResolver;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder publishedCount = new LongAdder();
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private final RedisTemplate<String, Chat> redisTemplate;
+
+	private Thread flusher;
+
+	public BatchingChatPublisher(@NonNull RedisTemplate<String, Chat> redisTemplate, @NonNull String channel) {
+		this(redisTemplate, channel, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public BatchingChatPublisher(@NonNull RedisTemplate<String, Chat> redisTemplate, @NonNull String channel,
+			int queueCapacity) {
+
+		Assert.hasText(channel, () -> String.format("Channel [%s] is required", channel));
+		Assert.isTrue(queueCapacity > 0, () -> String.format("Queue capacity [%d] must be greater than 0",
+			queueCapacity));
+
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+		this.channelResolver = chat -> channel;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+	}
+
+	public int getQueueDepth() {
+		return getQueue().size();
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of this publisher.
+	 *
+	 * @return a snapshot of the {@link Statistics} of this publisher.
+	 */
+	public @NonNull Statistics getStatistics() {
+
+		long flushes = getFlushCount().get();
+
+		return new Statistics(getQueueDepth(), getPublishedCount().sum(), getDroppedCount().sum(),
+			getFailedCount().sum(), flushes,
+			Duration.ofNanos(flushes > 0 ? getTotalFlushNanos().get() / flushes : 0L),
+			Duration.ofNanos(getMaxFlushNanos().get()));
+	}
+
+	/**
+	 * Starts the flusher {@link Thread}. Chats handled before the publisher is started are queued.
+	 *
+	 * @return this {@link BatchingChatPublisher}.
+	 */
+	public synchronized @NonNull BatchingChatPublisher start() {
+
+		if (!isRunning()) {
+			this.running = true;
+			this.flusher = new Thread(this::runFlusher, "batching-chat-publisher");
+			this.flusher.setDaemon(true);
+			this.flusher.start();
+		}
+
+		return this;
+	}
+
+	@Override
+	public void handle(@NonNull ChatEvent<Chat> chatEvent) {
+		publish(chatEvent.requireChat());
+	}
+
+	/**
+	 * Queues the given {@link Chat} for publishing, applying the {@link OverflowPolicy} when the queue is full.
+	 *
+	 * @param chat {@link Chat} to publish.
+	 * @return a boolean value indicating whether the {@link Chat} was queued.
+	 */
+	public boolean publish(@NonNull Chat chat) {
+
+		Assert.notNull(chat, "Chat is required");
+
+		BlockingQueue<Chat> queue = getQueue();
+
+		boolean queued = switch (getOverflowPolicy()) {
+			case BLOCK -> offer(queue, chat);
+			case DROP_NEWEST -> queue.offer(chat);
+			case DROP_OLDEST -> offerDroppingOldest(queue, chat);
+		};
+
+		if (!queued) {
+			getDroppedCount().increment();
+		}
+
+		return queued;
+	}
+
+	private boolean offer(BlockingQueue<Chat> queue, Chat chat) {
+
+		try {
+			return queue.offer(chat, getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private boolean offerDroppingOldest(BlockingQueue<Chat> queue, Chat chat) {
+
+		while (!queue.offer(chat)) {
+			if (queue.poll() != null) {
+				getDroppedCount().increment();
+			}
+		}
+
+		return true;
+	}
+
+	private void runFlusher() {
+
+		List<Chat> batch = new ArrayList<>(getBatchSize());
+
+		while (isRunning() || !getQueue().isEmpty()) {
+			try {
+				if (fill(batch)) {
+					flush(batch);
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn("Failed to flush [{}] chats", batch.size(), cause);
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private boolean fill(List<Chat> batch) throws InterruptedException {
+
+		BlockingQueue<Chat> queue = getQueue();
+
+		long flushIntervalNanos = getFlushInterval().toNanos();
+
+		Chat first = isRunning() ? queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS) : queue.poll();
+
+		if (first == null) {
+			return false;
+		}
+
+		batch.add(first);
+
+		long deadline = System.nanoTime() + flushIntervalNanos;
+
+		while (batch.size() < getBatchSize()) {
+
+			if (queue.drainTo(batch, getBatchSize() - batch.size()) == 0) {
+
+				long remainingNanos = deadline - System.nanoTime();
+
+				Chat next = remainingNanos > 0 && isRunning()
+					? queue.poll(remainingNanos, TimeUnit.NANOSECONDS)
+					: null;
+
+				if (next == null) {
+					break;
+				}
+
+				batch.add(next);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Publishes the given batch of {@link Chat Chats} in a single pipeline.
+	 * <p>
+	 * Each chat is counted once, as published or failed. Chats without a reply, because the flush failed or
+	 * the driver did not return the replies of a failed pipeline, are counted as failed.
+	 *
+	 * @param batch {@link List} of {@link Chat Chats} to publish.
+	 */
+	protected void flush(@NonNull List<Chat> batch) {
+
+		long startTime = System.nanoTime();
+
+		LongAdder countedChats = new LongAdder();
+
+		try {
+			List<Publication> publications = getFlushMode() == FlushMode.BATCHED
+				? toBatchedPublications(batch)
+				: toPipelinedPublications(batch);
+
+			new StreamingPipelineExecutor(getRedisTemplate())
+				.withWindowSize(getBatchSize())
+				.execute(publications,
+					(connection, publication) -> send(connection, publication.channel(), publication.message()),
+					(index, reply, error) -> {
+						int chats = publications.get((int) index).chats();
+						(error != null ? getFailedCount() : getPublishedCount()).add(chats);
+						countedChats.add(chats);
+					});
+		}
+		finally {
+			getFailedCount().add(batch.size() - countedChats.sum());
+			recordFlush(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Sends the given message to the given channel on the pipelined {@link RedisConnection}.
+	 * Sends a {@literal PUBLISH} by default.
+	 *
+	 * @param connection pipelined {@link RedisConnection}.
+	 * @param channel serialized channel.
+	 * @param message serialized message; either a chat or a batch {@link ChatEnvelope}.
+	 */
+	protected void send(@NonNull RedisConnection connection, @NonNull byte[] channel, @NonNull byte[] message) {
+		connection.publish(channel, message);
+	}
+
+	private List<Publication> toPipelinedPublications(List<Chat> batch) {
+
+		List<Publication> publications = new ArrayList<>(batch.size());
+
+		for (Chat chat : batch) {
+			publications.add(new Publication(serializeChannel(chat), serializeChat(chat), 1));
+		}
+
+		return publications;
+	}
+
+	private List<Publication> toBatchedPublications(List<Chat> batch) {
+
+		Map<String, List<byte[]>> envelopesByChannel = new LinkedHashMap<>();
+
+		for (Chat chat : batch) {
+			envelopesByChannel.computeIfAbsent(resolveChannel(chat), channel -> new ArrayList<>())
+				.add(serializeChat(chat));
+		}
+
+		List<Publication> publications = new ArrayList<>(envelopesByChannel.size());
+
+		long timestamp = System.currentTimeMillis();
+
+		envelopesByChannel.forEach((channel, envelopes) -> {
+
+			byte[] message = envelopes.size() == 1 ? envelopes.get(0) : ChatEnvelope.writeBatch(envelopes, timestamp);
+
+			publications.add(new Publication(serializeChannel(channel), message, envelopes.size()));
+		});
+
+		return publications;
+	}
+
+	private String resolveChannel(Chat chat) {
+		return getChannelResolver().apply(chat);
+	}
+
+	private byte[] serializeChannel(Chat chat) {
+		return serializeChannel(resolveChannel(chat));
+	}
+
+	private byte[] serializeChannel(String channel) {
+		return getRedisTemplate().getStringSerializer().serialize(channel);
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serializeChat(Chat chat) {
+		return ((RedisSerializer<Chat>) getRedisTemplate().getValueSerializer()).serialize(chat);
+	}
+
+	private void recordFlush(long flushNanos) {
+		getFlushCount().incrementAndGet();
+		getTotalFlushNanos().addAndGet(flushNanos);
+		getMaxFlushNanos().accumulateAndGet(flushNanos, Math::max);
+	}
+
+	/**
+	 * Stops the flusher {@link Thread} after it has flushed the queued chats, waiting at most
+	 * {@link #DEFAULT_CLOSE_TIMEOUT} (plus the flush interval) for it to terminate.
+	 */
+	@Override
+	public void close() {
+
+		Thread flusher;
+
+		synchronized (this) {
+			this.running = false;
+			flusher = this.flusher;
+			this.flusher = null;
+		}
+
+		if (flusher != null) {
+
+			try {
+				flusher.join(DEFAULT_CLOSE_TIMEOUT.plus(getFlushInterval()).toMillis());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	protected Logger getLogger() {
+		return log;
+	}
+
+	/**
+	 * Configures the maximum number of chats flushed together.
+	 *
+	 * @param batchSize maximum number of chats per flush; must be greater than {@literal 0}.
+	 * @return this {@link BatchingChatPublisher}.
+	 */
+	public @NonNull BatchingChatPublisher withBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Configures a {@link Function} resolving the channel of each {@link Chat}, replacing the channel
+	 * given on construction.
+	 *
+	 * @param channelResolver {@link Function} resolving the channel of a {@link Chat}.
+	 * @return this {@link BatchingChatPublisher}.
+	 */
+	public @NonNull BatchingChatPublisher withChannelResolver(@NonNull Function<Chat, String> channelResolver) {
+		this.channelResolver = ObjectUtils.requireObject(channelResolver, "Channel resolver is required");
+		return this;
+	}
+
+	/**
+	 * Configures the maximum time a chat waits in a partially filled batch before the batch is flushed.
+	 *
+	 * @param flushInterval {@link Duration} of the flush interval; must be positive.
+	 * @return this {@link BatchingChatPublisher}.
+	 */
+	public @NonNull BatchingChatPublisher withFlushInterval(@NonNull Duration flushInterval) {
+
+		Assert.isTrue(flushInterval != null && !flushInterval.isNegative() && !flushInterval.isZero(),
+			() -> String.format("Flush interval [%s] must be positive", flushInterval));
+
+		this.flushInterval = flushInterval;
+
+		return this;
+	}
+
+	public @NonNull BatchingChatPublisher withFlushMode(@Nullable FlushMode flushMode) {
+		this.flushMode = flushMode != null ? flushMode : DEFAULT_FLUSH_MODE;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum time a caller is blocked on a full queue with the {@link OverflowPolicy#BLOCK}
+	 * policy before the chat is dropped.
+	 *
+	 * @param offerTimeout {@link Duration} of the offer timeout; must not be negative.
+	 * @return this {@link BatchingChatPublisher}.
+	 */
+	public @NonNull BatchingChatPublisher withOfferTimeout(@NonNull Duration offerTimeout) {
+
+		Assert.isTrue(offerTimeout != null && !offerTimeout.isNegative(),
+			() -> String.format("Offer timeout [%s] must not be negative", offerTimeout));
+
+		this.offerTimeout = offerTimeout;
+
+		return this;
+	}
+
+	public @NonNull BatchingChatPublisher withOverflowPolicy(@Nullable OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.BLOCK;
+		return this;
+	}
+
+	/**
+	 * {@link Enum Enumeration} of the ways a batch of chats is published.
+	 */
+	public enum FlushMode {
+
+		/**
+		 * One pipelined {@literal PUBLISH} per chat.
+		 */
+		PIPELINED,
+
+		/**
+		 * One {@literal PUBLISH} of a {@link ChatEnvelope.MessageType#BATCH batch envelope} per channel.
+		 */
+		BATCHED
+
+	}
+
+	/**
+	 * {@link Enum Enumeration} of the policies applied when a chat is published while the queue is full.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Blocks the caller until there is room in the queue or the offer timeout elapses, then drops the chat.
+		 */
+		BLOCK,
+
+		/**
+		 * Drops the chat being published.
+		 */
+		DROP_NEWEST,
+
+		/**
+		 * Drops the oldest queued chat to make room for the chat being published.
+		 */
+		DROP_OLDEST
+
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a {@link BatchingChatPublisher}.
+	 *
+	 * @param queueDepth number of chats waiting in the queue.
+	 * @param published number of chats successfully published.
+	 * @param dropped number of chats dropped by the {@link OverflowPolicy}.
+	 * @param failed number of chats for which the {@literal PUBLISH} failed.
+	 * @param flushes number of flushes.
+	 * @param averageFlushLatency average {@link Duration} of a flush.
+	 * @param maxFlushLatency maximum {@link Duration} of a flush.
+	 */
+	public record Statistics(int queueDepth, long published, long dropped, long failed, long flushes,
+		Duration averageFlushLatency, Duration maxFlushLatency) { }
+
+	record Publication(byte[] channel, byte[] message, int chats) { }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.event;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+
+/**
+ * Predicate evaluated directly on the {@link ChatEnvelope} header of a Redis pub/sub message body,
+ * before (and instead of) deserializing the payload.
+ *
+ * @author John Blum
+ * @see java.lang.FunctionalInterface
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
+ * @since 0.1.0
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface ChatHeaderPredicate {
+
+	ChatHeaderPredicate ACCEPT_ALL = envelope -> true;
+
+	static @NonNull ChatHeaderPredicate acceptAll() {
+		return ACCEPT_ALL;
+	}
+
+	static @NonNull ChatHeaderPredicate messageType(@NonNull ChatEnvelope.MessageType messageType) {
+		Assert.notNull(messageType, "MessageType is required");
+		return envelope -> ChatEnvelope.messageTypeCode(envelope) == messageType.getCode();
+	}
+
+	/**
+	 * Matches messages from any of the given senders by {@link ChatEnvelope#senderHash(String) sender hash}.
+	 * Hashes may collide, so a message from another sender may occasionally match.
+	 *
+	 * @param senderIds {@link Collection} of sender ids (or names, for senders without an id).
+	 * @return a {@link ChatHeaderPredicate} matching the senders.
+	 */
+	static @NonNull ChatHeaderPredicate fromSenders(@NonNull Collection<String> senderIds) {
+
+		Assert.notNull(senderIds, "Sender ids are required");
+
+		int[] senderHashes = senderIds.stream().mapToInt(ChatEnvelope::senderHash).sorted().distinct().toArray();
+
+		return envelope -> Arrays.binarySearch(senderHashes, ChatEnvelope.senderHash(envelope)) >= 0;
+	}
+
+	static @NonNull ChatHeaderPredicate fromSenders(@NonNull String... senderIds) {
+		return fromSenders(Arrays.asList(senderIds));
+	}
+
+	static @NonNull ChatHeaderPredicate notOlderThan(@NonNull Duration maximumAge) {
+
+		Assert.notNull(maximumAge, "Maximum age is required");
+
+		long maximumAgeMillis = maximumAge.toMillis();
+
+		return envelope -> System.currentTimeMillis() - ChatEnvelope.timestamp(envelope) <= maximumAgeMillis;
+	}
+
+	/**
+	 * Tests the header of the given message body.
+	 *
+	 * @param envelope array containing a {@link ChatEnvelope#isEnvelope(byte[]) valid} envelope.
+	 * @return a boolean value indicating whether the message should be received.
+	 */
+	boolean test(@NonNull byte[] envelope);
+
+	default @NonNull ChatHeaderPredicate and(@NonNull ChatHeaderPredicate other) {
+		Assert.notNull(other, "ChatHeaderPredicate is required");
+		return envelope -> test(envelope) && other.test(envelope);
+	}
+
+	default @NonNull ChatHeaderPredicate or(@NonNull ChatHeaderPredicate other) {
+		Assert.notNull(other, "ChatHeaderPredicate is required");
+		return envelope -> test(envelope) || other.test(envelope);
+	}
+}
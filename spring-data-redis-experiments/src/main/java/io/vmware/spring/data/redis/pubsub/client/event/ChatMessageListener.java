@@ -15,29 +15,130 @@
  */
 package io.vmware.spring.data.redis.pubsub.client.event;
 
+import org.cp.elements.lang.Renderer;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
-import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
 
 import example.chat.model.Chat;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer;
 
 /**
  * Interface defining a contract for implementors to listen for {@link Chat Chats}.
+ * <p>
+ * Messages published in a {@link ChatEnvelope} are first tested with the {@link #getHeaderPredicate()
+ * header predicate} on the raw message body, and only matching messages are {@link #receive(LazyChat) received}.
+ * By default, the payload of a received message is deserialized immediately and passed to {@link #receive(Chat)};
+ * listeners overriding {@link #receive(LazyChat)}, such as a {@link #rendering(Renderer) rendering} listener,
+ * can inspect the envelope header first and deserialize the payload only when the {@link LazyChat} is accessed.
+ * A {@link ChatEnvelope.MessageType#BATCH batch} envelope is split into its entries, each of which is
+ * tested and received individually.
  *
  * @author John Blum
  * @see java.lang.FunctionalInterface
  * @see example.chat.model.Chat
+ * @see io.vmware.spring.data.redis.pubsub.client.event.ChatHeaderPredicate
+ * @see io.vmware.spring.data.redis.pubsub.client.event.LazyChat
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
  * @since 0.1.0
  */
 @FunctionalInterface
 @SuppressWarnings("unused")
 public interface ChatMessageListener extends MessageListener {
 
+	/**
+	 * Factory method used to construct a new {@link ChatMessageListener} that only receives messages matching
+	 * the given {@link ChatHeaderPredicate}.
+	 *
+	 * @param headerPredicate {@link ChatHeaderPredicate} evaluated on the envelope header.
+	 * @param listener {@link ChatMessageListener} receiving the matching messages.
+	 * @return a new, filtering {@link ChatMessageListener}.
+	 */
+	static @NonNull ChatMessageListener filtered(@NonNull ChatHeaderPredicate headerPredicate,
+			@NonNull ChatMessageListener listener) {
+
+		Assert.notNull(headerPredicate, "ChatHeaderPredicate is required");
+		Assert.notNull(listener, "ChatMessageListener is required");
+
+		return new ChatMessageListener() {
+
+			@Override
+			public ChatHeaderPredicate getHeaderPredicate() {
+				return headerPredicate.and(listener.getHeaderPredicate());
+			}
+
+			@Override
+			public void receive(LazyChat chat) {
+				listener.receive(chat);
+			}
+
+			@Override
+			public void receive(Chat chat) {
+				listener.receive(chat);
+			}
+		};
+	}
+
+	/**
+	 * Factory method used to construct a new {@link ChatMessageListener} rendering each received {@link Chat}
+	 * with the given {@link Renderer}, deserializing an enveloped chat only when it is rendered.
+	 *
+	 * @param renderer {@link Renderer} used to render each {@link Chat}.
+	 * @return a new, rendering {@link ChatMessageListener}.
+	 */
+	static @NonNull ChatMessageListener rendering(@NonNull Renderer<Chat> renderer) {
+
+		Assert.notNull(renderer, "Renderer is required");
+
+		return new ChatMessageListener() {
+
+			@Override
+			public void receive(LazyChat chat) {
+				chat.render(renderer);
+			}
+
+			@Override
+			public void receive(Chat chat) {
+				renderer.render(chat);
+			}
+		};
+	}
+
 	@Override
 	default void onMessage(@NonNull Message message, byte[] pattern) {
-		Chat chat = (Chat) RedisSerializer.java().deserialize(message.getBody());
-		receive(chat);
+
+		byte[] body = message.getBody();
+
+		if (ChatEnvelope.isEnvelope(body)) {
+			if (ChatEnvelope.messageTypeCode(body) == ChatEnvelope.MessageType.BATCH.getCode()) {
+				ChatEnvelope.forEachBatchEntry(body, this::receiveEnvelope);
+			}
+			else {
+				receiveEnvelope(body);
+			}
+		}
+		else {
+			receive(ChatRedisSerializer.INSTANCE.deserialize(body));
+		}
+	}
+
+	private void receiveEnvelope(byte[] envelope) {
+
+		if (ChatEnvelope.messageTypeCode(envelope) == ChatEnvelope.MessageType.CHAT.getCode()
+				&& getHeaderPredicate().test(envelope)) {
+
+			receive(LazyChat.from(envelope));
+		}
+	}
+
+	default @NonNull ChatHeaderPredicate getHeaderPredicate() {
+		return ChatHeaderPredicate.acceptAll();
+	}
+
+	default void receive(LazyChat chat) {
+		receive(chat.get());
 	}
 
 	void receive(Chat chat);
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.event;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisKeyExpiredEvent;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import io.vmware.spring.data.redis.core.HashedTimingWheel;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Tracks the time to live (TTL) of keys set by this application and publishes a {@link RedisKeyExpiredEvent}
+ * when the TTL of a key elapses, using a {@link HashedTimingWheel}, instead of waiting for Redis to expire the key
+ * and send a keyspace notification.
+ * <p>
+ * Redis expires keys lazily (on access) or by periodic sampling, so the notification of an expired key may be late
+ * by seconds and is lost altogether while the subscription is disconnected. Tracked keys are expired on time,
+ * at most one {@link HashedTimingWheel#getTickDuration() tick} late, and the keyspace notifications are only used
+ * to {@link #reconcile(byte[]) reconcile}:
+ * <ul>
+ *     <li>notifications of keys that already expired locally are confirmations, and are not published again;</li>
+ *     <li>notifications of tracked keys that have not expired locally yet (Redis expired them first) cancel
+ *     the local timeout and are published;</li>
+ *     <li>notifications of untracked keys (for example, set by other clients) are published.</li>
+ * </ul>
+ * Keys that expired locally and are not confirmed by Redis within the {@link #getConfirmationTimeout() confirmation
+ * timeout} are counted as unconfirmed.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.core.RedisKeyExpiredEvent
+ * @see org.springframework.data.redis.listener.KeyExpirationEventMessageListener
+ * @see io.vmware.spring.data.redis.core.HashedTimingWheel
+ * @since 0.1.0
+ */
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class KeyExpirationTracker implements AutoCloseable {
+
+	protected static final Duration DEFAULT_CONFIRMATION_TIMEOUT = Duration.ofSeconds(30);
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private Duration confirmationTimeout = DEFAULT_CONFIRMATION_TIMEOUT;
+
+	private final HashedTimingWheel<TrackedKey> timingWheel;
+
+	private final LongAdder confirmedCount = new LongAdder();
+	private final LongAdder earlyCount = new LongAdder();
+	private final LongAdder expiredCount = new LongAdder();
+	private final LongAdder unconfirmedCount = new LongAdder();
+	private final LongAdder untrackedCount = new LongAdder();
+
+	private final Map<String, HashedTimingWheel.Timeout<TrackedKey>> expiringKeys = new ConcurrentHashMap<>();
+	private final Map<String, HashedTimingWheel.Timeout<TrackedKey>> unconfirmedKeys = new ConcurrentHashMap<>();
+
+	public KeyExpirationTracker(@NonNull ApplicationEventPublisher eventPublisher) {
+		this(eventPublisher, HashedTimingWheel.DEFAULT_TICK_DURATION);
+	}
+
+	public KeyExpirationTracker(@NonNull ApplicationEventPublisher eventPublisher, @NonNull Duration tickDuration) {
+		this.eventPublisher = ObjectUtils.requireObject(eventPublisher, "ApplicationEventPublisher is required");
+		this.timingWheel = new HashedTimingWheel<>(this::expired, tickDuration, HashedTimingWheel.DEFAULT_WHEEL_SIZE);
+	}
+
+	public int getTrackedKeyCount() {
+		return getExpiringKeys().size();
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of this tracker.
+	 *
+	 * @return a snapshot of the {@link Statistics} of this tracker.
+	 */
+	public @NonNull Statistics getStatistics() {
+
+		return new Statistics(getTrackedKeyCount(), getExpiredCount().sum(), getConfirmedCount().sum(),
+			getEarlyCount().sum(), getUntrackedCount().sum(), getUnconfirmedCount().sum(),
+			getTimingWheel().getStatistics());
+	}
+
+	public @NonNull KeyExpirationTracker start() {
+		getTimingWheel().start();
+		return this;
+	}
+
+	/**
+	 * Tracks the given key, which expires after the given time to live, replacing the previous TTL of the key.
+	 *
+	 * @param key {@link String} containing the key.
+	 * @param timeToLive {@link Duration} after which the key expires; the key is untracked if not positive.
+	 */
+	public void track(@NonNull String key, @NonNull Duration timeToLive) {
+
+		Assert.hasText(key, () -> String.format("Key [%s] is required", key));
+		Assert.notNull(timeToLive, "Time to live is required");
+
+		if (timeToLive.isNegative() || timeToLive.isZero()) {
+			untrack(key);
+		}
+		else {
+
+			HashedTimingWheel.Timeout<TrackedKey> timeout =
+				getTimingWheel().schedule(new TrackedKey(key, false), timeToLive);
+
+			cancel(getExpiringKeys().put(key, timeout));
+		}
+	}
+
+	/**
+	 * Stops tracking the given key, for example, because it was deleted or persisted.
+	 *
+	 * @param key {@link String} containing the key.
+	 */
+	public void untrack(@NonNull String key) {
+		cancel(getExpiringKeys().remove(key));
+	}
+
+	/**
+	 * Reconciles the keyspace notification of the given expired key with the tracked keys.
+	 *
+	 * @param key array of bytes containing the key expired by Redis.
+	 * @return a boolean value indicating whether a {@link RedisKeyExpiredEvent} should be published for the key,
+	 * which is {@literal false} if the key has already expired locally.
+	 */
+	public boolean reconcile(@NonNull byte[] key) {
+
+		String expiredKey = new String(key, StandardCharsets.UTF_8);
+
+		HashedTimingWheel.Timeout<TrackedKey> unconfirmedKey = getUnconfirmedKeys().remove(expiredKey);
+
+		if (unconfirmedKey != null) {
+			unconfirmedKey.cancel();
+			getConfirmedCount().increment();
+			return false;
+		}
+
+		HashedTimingWheel.Timeout<TrackedKey> expiringKey = getExpiringKeys().remove(expiredKey);
+
+		if (expiringKey != null) {
+			expiringKey.cancel();
+			getEarlyCount().increment();
+		}
+		else {
+			getUntrackedCount().increment();
+		}
+
+		return true;
+	}
+
+	private void cancel(HashedTimingWheel.Timeout<TrackedKey> timeout) {
+		if (timeout != null) {
+			timeout.cancel();
+		}
+	}
+
+	/**
+	 * Handles an expired {@link TrackedKey} on the {@link HashedTimingWheel} worker {@link Thread}. The key awaits
+	 * confirmation before it is removed from the expiring keys, so that exactly one of this method and
+	 * {@link #reconcile(byte[])} publishes the {@link RedisKeyExpiredEvent} when both race.
+	 */
+	private void expired(TrackedKey trackedKey) {
+
+		String key = trackedKey.key();
+
+		if (trackedKey.expired()) {
+			if (remove(getUnconfirmedKeys(), trackedKey)) {
+				getUnconfirmedCount().increment();
+			}
+		}
+		else {
+
+			HashedTimingWheel.Timeout<TrackedKey> confirmationTimeout =
+				getTimingWheel().schedule(new TrackedKey(key, true), getConfirmationTimeout());
+
+			cancel(getUnconfirmedKeys().put(key, confirmationTimeout));
+
+			if (remove(getExpiringKeys(), trackedKey)) {
+				getExpiredCount().increment();
+				getEventPublisher().publishEvent(new RedisKeyExpiredEvent<>(key.getBytes(StandardCharsets.UTF_8)));
+			}
+			else if (getUnconfirmedKeys().remove(key, confirmationTimeout)) {
+				confirmationTimeout.cancel();
+			}
+		}
+	}
+
+	private boolean remove(Map<String, HashedTimingWheel.Timeout<TrackedKey>> keys, TrackedKey trackedKey) {
+
+		HashedTimingWheel.Timeout<TrackedKey> timeout = keys.get(trackedKey.key());
+
+		return timeout != null && timeout.getElement() == trackedKey && keys.remove(trackedKey.key(), timeout);
+	}
+
+	@Override
+	public void close() {
+		getTimingWheel().close();
+	}
+
+	/**
+	 * Configures how long a key that expired locally waits for the keyspace notification confirming its expiry.
+	 *
+	 * @param confirmationTimeout {@link Duration} of the confirmation timeout; must be positive.
+	 * @return this {@link KeyExpirationTracker}.
+	 */
+	public @NonNull KeyExpirationTracker withConfirmationTimeout(@NonNull Duration confirmationTimeout) {
+
+		Assert.isTrue(confirmationTimeout != null && !confirmationTimeout.isNegative() && !confirmationTimeout.isZero(),
+			() -> String.format("Confirmation timeout [%s] must be positive", confirmationTimeout));
+
+		this.confirmationTimeout = confirmationTimeout;
+
+		return this;
+	}
+
+	/**
+	 * Factory method used to construct a new {@link KeyExpirationEventMessageListener} that only publishes
+	 * keyspace notifications {@link #reconcile(byte[]) reconciled} with this tracker.
+	 *
+	 * @param listenerContainer {@link RedisMessageListenerContainer} receiving the keyspace notifications.
+	 * @return a new, reconciling {@link KeyExpirationEventMessageListener}.
+	 */
+	public @NonNull KeyExpirationEventMessageListener newKeyExpirationEventMessageListener(
+			@NonNull RedisMessageListenerContainer listenerContainer) {
+
+		return new KeyExpirationEventMessageListener(listenerContainer) {
+
+			@Override
+			protected void doHandleMessage(@NonNull Message message) {
+				if (reconcile(message.getBody())) {
+					super.doHandleMessage(message);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a {@link KeyExpirationTracker}.
+	 *
+	 * @param tracked number of keys tracked that have not expired yet.
+	 * @param expired number of keys that expired locally.
+	 * @param confirmed number of local expiries confirmed by a keyspace notification.
+	 * @param early number of tracked keys expired by Redis before they expired locally.
+	 * @param untracked number of keyspace notifications of untracked keys.
+	 * @param unconfirmed number of local expiries not confirmed within the confirmation timeout.
+	 * @param timingWheel {@link HashedTimingWheel.Statistics} of the timing wheel.
+	 */
+	public record Statistics(int tracked, long expired, long confirmed, long early, long untracked,
+		long unconfirmed, HashedTimingWheel.Statistics timingWheel) { }
+
+	/**
+	 * Element scheduled in the {@link HashedTimingWheel}, either to expire a key or to give up waiting for
+	 * the confirmation of an expired key.
+	 */
+	record TrackedKey(String key, boolean expired) { }
+
+}
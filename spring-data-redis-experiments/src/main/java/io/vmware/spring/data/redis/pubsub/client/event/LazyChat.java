@@ -0,0 +1,104 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.event;
+
+import java.time.Instant;
+
+import org.cp.elements.lang.Renderer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import example.chat.model.Chat;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer;
+
+/**
+ * {@link Chat} received in a {@link ChatEnvelope}, exposing the envelope header and deserializing
+ * the payload only when the {@link Chat} is first {@link #get() accessed} or {@link #render(Renderer) rendered}.
+ * <p>
+ * Not Thread-safe.
+ *
+ * @author John Blum
+ * @see example.chat.model.Chat
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class LazyChat {
+
+	/**
+	 * Factory method used to construct a new {@link LazyChat} from the given enveloped message body.
+	 *
+	 * @param envelope array containing a {@link ChatEnvelope#isEnvelope(byte[]) valid} envelope.
+	 * @return a new {@link LazyChat}.
+	 * @throws IllegalArgumentException if the bytes are not a valid envelope.
+	 */
+	public static @NonNull LazyChat from(@NonNull byte[] envelope) {
+		Assert.isTrue(ChatEnvelope.isEnvelope(envelope), "Message body is not a ChatEnvelope");
+		return new LazyChat(envelope);
+	}
+
+	private Chat chat;
+
+	private final byte[] envelope;
+
+	private LazyChat(byte[] envelope) {
+		this.envelope = envelope;
+	}
+
+	public @Nullable ChatEnvelope.MessageType getMessageType() {
+		return ChatEnvelope.messageType(this.envelope);
+	}
+
+	public int getSenderHash() {
+		return ChatEnvelope.senderHash(this.envelope);
+	}
+
+	public @NonNull Instant getTimestamp() {
+		return Instant.ofEpochMilli(ChatEnvelope.timestamp(this.envelope));
+	}
+
+	public int getPayloadLength() {
+		return ChatEnvelope.payloadLength(this.envelope);
+	}
+
+	public boolean isDecoded() {
+		return this.chat != null;
+	}
+
+	/**
+	 * Returns the {@link Chat}, deserializing the payload on first access.
+	 *
+	 * @return the {@link Chat}.
+	 */
+	public @NonNull Chat get() {
+
+		Chat chat = this.chat;
+
+		if (chat == null) {
+			chat = ChatRedisSerializer.INSTANCE.deserialize(this.envelope, ChatEnvelope.HEADER_LENGTH,
+				getPayloadLength());
+			this.chat = chat;
+		}
+
+		return chat;
+	}
+
+	public String render(@NonNull Renderer<Chat> renderer) {
+		return renderer.render(get());
+	}
+}
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.slf4j.Logger;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link MessageListener} dispatching messages to a delegate {@link MessageListener} on a fixed number of
+ * single-threaded stripes, preserving the order of messages with the same stripe key while handling messages
+ * with different keys in parallel.
+ * <p>
+ * Each message is hashed by its {@link StripeKeyExtractor stripe key} (by default, the channel) to one stripe,
+ * which has a bounded queue and a {@link Thread} handling the messages of the queue in order. A slow message
+ * therefore only delays the messages of its own stripe. When the queue of a stripe is full, the caller is blocked
+ * for at most the {@link #getOfferTimeout() offer timeout}, after which the message is dropped (and counted).
+ * <p>
+ * A message combining units with different stripe keys (for example, a batch of messages from different senders)
+ * must be split into those units with a {@link MessageSplitter} before it is striped; otherwise the units of
+ * a stripe key end up on different stripes, depending on the message they were combined in, and lose their order.
+ * <p>
+ * The {@link RedisMessageListenerContainer} must be configured with a {@link SyncTaskExecutor}, so that messages
+ * arrive in order on the subscription thread. With Lettuce, the subscription thread is a (shared) I/O thread,
+ * so the offer timeout should be kept short. Per-stripe queue depth, throughput and lag (the time a message
+ * waits in the queue) are available from {@link #getStatistics()}.
+ *
+ * @author John Blum
+ * @see org.springframework.core.task.SyncTaskExecutor
+ * @see org.springframework.data.redis.connection.MessageListener
+ * @see org.springframework.data.redis.listener.RedisMessageListenerContainer
+ * @since 0.1.0
+ */
+@Slf4j
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class StripedMessageListener implements MessageListener, AutoCloseable {
+
+	protected static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+
+	protected static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+	protected static final Duration DEFAULT_OFFER_TIMEOUT = Duration.ofMillis(10);
+
+	private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+	private volatile boolean running;
+
+	private Duration offerTimeout = DEFAULT_OFFER_TIMEOUT;
+
+	private ErrorHandler errorHandler = cause -> getLogger().warn("Failed to handle message", cause);
+
+	private final MessageListener delegate;
+
+	private MessageSplitter messageSplitter = MessageSplitter.none();
+
+	private final Stripe[] stripes;
+
+	private StripeKeyExtractor stripeKeyExtractor = StripeKeyExtractor.byChannel();
+
+	public StripedMessageListener(@NonNull MessageListener delegate, int stripeCount) {
+		this(delegate, stripeCount, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	public StripedMessageListener(@NonNull MessageListener delegate, int stripeCount, int queueCapacity) {
+
+		Assert.isTrue(stripeCount > 0, () -> String.format("Stripe count [%d] must be greater than 0", stripeCount));
+		Assert.isTrue(queueCapacity > 0, () -> String.format("Queue capacity [%d] must be greater than 0",
+			queueCapacity));
+
+		this.delegate = ObjectUtils.requireObject(delegate, "MessageListener is required");
+		this.stripes = new Stripe[stripeCount];
+
+		for (int index = 0; index < stripeCount; index++) {
+			this.stripes[index] = new Stripe(index, queueCapacity);
+		}
+	}
+
+	public int getStripeCount() {
+		return this.stripes.length;
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Returns a snapshot of the {@link StripeStatistics} of every stripe, in stripe order.
+	 *
+	 * @return a {@link List} of {@link StripeStatistics}.
+	 */
+	public @NonNull List<StripeStatistics> getStatistics() {
+
+		List<StripeStatistics> statistics = new ArrayList<>(this.stripes.length);
+
+		for (Stripe stripe : this.stripes) {
+			statistics.add(stripe.getStatistics());
+		}
+
+		return Collections.unmodifiableList(statistics);
+	}
+
+	/**
+	 * Starts the stripe {@link Thread Threads}. Messages received before the listener is started are queued.
+	 *
+	 * @return this {@link StripedMessageListener}.
+	 */
+	public synchronized @NonNull StripedMessageListener start() {
+
+		if (!isRunning()) {
+
+			this.running = true;
+
+			for (Stripe stripe : this.stripes) {
+				stripe.start();
+			}
+		}
+
+		return this;
+	}
+
+	@Override
+	public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+
+		long enqueuedNanos = System.nanoTime();
+
+		getMessageSplitter().split(message, unit -> {
+			int stripeHash = getStripeKeyExtractor().stripeHash(unit);
+			stripeFor(stripeHash).offer(new Dispatch(unit, pattern, enqueuedNanos), getOfferTimeout());
+		});
+	}
+
+	private Stripe stripeFor(int stripeHash) {
+		int spreadHash = stripeHash ^ (stripeHash >>> 16);
+		return this.stripes[Math.floorMod(spreadHash, this.stripes.length)];
+	}
+
+	/**
+	 * Stops the stripes after they have handled their queued messages, waiting at most
+	 * {@link #DEFAULT_CLOSE_TIMEOUT} for each stripe to terminate.
+	 */
+	@Override
+	public void close() {
+
+		synchronized (this) {
+			this.running = false;
+		}
+
+		for (Stripe stripe : this.stripes) {
+			stripe.join(DEFAULT_CLOSE_TIMEOUT);
+		}
+	}
+
+	protected Logger getLogger() {
+		return log;
+	}
+
+	public @NonNull StripedMessageListener withErrorHandler(@NonNull ErrorHandler errorHandler) {
+		this.errorHandler = ObjectUtils.requireObject(errorHandler, "ErrorHandler is required");
+		return this;
+	}
+
+	/**
+	 * Configures the {@link MessageSplitter} splitting each message into the units that are striped (and handled by
+	 * the delegate {@link MessageListener}) individually.
+	 *
+	 * @param messageSplitter {@link MessageSplitter} splitting messages.
+	 * @return this {@link StripedMessageListener}.
+	 */
+	public @NonNull StripedMessageListener withMessageSplitter(@NonNull MessageSplitter messageSplitter) {
+		this.messageSplitter = ObjectUtils.requireObject(messageSplitter, "MessageSplitter is required");
+		return this;
+	}
+
+	/**
+	 * Configures the maximum time a caller is blocked on the full queue of a stripe before the message is dropped.
+	 *
+	 * @param offerTimeout {@link Duration} of the offer timeout; must not be negative.
+	 * @return this {@link StripedMessageListener}.
+	 */
+	public @NonNull StripedMessageListener withOfferTimeout(@NonNull Duration offerTimeout) {
+
+		Assert.isTrue(offerTimeout != null && !offerTimeout.isNegative(),
+			() -> String.format("Offer timeout [%s] must not be negative", offerTimeout));
+
+		this.offerTimeout = offerTimeout;
+
+		return this;
+	}
+
+	public @NonNull StripedMessageListener withStripeKeyExtractor(@NonNull StripeKeyExtractor stripeKeyExtractor) {
+		this.stripeKeyExtractor = ObjectUtils.requireObject(stripeKeyExtractor, "StripeKeyExtractor is required");
+		return this;
+	}
+
+	/**
+	 * Strategy splitting a {@link Message} into the units that are striped individually, in order. Units are
+	 * dispatched to the delegate {@link MessageListener} as separate messages.
+	 */
+	@FunctionalInterface
+	public interface MessageSplitter {
+
+		static @NonNull MessageSplitter none() {
+			return (message, unitConsumer) -> unitConsumer.accept(message);
+		}
+
+		void split(@NonNull Message message, @NonNull Consumer<Message> unitConsumer);
+
+	}
+
+	/**
+	 * Strategy computing the hash of the stripe key of a {@link Message}. Messages with the same hash are
+	 * dispatched on the same stripe, in order.
+	 */
+	@FunctionalInterface
+	public interface StripeKeyExtractor {
+
+		static @NonNull StripeKeyExtractor byChannel() {
+			return message -> Arrays.hashCode(message.getChannel());
+		}
+
+		static @NonNull StripeKeyExtractor byKey(@NonNull Function<Message, ?> keyFunction) {
+			Assert.notNull(keyFunction, "Key function is required");
+			return message -> Objects.hashCode(keyFunction.apply(message));
+		}
+
+		int stripeHash(@NonNull Message message);
+
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a stripe.
+	 *
+	 * @param stripe index of the stripe.
+	 * @param queueDepth number of messages waiting in the queue of the stripe.
+	 * @param dispatched number of messages handled by the stripe.
+	 * @param dropped number of messages dropped because the queue of the stripe was full.
+	 * @param failed number of messages the delegate {@link MessageListener} failed to handle.
+	 * @param currentLag {@link Duration} the oldest queued message has been waiting.
+	 * @param averageLag average {@link Duration} a handled message waited in the queue.
+	 * @param maxLag maximum {@link Duration} a handled message waited in the queue.
+	 */
+	public record StripeStatistics(int stripe, int queueDepth, long dispatched, long dropped, long failed,
+		Duration currentLag, Duration averageLag, Duration maxLag) { }
+
+	record Dispatch(Message message, byte[] pattern, long enqueuedNanos) { }
+
+	/**
+	 * Single-threaded stripe with a bounded queue. The handled message counters and lags are only written by
+	 * the stripe {@link Thread}.
+	 */
+	private class Stripe {
+
+		private final BlockingQueue<Dispatch> queue;
+
+		private final int index;
+
+		private final LongAdder droppedCount = new LongAdder();
+
+		private Thread thread;
+
+		private volatile long dispatchedCount;
+		private volatile long failedCount;
+		private volatile long maxLagNanos;
+		private volatile long totalLagNanos;
+
+		Stripe(int index, int queueCapacity) {
+			this.index = index;
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+
+		void start() {
+			this.thread = new Thread(this::run, "striped-message-listener-" + this.index);
+			this.thread.setDaemon(true);
+			this.thread.start();
+		}
+
+		void offer(Dispatch dispatch, Duration timeout) {
+
+			try {
+				if (!this.queue.offer(dispatch, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+					this.droppedCount.increment();
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				this.droppedCount.increment();
+			}
+		}
+
+		private void run() {
+
+			while (isRunning() || !this.queue.isEmpty()) {
+				try {
+					Dispatch dispatch = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+					if (dispatch != null) {
+						dispatch(dispatch);
+					}
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+
+		@SuppressWarnings("NonAtomicOperationOnVolatileField")
+		private void dispatch(Dispatch dispatch) {
+
+			long lagNanos = System.nanoTime() - dispatch.enqueuedNanos();
+
+			this.totalLagNanos += lagNanos;
+			this.maxLagNanos = Math.max(this.maxLagNanos, lagNanos);
+
+			try {
+				getDelegate().onMessage(dispatch.message(), dispatch.pattern());
+			}
+			catch (RuntimeException cause) {
+				this.failedCount++;
+				getErrorHandler().handleError(cause);
+			}
+			finally {
+				this.dispatchedCount++;
+			}
+		}
+
+		void join(Duration timeout) {
+
+			Thread thread = this.thread;
+
+			if (thread != null) {
+				try {
+					thread.join(timeout.toMillis());
+				}
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		StripeStatistics getStatistics() {
+
+			Dispatch oldest = this.queue.peek();
+
+			long dispatched = this.dispatchedCount;
+			long currentLagNanos = oldest != null ? Math.max(System.nanoTime() - oldest.enqueuedNanos(), 0L) : 0L;
+
+			return new StripeStatistics(this.index, this.queue.size(), dispatched, this.droppedCount.sum(),
+				this.failedCount, Duration.ofNanos(currentLagNanos),
+				Duration.ofNanos(dispatched > 0 ? this.totalLagNanos / dispatched : 0L),
+				Duration.ofNanos(this.maxLagNanos));
+		}
+	}
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.serializer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import example.chat.model.Person;
+
+/**
+ * Abstract utility class defining the fixed-layout envelope header written in front of a chat payload
+ * published with Redis pub/sub, so that subscribers can route and filter messages by reading a few bytes
+ * of the message body without deserializing the payload.
+ * <p>
+ * The header is {@value #HEADER_LENGTH} bytes, big-endian:
+ *
+ * <pre>
+ * <code>
+ * offset  size  field
+ *      0     1  magic (0xCE)
+ *      1     1  envelope version (1)
+ *      2     1  message type (see {@link MessageType})
+ *      3     1  reserved (0)
+ *      4     4  sender hash (see {@link #senderHash(String)})
+ *      8     8  timestamp (milliseconds since the epoch)
+ *     16     4  payload length
+ *     20     n  payload
+ * </code>
+ * </pre>
+ *
+ * The payload of a {@link MessageType#BATCH} envelope is a 4-byte count followed by each entry as a 4-byte
+ * length and a complete {@link MessageType#CHAT} envelope (see {@link #writeBatch(List, long)}), so entries
+ * can be filtered by their own header.
+ * <p>
+ * The magic byte differs from both the {@link ChatRedisSerializer#SCHEMA_VERSION} and the JDK serialization
+ * stream magic, so enveloped and bare payloads can be told apart.
+ *
+ * @author John Blum
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelopeRedisSerializer
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public abstract class ChatEnvelope {
+
+	public static final byte MAGIC = (byte) 0xCE;
+	public static final byte VERSION = 1;
+
+	public static final int HEADER_LENGTH = 20;
+
+	static final int MAGIC_OFFSET = 0;
+	static final int VERSION_OFFSET = 1;
+	static final int MESSAGE_TYPE_OFFSET = 2;
+	static final int SENDER_HASH_OFFSET = 4;
+	static final int TIMESTAMP_OFFSET = 8;
+	static final int PAYLOAD_LENGTH_OFFSET = 16;
+
+	private static final VarHandle INT_VIEW =
+		MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	private static final VarHandle LONG_VIEW =
+		MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * Determines whether the given bytes start with a valid envelope header.
+	 *
+	 * @param bytes array of bytes to evaluate.
+	 * @return a boolean value indicating whether the given bytes start with a valid envelope header.
+	 */
+	public static boolean isEnvelope(@Nullable byte[] bytes) {
+
+		return bytes != null
+			&& bytes.length >= HEADER_LENGTH
+			&& bytes[MAGIC_OFFSET] == MAGIC
+			&& bytes[VERSION_OFFSET] == VERSION
+			&& payloadLength(bytes) == bytes.length - HEADER_LENGTH;
+	}
+
+	/**
+	 * Writes the envelope header into the first {@value #HEADER_LENGTH} bytes of the given array, which must
+	 * contain the payload after the header.
+	 *
+	 * @param bytes array with room for the header followed by the payload.
+	 * @param messageType {@link MessageType} of the payload.
+	 * @param senderHash {@link #senderHash(String) hash} of the sender.
+	 * @param timestamp timestamp in milliseconds since the epoch.
+	 * @return the given array.
+	 */
+	public static @NonNull byte[] writeHeader(@NonNull byte[] bytes, @NonNull MessageType messageType, int senderHash,
+			long timestamp) {
+
+		Assert.isTrue(bytes.length >= HEADER_LENGTH, () -> String.format("Length [%d] must be at least %d",
+			bytes.length, HEADER_LENGTH));
+
+		bytes[MAGIC_OFFSET] = MAGIC;
+		bytes[VERSION_OFFSET] = VERSION;
+		bytes[MESSAGE_TYPE_OFFSET] = messageType.getCode();
+		bytes[MESSAGE_TYPE_OFFSET + 1] = 0;
+		INT_VIEW.set(bytes, SENDER_HASH_OFFSET, senderHash);
+		LONG_VIEW.set(bytes, TIMESTAMP_OFFSET, timestamp);
+		INT_VIEW.set(bytes, PAYLOAD_LENGTH_OFFSET, bytes.length - HEADER_LENGTH);
+
+		return bytes;
+	}
+
+	public static int messageTypeCode(@NonNull byte[] envelope) {
+		return envelope[MESSAGE_TYPE_OFFSET];
+	}
+
+	public static @Nullable MessageType messageType(@NonNull byte[] envelope) {
+		return MessageType.valueOf(envelope[MESSAGE_TYPE_OFFSET]);
+	}
+
+	public static int senderHash(@NonNull byte[] envelope) {
+		return (int) INT_VIEW.get(envelope, SENDER_HASH_OFFSET);
+	}
+
+	public static long timestamp(@NonNull byte[] envelope) {
+		return (long) LONG_VIEW.get(envelope, TIMESTAMP_OFFSET);
+	}
+
+	public static int payloadLength(@NonNull byte[] envelope) {
+		return (int) INT_VIEW.get(envelope, PAYLOAD_LENGTH_OFFSET);
+	}
+
+	/**
+	 * Writes the given {@link MessageType#CHAT} envelopes in a single {@link MessageType#BATCH} envelope.
+	 * The sender hash of the batch is the sender hash of the entries if all entries have the same sender,
+	 * and {@literal 0} otherwise.
+	 *
+	 * @param envelopes {@link List} of {@link #isEnvelope(byte[]) valid} envelopes.
+	 * @param timestamp timestamp in milliseconds since the epoch.
+	 * @return a new array containing the batch envelope.
+	 * @see #forEachBatchEntry(byte[], Consumer)
+	 */
+	public static @NonNull byte[] writeBatch(@NonNull List<byte[]> envelopes, long timestamp) {
+
+		Assert.notNull(envelopes, "Envelopes are required");
+
+		int length = HEADER_LENGTH + Integer.BYTES;
+		int senderHash = envelopes.isEmpty() ? 0 : senderHash(envelopes.get(0));
+
+		for (byte[] envelope : envelopes) {
+			Assert.isTrue(isEnvelope(envelope), "Batch entry is not a ChatEnvelope");
+			length = Math.addExact(length, Integer.BYTES + envelope.length);
+			senderHash = senderHash == senderHash(envelope) ? senderHash : 0;
+		}
+
+		byte[] batch = new byte[length];
+		int position = HEADER_LENGTH;
+
+		INT_VIEW.set(batch, position, envelopes.size());
+		position += Integer.BYTES;
+
+		for (byte[] envelope : envelopes) {
+			INT_VIEW.set(batch, position, envelope.length);
+			System.arraycopy(envelope, 0, batch, position + Integer.BYTES, envelope.length);
+			position += Integer.BYTES + envelope.length;
+		}
+
+		return writeHeader(batch, MessageType.BATCH, senderHash, timestamp);
+	}
+
+	public static int batchSize(@NonNull byte[] batch) {
+		return (int) INT_VIEW.get(batch, HEADER_LENGTH);
+	}
+
+	/**
+	 * Passes a copy of each envelope contained in the given {@link MessageType#BATCH} envelope, in order,
+	 * to the given {@link Consumer}.
+	 *
+	 * @param batch array containing a {@link #isEnvelope(byte[]) valid} batch envelope.
+	 * @param entryConsumer {@link Consumer} receiving each entry.
+	 * @throws IllegalArgumentException if the bytes are not a valid batch envelope.
+	 */
+	public static void forEachBatchEntry(@NonNull byte[] batch, @NonNull Consumer<byte[]> entryConsumer) {
+
+		Assert.isTrue(isEnvelope(batch) && messageType(batch) == MessageType.BATCH
+			&& batch.length >= HEADER_LENGTH + Integer.BYTES, "Message body is not a batch ChatEnvelope");
+
+		int count = batchSize(batch);
+		int position = HEADER_LENGTH + Integer.BYTES;
+
+		for (int index = 0; index < count; index++) {
+
+			Assert.isTrue(position + Integer.BYTES <= batch.length, "Batch is truncated");
+
+			int length = (int) INT_VIEW.get(batch, position);
+
+			position += Integer.BYTES;
+
+			if (length < HEADER_LENGTH || length > batch.length - position) {
+				throw new IllegalArgumentException(String.format("Length [%d] of batch entry [%d] is invalid",
+					length, index));
+			}
+
+			byte[] envelope = new byte[length];
+
+			System.arraycopy(batch, position, envelope, 0, length);
+			entryConsumer.accept(envelope);
+			position += length;
+		}
+	}
+
+	/**
+	 * Computes the sender hash of the given {@link Person}, which is the {@link #senderHash(String) hash} of
+	 * the {@link Person#getId() id}, or of the {@link Person#getName() name} if the {@link Person} has no id.
+	 *
+	 * @param person {@link Person} sending the message; may be {@literal null}.
+	 * @return the sender hash, or {@literal 0} if the {@link Person} is {@literal null}.
+	 */
+	public static int senderHash(@Nullable Person person) {
+		return person == null ? 0 : senderHash(person.getId() != null ? person.getId() : person.getName());
+	}
+
+	/**
+	 * Computes a stable 32-bit hash of the given sender id. Distinct senders may collide, so filtering
+	 * by sender hash may let through (but never drops) messages.
+	 *
+	 * @param senderId {@link String} containing the id of the sender.
+	 * @return the sender hash.
+	 */
+	public static int senderHash(@NonNull String senderId) {
+
+		int hash = senderId.hashCode();
+
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+
+		return hash;
+	}
+
+	/**
+	 * {@link Enum Enumeration} of the types of messages carried in a {@link ChatEnvelope}.
+	 */
+	public enum MessageType {
+
+		CHAT(1),
+
+		/**
+		 * A batch of chat envelopes combined in a single message (see {@link #writeBatch(List, long)}).
+		 */
+		BATCH(2);
+
+		private final byte code;
+
+		MessageType(int code) {
+			this.code = (byte) code;
+		}
+
+		public byte getCode() {
+			return this.code;
+		}
+
+		public static @Nullable MessageType valueOf(byte code) {
+
+			for (MessageType messageType : values()) {
+				if (messageType.code == code) {
+					return messageType;
+				}
+			}
+
+			return null;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.serializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import example.chat.model.Chat;
+
+/**
+ * {@link RedisSerializer} writing a {@link Chat} as a {@link ChatEnvelope} header followed by
+ * the {@link ChatRedisSerializer compact binary} payload.
+ * <p>
+ * Deserialization also accepts bare payloads (without an envelope header), as published by earlier versions.
+ *
+ * @author John Blum
+ * @see example.chat.model.Chat
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ChatEnvelopeRedisSerializer implements RedisSerializer<Chat> {
+
+	public static final ChatEnvelopeRedisSerializer INSTANCE =
+		new ChatEnvelopeRedisSerializer(ChatRedisSerializer.INSTANCE);
+
+	private final ChatRedisSerializer payloadSerializer;
+
+	public ChatEnvelopeRedisSerializer(ChatRedisSerializer payloadSerializer) {
+		this.payloadSerializer = payloadSerializer != null ? payloadSerializer : ChatRedisSerializer.INSTANCE;
+	}
+
+	protected ChatRedisSerializer getPayloadSerializer() {
+		return this.payloadSerializer;
+	}
+
+	@Override
+	public byte[] serialize(@Nullable Chat chat) throws SerializationException {
+
+		if (chat == null) {
+			return null;
+		}
+
+		byte[] envelope = getPayloadSerializer().serialize(chat, ChatEnvelope.HEADER_LENGTH);
+
+		return ChatEnvelope.writeHeader(envelope, ChatEnvelope.MessageType.CHAT,
+			ChatEnvelope.senderHash(chat.getPerson()), System.currentTimeMillis());
+	}
+
+	@Override
+	public Chat deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (ChatEnvelope.isEnvelope(bytes)) {
+
+			if (ChatEnvelope.messageType(bytes) != ChatEnvelope.MessageType.CHAT) {
+				throw new SerializationException(String.format("Message type [%d] is not a chat",
+					ChatEnvelope.messageTypeCode(bytes)));
+			}
+
+			return getPayloadSerializer().deserialize(bytes, ChatEnvelope.HEADER_LENGTH,
+				ChatEnvelope.payloadLength(bytes));
+		}
+
+		return getPayloadSerializer().deserialize(bytes);
+	}
+}
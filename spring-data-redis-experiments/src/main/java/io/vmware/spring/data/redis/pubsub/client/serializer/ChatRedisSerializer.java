@@ -0,0 +1,449 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import example.chat.model.Chat;
+import example.chat.model.Gender;
+import example.chat.model.Person;
+
+/**
+ * Compact, versioned binary {@link RedisSerializer} for {@link Chat Chats}, replacing JDK serialization
+ * on Redis pub/sub.
+ * <p>
+ * The format (version {@literal 1}) is:
+ *
+ * <pre>
+ * <code>
+ * chat    := version:u8 flags:u8 [person-length:varint person] [message:string]
+ * person  := flags:u8 first-name:string last-name:string [id:string] [gender:u8]
+ *            [epoch-day:zigzag-varint nano-of-day:varint]
+ * string  := length:varint UTF-8-bytes
+ * </code>
+ * </pre>
+ *
+ * A {@link Chat} from a well-known {@link Person} with a short message encodes to a few dozen bytes, compared to
+ * hundreds of bytes of class metadata with JDK serialization. Decoded {@link Person persons} are interned in a
+ * bounded {@link PersonInternTable} keyed by their encoded bytes, so the chats of the same person share one
+ * {@link Person} instance and decoding a known person does not allocate one. Callers must therefore not mutate
+ * decoded {@link Person persons}.
+ * <p>
+ * To support rolling upgrades, payloads starting with the JDK serialization stream magic are deserialized with
+ * {@link RedisSerializer#java()}.
+ *
+ * @author John Blum
+ * @see example.chat.model.Chat
+ * @see example.chat.model.Person
+ * @see org.springframework.data.redis.serializer.RedisSerializer
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ChatRedisSerializer implements RedisSerializer<Chat> {
+
+	public static final byte SCHEMA_VERSION = 1;
+
+	public static final ChatRedisSerializer INSTANCE = new ChatRedisSerializer();
+
+	protected static final int DEFAULT_INTERN_TABLE_SIZE = 1024;
+
+	static final int PERSON_FLAG = 0x01;
+	static final int MESSAGE_FLAG = 0x02;
+
+	static final int ID_FLAG = 0x01;
+	static final int GENDER_FLAG = 0x02;
+	static final int BIRTH_DATE_FLAG = 0x04;
+
+	private static final byte JAVA_SERIALIZATION_MAGIC = (byte) 0xAC;
+
+	private static final Gender[] GENDERS = Gender.values();
+
+	private final PersonInternTable personInternTable;
+
+	public ChatRedisSerializer() {
+		this(DEFAULT_INTERN_TABLE_SIZE);
+	}
+
+	public ChatRedisSerializer(int internTableSize) {
+		this.personInternTable = new PersonInternTable(internTableSize);
+	}
+
+	@Override
+	public byte[] serialize(@Nullable Chat chat) throws SerializationException {
+		return chat != null ? serialize(chat, 0) : null;
+	}
+
+	/**
+	 * Serializes the given {@link Chat} into a new array, leaving the given number of bytes at the start
+	 * of the array for a header (for example, a {@link ChatEnvelope} header), which avoids copying the payload.
+	 *
+	 * @param chat {@link Chat} to serialize.
+	 * @param headerLength number of bytes to reserve in front of the payload.
+	 * @return a new array containing the reserved header bytes followed by the serialized {@link Chat}.
+	 */
+	public @NonNull byte[] serialize(@NonNull Chat chat, int headerLength) throws SerializationException {
+
+		Person person = chat.getPerson();
+		String message = chat.getMessage();
+
+		int personSize = person != null ? sizeOf(person) : 0;
+		int size = 2
+			+ (person != null ? varintSize(personSize) + personSize : 0)
+			+ (message != null ? sizeOf(message) : 0);
+
+		Writer writer = new Writer(headerLength, size);
+
+		writer.writeByte(SCHEMA_VERSION);
+		writer.writeByte((person != null ? PERSON_FLAG : 0) | (message != null ? MESSAGE_FLAG : 0));
+
+		if (person != null) {
+			writer.writeVarint(personSize);
+			write(writer, person);
+		}
+
+		if (message != null) {
+			writer.writeString(message);
+		}
+
+		return writer.buffer;
+	}
+
+	@Override
+	public Chat deserialize(@Nullable byte[] bytes) throws SerializationException {
+		return bytes != null ? deserialize(bytes, 0, bytes.length) : null;
+	}
+
+	/**
+	 * Deserializes the {@link Chat} encoded in the given range of the given array (for example, the payload
+	 * following a {@link ChatEnvelope} header) without copying the range.
+	 *
+	 * @param bytes array containing the encoded {@link Chat}.
+	 * @param offset offset of the encoded {@link Chat} in the array.
+	 * @param length length of the encoded {@link Chat}.
+	 * @return the deserialized {@link Chat}, or {@literal null} if the range is empty.
+	 * @throws SerializationException if the encoded {@link Chat} is malformed or its version is not supported.
+	 */
+	public @Nullable Chat deserialize(@NonNull byte[] bytes, int offset, int length) throws SerializationException {
+
+		if (offset < 0 || length < 0 || length > bytes.length - offset) {
+			throw new SerializationException(String.format("Range [%d, %d] exceeds payload length [%d]",
+				offset, length, bytes.length));
+		}
+
+		if (length == 0) {
+			return null;
+		}
+
+		if (bytes[offset] == JAVA_SERIALIZATION_MAGIC) {
+			return (Chat) RedisSerializer.java().deserialize(Arrays.copyOfRange(bytes, offset, offset + length));
+		}
+
+		if (bytes[offset] != SCHEMA_VERSION) {
+			throw new SerializationException(String.format("Chat schema version [%d] is not supported",
+				bytes[offset]));
+		}
+
+		int limit = offset + length;
+
+		try {
+			Reader reader = new Reader(bytes, offset + 1, limit);
+
+			int flags = reader.readByte();
+
+			Person person = null;
+			String message = null;
+
+			if ((flags & PERSON_FLAG) != 0) {
+
+				int personSize = (int) reader.readVarint();
+				int personOffset = reader.position;
+
+				reader.skip(personSize);
+				person = this.personInternTable.intern(bytes, personOffset, personSize,
+					() -> readPerson(new Reader(bytes, personOffset, personOffset + personSize)));
+			}
+
+			if ((flags & MESSAGE_FLAG) != 0) {
+				message = reader.readString();
+			}
+
+			return Chat.newChat(person, message);
+		}
+		catch (ArrayIndexOutOfBoundsException cause) {
+			throw new SerializationException("Chat payload is truncated", cause);
+		}
+	}
+
+	static int sizeOf(@NonNull Person person) {
+
+		int size = 1 + sizeOf(person.getFirstName()) + sizeOf(person.getLastName());
+
+		if (person.getId() != null) {
+			size += sizeOf(person.getId());
+		}
+
+		if (person.getGender() != null) {
+			size++;
+		}
+
+		if (person.getBirthDate() != null) {
+			size += varintSize(zigzag(person.getBirthDate().toLocalDate().toEpochDay()))
+				+ varintSize(person.getBirthDate().toLocalTime().toNanoOfDay());
+		}
+
+		return size;
+	}
+
+	static int sizeOf(@NonNull String value) {
+		int length = utf8Length(value);
+		return varintSize(length) + length;
+	}
+
+	private static void write(Writer writer, Person person) {
+
+		LocalDateTime birthDate = person.getBirthDate();
+
+		writer.writeByte((person.getId() != null ? ID_FLAG : 0)
+			| (person.getGender() != null ? GENDER_FLAG : 0)
+			| (birthDate != null ? BIRTH_DATE_FLAG : 0));
+
+		writer.writeString(person.getFirstName());
+		writer.writeString(person.getLastName());
+
+		if (person.getId() != null) {
+			writer.writeString(person.getId());
+		}
+
+		if (person.getGender() != null) {
+			writer.writeByte(person.getGender().ordinal());
+		}
+
+		if (birthDate != null) {
+			writer.writeVarint(zigzag(birthDate.toLocalDate().toEpochDay()));
+			writer.writeVarint(birthDate.toLocalTime().toNanoOfDay());
+		}
+	}
+
+	private static Person readPerson(Reader reader) {
+
+		int flags = reader.readByte();
+
+		Person person = Person.newPerson(reader.readString(), reader.readString());
+
+		if ((flags & ID_FLAG) != 0) {
+			person.identifiedBy(reader.readString());
+		}
+
+		if ((flags & GENDER_FLAG) != 0) {
+			person.as(GENDERS[reader.readByte()]);
+		}
+
+		if ((flags & BIRTH_DATE_FLAG) != 0) {
+			LocalDate date = LocalDate.ofEpochDay(unzigzag(reader.readVarint()));
+			LocalTime time = LocalTime.ofNanoOfDay(reader.readVarint());
+			person.born(LocalDateTime.of(date, time));
+		}
+
+		return person;
+	}
+
+	static int varintSize(long value) {
+
+		int size = 1;
+
+		while ((value & ~0x7FL) != 0) {
+			value >>>= 7;
+			size++;
+		}
+
+		return size;
+	}
+
+	static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	static int utf8Length(@NonNull String value) {
+
+		int length = 0;
+
+		for (int index = 0, size = value.length(); index < size; index++) {
+
+			char character = value.charAt(index);
+
+			if (character < 0x80) {
+				length++;
+			}
+			else if (character < 0x800) {
+				length += 2;
+			}
+			else if (Character.isHighSurrogate(character) && index + 1 < size
+					&& Character.isLowSurrogate(value.charAt(index + 1))) {
+				length += 4;
+				index++;
+			}
+			else if (Character.isSurrogate(character)) {
+				length++;
+			}
+			else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+
+	static final class Writer {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		Writer(int headerLength, int size) {
+			this.buffer = new byte[headerLength + size];
+			this.position = headerLength;
+		}
+
+		void writeByte(int value) {
+			this.buffer[this.position++] = (byte) value;
+		}
+
+		void writeVarint(long value) {
+
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			this.buffer[this.position++] = (byte) value;
+		}
+
+		void writeString(String value) {
+
+			writeVarint(utf8Length(value));
+
+			for (int index = 0, length = value.length(); index < length; index++) {
+
+				char character = value.charAt(index);
+
+				if (character < 0x80) {
+					writeByte(character);
+				}
+				else if (character < 0x800) {
+					writeByte(0xC0 | (character >> 6));
+					writeByte(0x80 | (character & 0x3F));
+				}
+				else if (Character.isHighSurrogate(character) && index + 1 < length
+						&& Character.isLowSurrogate(value.charAt(index + 1))) {
+
+					int codePoint = Character.toCodePoint(character, value.charAt(++index));
+
+					writeByte(0xF0 | (codePoint >> 18));
+					writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+					writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+					writeByte(0x80 | (codePoint & 0x3F));
+				}
+				else if (Character.isSurrogate(character)) {
+					writeByte('?');
+				}
+				else {
+					writeByte(0xE0 | (character >> 12));
+					writeByte(0x80 | ((character >> 6) & 0x3F));
+					writeByte(0x80 | (character & 0x3F));
+				}
+			}
+		}
+	}
+
+	static final class Reader {
+
+		private final byte[] buffer;
+
+		private final int limit;
+
+		private int position;
+
+		Reader(byte[] buffer, int position, int limit) {
+			this.buffer = buffer;
+			this.position = position;
+			this.limit = limit;
+		}
+
+		int readByte() {
+
+			if (this.position >= this.limit) {
+				throw new SerializationException("Chat payload is truncated");
+			}
+
+			return this.buffer[this.position++] & 0xFF;
+		}
+
+		long readVarint() {
+
+			long value = 0;
+
+			for (int shift = 0; shift < 64; shift += 7) {
+
+				byte current = (byte) readByte();
+
+				value |= (long) (current & 0x7F) << shift;
+
+				if (current >= 0) {
+					return value;
+				}
+			}
+
+			throw new SerializationException("Malformed varint");
+		}
+
+		String readString() {
+
+			int length = (int) readVarint();
+
+			if (length < 0 || length > this.limit - this.position) {
+				throw new SerializationException(String.format("String length [%d] exceeds payload", length));
+			}
+
+			String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+
+			this.position += length;
+
+			return value;
+		}
+
+		void skip(int length) {
+
+			if (length < 0 || length > this.limit - this.position) {
+				throw new SerializationException(String.format("Length [%d] exceeds payload", length));
+			}
+
+			this.position += length;
+		}
+	}
+}
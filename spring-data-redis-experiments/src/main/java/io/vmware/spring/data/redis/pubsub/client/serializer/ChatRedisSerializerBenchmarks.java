@@ -0,0 +1,121 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.serializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import example.chat.model.Chat;
+import example.chat.model.Gender;
+import example.chat.model.Person;
+import lombok.Getter;
+
+/**
+ * JMH Benchmarks comparing encoding and decoding {@link Chat Chats} with the compact {@link ChatRedisSerializer}
+ * and with JDK serialization ({@link RedisSerializer#java()}), in nanoseconds per message.
+ * <p>
+ * The number of bytes per message for each serializer is printed when each trial is set up. Run with
+ * {@literal -prof gc} to compare the allocation rate.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer
+ * @since 0.1.0
+ */
+@Fork(value = 1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+public class ChatRedisSerializerBenchmarks {
+
+	public static void main(String[] args) throws IOException {
+		org.openjdk.jmh.Main.main(args);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureCompactEncode(ExecutionPlan executionPlan) {
+		return executionPlan.getCompactSerializer().serialize(executionPlan.getChat());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public Chat measureCompactDecode(ExecutionPlan executionPlan) {
+		return executionPlan.getCompactSerializer().deserialize(executionPlan.getCompactBytes());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureJavaEncode(ExecutionPlan executionPlan) {
+		return executionPlan.getJavaSerializer().serialize(executionPlan.getChat());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public Object measureJavaDecode(ExecutionPlan executionPlan) {
+		return executionPlan.getJavaSerializer().deserialize(executionPlan.getJavaBytes());
+	}
+
+	@Getter
+	@State(Scope.Benchmark)
+	@SuppressWarnings("unused")
+	public static class ExecutionPlan {
+
+		@Param({ "Hello!", "The quick brown fox jumps over the lazy dog, again and again, because it can." })
+		private String message;
+
+		private byte[] compactBytes;
+		private byte[] javaBytes;
+
+		private Chat chat;
+
+		private final ChatRedisSerializer compactSerializer = new ChatRedisSerializer();
+
+		private final RedisSerializer<Object> javaSerializer = RedisSerializer.java();
+
+		@Setup(Level.Trial)
+		public void setup() {
+
+			Person person = Person.newPerson("Jon", "Doe")
+				.identifiedBy("jdoe")
+				.as(Gender.MALE)
+				.born(LocalDateTime.of(1974, 5, 15, 12, 30));
+
+			this.chat = Chat.newChat(person, getMessage());
+			this.compactBytes = this.compactSerializer.serialize(this.chat);
+			this.javaBytes = this.javaSerializer.serialize(this.chat);
+
+			System.out.printf("%nBYTES PER MESSAGE: compact [%d], java [%d]%n", this.compactBytes.length,
+				this.javaBytes.length);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.serializer;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import example.chat.model.Person;
+
+/**
+ * Bounded, Thread-safe intern table of decoded {@link Person persons} keyed by their encoded bytes.
+ * <p>
+ * The table is a direct-mapped cache: the bytes are hashed to a single slot and a colliding {@link Person}
+ * replaces the previous one. A hit compares the encoded bytes in place, so looking up a known {@link Person}
+ * allocates nothing.
+ *
+ * @author John Blum
+ * @see example.chat.model.Person
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer
+ * @since 0.1.0
+ */
+class PersonInternTable {
+
+	private final AtomicReferenceArray<Entry> entries;
+
+	private final int mask;
+
+	PersonInternTable(int size) {
+
+		Assert.isTrue(size > 0, () -> String.format("Size [%d] must be greater than 0", size));
+
+		int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns the interned {@link Person} for the given encoded bytes, decoding and interning a new {@link Person}
+	 * with the given {@link Supplier} on a miss.
+	 *
+	 * @param bytes array containing the encoded {@link Person}.
+	 * @param offset offset of the encoded {@link Person} in the array.
+	 * @param length length of the encoded {@link Person}.
+	 * @param decoder {@link Supplier} decoding the {@link Person} on a miss.
+	 * @return the interned {@link Person}.
+	 */
+	@NonNull Person intern(@NonNull byte[] bytes, int offset, int length, @NonNull Supplier<Person> decoder) {
+
+		int hash = hash(bytes, offset, length);
+		int index = hash & this.mask;
+
+		Entry entry = this.entries.get(index);
+
+		if (entry != null && entry.hash == hash
+				&& Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, offset, offset + length)) {
+
+			return entry.person;
+		}
+
+		Person person = decoder.get();
+
+		this.entries.set(index, new Entry(hash, Arrays.copyOfRange(bytes, offset, offset + length), person));
+
+		return person;
+	}
+
+	private static int hash(byte[] bytes, int offset, int length) {
+
+		int hash = 1;
+
+		for (int index = offset, end = offset + length; index < end; index++) {
+			hash = 31 * hash + bytes[index];
+		}
+
+		return hash ^ (hash >>> 16);
+	}
+
+	private record Entry(int hash, byte[] bytes, Person person) { }
+
+}
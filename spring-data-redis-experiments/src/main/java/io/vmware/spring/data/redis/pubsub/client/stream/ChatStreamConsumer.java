@@ -0,0 +1,496 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.cp.elements.lang.ObjectUtils;
+import org.slf4j.Logger;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.RedisStreamCommands.XPendingOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consumes chat messages {@link ChatStreamPublisher appended} to a Redis Stream as a member of a consumer group,
+ * passing each message to a {@link MessageListener} (for example, a
+ * {@link io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener}) as if it had been received
+ * with Redis pub/sub.
+ * <p>
+ * Each of the {@link #getConsumerCount() consumers} runs on its own {@link Thread} and connection, reading up to
+ * {@link #getBatchSize() batch size} entries per {@literal XREADGROUP}, blocking for at most the
+ * {@link #getBlockTimeout() block timeout}. Entries handled successfully are acknowledged with a single
+ * {@literal XACK} that is pipelined with the next {@literal XREADGROUP}, so acknowledging costs no extra
+ * round trip. Adding consumers, in this or in other processes, spreads the entries of the stream across them.
+ * <p>
+ * Entries that failed, or that were delivered to a consumer which died, stay pending. Every
+ * {@link #getReclaimInterval() reclaim interval}, each consumer inspects the pending entries with
+ * {@literal XPENDING} and claims the entries idle for at least the {@link #getMinIdleTime() minimum idle time}
+ * with {@literal XCLAIM}. Entries delivered {@link #getMaxDeliveries() max deliveries} times are acknowledged
+ * and discarded.
+ *
+ * @author John Blum
+ * @see org.springframework.data.redis.connection.MessageListener
+ * @see org.springframework.data.redis.connection.RedisStreamCommands
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamPublisher
+ * @see <a href="https://redis.io/docs/data-types/streams/">Redis Streams</a>
+ * @since 0.1.0
+ */
+@Slf4j
+@Getter(AccessLevel.PROTECTED)
+@SuppressWarnings("unused")
+public class ChatStreamConsumer implements AutoCloseable {
+
+	protected static final int DEFAULT_BATCH_SIZE = 100;
+	protected static final int DEFAULT_CONSUMER_COUNT = 1;
+	protected static final int DEFAULT_MAX_DELIVERIES = 5;
+
+	protected static final Duration DEFAULT_BLOCK_TIMEOUT = Duration.ofSeconds(1);
+	protected static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(5);
+	protected static final Duration DEFAULT_ERROR_BACKOFF = Duration.ofMillis(500);
+	protected static final Duration DEFAULT_MIN_IDLE_TIME = Duration.ofSeconds(30);
+	protected static final Duration DEFAULT_RECLAIM_INTERVAL = Duration.ofSeconds(10);
+
+	private final byte[] streamKey;
+
+	private volatile boolean running;
+
+	private Duration blockTimeout = DEFAULT_BLOCK_TIMEOUT;
+	private Duration minIdleTime = DEFAULT_MIN_IDLE_TIME;
+	private Duration reclaimInterval = DEFAULT_RECLAIM_INTERVAL;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private int consumerCount = DEFAULT_CONSUMER_COUNT;
+	private int maxDeliveries = DEFAULT_MAX_DELIVERIES;
+
+	private final List<Thread> consumers = new ArrayList<>();
+
+	private final LongAdder acknowledgedCount = new LongAdder();
+	private final LongAdder discardedCount = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder receivedCount = new LongAdder();
+	private final LongAdder reclaimedCount = new LongAdder();
+
+	private final MessageListener messageListener;
+
+	private final RedisTemplate<?, ?> redisTemplate;
+
+	private final String groupName;
+
+	private String consumerName = "consumer-" + ProcessHandle.current().pid();
+
+	public ChatStreamConsumer(@NonNull RedisTemplate<?, ?> redisTemplate, @NonNull String streamKey,
+			@NonNull String groupName, @NonNull MessageListener messageListener) {
+
+		Assert.hasText(streamKey, () -> String.format("Stream key [%s] is required", streamKey));
+		Assert.hasText(groupName, () -> String.format("Group name [%s] is required", groupName));
+
+		this.redisTemplate = ObjectUtils.requireObject(redisTemplate, "RedisTemplate is required");
+		this.messageListener = ObjectUtils.requireObject(messageListener, "MessageListener is required");
+		this.streamKey = streamKey.getBytes(StandardCharsets.UTF_8);
+		this.groupName = groupName;
+	}
+
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Returns the number of entries delivered to, but not yet acknowledged by, any consumer of the group.
+	 *
+	 * @return the number of pending entries of the consumer group.
+	 */
+	public long getPendingCount() {
+
+		PendingMessagesSummary summary = getRedisTemplate().execute((RedisCallback<PendingMessagesSummary>)
+			connection -> connection.streamCommands().xPending(getStreamKey(), getGroupName()));
+
+		return summary != null ? summary.getTotalPendingMessages() : 0L;
+	}
+
+	/**
+	 * Returns a snapshot of the {@link Statistics} of the consumers.
+	 *
+	 * @return a snapshot of the {@link Statistics} of the consumers.
+	 */
+	public @NonNull Statistics getStatistics() {
+
+		return new Statistics(getReceivedCount().sum(), getAcknowledgedCount().sum(), getFailedCount().sum(),
+			getReclaimedCount().sum(), getDiscardedCount().sum());
+	}
+
+	/**
+	 * Creates the consumer group (and the stream), if necessary, and starts the consumer {@link Thread Threads}.
+	 * A new consumer group only receives entries added after it was created.
+	 *
+	 * @return this {@link ChatStreamConsumer}.
+	 */
+	public synchronized @NonNull ChatStreamConsumer start() {
+
+		if (!isRunning()) {
+
+			createGroup();
+
+			this.running = true;
+
+			for (int index = 0; index < getConsumerCount(); index++) {
+
+				String consumerName = getConsumerName() + "-" + index;
+				Thread consumer = new Thread(() -> runConsumer(consumerName), "chat-stream-" + consumerName);
+
+				consumer.setDaemon(true);
+				consumer.start();
+				this.consumers.add(consumer);
+			}
+		}
+
+		return this;
+	}
+
+	private void createGroup() {
+
+		try {
+			getRedisTemplate().execute((RedisCallback<String>) connection ->
+				connection.streamCommands().xGroupCreate(getStreamKey(), getGroupName(), ReadOffset.latest(), true));
+		}
+		catch (RuntimeException cause) {
+			if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(cause).getMessage()).contains("BUSYGROUP")) {
+				throw cause;
+			}
+		}
+	}
+
+	private void runConsumer(String consumerName) {
+
+		Consumer consumer = Consumer.from(getGroupName(), consumerName);
+
+		while (isRunning()) {
+			try {
+				getRedisTemplate().execute((RedisCallback<Void>) connection -> {
+					consume(connection, consumer);
+					return null;
+				});
+			}
+			catch (RuntimeException cause) {
+				getLogger().warn("Consumer [{}] failed; retrying", consumerName, cause);
+				pause(DEFAULT_ERROR_BACKOFF);
+			}
+		}
+	}
+
+	private void consume(RedisConnection connection, Consumer consumer) {
+
+		List<RecordId> acknowledgements = new ArrayList<>(getBatchSize());
+
+		long reclaimIntervalNanos = getReclaimInterval().toNanos();
+		long nextReclaimTime = System.nanoTime();
+
+		try {
+			while (isRunning()) {
+
+				if (System.nanoTime() - nextReclaimTime >= 0) {
+					dispatch(reclaim(connection, consumer), acknowledgements);
+					nextReclaimTime = System.nanoTime() + reclaimIntervalNanos;
+				}
+
+				dispatch(acknowledgeAndRead(connection, consumer, acknowledgements), acknowledgements);
+			}
+		}
+		finally {
+			if (!acknowledgements.isEmpty()) {
+				acknowledge(connection, acknowledgements);
+			}
+		}
+	}
+
+	/**
+	 * Acknowledges the given entries and reads the next batch of entries in a single pipeline.
+	 */
+	@SuppressWarnings("unchecked")
+	private List<ByteRecord> acknowledgeAndRead(RedisConnection connection, Consumer consumer,
+			List<RecordId> acknowledgements) {
+
+		StreamReadOptions readOptions = StreamReadOptions.empty().count(getBatchSize()).block(getBlockTimeout());
+		StreamOffset<byte[]> streamOffset = StreamOffset.create(getStreamKey(), ReadOffset.lastConsumed());
+
+		if (acknowledgements.isEmpty()) {
+			return nullSafeList(connection.streamCommands().xReadGroup(consumer, readOptions, streamOffset));
+		}
+
+		RecordId[] recordIds = acknowledgements.toArray(new RecordId[0]);
+		List<Object> results;
+
+		acknowledgements.clear();
+		connection.openPipeline();
+
+		try {
+			connection.streamCommands().xAck(getStreamKey(), getGroupName(), recordIds);
+			connection.streamCommands().xReadGroup(consumer, readOptions, streamOffset);
+		}
+		finally {
+			results = connection.closePipeline();
+		}
+
+		if (!results.isEmpty() && results.get(0) instanceof Long acknowledged) {
+			getAcknowledgedCount().add(acknowledged);
+		}
+
+		return results.size() > 1 && results.get(1) instanceof List<?> records
+			? (List<ByteRecord>) records
+			: Collections.emptyList();
+	}
+
+	private void acknowledge(RedisConnection connection, List<RecordId> acknowledgements) {
+
+		Long acknowledged = connection.streamCommands()
+			.xAck(getStreamKey(), getGroupName(), acknowledgements.toArray(new RecordId[0]));
+
+		getAcknowledgedCount().add(acknowledged != null ? acknowledged : 0L);
+		acknowledgements.clear();
+	}
+
+	/**
+	 * Claims the pending entries idle for at least the {@link #getMinIdleTime() minimum idle time}, acknowledging
+	 * and discarding the entries already delivered {@link #getMaxDeliveries() max deliveries} times.
+	 */
+	private List<ByteRecord> reclaim(RedisConnection connection, Consumer consumer) {
+
+		RedisStreamCommands streamCommands = connection.streamCommands();
+
+		List<RecordId> claimable = new ArrayList<>();
+		List<RecordId> exhausted = new ArrayList<>();
+
+		for (PendingMessage pendingMessage : streamCommands.xPending(getStreamKey(), getGroupName(),
+				XPendingOptions.unbounded((long) getBatchSize()))) {
+
+			if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(getMinIdleTime()) >= 0) {
+				(pendingMessage.getTotalDeliveryCount() >= getMaxDeliveries() ? exhausted : claimable)
+					.add(pendingMessage.getId());
+			}
+		}
+
+		if (!exhausted.isEmpty()) {
+			getLogger().warn("Discarding [{}] entries delivered at least [{}] times: {}", exhausted.size(),
+				getMaxDeliveries(), exhausted);
+			streamCommands.xAck(getStreamKey(), getGroupName(), exhausted.toArray(new RecordId[0]));
+			getDiscardedCount().add(exhausted.size());
+		}
+
+		if (claimable.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<ByteRecord> claimed = nullSafeList(streamCommands.xClaim(getStreamKey(), getGroupName(),
+			consumer.getName(), XClaimOptions.minIdle(getMinIdleTime()).ids(claimable)));
+
+		getReclaimedCount().add(claimed.size());
+
+		return claimed;
+	}
+
+	private void dispatch(List<ByteRecord> records, List<RecordId> acknowledgements) {
+
+		for (ByteRecord record : records) {
+
+			getReceivedCount().increment();
+
+			byte[] body = chatFieldOf(record);
+
+			try {
+				if (body != null) {
+					getMessageListener().onMessage(new DefaultMessage(getStreamKey(), body), null);
+				}
+
+				acknowledgements.add(record.getId());
+			}
+			catch (RuntimeException cause) {
+				getFailedCount().increment();
+				getLogger().warn("Failed to handle entry [{}]; it will be reclaimed", record.getId(), cause);
+			}
+		}
+	}
+
+	private static @Nullable byte[] chatFieldOf(ByteRecord record) {
+
+		for (Map.Entry<byte[], byte[]> field : record.getValue().entrySet()) {
+			if (Arrays.equals(ChatStreamPublisher.CHAT_FIELD, field.getKey())) {
+				return field.getValue();
+			}
+		}
+
+		return null;
+	}
+
+	private static <T> List<T> nullSafeList(@Nullable List<T> list) {
+		return list != null ? list : Collections.emptyList();
+	}
+
+	private static void pause(Duration duration) {
+
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Stops the consumers after their current read, acknowledging the entries they handled, and waits for them
+	 * to terminate.
+	 */
+	@Override
+	public void close() {
+
+		List<Thread> consumers;
+
+		synchronized (this) {
+			this.running = false;
+			consumers = new ArrayList<>(this.consumers);
+			this.consumers.clear();
+		}
+
+		long timeoutMillis = DEFAULT_CLOSE_TIMEOUT.plus(getBlockTimeout()).toMillis();
+
+		for (Thread consumer : consumers) {
+			try {
+				consumer.join(timeoutMillis);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	protected Logger getLogger() {
+		return log;
+	}
+
+	/**
+	 * Configures the maximum number of entries read by a consumer with one {@literal XREADGROUP}.
+	 *
+	 * @param batchSize maximum number of entries per read; must be greater than {@literal 0}.
+	 * @return this {@link ChatStreamConsumer}.
+	 */
+	public @NonNull ChatStreamConsumer withBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	public @NonNull ChatStreamConsumer withBlockTimeout(@NonNull Duration blockTimeout) {
+
+		Assert.isTrue(blockTimeout != null && !blockTimeout.isNegative() && !blockTimeout.isZero(),
+			() -> String.format("Block timeout [%s] must be positive", blockTimeout));
+
+		this.blockTimeout = blockTimeout;
+
+		return this;
+	}
+
+	public @NonNull ChatStreamConsumer withConsumerCount(int consumerCount) {
+
+		Assert.isTrue(consumerCount > 0, () -> String.format("Consumer count [%d] must be greater than 0",
+			consumerCount));
+
+		this.consumerCount = consumerCount;
+
+		return this;
+	}
+
+	/**
+	 * Configures the name of the consumers, which must be unique in the group and should be stable across
+	 * restarts, so that the entries pending for a consumer are resumed by the same consumer.
+	 *
+	 * @param consumerName {@link String} containing the name of the consumers; suffixed with the consumer index.
+	 * @return this {@link ChatStreamConsumer}.
+	 */
+	public @NonNull ChatStreamConsumer withConsumerName(@NonNull String consumerName) {
+		Assert.hasText(consumerName, () -> String.format("Consumer name [%s] is required", consumerName));
+		this.consumerName = consumerName;
+		return this;
+	}
+
+	public @NonNull ChatStreamConsumer withMaxDeliveries(int maxDeliveries) {
+
+		Assert.isTrue(maxDeliveries > 0, () -> String.format("Max deliveries [%d] must be greater than 0",
+			maxDeliveries));
+
+		this.maxDeliveries = maxDeliveries;
+
+		return this;
+	}
+
+	public @NonNull ChatStreamConsumer withMinIdleTime(@NonNull Duration minIdleTime) {
+
+		Assert.isTrue(minIdleTime != null && !minIdleTime.isNegative(),
+			() -> String.format("Min idle time [%s] must not be negative", minIdleTime));
+
+		this.minIdleTime = minIdleTime;
+
+		return this;
+	}
+
+	public @NonNull ChatStreamConsumer withReclaimInterval(@NonNull Duration reclaimInterval) {
+
+		Assert.isTrue(reclaimInterval != null && !reclaimInterval.isNegative(),
+			() -> String.format("Reclaim interval [%s] must not be negative", reclaimInterval));
+
+		this.reclaimInterval = reclaimInterval;
+
+		return this;
+	}
+
+	/**
+	 * Java {@link Record} containing a snapshot of the statistics of a {@link ChatStreamConsumer}.
+	 *
+	 * @param received number of entries delivered to the consumers, including reclaimed entries.
+	 * @param acknowledged number of entries acknowledged after being handled.
+	 * @param failed number of times the {@link MessageListener} failed to handle an entry.
+	 * @param reclaimed number of pending entries claimed from idle consumers.
+	 * @param discarded number of entries discarded after too many deliveries.
+	 */
+	public record Statistics(long received, long acknowledged, long failed, long reclaimed, long discarded) { }
+
+}
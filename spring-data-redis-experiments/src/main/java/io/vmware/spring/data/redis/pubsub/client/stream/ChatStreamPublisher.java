@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.pubsub.client.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import example.chat.model.Chat;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
+
+/**
+ * {@link BatchingChatPublisher} appending {@link Chat Chats} to a Redis Stream with pipelined {@literal XADD}
+ * commands instead of publishing them with Redis pub/sub.
+ * <p>
+ * Each stream entry has a single {@link #CHAT_FIELD field} containing one chat; the publisher always uses
+ * the {@link BatchingChatPublisher.FlushMode#PIPELINED pipelined} flush mode, with one {@literal XADD} per chat,
+ * so that trimming, consumer group delivery and {@literal XACK} all apply to individual chats rather than
+ * to batches. The stream is trimmed on every {@literal XADD} to the {@link #getMaxLength() maximum length}
+ * (in chats), approximately (with {@literal MAXLEN ~}) by default.
+ *
+ * @author John Blum
+ * @see io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamConsumer
+ * @see <a href="https://redis.io/commands/xadd/">XADD</a>
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ChatStreamPublisher extends BatchingChatPublisher {
+
+	public static final byte[] CHAT_FIELD = "chat".getBytes(StandardCharsets.UTF_8);
+
+	protected static final long DEFAULT_MAX_LENGTH = 100_000L;
+
+	private volatile XAddOptions addOptions = XAddOptions.maxlen(DEFAULT_MAX_LENGTH).approximateTrimming(true);
+
+	public ChatStreamPublisher(@NonNull RedisTemplate<String, Chat> redisTemplate, @NonNull String streamKey) {
+		super(redisTemplate, streamKey);
+		super.withFlushMode(FlushMode.PIPELINED);
+	}
+
+	public ChatStreamPublisher(@NonNull RedisTemplate<String, Chat> redisTemplate, @NonNull String streamKey,
+			int queueCapacity) {
+
+		super(redisTemplate, streamKey, queueCapacity);
+		super.withFlushMode(FlushMode.PIPELINED);
+	}
+
+	public long getMaxLength() {
+		return this.addOptions.getMaxlen();
+	}
+
+	public boolean isApproximateTrimming() {
+		return this.addOptions.isApproximateTrimming();
+	}
+
+	@Override
+	protected void send(@NonNull RedisConnection connection, @NonNull byte[] streamKey, @NonNull byte[] message) {
+
+		Map<byte[], byte[]> entry = Collections.singletonMap(CHAT_FIELD, message);
+
+		connection.streamCommands().xAdd(StreamRecords.rawBytes(entry).withStreamKey(streamKey), this.addOptions);
+	}
+
+	/**
+	 * Only the {@link FlushMode#PIPELINED pipelined} flush mode is supported, since each stream entry contains
+	 * a single chat.
+	 *
+	 * @param flushMode {@link FlushMode}; must not be {@link FlushMode#BATCHED}.
+	 * @return this {@link ChatStreamPublisher}.
+	 */
+	@Override
+	public @NonNull ChatStreamPublisher withFlushMode(@Nullable FlushMode flushMode) {
+		Assert.isTrue(flushMode != FlushMode.BATCHED,
+			"Stream entries contain a single chat; the BATCHED flush mode is not supported");
+		super.withFlushMode(FlushMode.PIPELINED);
+		return this;
+	}
+
+	/**
+	 * Configures the maximum length the stream is trimmed to when entries are added.
+	 *
+	 * @param maxLength maximum number of entries in the stream; must be greater than {@literal 0}.
+	 * @return this {@link ChatStreamPublisher}.
+	 */
+	public @NonNull ChatStreamPublisher withMaxLength(long maxLength) {
+		Assert.isTrue(maxLength > 0, () -> String.format("Max length [%d] must be greater than 0", maxLength));
+		this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(isApproximateTrimming());
+		return this;
+	}
+
+	/**
+	 * Configures whether the stream is trimmed approximately ({@literal MAXLEN ~}), which lets Redis trim
+	 * whole macro nodes and is much cheaper than exact trimming.
+	 *
+	 * @param approximateTrimming boolean value indicating whether to trim approximately.
+	 * @return this {@link ChatStreamPublisher}.
+	 */
+	public @NonNull ChatStreamPublisher withApproximateTrimming(boolean approximateTrimming) {
+		this.addOptions = XAddOptions.maxlen(getMaxLength()).approximateTrimming(approximateTrimming);
+		return this;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.serializer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RedisSerializer} writing a {@link UUID} as its 16 raw bytes (big-endian most significant bits followed by
+ * least significant bits) rather than its 36-character {@link UUID#toString() text form}.
+ * <p>
+ * Deserialization also accepts the text form, as written by {@link RedisSerializer#string()}. The static
+ * {@link #write(UUID, byte[], int)}, {@link #writeRandom(RandomGenerator, byte[], int)} and {@link #read(byte[], int)}
+ * methods encode into and decode from a reusable buffer, and {@link #writeRandom(RandomGenerator, byte[], int)}
+ * generates a random (version 4) UUID without creating a {@link UUID} object.
+ *
+ * @author John Blum
+ * @see java.util.UUID
+ * @see org.springframework.data.redis.serializer.RedisSerializer
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class BinaryUuidRedisSerializer implements RedisSerializer<UUID> {
+
+	public static final BinaryUuidRedisSerializer INSTANCE = new BinaryUuidRedisSerializer();
+
+	public static final int UUID_LENGTH = 16;
+
+	static final int UUID_TEXT_LENGTH = 36;
+
+	private static final VarHandle LONG_VIEW =
+		MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * Writes the 16 bytes of the given {@link UUID} into the given buffer, starting at the given offset.
+	 *
+	 * @param uuid {@link UUID} to write.
+	 * @param buffer array receiving the {@link UUID}.
+	 * @param offset position in the buffer of the first byte of the {@link UUID}.
+	 * @return {@value #UUID_LENGTH}, the number of bytes written.
+	 */
+	public static int write(@NonNull UUID uuid, @NonNull byte[] buffer, int offset) {
+		return write(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), buffer, offset);
+	}
+
+	/**
+	 * Writes the 16 bytes of a random (version 4, IETF variant) {@link UUID} into the given buffer,
+	 * starting at the given offset.
+	 *
+	 * @param random {@link RandomGenerator} used to generate the random bits.
+	 * @param buffer array receiving the {@link UUID}.
+	 * @param offset position in the buffer of the first byte of the {@link UUID}.
+	 * @return {@value #UUID_LENGTH}, the number of bytes written.
+	 */
+	public static int writeRandom(@NonNull RandomGenerator random, @NonNull byte[] buffer, int offset) {
+
+		long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+		long leastSignificantBits = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+
+		return write(mostSignificantBits, leastSignificantBits, buffer, offset);
+	}
+
+	private static int write(long mostSignificantBits, long leastSignificantBits, byte[] buffer, int offset) {
+
+		LONG_VIEW.set(buffer, offset, mostSignificantBits);
+		LONG_VIEW.set(buffer, offset + Long.BYTES, leastSignificantBits);
+
+		return UUID_LENGTH;
+	}
+
+	public static @NonNull UUID read(@NonNull byte[] buffer, int offset) {
+		return new UUID((long) LONG_VIEW.get(buffer, offset), (long) LONG_VIEW.get(buffer, offset + Long.BYTES));
+	}
+
+	@Override
+	public byte[] serialize(@Nullable UUID uuid) throws SerializationException {
+
+		if (uuid == null) {
+			return null;
+		}
+
+		byte[] bytes = new byte[UUID_LENGTH];
+
+		write(uuid, bytes, 0);
+
+		return bytes;
+	}
+
+	@Override
+	public UUID deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (bytes == null) {
+			return null;
+		}
+		else if (bytes.length == UUID_LENGTH) {
+			return read(bytes, 0);
+		}
+		else if (bytes.length == UUID_TEXT_LENGTH) {
+			try {
+				return UUID.fromString(new String(bytes, StandardCharsets.US_ASCII));
+			}
+			catch (IllegalArgumentException cause) {
+				throw new SerializationException("Failed to parse UUID", cause);
+			}
+		}
+
+		throw new SerializationException(String.format("Length [%d] is not a binary [%d] or text [%d] UUID",
+			bytes.length, UUID_LENGTH, UUID_TEXT_LENGTH));
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return UUID.class;
+	}
+}
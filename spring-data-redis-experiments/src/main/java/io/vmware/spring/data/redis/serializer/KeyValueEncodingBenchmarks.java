@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import lombok.Getter;
+
+/**
+ * JMH Benchmarks comparing the encoding of numeric keys and {@link UUID} values with {@link String} concatenation
+ * and {@link String#getBytes()} to {@link PrefixedKeyEncoder} and {@link BinaryUuidRedisSerializer}, both
+ * allocating the encoded array and writing into a reusable buffer.
+ * <p>
+ * Random {@link UUID UUIDs} are generated from a {@link SplittableRandom} in all benchmarks, so that
+ * {@link UUID#randomUUID()} (and its {@link java.security.SecureRandom}) does not dominate the measurements.
+ * Run with {@literal -prof gc} to report the allocation per operation ({@literal gc.alloc.rate.norm}), for example:
+ *
+ * <pre>
+ * <code>
+ * java -cp ... io.vmware.spring.data.redis.serializer.KeyValueEncodingBenchmarks -prof gc
+ * </code>
+ * </pre>
+ *
+ * The buffer benchmarks should report close to {@literal 0 B/op}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see io.vmware.spring.data.redis.serializer.BinaryUuidRedisSerializer
+ * @see io.vmware.spring.data.redis.serializer.PrefixedKeyEncoder
+ * @since 0.1.0
+ */
+@Fork(value = 1)
+@Measurement(iterations = 3, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+public class KeyValueEncodingBenchmarks {
+
+	public static void main(String[] args) throws IOException {
+		org.openjdk.jmh.Main.main(args);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureKeyStringConcatenation(ExecutionPlan executionPlan) {
+		return ExecutionPlan.KEY_PREFIX.concat(String.valueOf(executionPlan.nextKeyNumber()))
+			.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureKeyEncoder(ExecutionPlan executionPlan) {
+		return executionPlan.getKeyEncoder().encode(executionPlan.nextKeyNumber());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureKeyEncoderIntoBuffer(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		byte[] buffer = executionPlan.getBuffer();
+
+		blackhole.consume(executionPlan.getKeyEncoder().encode(executionPlan.nextKeyNumber(), buffer, 0));
+		blackhole.consume(buffer);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureUuidString(ExecutionPlan executionPlan) {
+		return executionPlan.nextUuid().toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public byte[] measureBinaryUuid(ExecutionPlan executionPlan) {
+		return BinaryUuidRedisSerializer.INSTANCE.serialize(executionPlan.nextUuid());
+	}
+
+	@Benchmark
+	@SuppressWarnings("unused")
+	public void measureBinaryUuidIntoBuffer(Blackhole blackhole, ExecutionPlan executionPlan) {
+
+		byte[] buffer = executionPlan.getBuffer();
+
+		blackhole.consume(BinaryUuidRedisSerializer.writeRandom(executionPlan.getRandom(), buffer, 0));
+		blackhole.consume(buffer);
+	}
+
+	@Getter
+	@State(Scope.Thread)
+	@SuppressWarnings("unused")
+	public static class ExecutionPlan {
+
+		static final String KEY_PREFIX = "benchmark:key:";
+
+		private final byte[] buffer = new byte[64];
+
+		private long keyNumber = 1_000_000L;
+
+		private final PrefixedKeyEncoder keyEncoder = PrefixedKeyEncoder.forPrefix(KEY_PREFIX);
+
+		private final SplittableRandom random = new SplittableRandom(42L);
+
+		long nextKeyNumber() {
+			return this.keyNumber++;
+		}
+
+		UUID nextUuid() {
+			return new UUID(this.random.nextLong(), this.random.nextLong());
+		}
+	}
+}
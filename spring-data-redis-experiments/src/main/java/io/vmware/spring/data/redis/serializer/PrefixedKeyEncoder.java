@@ -0,0 +1,285 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.serializer;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} encoding numeric keys composed of a fixed prefix followed by the decimal digits of
+ * a {@link Long#TYPE long} suffix (for example: {@literal key:42}), without the {@link String} concatenation,
+ * {@link String#valueOf(long)} and {@link String#getBytes()} allocations of {@literal (prefix + suffix).getBytes()}.
+ * <p>
+ * The prefix is encoded once, and encoders are pooled by prefix (see {@link #forPrefix(String)}).
+ * {@link #encode(long)} allocates only the returned key, while {@link #encode(long, byte[], int)} and
+ * {@link #encode(long, ByteBuffer)} write the key into a reusable buffer and do not allocate. Thread-safe.
+ *
+ * @author John Blum
+ * @see java.nio.ByteBuffer
+ * @see org.springframework.data.redis.serializer.RedisSerializer
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class PrefixedKeyEncoder implements RedisSerializer<Long> {
+
+	private static final Map<String, PrefixedKeyEncoder> encoders = new ConcurrentHashMap<>();
+
+	private static final byte[] LONG_MIN_VALUE = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Returns the pooled {@link PrefixedKeyEncoder} for the given prefix.
+	 *
+	 * @param prefix {@link String} containing the key prefix; must not be {@literal null}.
+	 * @return the {@link PrefixedKeyEncoder} for the given prefix.
+	 */
+	public static @NonNull PrefixedKeyEncoder forPrefix(@NonNull String prefix) {
+		Assert.notNull(prefix, "Key prefix is required");
+		return encoders.computeIfAbsent(prefix, PrefixedKeyEncoder::new);
+	}
+
+	private final byte[] prefix;
+
+	private final String prefixString;
+
+	protected PrefixedKeyEncoder(@NonNull String prefix) {
+		this.prefixString = prefix;
+		this.prefix = prefix.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public @NonNull String getPrefix() {
+		return this.prefixString;
+	}
+
+	public int getPrefixLength() {
+		return this.prefix.length;
+	}
+
+	/**
+	 * Returns the length in bytes of the key with the given suffix.
+	 *
+	 * @param suffix numeric suffix of the key.
+	 * @return the length of the encoded key.
+	 */
+	public int encodedLength(long suffix) {
+		return this.prefix.length + digitCount(suffix);
+	}
+
+	/**
+	 * Encodes the key with the given suffix in a new array of the exact length of the key.
+	 *
+	 * @param suffix numeric suffix of the key.
+	 * @return a new array containing the encoded key.
+	 */
+	public @NonNull byte[] encode(long suffix) {
+
+		byte[] key = new byte[encodedLength(suffix)];
+
+		encode(suffix, key, 0);
+
+		return key;
+	}
+
+	/**
+	 * Encodes the key with the given suffix into the given buffer, starting at the given offset.
+	 *
+	 * @param suffix numeric suffix of the key.
+	 * @param buffer array receiving the key.
+	 * @param offset position in the buffer of the first byte of the key.
+	 * @return the length of the encoded key.
+	 * @throws IndexOutOfBoundsException if the key does not fit in the buffer.
+	 */
+	public int encode(long suffix, @NonNull byte[] buffer, int offset) {
+
+		int length = encodedLength(suffix);
+
+		if (offset < 0 || length > buffer.length - offset) {
+			throw new IndexOutOfBoundsException(String.format("Key of length [%d] does not fit at offset [%d]"
+				+ " in buffer of length [%d]", length, offset, buffer.length));
+		}
+
+		System.arraycopy(this.prefix, 0, buffer, offset, this.prefix.length);
+		writeDigits(suffix, buffer, offset + this.prefix.length, length - this.prefix.length);
+
+		return length;
+	}
+
+	/**
+	 * Encodes the key with the given suffix at the position of the given {@link ByteBuffer}, and advances
+	 * the position past the key.
+	 *
+	 * @param suffix numeric suffix of the key.
+	 * @param buffer {@link ByteBuffer} receiving the key.
+	 * @return the given {@link ByteBuffer}.
+	 * @throws BufferOverflowException if the key does not fit in the remaining buffer.
+	 */
+	public @NonNull ByteBuffer encode(long suffix, @NonNull ByteBuffer buffer) {
+
+		int length = encodedLength(suffix);
+
+		if (length > buffer.remaining()) {
+			throw new BufferOverflowException();
+		}
+
+		if (buffer.hasArray()) {
+			encode(suffix, buffer.array(), buffer.arrayOffset() + buffer.position());
+			return buffer.position(buffer.position() + length);
+		}
+
+		int digitCount = length - this.prefix.length;
+
+		buffer.put(this.prefix);
+
+		if (suffix == Long.MIN_VALUE) {
+			return buffer.put(LONG_MIN_VALUE);
+		}
+
+		if (suffix < 0) {
+			buffer.put((byte) '-');
+			suffix = -suffix;
+			digitCount--;
+		}
+
+		int end = buffer.position() + digitCount;
+
+		for (int index = end - 1; index >= buffer.position(); index--) {
+			buffer.put(index, (byte) ('0' + (suffix % 10)));
+			suffix /= 10;
+		}
+
+		return buffer.position(end);
+	}
+
+	/**
+	 * Determines whether the given key starts with the prefix of this encoder.
+	 *
+	 * @param key array containing the key.
+	 * @return a boolean value indicating whether the given key starts with the prefix of this encoder.
+	 */
+	public boolean matches(@Nullable byte[] key) {
+		return key != null && key.length > this.prefix.length
+			&& Arrays.equals(key, 0, this.prefix.length, this.prefix, 0, this.prefix.length);
+	}
+
+	/**
+	 * Decodes the numeric suffix of the given key.
+	 *
+	 * @param key array containing a key encoded by this encoder.
+	 * @return the numeric suffix of the key.
+	 * @throws IllegalArgumentException if the key does not have the prefix of this encoder followed by
+	 * a decimal {@link Long#TYPE long} value.
+	 */
+	public long decode(@NonNull byte[] key) {
+
+		Assert.isTrue(matches(key), () -> String.format("Key does not start with prefix [%s]", getPrefix()));
+
+		int index = this.prefix.length;
+		boolean negative = key[index] == '-';
+
+		if (negative) {
+			index++;
+		}
+
+		Assert.isTrue(index < key.length, () -> String.format("Key with prefix [%s] has no suffix", getPrefix()));
+
+		long value = 0L;
+
+		for (; index < key.length; index++) {
+
+			int digit = key[index] - '0';
+
+			if (digit < 0 || digit > 9) {
+				throw new IllegalArgumentException(String.format("Suffix of key with prefix [%s] is not a number",
+					getPrefix()));
+			}
+
+			value = Math.addExact(Math.multiplyExact(value, 10L), negative ? -digit : digit);
+		}
+
+		return value;
+	}
+
+	@Override
+	public byte[] serialize(@Nullable Long suffix) throws SerializationException {
+		return suffix != null ? encode(suffix) : null;
+	}
+
+	@Override
+	public Long deserialize(@Nullable byte[] key) throws SerializationException {
+
+		try {
+			return key != null ? decode(key) : null;
+		}
+		catch (IllegalArgumentException | ArithmeticException cause) {
+			throw new SerializationException("Failed to decode key", cause);
+		}
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return Long.class;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[%s]", getClass().getSimpleName(), getPrefix());
+	}
+
+	static int digitCount(long value) {
+
+		if (value == Long.MIN_VALUE) {
+			return LONG_MIN_VALUE.length;
+		}
+
+		int count = value < 0 ? 2 : 1;
+
+		for (long remaining = Math.abs(value); remaining >= 10; remaining /= 10) {
+			count++;
+		}
+
+		return count;
+	}
+
+	private static void writeDigits(long value, byte[] buffer, int offset, int digitCount) {
+
+		if (value == Long.MIN_VALUE) {
+			System.arraycopy(LONG_MIN_VALUE, 0, buffer, offset, LONG_MIN_VALUE.length);
+			return;
+		}
+
+		if (value < 0) {
+			buffer[offset] = '-';
+			value = -value;
+		}
+
+		int index = offset + digitCount;
+
+		do {
+			buffer[--index] = (byte) ('0' + (value % 10));
+			value /= 10;
+		}
+		while (value > 0);
+	}
+}
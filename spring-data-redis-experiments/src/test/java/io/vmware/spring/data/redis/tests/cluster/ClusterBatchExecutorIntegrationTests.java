@@ -0,0 +1,343 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import com.redis.testcontainers.RedisClusterContainer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.lettuce.core.MigrateArgs;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.vmware.spring.data.redis.connection.ClusterKeySlot;
+import io.vmware.spring.data.redis.core.ClusterBatchExecutor;
+
+/**
+ * Integration Tests for {@link ClusterBatchExecutor} using a Redis Cluster bootstrapped with Testcontainers.
+ *
+ * @author John Blum
+ * @see com.redis.testcontainers.RedisClusterContainer
+ * @see org.junit.jupiter.api.Test
+ * @see io.vmware.spring.data.redis.core.ClusterBatchExecutor
+ * @since 0.1.0
+ */
+@Testcontainers
+@SuppressWarnings("unused")
+public class ClusterBatchExecutorIntegrationTests {
+
+	private static final int KEY_COUNT = 5_000;
+
+	@Container
+	@SuppressWarnings("all")
+	private static final RedisClusterContainer redisClusterContainer =
+		new RedisClusterContainer(RedisClusterContainer.DEFAULT_IMAGE_NAME.withTag(RedisClusterContainer.DEFAULT_TAG));
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	private static RedisClusterClient clusterClient;
+
+	private static StatefulRedisClusterConnection<byte[], byte[]> clusterConnection;
+
+	private static StringRedisTemplate redisTemplate;
+
+	@BeforeAll
+	public static void setupRedisTemplate() {
+
+		List<String> clusterNodes = Arrays.stream(redisClusterContainer.getRedisURIs())
+			.map(URI::create)
+			.map(uri -> uri.getHost() + ":" + uri.getPort())
+			.toList();
+
+		connectionFactory = new LettuceConnectionFactory(new RedisClusterConfiguration(clusterNodes));
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+
+		clusterClient = RedisClusterClient.create(Arrays.stream(redisClusterContainer.getRedisURIs())
+			.map(RedisURI::create)
+			.toList());
+
+		clusterConnection = clusterClient.connect(ByteArrayCodec.INSTANCE);
+	}
+
+	@AfterAll
+	public static void tearDownConnectionFactory() {
+		clusterConnection.close();
+		clusterClient.shutdown();
+		connectionFactory.destroy();
+	}
+
+	@BeforeEach
+	public void flushAll() {
+
+		redisTemplate.execute((RedisCallback<?>) connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		});
+	}
+
+	@Test
+	public void multiSetAndMultiGetAcrossNodesInKeyOrder() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate);
+
+		Map<String, String> entries = new LinkedHashMap<>();
+
+		IntStream.range(0, KEY_COUNT).forEach(index -> entries.put("key:" + index, "value:" + index));
+
+		executor.multiSet(entries);
+
+		List<String> keys = new ArrayList<>();
+
+		IntStream.range(0, KEY_COUNT).forEach(index -> {
+			keys.add("key:" + index);
+			keys.add("missing:" + index);
+		});
+
+		List<String> values = executor.multiGet(keys);
+
+		assertThat(values).hasSize(keys.size());
+
+		for (int index = 0; index < KEY_COUNT; index++) {
+			assertThat(values.get(2 * index)).isEqualTo("value:" + index);
+			assertThat(values.get(2 * index + 1)).isNull();
+		}
+
+		assertThat(redisTemplate.opsForValue().get("key:4321")).isEqualTo("value:4321");
+		assertThat(executor.getRedirectionCount()).isZero();
+	}
+
+	@Test
+	public void deleteAcrossNodes() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate);
+
+		Map<String, String> entries = new LinkedHashMap<>();
+
+		IntStream.range(0, KEY_COUNT).forEach(index -> entries.put("key:" + index, "value:" + index));
+
+		executor.multiSet(entries);
+
+		List<String> keys = new ArrayList<>(entries.keySet());
+
+		keys.add("missing");
+
+		assertThat(executor.delete(keys)).isEqualTo(KEY_COUNT);
+		assertThat(executor.multiGet(keys)).containsOnlyNulls();
+	}
+
+	@Test
+	public void followsMovedRedirectionsAfterResharding() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate);
+
+		Map<String, String> entries = newEntries("{resharded}");
+
+		executor.multiSet(entries);
+
+		SlotMigration slotMigration = SlotMigration.begin("{resharded}");
+
+		slotMigration.migrateKeys(entries.size());
+		slotMigration.complete();
+
+		List<String> values = executor.multiGet(new ArrayList<>(entries.keySet()));
+
+		assertThat(values).containsExactlyElementsOf(entries.values());
+		assertThat(executor.getRedirectionCount()).isOne();
+	}
+
+	@Test
+	public void followsAskRedirectionsDuringResharding() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate);
+
+		Map<String, String> entries = newEntries("{asked}");
+
+		executor.multiSet(entries);
+
+		SlotMigration slotMigration = SlotMigration.begin("{asked}");
+
+		try {
+			slotMigration.migrateKeys(entries.size());
+
+			List<String> values = executor.multiGet(new ArrayList<>(entries.keySet()));
+
+			assertThat(values).containsExactlyElementsOf(entries.values());
+			assertThat(executor.getRedirectionCount()).isOne();
+			assertThat(executor.getTryAgainCount()).isZero();
+		}
+		finally {
+			slotMigration.complete();
+		}
+	}
+
+	@Test
+	public void retriesTryAgainUntilReshardingCompletes() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate)
+			.withTryAgainBackoff(Duration.ofMillis(50));
+
+		Map<String, String> entries = newEntries("{split}");
+
+		executor.multiSet(entries);
+
+		SlotMigration slotMigration = SlotMigration.begin("{split}");
+
+		slotMigration.migrateKeys(entries.size() / 2);
+
+		CompletableFuture<Void> reshardingCompletion = CompletableFuture.runAsync(() -> {
+			pause(Duration.ofMillis(100));
+			slotMigration.migrateKeys(entries.size());
+			slotMigration.complete();
+		});
+
+		List<String> values = executor.multiGet(new ArrayList<>(entries.keySet()));
+
+		reshardingCompletion.join();
+
+		assertThat(values).containsExactlyElementsOf(entries.values());
+		assertThat(executor.getTryAgainCount()).isPositive();
+	}
+
+	@Test
+	public void failsWhenTryAgainAttemptsAreExhausted() {
+
+		ClusterBatchExecutor<String, String> executor = new ClusterBatchExecutor<>(redisTemplate)
+			.withTryAgainAttempts(2);
+
+		Map<String, String> entries = newEntries("{stuck}");
+
+		executor.multiSet(entries);
+
+		SlotMigration slotMigration = SlotMigration.begin("{stuck}");
+
+		try {
+			slotMigration.migrateKeys(entries.size() / 2);
+
+			assertThatExceptionOfType(RedisSystemException.class)
+				.isThrownBy(() -> executor.multiGet(new ArrayList<>(entries.keySet())))
+				.withMessageStartingWith("TRYAGAIN");
+
+			assertThat(executor.getTryAgainCount()).isEqualTo(2);
+		}
+		finally {
+			slotMigration.migrateKeys(entries.size());
+			slotMigration.complete();
+		}
+	}
+
+	private static Map<String, String> newEntries(String hashTag) {
+
+		Map<String, String> entries = new LinkedHashMap<>();
+
+		IntStream.range(0, 100).forEach(index -> entries.put(hashTag + ":" + index, "value:" + index));
+
+		return entries;
+	}
+
+	private static void pause(Duration duration) {
+
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Moves the slot of a hash tag from the master node serving it to another master node, one step at a time.
+	 */
+	private record SlotMigration(int slot, RedisClusterNode source, RedisClusterNode target) {
+
+		static SlotMigration begin(String hashTag) {
+
+			int slot = ClusterKeySlot.slot(hashTag);
+
+			RedisClusterConnection connection = connectionFactory.getClusterConnection();
+
+			try {
+				RedisClusterNode source = connection.clusterGetNodeForSlot(slot);
+				RedisClusterNode target = StreamSupport.stream(connection.clusterGetNodes().spliterator(), false)
+					.filter(RedisClusterNode::isMaster)
+					.filter(node -> !node.getId().equals(source.getId()))
+					.findFirst()
+					.orElseThrow();
+
+				SlotMigration slotMigration = new SlotMigration(slot, source, target);
+
+				slotMigration.targetCommands().clusterSetSlotImporting(slot, source.getId());
+				slotMigration.sourceCommands().clusterSetSlotMigrating(slot, target.getId());
+
+				return slotMigration;
+			}
+			finally {
+				connection.close();
+			}
+		}
+
+		void migrateKeys(int count) {
+
+			List<byte[]> keys = sourceCommands().clusterGetKeysInSlot(slot(), count);
+
+			if (!keys.isEmpty()) {
+				sourceCommands().migrate("127.0.0.1", target().getPort(), 0, 5_000L, MigrateArgs.Builder.keys(keys));
+			}
+		}
+
+		void complete() {
+			targetCommands().clusterSetSlotNode(slot(), target().getId());
+			sourceCommands().clusterSetSlotNode(slot(), target().getId());
+		}
+
+		private RedisClusterCommands<byte[], byte[]> sourceCommands() {
+			return clusterConnection.sync().getConnection(source().getId());
+		}
+
+		private RedisClusterCommands<byte[], byte[]> targetCommands() {
+			return clusterConnection.sync().getConnection(target().getId());
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.ClusterTopology;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisNode;
+
+import io.vmware.spring.data.redis.connection.BitSetSlotRange;
+import io.vmware.spring.data.redis.connection.ClusterKeySlot;
+import io.vmware.spring.data.redis.connection.SlotRoutingTable;
+
+/**
+ * Unit Tests for {@link ClusterKeySlot}, {@link BitSetSlotRange} and {@link SlotRoutingTable}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.data.redis.connection.ClusterSlotHashUtil
+ * @see io.vmware.spring.data.redis.connection.BitSetSlotRange
+ * @see io.vmware.spring.data.redis.connection.ClusterKeySlot
+ * @see io.vmware.spring.data.redis.connection.SlotRoutingTable
+ * @since 0.1.0
+ */
+@SuppressWarnings("unused")
+public class ClusterSlotRoutingUnitTests {
+
+	private static final int KEY_COUNT = 100_000;
+
+	// Characters exercising hash tags and every UTF-8 encoding length, including unpaired surrogates
+	private static final char[] KEY_CHARACTERS = { 'a', 'z', '0', ':', '{', '}', 'é', '€', '\uD83D',
+		'\uDE00', '\u0000', '\u007F', '\u0080', '߿', 'ࠀ', '￿' };
+
+	private static final int[] SLOT_RANGE_BOUNDS = { 0, 5460, 5461, 10922, 10923, 16383 };
+
+	@Test
+	public void slotOfKnownKeys() {
+
+		// CRC16 (XMODEM) check value of "123456789" is 0x31C3
+		assertThat(ClusterKeySlot.slot("123456789")).isEqualTo(0x31C3 % ClusterKeySlot.SLOT_COUNT);
+		assertThat(ClusterKeySlot.slot("")).isZero();
+		assertThat(ClusterKeySlot.slot("{user1000}.following")).isEqualTo(ClusterKeySlot.slot("{user1000}.followers"));
+		assertThat(ClusterKeySlot.slot("{user1000}.following")).isEqualTo(ClusterKeySlot.slot("user1000"));
+	}
+
+	@Test
+	public void slotHonorsHashTagRules() {
+
+		// An empty hash tag hashes the whole key
+		assertThat(ClusterKeySlot.slot("{}")).isEqualTo(crc16Slot("{}"));
+		assertThat(ClusterKeySlot.slot("foo{}{bar}")).isEqualTo(crc16Slot("foo{}{bar}"));
+
+		// An unclosed hash tag hashes the whole key
+		assertThat(ClusterKeySlot.slot("{")).isEqualTo(crc16Slot("{"));
+		assertThat(ClusterKeySlot.slot("foo{bar")).isEqualTo(crc16Slot("foo{bar"));
+		assertThat(ClusterKeySlot.slot("}foo{")).isEqualTo(crc16Slot("}foo{"));
+
+		// Only the first '{' and the first following '}' delimit the hash tag
+		assertThat(ClusterKeySlot.slot("foo{{bar}}zap")).isEqualTo(ClusterKeySlot.slot("{bar"));
+		assertThat(ClusterKeySlot.slot("foo{bar}{zap}")).isEqualTo(ClusterKeySlot.slot("bar"));
+		assertThat(ClusterKeySlot.slot("{a{b}c}")).isEqualTo(ClusterKeySlot.slot("a{b"));
+		assertThat(ClusterKeySlot.slot("}{x}")).isEqualTo(ClusterKeySlot.slot("x"));
+	}
+
+	@Test
+	public void slotMatchesClusterSlotHashUtilForRandomKeys() {
+
+		Random random = new Random(KEY_COUNT);
+
+		for (int count = 0; count < KEY_COUNT; count++) {
+
+			char[] key = new char[random.nextInt(32)];
+
+			for (int index = 0; index < key.length; index++) {
+				key[index] = random.nextInt(4) == 0 ? KEY_CHARACTERS[random.nextInt(KEY_CHARACTERS.length)]
+					: (char) random.nextInt(Character.MAX_VALUE + 1);
+			}
+
+			String keyString = new String(key);
+			byte[] keyBytes = keyString.getBytes(StandardCharsets.UTF_8);
+			int expectedSlot = ClusterSlotHashUtil.calculateSlot(keyBytes);
+
+			assertThat(ClusterKeySlot.slot(keyBytes)).describedAs("Slot of byte[] key [%s]", keyString)
+				.isEqualTo(expectedSlot);
+
+			assertThat(ClusterKeySlot.slot(keyString)).describedAs("Slot of CharSequence key [%s]", keyString)
+				.isEqualTo(expectedSlot);
+		}
+	}
+
+	@Test
+	public void bitSetSlotRangeBoundaries() {
+
+		BitSetSlotRange allSlots = BitSetSlotRange.range(0, ClusterKeySlot.SLOT_COUNT - 1);
+
+		assertThat(allSlots.cardinality()).isEqualTo(ClusterKeySlot.SLOT_COUNT);
+		assertThat(allSlots.contains(0)).isTrue();
+		assertThat(allSlots.contains(16383)).isTrue();
+		assertThat(allSlots.contains(-1)).isFalse();
+		assertThat(allSlots.contains(16384)).isFalse();
+
+		BitSetSlotRange boundarySlots = BitSetSlotRange.of(0, 63, 64, 16383);
+
+		assertThat(boundarySlots.toArray()).containsExactly(0, 63, 64, 16383);
+		assertThat(boundarySlots.contains(1)).isFalse();
+		assertThat(boundarySlots.contains(16382)).isFalse();
+		assertThat(BitSetSlotRange.range(16383, 16383).toArray()).containsExactly(16383);
+		assertThat(BitSetSlotRange.range(0, 0).toArray()).containsExactly(0);
+		assertThat(BitSetSlotRange.of().isEmpty()).isTrue();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> BitSetSlotRange.of(16384));
+		assertThatIllegalArgumentException().isThrownBy(() -> BitSetSlotRange.of(-1));
+		assertThatIllegalArgumentException().isThrownBy(() -> BitSetSlotRange.range(10, 9));
+	}
+
+	@Test
+	public void bitSetSlotRangeMatchesSlotRange() {
+
+		for (int index = 0; index < SLOT_RANGE_BOUNDS.length; index += 2) {
+
+			RedisClusterNode.SlotRange slotRange =
+				new RedisClusterNode.SlotRange(SLOT_RANGE_BOUNDS[index], SLOT_RANGE_BOUNDS[index + 1]);
+
+			BitSetSlotRange bitSetSlotRange = BitSetSlotRange.from(slotRange);
+
+			assertThat(bitSetSlotRange)
+				.isEqualTo(BitSetSlotRange.range(SLOT_RANGE_BOUNDS[index], SLOT_RANGE_BOUNDS[index + 1]));
+			assertThat(bitSetSlotRange.toArray()).containsExactly(slotRange.getSlotsArray());
+			assertThat(bitSetSlotRange.toSlotRange().getSlots()).isEqualTo(slotRange.getSlots());
+
+			for (int slot = 0; slot < ClusterKeySlot.SLOT_COUNT; slot++) {
+				assertThat(bitSetSlotRange.contains(slot)).isEqualTo(slotRange.contains(slot));
+			}
+		}
+	}
+
+	@Test
+	public void routingTableRoutesLikeClusterTopology() {
+
+		ClusterTopology clusterTopology = new ClusterTopology(Set.copyOf(newMasterNodes()));
+		SlotRoutingTable routingTable = SlotRoutingTable.from(clusterTopology);
+
+		assertThat(routingTable.isComplete()).isTrue();
+		assertThat(routingTable.getNodeCount()).isEqualTo(3);
+
+		for (int slot : SLOT_RANGE_BOUNDS) {
+			assertThat(routingTable.nodeForSlot(slot))
+				.isEqualTo(clusterTopology.getSlotServingNodes(slot).iterator().next());
+		}
+
+		Random random = new Random(KEY_COUNT);
+
+		for (int count = 0; count < 10_000; count++) {
+
+			byte[] key = new byte[random.nextInt(24)];
+
+			random.nextBytes(key);
+
+			assertThat(routingTable.nodeForKey(key)).isEqualTo(clusterTopology.getKeyServingMasterNode(key));
+		}
+	}
+
+	@Test
+	public void routingTableWithUnservedSlots() {
+
+		SlotRoutingTable routingTable = SlotRoutingTable.from(newMasterNodes().subList(0, 2));
+
+		assertThat(routingTable.isComplete()).isFalse();
+		assertThat(routingTable.nodeIndexForSlot(10922)).isEqualTo(1);
+		assertThat(routingTable.nodeIndexForSlot(10923)).isEqualTo(SlotRoutingTable.UNASSIGNED);
+		assertThat(routingTable.nodeForSlot(16383)).isNull();
+	}
+
+	@Test
+	public void routingTableRejectsSlotsServedByMoreThanOneNode() {
+
+		List<RedisClusterNode> nodes = List.of(newMasterNode(0, 0, 5461), newMasterNode(1, 5461, 16383));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> SlotRoutingTable.from(nodes))
+			.withMessageContaining("Slot [5461]");
+	}
+
+	private static int crc16Slot(String key) {
+		return ClusterSlotHashUtil.calculateSlot(key.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static List<RedisClusterNode> newMasterNodes() {
+
+		return List.of(newMasterNode(0, SLOT_RANGE_BOUNDS[0], SLOT_RANGE_BOUNDS[1]),
+			newMasterNode(1, SLOT_RANGE_BOUNDS[2], SLOT_RANGE_BOUNDS[3]),
+			newMasterNode(2, SLOT_RANGE_BOUNDS[4], SLOT_RANGE_BOUNDS[5]));
+	}
+
+	private static RedisClusterNode newMasterNode(int node, int lowerBound, int upperBound) {
+
+		return RedisClusterNode.newRedisClusterNode()
+			.listeningAt("10.0.0." + node, 6379)
+			.withId("node-" + node)
+			.promotedAs(RedisNode.NodeType.MASTER)
+			.linkState(RedisClusterNode.LinkState.CONNECTED)
+			.serving(new RedisClusterNode.SlotRange(lowerBound, upperBound))
+			.build();
+	}
+}
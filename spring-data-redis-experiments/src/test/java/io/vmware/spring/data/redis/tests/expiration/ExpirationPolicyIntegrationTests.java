@@ -0,0 +1,197 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.expiration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.core.ExpirationPolicy;
+import io.vmware.spring.data.redis.core.TimeBucketedExpiration;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link ExpirationPolicy} and {@link TimeBucketedExpiration}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.core.ExpirationPolicy
+ * @see io.vmware.spring.data.redis.core.TimeBucketedExpiration
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class ExpirationPolicyIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String CONTAINER_KEY_PREFIX = "expiry:test:";
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Test
+	public void jitteredTimeToLiveIsSpreadAroundTimeout() {
+
+		ExpirationPolicy expirationPolicy = ExpirationPolicy.jittered(Duration.ofSeconds(10), 0.2d);
+
+		long minimum = Long.MAX_VALUE;
+		long maximum = Long.MIN_VALUE;
+
+		for (int count = 0; count < 10_000; count++) {
+			long timeToLive = expirationPolicy.nextTimeToLive().toMillis();
+			minimum = Math.min(minimum, timeToLive);
+			maximum = Math.max(maximum, timeToLive);
+		}
+
+		assertThat(minimum).isBetween(8_000L, 8_200L);
+		assertThat(maximum).isBetween(11_800L, 12_000L);
+
+		Duration timeToLive = expirationPolicy.set(getRedisTemplate(), "jittered:key", "value");
+
+		assertThat(getRedisTemplate().getExpire("jittered:key", TimeUnit.MILLISECONDS))
+			.isPositive()
+			.isLessThanOrEqualTo(timeToLive.toMillis());
+	}
+
+	@Test
+	public void bucketedKeysAreStoredInContainerExpiringAtEndOfBucket() {
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(getRedisTemplate(), CONTAINER_KEY_PREFIX, Duration.ofSeconds(1));
+
+		Map<String, String> entries = new HashMap<>();
+
+		entries.put("a", "1");
+		entries.put("b", "2");
+
+		Instant now = Instant.now();
+
+		bucketedExpiration.setAll(entries, Duration.ofSeconds(5));
+
+		String containerKey = bucketedExpiration.containerKey(now.plusSeconds(5));
+
+		assertThat(getRedisTemplate().<String, String>opsForHash().entries(containerKey)).isEqualTo(entries);
+		assertThat(getRedisTemplate().getExpire(containerKey, TimeUnit.MILLISECONDS)).isBetween(4_500L, 6_000L);
+		assertThat(bucketedExpiration.get("a")).isEqualTo("1");
+		assertThat(bucketedExpiration.delete("a")).isTrue();
+		assertThat(bucketedExpiration.delete("a")).isFalse();
+		assertThat(bucketedExpiration.get("a")).isNull();
+		assertThat(bucketedExpiration.get("b")).isEqualTo("2");
+	}
+
+	@Test
+	public void bucketedKeySetAgainIsOverwritten() {
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(getRedisTemplate(), CONTAINER_KEY_PREFIX, Duration.ofSeconds(1));
+
+		bucketedExpiration.set("overwritten", "old", Duration.ofSeconds(10));
+		bucketedExpiration.set("overwritten", "new", Duration.ofSeconds(2));
+
+		assertThat(bucketedExpiration.get("overwritten")).isEqualTo("new");
+		assertThat(getRedisTemplate().opsForHash().hasKey(bucketedExpiration.containerKey(Instant.now()
+			.plusSeconds(10)), "overwritten")).isFalse();
+	}
+
+	@Test
+	public void bucketedKeysAreOnlyReadAndDeletedFromIndexedContainer() {
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(getRedisTemplate(), CONTAINER_KEY_PREFIX, Duration.ofSeconds(1));
+
+		String otherContainerKey = bucketedExpiration.containerKey(Instant.now().plusSeconds(30));
+
+		getRedisTemplate().opsForHash().put(otherContainerKey, "indexed", "other");
+		bucketedExpiration.set("indexed", "value", Duration.ofSeconds(5));
+
+		assertThat(bucketedExpiration.get("indexed")).isEqualTo("value");
+		assertThat(bucketedExpiration.delete("indexed")).isTrue();
+		assertThat(bucketedExpiration.get("indexed")).isNull();
+		assertThat(getRedisTemplate().opsForHash().get(otherContainerKey, "indexed")).isEqualTo("other");
+	}
+
+	@Test
+	public void bucketedValuesAreReadWithHashValueSerializer() {
+
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+
+		redisTemplate.setConnectionFactory(getRedisTemplate().getRequiredConnectionFactory());
+		redisTemplate.setKeySerializer(RedisSerializer.string());
+		redisTemplate.setValueSerializer(RedisSerializer.java());
+		redisTemplate.setHashKeySerializer(RedisSerializer.string());
+		redisTemplate.setHashValueSerializer(RedisSerializer.string());
+		redisTemplate.afterPropertiesSet();
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(redisTemplate, CONTAINER_KEY_PREFIX, Duration.ofSeconds(1));
+
+		bucketedExpiration.set("serialized", "value", Duration.ofSeconds(5));
+
+		assertThat(bucketedExpiration.get("serialized")).isEqualTo("value");
+	}
+
+	@Test
+	public void bucketedKeysNeverExpireEarly() throws InterruptedException {
+
+		TimeBucketedExpiration<String> bucketedExpiration =
+			new TimeBucketedExpiration<>(getRedisTemplate(), CONTAINER_KEY_PREFIX, Duration.ofMillis(500));
+
+		long startTime = System.nanoTime();
+
+		bucketedExpiration.set("early", "value", Duration.ofMillis(700));
+
+		while (bucketedExpiration.get("early") != null) {
+			Thread.sleep(10);
+		}
+
+		Duration lifetime = Duration.ofNanos(System.nanoTime() - startTime);
+
+		log("Key with TTL [700 ms] expired after [%d ms]%n", lifetime.toMillis());
+
+		assertThat(lifetime).isGreaterThanOrEqualTo(Duration.ofMillis(700));
+		assertThat(lifetime).isLessThan(Duration.ofMillis(700 + 500 + 500));
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.ids;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.core.BlockIdAllocator;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link BlockIdAllocator}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.core.BlockIdAllocator
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class BlockIdAllocatorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int IDS_PER_THREAD = 250_000;
+	private static final int THREAD_COUNT = 8;
+
+	private static final String COUNTER_KEY = "sequence:test";
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Test
+	public void allocatorsSharingCounterIssueUniqueIds() throws Exception {
+
+		getRedisTemplate().delete(COUNTER_KEY);
+
+		BlockIdAllocator allocatorOne = new BlockIdAllocator(getRedisTemplate(), COUNTER_KEY);
+		BlockIdAllocator allocatorTwo = new BlockIdAllocator(getRedisTemplate(), COUNTER_KEY);
+
+		long[][] ids = new long[THREAD_COUNT][IDS_PER_THREAD];
+
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+
+			Duration duration = timed(() -> {
+
+				for (int thread = 0; thread < THREAD_COUNT; thread++) {
+
+					long[] threadIds = ids[thread];
+					BlockIdAllocator allocator = thread % 2 == 0 ? allocatorOne : allocatorTwo;
+
+					futures.add(executorService.submit(() -> {
+						for (int index = 0; index < IDS_PER_THREAD; index++) {
+							threadIds[index] = allocator.nextId();
+						}
+					}));
+				}
+
+				futures.forEach(this::await);
+			});
+
+			log("Issued [%d] ids in [%d ms]; %s, %s%n", THREAD_COUNT * IDS_PER_THREAD, duration.toMillis(),
+				allocatorOne.getStatistics(), allocatorTwo.getStatistics());
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		long[] allIds = Arrays.stream(ids).flatMapToLong(Arrays::stream).sorted().toArray();
+		long counter = Long.parseLong(getRedisTemplate().opsForValue().get(COUNTER_KEY));
+
+		assertThat(Arrays.stream(allIds).distinct().count()).isEqualTo(allIds.length);
+		assertThat(allIds[0]).isPositive();
+		assertThat(allIds[allIds.length - 1]).isLessThanOrEqualTo(counter);
+
+		for (long[] threadIds : ids) {
+			assertThat(threadIds).isSorted();
+		}
+
+		BlockIdAllocator.Statistics statistics = allocatorOne.getStatistics();
+
+		assertThat(statistics.blocks() + allocatorTwo.getStatistics().blocks()).isLessThan(allIds.length / 100);
+		assertThat(statistics.reservedIds() + allocatorTwo.getStatistics().reservedIds()).isEqualTo(counter);
+	}
+
+	@Test
+	public void blockSizeGrowsWithFastConsumption() {
+
+		BlockIdAllocator allocator = new BlockIdAllocator(getRedisTemplate(), COUNTER_KEY + ":fast")
+			.withInitialBlockSize(4)
+			.withTargetRefillInterval(Duration.ofMillis(50));
+
+		for (int count = 0; count < 1_000_000; count++) {
+			allocator.nextId();
+		}
+
+		assertThat(allocator.getStatistics().largestBlockSize()).isGreaterThan(1_000);
+		assertThat(allocator.getStatistics().blocks()).isLessThan(1_000);
+	}
+
+	@Test
+	public void blockSizeShrinksWithSlowConsumption() throws InterruptedException {
+
+		String counterKey = COUNTER_KEY + ":slow";
+
+		getRedisTemplate().delete(counterKey);
+
+		BlockIdAllocator allocator = new BlockIdAllocator(getRedisTemplate(), counterKey)
+			.withInitialBlockSize(8)
+			.withMinimumBlockSize(1)
+			.withTargetRefillInterval(Duration.ofMillis(1));
+
+		for (int count = 0; count < 20; count++) {
+			allocator.nextId();
+			Thread.sleep(5);
+		}
+
+		// Every block lasts longer than 4 times the target refill interval: 8, 4, 2, 1, 1, 1, 1, 1, 1
+		assertThat(allocator.getStatistics()).isEqualTo(new BlockIdAllocator.Statistics(9, 20, 8));
+		assertThat(getRedisTemplate().opsForValue().get(counterKey)).isEqualTo("20");
+	}
+
+	private void await(Future<?> future) {
+		try {
+			future.get();
+		}
+		catch (Exception cause) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+	}
+}
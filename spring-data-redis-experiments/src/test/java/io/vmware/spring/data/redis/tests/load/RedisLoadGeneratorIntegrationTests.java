@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.pubsub.client.data.KeyDistribution;
+import io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator;
+import io.vmware.spring.data.redis.pubsub.client.data.ValueSizeDistribution;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link RedisLoadGenerator}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.data.RedisLoadGenerator
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class RedisLoadGeneratorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int KEY_COUNT = 1_000;
+	private static final int TARGET_RATE = 1_000;
+
+	private static final Duration RUN_DURATION = Duration.ofSeconds(2);
+	private static final Duration STALL = Duration.ofMillis(200);
+
+	private static final String KEY_PREFIX = "load:key:";
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Test
+	public void issuesOperationMixAtTargetRate() {
+
+		RedisLoadGenerator.Report report = new RedisLoadGenerator(getRedisTemplate())
+			.withKeyPrefix(KEY_PREFIX)
+			.withTargetRate(TARGET_RATE)
+			.withThreadCount(2)
+			.withKeyDistribution(KeyDistribution.zipfian(KEY_COUNT, 0.99d))
+			.withValueSizeDistribution(ValueSizeDistribution.uniform(16, 256))
+			.withOperationMix(RedisLoadGenerator.OperationMix.of(50, 45, 5))
+			.withReportInterval(Duration.ofMillis(500))
+			.run(RUN_DURATION);
+
+		log("%s%n", report);
+
+		assertThat(report.errors()).isZero();
+		assertThat(report.operations()).isEqualTo(TARGET_RATE * RUN_DURATION.toSeconds());
+		assertThat(report.latencyAt(99.0d)).isGreaterThanOrEqualTo(report.serviceTimeAt(99.0d));
+
+		Set<String> keys = getRedisTemplate().keys(KEY_PREFIX + "*");
+
+		assertThat(keys).isNotEmpty().hasSizeLessThanOrEqualTo(KEY_COUNT);
+		assertThat(keys).allSatisfy(key -> assertThat(getRedisTemplate().opsForValue().get(key))
+			.hasSizeBetween(16, 256));
+	}
+
+	@Test
+	public void latencyIsCorrectedForCoordinatedOmission() {
+
+		AtomicBoolean stalled = new AtomicBoolean(false);
+
+		RedisLoadGenerator loadGenerator = new RedisLoadGenerator(getRedisTemplate()) {
+
+			@Override
+			protected void execute(Operation operation, String key, RandomGenerator random) {
+
+				if (stalled.compareAndSet(false, true)) {
+					try {
+						Thread.sleep(STALL.toMillis());
+					}
+					catch (InterruptedException cause) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				super.execute(operation, key, random);
+			}
+		};
+
+		RedisLoadGenerator.Report report = loadGenerator
+			.withKeyPrefix(KEY_PREFIX)
+			.withTargetRate(TARGET_RATE)
+			.withThreadCount(1)
+			.withKeyDistribution(KeyDistribution.uniform(KEY_COUNT))
+			.run(RUN_DURATION);
+
+		log("%s%n", report);
+
+		// The operations scheduled during the stall (10% of the run) are delayed, but only one is slow to execute
+		assertThat(report.operations()).isEqualTo(TARGET_RATE * RUN_DURATION.toSeconds());
+		assertThat(report.latency().getMaxValue()).isGreaterThanOrEqualTo(STALL.toNanos());
+		assertThat(report.latencyAt(95.0d)).isGreaterThan(STALL.dividedBy(4));
+		assertThat(report.serviceTimeAt(95.0d)).isLessThan(STALL.dividedBy(4));
+	}
+
+	@Test
+	public void stopsRunningAndReportingWhenDurationElapses() throws InterruptedException {
+
+		AtomicInteger reports = new AtomicInteger();
+
+		try (RedisLoadGenerator loadGenerator = new RedisLoadGenerator(getRedisTemplate())
+				.withKeyPrefix(KEY_PREFIX)
+				.withTargetRate(TARGET_RATE)
+				.withDuration(Duration.ofMillis(500))
+				.withReportInterval(Duration.ofMillis(100))
+				.withReportListener(report -> reports.incrementAndGet())
+				.start()) {
+
+			long deadline = System.nanoTime() + RUN_DURATION.toNanos();
+
+			while (loadGenerator.isRunning() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertThat(loadGenerator.isRunning()).isFalse();
+
+			int reportCount = reports.get();
+
+			Thread.sleep(300);
+
+			assertThat(reports.get()).isEqualTo(reportCount);
+			assertThat(loadGenerator.getReport().operations()).isEqualTo(TARGET_RATE / 2);
+		}
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pipelining;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.core.PartitionedPipelineExecutor;
+import io.vmware.spring.data.redis.core.PipelineExecutionResult;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link PartitionedPipelineExecutor} loading a large Redis Set in chunked pipelines
+ * on multiple connections, and a single pipeline on a single connection for comparison.
+ * <p>
+ * The durations of both are logged rather than asserted, since their relative timing depends on the environment.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see org.springframework.data.redis.core.RedisTemplate
+ * @see io.vmware.spring.data.redis.core.PartitionedPipelineExecutor
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class PartitionedPipelineExecutorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int CHUNK_SIZE = 10_000;
+	private static final int ELEMENT_COUNT = 500_000;
+
+	private static final String PARTITIONED_SET_KEY = "PartitionedSetKey";
+	private static final String SINGLE_PIPELINE_SET_KEY = "SinglePipelineSetKey";
+
+	private static final List<String> elements = new ArrayList<>(ELEMENT_COUNT);
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@BeforeAll
+	public static void createElementsToStoreInRedis() {
+
+		IntStream.range(0, ELEMENT_COUNT)
+			.forEach(count -> elements.add(UUID.randomUUID().toString()));
+	}
+
+	@BeforeEach
+	public void assertRedisTemplate() {
+		assertThat(this.redisTemplate).isNotNull();
+	}
+
+	@Test
+	public void storeInRedisUsingSinglePipeline() {
+
+		Duration singlePipelineDuration = timed(() ->
+			this.redisTemplate.executePipelined((RedisCallback<?>) redisConnection -> {
+
+				elements.forEach(element ->
+					redisConnection.setCommands().sAdd(SINGLE_PIPELINE_SET_KEY.getBytes(), element.getBytes()));
+
+				return null;
+			}));
+
+		log("SINGLE PIPELINE DURATION %d ms", singlePipelineDuration.toMillis());
+
+		assertThat(this.redisTemplate.opsForSet().size(SINGLE_PIPELINE_SET_KEY)).isEqualTo(ELEMENT_COUNT);
+	}
+
+	@Test
+	public void storeInRedisUsingPartitionedPipelines() {
+
+		PipelineExecutionResult result = new PartitionedPipelineExecutor<>(this.redisTemplate)
+			.withChunkSize(CHUNK_SIZE)
+			.execute(elements, (operations, element) -> operations.opsForSet().add(PARTITIONED_SET_KEY, element));
+
+		log("PARTITIONED PIPELINES RESULT %s", result);
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.elements()).isEqualTo(ELEMENT_COUNT);
+		assertThat(result.pipelines()).isEqualTo(ELEMENT_COUNT / CHUNK_SIZE);
+		assertThat(result.results()).isEmpty();
+		assertThat(this.redisTemplate.opsForSet().size(PARTITIONED_SET_KEY)).isEqualTo(ELEMENT_COUNT);
+	}
+
+	@Test
+	public void collectsResultsInElementOrder() {
+
+		List<Integer> numbers = IntStream.range(0, 2_500).boxed().toList();
+
+		PipelineExecutionResult result = new PartitionedPipelineExecutor<>(this.redisTemplate)
+			.withChunkSize(100)
+			.withConcurrency(4)
+			.withResultsCollected(true)
+			.execute(numbers, (operations, number) -> operations.opsForValue().increment("counter:" + number, number));
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.pipelines()).isEqualTo(25);
+		assertThat(result.results()).hasSize(25);
+		assertThat(result.results()).allSatisfy(pipelineResults -> assertThat(pipelineResults).hasSize(100));
+		assertThat(result.results().get(0).get(0)).isEqualTo(0L);
+		assertThat(result.results().get(12).get(34)).isEqualTo(1234L);
+		assertThat(result.results().get(24).get(99)).isEqualTo(2499L);
+	}
+
+	@Test
+	public void keepsSlotsOfFailedPipelinesInCollectedResults() {
+
+		String stringKey = "NotACounterKey";
+
+		this.redisTemplate.opsForValue().set(stringKey, "value");
+
+		List<Integer> numbers = IntStream.range(0, 500).boxed().toList();
+
+		PipelineExecutionResult result = new PartitionedPipelineExecutor<>(this.redisTemplate)
+			.withChunkSize(100)
+			.withConcurrency(4)
+			.withResultsCollected(true)
+			.execute(numbers, (operations, number) ->
+				operations.opsForValue().increment(number == 250 ? stringKey : "counter:" + number, number));
+
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.results()).hasSize(5);
+		assertThat(result.results().get(1).get(50)).isEqualTo(150L);
+		assertThat(result.results().get(3).get(50)).isEqualTo(350L);
+
+		// Lettuce does not return the results of a failed pipeline
+		assertThat(result.results().get(2)).isNull();
+	}
+
+	@Test
+	public void recordsFailedPipelinesWithoutStoppingOthers() {
+
+		String stringKey = "NotASetKey";
+		String setKey = "SetKeyWithFailures";
+
+		this.redisTemplate.opsForValue().set(stringKey, "value");
+
+		List<Integer> numbers = IntStream.range(0, 1_000).boxed().toList();
+
+		PipelineExecutionResult result = new PartitionedPipelineExecutor<>(this.redisTemplate)
+			.withChunkSize(100)
+			.withConcurrency(4)
+			.execute(numbers, (operations, number) ->
+				operations.opsForSet().add(number % 250 == 0 ? stringKey : setKey, String.valueOf(number)));
+
+		log("PARTITIONED PIPELINES WITH FAILURES RESULT %s", result);
+
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.commandErrors()).isEqualTo(4);
+		assertThat(result.failures())
+			.extracting(PipelineExecutionResult.PipelineFailure::pipeline)
+			.containsExactly(0, 2, 5, 7);
+		assertThat(result.failures())
+			.extracting(PipelineExecutionResult.PipelineFailure::firstElement)
+			.containsExactly(0L, 200L, 500L, 700L);
+		assertThat(this.redisTemplate.opsForSet().size(setKey)).isEqualTo(996);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pipelining;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.core.PipelineExecutionResult;
+import io.vmware.spring.data.redis.core.StreamingPipelineExecutor;
+import io.vmware.spring.data.redis.serializer.PrefixedKeyEncoder;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link StreamingPipelineExecutor}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.core.StreamingPipelineExecutor
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class StreamingPipelineExecutorIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int ELEMENT_COUNT = 500_000;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Test
+	public void storeInRedisDiscardingReplies() {
+
+		byte[] setKey = "StreamingSetKey".getBytes();
+
+		List<String> elements = IntStream.range(0, ELEMENT_COUNT)
+			.mapToObj(count -> UUID.randomUUID().toString())
+			.toList();
+
+		PipelineExecutionResult result = new StreamingPipelineExecutor(this.redisTemplate)
+			.withWindowSize(10_000)
+			.execute(elements, (connection, element) -> connection.setCommands().sAdd(setKey, element.getBytes()));
+
+		log("STREAMING PIPELINE RESULT %s", result);
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.elements()).isEqualTo(ELEMENT_COUNT);
+		assertThat(result.pipelines()).isEqualTo(50);
+		assertThat(this.redisTemplate.opsForSet().size("StreamingSetKey")).isEqualTo(ELEMENT_COUNT);
+	}
+
+	@Test
+	public void streamsRepliesInCommandOrder() {
+
+		List<Integer> numbers = IntStream.range(0, 2_500).boxed().toList();
+
+		numbers.forEach(number -> this.redisTemplate.opsForValue().set("streaming:" + number, "value" + number));
+
+		AtomicLong expectedIndex = new AtomicLong();
+		List<Object> replies = new ArrayList<>();
+		PrefixedKeyEncoder keyEncoder = PrefixedKeyEncoder.forPrefix("streaming:");
+
+		PipelineExecutionResult result = new StreamingPipelineExecutor(this.redisTemplate)
+			.withWindowSize(100)
+			.withValueSerializer(RedisSerializer.string())
+			.execute(numbers, (connection, number) -> connection.stringCommands().get(keyEncoder.encode(number)),
+				(index, reply, error) -> {
+					assertThat(index).isEqualTo(expectedIndex.getAndIncrement());
+					assertThat(error).isNull();
+					replies.add(reply);
+				});
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.pipelines()).isEqualTo(25);
+		assertThat(replies).hasSize(numbers.size());
+		assertThat(replies.get(0)).isEqualTo("value0");
+		assertThat(replies.get(1234)).isEqualTo("value1234");
+		assertThat(replies.get(2499)).isEqualTo("value2499");
+	}
+
+	@Test
+	public void passesCommandErrorsToReplyConsumer() {
+
+		this.redisTemplate.opsForValue().set("NotAStreamingSetKey", "value");
+
+		List<Long> errorIndexes = new ArrayList<>();
+
+		PipelineExecutionResult result = new StreamingPipelineExecutor(this.redisTemplate)
+			.withWindowSize(100)
+			.execute(IntStream.range(0, 1_000).boxed().toList(), (connection, number) ->
+				connection.setCommands().sAdd((number % 250 == 0 ? "NotAStreamingSetKey" : "StreamingSetKeyTwo").getBytes(),
+					String.valueOf(number).getBytes()),
+				(index, reply, error) -> {
+					if (error != null) {
+						errorIndexes.add(index);
+					}
+				});
+
+		assertThat(result.isSuccessful()).isFalse();
+		assertThat(result.commandErrors()).isEqualTo(4);
+		assertThat(errorIndexes).containsExactly(0L, 250L, 500L, 750L);
+		assertThat(this.redisTemplate.opsForSet().size("StreamingSetKeyTwo")).isEqualTo(996);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+	}
+}
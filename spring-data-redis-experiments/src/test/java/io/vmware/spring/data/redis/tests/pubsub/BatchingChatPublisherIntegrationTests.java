@@ -0,0 +1,266 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.NonNull;
+import org.springframework.test.context.ActiveProfiles;
+
+import example.chat.model.Chat;
+import example.chat.model.Person;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelopeRedisSerializer;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link BatchingChatPublisher}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class BatchingChatPublisherIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int CHAT_COUNT = 10_000;
+
+	private static final String CHANNEL = "chatroom:batched";
+
+	private static final BlockingQueue<String> receivedMessages = new LinkedBlockingQueue<>();
+
+	@Autowired
+	private RedisTemplate<String, Chat> chatRedisTemplate;
+
+	private final Person jonDoe = Person.newPerson("Jon", "Doe").identifiedBy("jdoe");
+
+	@BeforeEach
+	public void clearReceivedMessages() {
+		receivedMessages.clear();
+	}
+
+	@Test
+	public void pipelinedFlushPublishesEveryChatInOrder() throws InterruptedException {
+		assertPublishedInOrder(BatchingChatPublisher.FlushMode.PIPELINED);
+	}
+
+	@Test
+	public void batchedFlushPublishesEveryChatInOrder() throws InterruptedException {
+		assertPublishedInOrder(BatchingChatPublisher.FlushMode.BATCHED);
+	}
+
+	private void assertPublishedInOrder(BatchingChatPublisher.FlushMode flushMode) throws InterruptedException {
+
+		BatchingChatPublisher.Statistics statistics;
+
+		try (BatchingChatPublisher publisher = newPublisher(CHAT_COUNT).withFlushMode(flushMode).start()) {
+
+			timed(() -> {
+				for (int count = 0; count < CHAT_COUNT; count++) {
+					assertThat(publisher.publish(Chat.newChat(this.jonDoe, "Message " + count))).isTrue();
+				}
+			});
+
+			List<String> messages = new ArrayList<>(CHAT_COUNT);
+
+			while (messages.size() < CHAT_COUNT) {
+
+				String message = receivedMessages.poll(5, TimeUnit.SECONDS);
+
+				assertThat(message).describedAs("Received [%d] chats", messages.size()).isNotNull();
+				messages.add(message);
+			}
+
+			for (int count = 0; count < CHAT_COUNT; count++) {
+				assertThat(messages.get(count)).isEqualTo("Message " + count);
+			}
+
+			statistics = publisher.getStatistics();
+		}
+
+		log("%s %s", flushMode, statistics);
+
+		assertThat(statistics.published()).isEqualTo(CHAT_COUNT);
+		assertThat(statistics.dropped()).isZero();
+		assertThat(statistics.failed()).isZero();
+		assertThat(statistics.flushes()).isBetween(1L, (long) CHAT_COUNT);
+		assertThat(statistics.maxFlushLatency()).isGreaterThanOrEqualTo(statistics.averageFlushLatency());
+	}
+
+	@Test
+	public void eachChatIsCountedOnceWhenCommandsFail() {
+
+		byte[] stringKey = "NotAListKey".getBytes();
+
+		getChatRedisTemplate().execute((RedisCallback<?>) connection ->
+			connection.stringCommands().set(stringKey, "value".getBytes()));
+
+		int chatCount = 1_000;
+
+		AtomicInteger sends = new AtomicInteger();
+
+		BatchingChatPublisher failingPublisher = new BatchingChatPublisher(getChatRedisTemplate(), CHANNEL, chatCount) {
+
+			@Override
+			protected void send(@NonNull RedisConnection connection, @NonNull byte[] channel, @NonNull byte[] message) {
+
+				// Every 10th chat is pushed to a String key, failing with WRONGTYPE
+				if (sends.incrementAndGet() % 10 == 0) {
+					connection.listCommands().lPush(stringKey, message);
+				}
+				else {
+					super.send(connection, channel, message);
+				}
+			}
+		};
+
+		try (BatchingChatPublisher publisher = failingPublisher.withBatchSize(100)) {
+
+			for (int count = 0; count < chatCount; count++) {
+				publisher.publish(Chat.newChat(this.jonDoe, "Message " + count));
+			}
+
+			publisher.start();
+		}
+
+		BatchingChatPublisher.Statistics statistics = failingPublisher.getStatistics();
+
+		log("WITH FAILURES %s", statistics);
+
+		assertThat(statistics.queueDepth()).isZero();
+		assertThat(statistics.failed()).isGreaterThanOrEqualTo(chatCount / 10);
+		assertThat(statistics.published() + statistics.failed()).isEqualTo(chatCount);
+	}
+
+	@Test
+	public void overflowPoliciesDropChatsWhenQueueIsFull() {
+
+		BatchingChatPublisher dropNewest = newPublisher(10)
+			.withOverflowPolicy(BatchingChatPublisher.OverflowPolicy.DROP_NEWEST);
+
+		BatchingChatPublisher dropOldest = newPublisher(10)
+			.withOverflowPolicy(BatchingChatPublisher.OverflowPolicy.DROP_OLDEST);
+
+		BatchingChatPublisher block = newPublisher(10)
+			.withOverflowPolicy(BatchingChatPublisher.OverflowPolicy.BLOCK)
+			.withOfferTimeout(Duration.ofMillis(10));
+
+		for (int count = 0; count < 15; count++) {
+			dropNewest.publish(Chat.newChat(this.jonDoe, "Message " + count));
+			dropOldest.publish(Chat.newChat(this.jonDoe, "Message " + count));
+			block.publish(Chat.newChat(this.jonDoe, "Message " + count));
+		}
+
+		assertThat(dropNewest.getQueueDepth()).isEqualTo(10);
+		assertThat(dropNewest.getStatistics().dropped()).isEqualTo(5);
+		assertThat(dropOldest.getQueueDepth()).isEqualTo(10);
+		assertThat(dropOldest.getStatistics().dropped()).isEqualTo(5);
+		assertThat(block.getQueueDepth()).isEqualTo(10);
+		assertThat(block.getStatistics().dropped()).isEqualTo(5);
+	}
+
+	@Test
+	public void batchEnvelopeSplitsIntoChatEnvelopes() {
+
+		List<byte[]> envelopes = List.of(
+			ChatEnvelopeRedisSerializer.INSTANCE.serialize(Chat.newChat(this.jonDoe, "One")),
+			ChatEnvelopeRedisSerializer.INSTANCE.serialize(Chat.newChat(this.jonDoe, "Two")));
+
+		byte[] batch = ChatEnvelope.writeBatch(envelopes, System.currentTimeMillis());
+
+		assertThat(ChatEnvelope.isEnvelope(batch)).isTrue();
+		assertThat(ChatEnvelope.messageType(batch)).isEqualTo(ChatEnvelope.MessageType.BATCH);
+		assertThat(ChatEnvelope.senderHash(batch)).isEqualTo(ChatEnvelope.senderHash("jdoe"));
+		assertThat(ChatEnvelope.batchSize(batch)).isEqualTo(2);
+
+		List<byte[]> entries = new ArrayList<>();
+
+		ChatEnvelope.forEachBatchEntry(batch, entries::add);
+
+		assertThat(entries).containsExactlyElementsOf(envelopes);
+	}
+
+	private BatchingChatPublisher newPublisher(int queueCapacity) {
+		return new BatchingChatPublisher(getChatRedisTemplate(), CHANNEL, queueCapacity).withBatchSize(500);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		RedisTemplate<String, Chat> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+			RedisTemplate<String, Chat> chatRedisTemplate = new RedisTemplate<>();
+
+			chatRedisTemplate.setConnectionFactory(connectionFactory);
+			chatRedisTemplate.setKeySerializer(RedisSerializer.string());
+			chatRedisTemplate.setValueSerializer(ChatEnvelopeRedisSerializer.INSTANCE);
+
+			return chatRedisTemplate;
+		}
+
+		@Bean
+		RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+
+			ChatMessageListener chatMessageListener = chat -> receivedMessages.offer(chat.getMessage());
+
+			RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.addMessageListener(chatMessageListener, ChannelTopic.of(CHANNEL));
+
+			return listenerContainer;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import example.chat.model.Chat;
+import example.chat.model.Person;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatHeaderPredicate;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener;
+import io.vmware.spring.data.redis.pubsub.client.event.LazyChat;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelopeRedisSerializer;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link ChatEnvelope} headers and {@link ChatHeaderPredicate header-filtered}
+ * {@link ChatMessageListener ChatMessageListeners}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.event.ChatHeaderPredicate
+ * @see io.vmware.spring.data.redis.pubsub.client.event.LazyChat
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelope
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class ChatEnvelopeIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String CHANNEL = "chatroom:enveloped";
+
+	private static final AtomicInteger eagerlyDecodedChatCount = new AtomicInteger();
+
+	private static final BlockingQueue<LazyChat> receivedChats = new LinkedBlockingQueue<>();
+
+	@Autowired
+	private RedisTemplate<String, Chat> chatRedisTemplate;
+
+	private final Person jonDoe = Person.newPerson("Jon", "Doe").identifiedBy("jdoe");
+	private final Person janeDoe = Person.newPerson("Jane", "Doe").identifiedBy("jadoe");
+
+	@Test
+	public void headerIsReadableWithoutDecodingPayload() {
+
+		long beforeTimestamp = System.currentTimeMillis();
+
+		byte[] envelope = ChatEnvelopeRedisSerializer.INSTANCE.serialize(Chat.newChat(this.jonDoe, "Hello"));
+
+		assertThat(ChatEnvelope.isEnvelope(envelope)).isTrue();
+		assertThat(ChatEnvelope.messageType(envelope)).isEqualTo(ChatEnvelope.MessageType.CHAT);
+		assertThat(ChatEnvelope.senderHash(envelope)).isEqualTo(ChatEnvelope.senderHash("jdoe"));
+		assertThat(ChatEnvelope.timestamp(envelope)).isBetween(beforeTimestamp, System.currentTimeMillis());
+		assertThat(ChatEnvelope.payloadLength(envelope)).isEqualTo(envelope.length - ChatEnvelope.HEADER_LENGTH);
+
+		LazyChat lazyChat = LazyChat.from(envelope);
+
+		assertThat(lazyChat.isDecoded()).isFalse();
+		assertThat(lazyChat.get().getMessage()).isEqualTo("Hello");
+		assertThat(lazyChat.get().getPerson()).isEqualTo(this.jonDoe);
+		assertThat(lazyChat.isDecoded()).isTrue();
+	}
+
+	@Test
+	public void bareAndJavaSerializedPayloadsAreNotEnvelopes() {
+
+		Chat chat = Chat.newChat(this.jonDoe, "Hello");
+
+		byte[] bare = ChatRedisSerializer.INSTANCE.serialize(chat);
+
+		assertThat(ChatEnvelope.isEnvelope(bare)).isFalse();
+		assertThat(ChatEnvelope.isEnvelope(RedisSerializer.java().serialize(chat))).isFalse();
+		assertThat(ChatEnvelopeRedisSerializer.INSTANCE.deserialize(bare).getMessage()).isEqualTo("Hello");
+	}
+
+	@Test
+	public void filteredListenerReceivesOnlyMatchingSendersWithoutDecodingOthers() throws InterruptedException {
+
+		for (int count = 0; count < 100; count++) {
+			this.chatRedisTemplate.convertAndSend(CHANNEL, Chat.newChat(this.janeDoe, "Ignore me " + count));
+		}
+
+		this.chatRedisTemplate.convertAndSend(CHANNEL, Chat.newChat(this.jonDoe, "Hello Jon"));
+
+		LazyChat receivedChat = receivedChats.poll(5, TimeUnit.SECONDS);
+
+		assertThat(receivedChat).isNotNull();
+		assertThat(receivedChat.get().getMessage()).isEqualTo("Hello Jon");
+		assertThat(receivedChats.poll(250, TimeUnit.MILLISECONDS)).isNull();
+		assertThat(eagerlyDecodedChatCount.get()).isZero();
+	}
+
+	@Test
+	public void renderingListenerRendersEnvelopedAndBareChats() {
+
+		List<String> renderedMessages = new ArrayList<>();
+
+		ChatMessageListener chatMessageListener = ChatMessageListener.rendering(chat -> {
+			renderedMessages.add(chat.getMessage());
+			return chat.getMessage();
+		});
+
+		byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+		chatMessageListener.onMessage(new DefaultMessage(channel,
+			ChatEnvelopeRedisSerializer.INSTANCE.serialize(Chat.newChat(this.jonDoe, "Enveloped"))), null);
+
+		chatMessageListener.onMessage(new DefaultMessage(channel,
+			ChatRedisSerializer.INSTANCE.serialize(Chat.newChat(this.jonDoe, "Bare"))), null);
+
+		assertThat(renderedMessages).containsExactly("Enveloped", "Bare");
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		RedisTemplate<String, Chat> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+			RedisTemplate<String, Chat> chatRedisTemplate = new RedisTemplate<>();
+
+			chatRedisTemplate.setConnectionFactory(connectionFactory);
+			chatRedisTemplate.setKeySerializer(RedisSerializer.string());
+			chatRedisTemplate.setValueSerializer(ChatEnvelopeRedisSerializer.INSTANCE);
+
+			return chatRedisTemplate;
+		}
+
+		@Bean
+		RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+
+			ChatMessageListener chatMessageListener = new ChatMessageListener() {
+
+				@Override
+				public void receive(LazyChat chat) {
+					receivedChats.offer(chat);
+				}
+
+				@Override
+				public void receive(Chat chat) {
+					eagerlyDecodedChatCount.incrementAndGet();
+				}
+			};
+
+			ChatHeaderPredicate headerPredicate = ChatHeaderPredicate.fromSenders("jdoe")
+				.and(ChatHeaderPredicate.notOlderThan(Duration.ofMinutes(1)));
+
+			RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.addMessageListener(ChatMessageListener.filtered(headerPredicate, chatMessageListener),
+				ChannelTopic.of(CHANNEL));
+
+			return listenerContainer;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import example.chat.model.Chat;
+import example.chat.model.Gender;
+import example.chat.model.Person;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link ChatRedisSerializer} publishing and receiving {@link Chat Chats}
+ * with Redis pub/sub.
+ *
+ * @author John Blum
+ * @see example.chat.model.Chat
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.serializer.ChatRedisSerializer
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class ChatRedisSerializerIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String CHANNEL = "chatroom";
+
+	private static final BlockingQueue<Chat> receivedChats = new LinkedBlockingQueue<>();
+
+	@Autowired
+	private RedisTemplate<String, Chat> chatRedisTemplate;
+
+	private final Person jonDoe = Person.newPerson("Jon", "Doe")
+		.identifiedBy("jdoe")
+		.as(Gender.MALE)
+		.born(LocalDateTime.of(1974, 5, 15, 12, 30));
+
+	@Test
+	public void roundTripIsCompactAndLossless() {
+
+		Chat chat = Chat.newChat(this.jonDoe, "Hello Wörld 👋");
+
+		byte[] bytes = ChatRedisSerializer.INSTANCE.serialize(chat);
+		Chat decodedChat = ChatRedisSerializer.INSTANCE.deserialize(bytes);
+
+		log("BYTES PER MESSAGE compact [%d], java [%d]%n", bytes.length, RedisSerializer.java().serialize(chat).length);
+
+		assertThat(bytes[0]).isEqualTo(ChatRedisSerializer.SCHEMA_VERSION);
+		assertThat(bytes.length).isLessThan(RedisSerializer.java().serialize(chat).length / 4);
+		assertThat(decodedChat.getMessage()).isEqualTo(chat.getMessage());
+		assertThat(decodedChat.getPerson()).isEqualTo(this.jonDoe);
+		assertThat(decodedChat.getPerson().getId()).isEqualTo("jdoe");
+		assertThat(decodedChat.getPerson().getGender()).isEqualTo(Gender.MALE);
+		assertThat(ChatRedisSerializer.INSTANCE.deserialize(bytes).getPerson()).isSameAs(decodedChat.getPerson());
+	}
+
+	@Test
+	public void decodesLegacyJavaSerializedChats() {
+
+		Chat chat = Chat.newChat(this.jonDoe, "Legacy");
+
+		Chat decodedChat = ChatRedisSerializer.INSTANCE.deserialize(RedisSerializer.java().serialize(chat));
+
+		assertThat(decodedChat.getMessage()).isEqualTo("Legacy");
+		assertThat(decodedChat.getPerson()).isEqualTo(this.jonDoe);
+	}
+
+	@Test
+	public void publishAndReceiveChats() throws InterruptedException {
+
+		Person janeDoe = Person.newPerson("Jane", "Doe").as(Gender.FEMALE);
+
+		this.chatRedisTemplate.convertAndSend(CHANNEL, Chat.newChat(this.jonDoe, "Hi Jane"));
+		this.chatRedisTemplate.convertAndSend(CHANNEL, Chat.newChat(janeDoe, "Hi Jon"));
+		this.chatRedisTemplate.convertAndSend(CHANNEL, Chat.newChat(this.jonDoe, null));
+
+		Chat first = receivedChats.poll(5, TimeUnit.SECONDS);
+		Chat second = receivedChats.poll(5, TimeUnit.SECONDS);
+		Chat third = receivedChats.poll(5, TimeUnit.SECONDS);
+
+		assertThat(first).isNotNull();
+		assertThat(first.getPerson()).isEqualTo(this.jonDoe);
+		assertThat(first.getMessage()).isEqualTo("Hi Jane");
+		assertThat(second).isNotNull();
+		assertThat(second.getPerson()).isEqualTo(janeDoe);
+		assertThat(second.getMessage()).isEqualTo("Hi Jon");
+		assertThat(third).isNotNull();
+		assertThat(third.getPerson()).isSameAs(first.getPerson());
+		assertThat(third.getMessage()).isNull();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		RedisTemplate<String, Chat> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+			RedisTemplate<String, Chat> chatRedisTemplate = new RedisTemplate<>();
+
+			chatRedisTemplate.setConnectionFactory(connectionFactory);
+			chatRedisTemplate.setKeySerializer(RedisSerializer.string());
+			chatRedisTemplate.setValueSerializer(ChatRedisSerializer.INSTANCE);
+
+			return chatRedisTemplate;
+		}
+
+		@Bean
+		RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+
+			ChatMessageListener chatMessageListener = receivedChats::offer;
+
+			RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.addMessageListener(chatMessageListener, ChannelTopic.of(CHANNEL));
+
+			return listenerContainer;
+		}
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisKeyExpiredEvent;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.KeyExpirationEventMessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.pubsub.client.event.KeyExpirationTracker;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link KeyExpirationTracker}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see org.springframework.data.redis.core.RedisKeyExpiredEvent
+ * @see io.vmware.spring.data.redis.pubsub.client.event.KeyExpirationTracker
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class KeyExpirationTrackerIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int KEY_COUNT = 100;
+
+	private static final Duration TIME_TO_LIVE = Duration.ofMillis(500);
+
+	private static final Map<String, Long> expiryTimes = new ConcurrentHashMap<>();
+
+	private static final Map<String, Integer> expiryEventCounts = new ConcurrentHashMap<>();
+
+	@Autowired
+	private KeyExpirationTracker keyExpirationTracker;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Test
+	public void trackedKeysExpireOnTimeAndAreReconciledWithRedis() throws InterruptedException {
+
+		Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+		for (int count = 0; count < KEY_COUNT; count++) {
+
+			String key = "tracked:key:" + count;
+
+			getRedisTemplate().opsForValue().set(key, String.valueOf(count), TIME_TO_LIVE);
+			deadlines.put(key, System.nanoTime() + TIME_TO_LIVE.toNanos());
+			getKeyExpirationTracker().track(key, TIME_TO_LIVE);
+		}
+
+		getRedisTemplate().opsForValue().set("untracked:key", "0", TIME_TO_LIVE);
+
+		await(() -> getKeyExpirationTracker().getStatistics().expired() == KEY_COUNT);
+
+		deadlines.forEach((key, deadline) -> assertThat(expiryTimes.get(key) - deadline)
+			.describedAs("Expiry of key [%s] was early or late", key)
+			.isBetween(0L, TimeUnit.MILLISECONDS.toNanos(100)));
+
+		await(() -> {
+			KeyExpirationTracker.Statistics statistics = getKeyExpirationTracker().getStatistics();
+			return statistics.confirmed() + statistics.early() == KEY_COUNT && statistics.untracked() == 1;
+		});
+
+		log("%s", getKeyExpirationTracker().getStatistics());
+
+		assertThat(expiryEventCounts).hasSize(KEY_COUNT + 1);
+		assertThat(expiryEventCounts.values()).containsOnly(1);
+		assertThat(getKeyExpirationTracker().getTrackedKeyCount()).isZero();
+	}
+
+	private static void await(Condition condition) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (!condition.isSatisfied()) {
+			assertThat(System.nanoTime()).describedAs("Timed out waiting for condition").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	@FunctionalInterface
+	interface Condition {
+		boolean isSatisfied();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		KeyExpirationTracker keyExpirationTracker(ApplicationEventPublisher eventPublisher) {
+			return new KeyExpirationTracker(eventPublisher).start();
+		}
+
+		@Bean
+		RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+
+			RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+			listenerContainer.setConnectionFactory(connectionFactory);
+
+			return listenerContainer;
+		}
+
+		@Bean
+		KeyExpirationEventMessageListener keyExpirationEventMessageListener(
+				RedisMessageListenerContainer listenerContainer, KeyExpirationTracker keyExpirationTracker) {
+
+			return keyExpirationTracker.newKeyExpirationEventMessageListener(listenerContainer);
+		}
+
+		@EventListener
+		public void handle(RedisKeyExpiredEvent<?> event) {
+
+			String key = new String(event.getSource(), StandardCharsets.UTF_8);
+
+			expiryTimes.putIfAbsent(key, System.nanoTime());
+			expiryEventCounts.merge(key, 1, Integer::sum);
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.pubsub.client.event.StripedMessageListener;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link StripedMessageListener}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.event.StripedMessageListener
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class StripedMessageListenerIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int MESSAGE_COUNT = 1_000;
+	private static final int SLOW_MESSAGE_COUNT = 50;
+
+	private static final List<String> FAST_CHANNELS =
+		List.of("striped:alpha", "striped:bravo", "striped:charlie", "striped:delta");
+
+	private static final String SLOW_CHANNEL = "striped:slow";
+
+	private static final CountDownLatch fastMessagesLatch = new CountDownLatch(FAST_CHANNELS.size() * MESSAGE_COUNT);
+
+	private static final Map<String, List<Integer>> receivedMessages = new ConcurrentHashMap<>();
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private StripedMessageListener stripedMessageListener;
+
+	@Test
+	public void messagesAreOrderedPerChannelAndSlowChannelDoesNotBlockOthers() throws InterruptedException {
+
+		for (int count = 0; count < MESSAGE_COUNT; count++) {
+
+			if (count < SLOW_MESSAGE_COUNT) {
+				getRedisTemplate().convertAndSend(SLOW_CHANNEL, String.valueOf(count));
+			}
+
+			for (String channel : FAST_CHANNELS) {
+				getRedisTemplate().convertAndSend(channel, String.valueOf(count));
+			}
+		}
+
+		assertThat(fastMessagesLatch.await(10, TimeUnit.SECONDS)).isTrue();
+
+		getStripedMessageListener().getStatistics().forEach(statistics -> log("%s", statistics));
+
+		for (String channel : FAST_CHANNELS) {
+			assertInOrder(receivedMessages.get(channel), MESSAGE_COUNT);
+		}
+
+		getStripedMessageListener().close();
+
+		assertInOrder(receivedMessages.get(SLOW_CHANNEL), SLOW_MESSAGE_COUNT);
+
+		assertThat(getStripedMessageListener().getStatistics())
+			.allSatisfy(statistics -> {
+				assertThat(statistics.queueDepth()).isZero();
+				assertThat(statistics.dropped()).isZero();
+				assertThat(statistics.failed()).isZero();
+			});
+	}
+
+	@Test
+	public void combinedMessagesAreSplitAndOrderedPerUnitKey() throws InterruptedException {
+
+		Map<String, List<Integer>> receivedUnits = new ConcurrentHashMap<>();
+
+		CountDownLatch unitsLatch = new CountDownLatch(3 * MESSAGE_COUNT);
+
+		StripedMessageListener listener = new StripedMessageListener((message, pattern) -> {
+
+			String[] unit = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+			receivedUnits.computeIfAbsent(unit[0], key -> Collections.synchronizedList(new ArrayList<>()))
+				.add(Integer.parseInt(unit[1]));
+
+			unitsLatch.countDown();
+
+		}, 4, 10_000)
+			.withMessageSplitter((message, unitConsumer) -> {
+				for (String unit : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+					byte[] unitBody = unit.getBytes(StandardCharsets.UTF_8);
+					unitConsumer.accept(new DefaultMessage(message.getChannel(), unitBody));
+				}
+			})
+			.withStripeKeyExtractor(message ->
+				new String(message.getBody(), StandardCharsets.UTF_8).split(":")[0].hashCode())
+			.start();
+
+		byte[] channel = "batched".getBytes(StandardCharsets.UTF_8);
+
+		try {
+			// Each sender's messages are published alone and combined with the messages of other senders
+			for (int count = 0; count < MESSAGE_COUNT; count++) {
+
+				String body = count % 2 == 0
+					? String.format("alice:%1$d,bob:%1$d,carol:%1$d", count)
+					: String.format("alice:%1$d", count);
+
+				listener.onMessage(new DefaultMessage(channel, body.getBytes(StandardCharsets.UTF_8)), null);
+
+				if (count % 2 != 0) {
+					listener.onMessage(new DefaultMessage(channel,
+						String.format("bob:%1$d,carol:%1$d", count).getBytes(StandardCharsets.UTF_8)), null);
+				}
+			}
+
+			assertThat(unitsLatch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			listener.close();
+		}
+
+		assertThat(receivedUnits).containsOnlyKeys("alice", "bob", "carol");
+		receivedUnits.values().forEach(units -> assertInOrder(units, MESSAGE_COUNT));
+		assertThat(listener.getStatistics().stream().filter(statistics -> statistics.dispatched() > 0).count())
+			.isGreaterThan(1);
+	}
+
+	private void assertInOrder(List<Integer> messages, int expectedCount) {
+
+		assertThat(messages).hasSize(expectedCount);
+
+		for (int index = 0; index < expectedCount; index++) {
+			assertThat(messages.get(index)).isEqualTo(index);
+		}
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		StripedMessageListener stripedMessageListener() {
+
+			return new StripedMessageListener((message, pattern) -> {
+
+				String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+				int value = Integer.parseInt(new String(message.getBody(), StandardCharsets.UTF_8));
+
+				receivedMessages.computeIfAbsent(channel, key -> Collections.synchronizedList(new ArrayList<>()))
+					.add(value);
+
+				if (SLOW_CHANNEL.equals(channel)) {
+					sleep(Duration.ofMillis(20));
+				}
+				else {
+					fastMessagesLatch.countDown();
+				}
+
+			}, FAST_CHANNELS.size() + 1, 10_000)
+				.withStripeKeyExtractor(message -> FAST_CHANNELS.indexOf(new String(message.getChannel(),
+					StandardCharsets.UTF_8)))
+				.start();
+		}
+
+		@Bean
+		RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+				StripedMessageListener stripedMessageListener) {
+
+			RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+
+			listenerContainer.setConnectionFactory(connectionFactory);
+			listenerContainer.setTaskExecutor(new SyncTaskExecutor());
+			listenerContainer.addMessageListener(stripedMessageListener, PatternTopic.of("striped:*"));
+
+			return listenerContainer;
+		}
+
+		private static void sleep(Duration duration) {
+
+			try {
+				Thread.sleep(duration.toMillis());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
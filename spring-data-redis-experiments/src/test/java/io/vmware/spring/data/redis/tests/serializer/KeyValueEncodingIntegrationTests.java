@@ -0,0 +1,176 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.vmware.spring.data.redis.serializer.BinaryUuidRedisSerializer;
+import io.vmware.spring.data.redis.serializer.PrefixedKeyEncoder;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for {@link PrefixedKeyEncoder} and {@link BinaryUuidRedisSerializer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.serializer.BinaryUuidRedisSerializer
+ * @see io.vmware.spring.data.redis.serializer.PrefixedKeyEncoder
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class KeyValueEncodingIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final String KEY_PREFIX = "uuid:";
+
+	@Autowired
+	private RedisTemplate<Long, UUID> uuidRedisTemplate;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Test
+	public void encodesKeysLikeStringConcatenation() {
+
+		PrefixedKeyEncoder keyEncoder = PrefixedKeyEncoder.forPrefix("key:");
+
+		byte[] buffer = new byte[64];
+		ByteBuffer directBuffer = ByteBuffer.allocateDirect(64);
+		ByteBuffer heapBuffer = ByteBuffer.wrap(new byte[80], 8, 64).slice();
+
+		LongStream.concat(LongStream.rangeClosed(-1_000, 1_000),
+			LongStream.of(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE + 1L, 9_999_999_999L)).forEach(suffix -> {
+
+				byte[] expectedKey = ("key:" + suffix).getBytes(StandardCharsets.UTF_8);
+				int length = keyEncoder.encode(suffix, buffer, 3);
+
+				assertThat(keyEncoder.encode(suffix)).isEqualTo(expectedKey);
+				assertThat(length).isEqualTo(expectedKey.length);
+				assertThat(ByteBuffer.wrap(buffer, 3, length)).isEqualTo(ByteBuffer.wrap(expectedKey));
+				assertThat(keyEncoder.encode(suffix, directBuffer.clear()).flip())
+					.isEqualTo(ByteBuffer.wrap(expectedKey));
+				assertThat(keyEncoder.encode(suffix, heapBuffer.clear().position(3)).flip().position(3))
+					.isEqualTo(ByteBuffer.wrap(expectedKey));
+				assertThat(keyEncoder.decode(expectedKey)).isEqualTo(suffix);
+			});
+
+		assertThat(PrefixedKeyEncoder.forPrefix("key:")).isSameAs(keyEncoder);
+		assertThat(keyEncoder.matches("other:1".getBytes())).isFalse();
+		assertThatExceptionOfType(SerializationException.class)
+			.isThrownBy(() -> keyEncoder.deserialize("key:12x".getBytes()));
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+			.isThrownBy(() -> keyEncoder.encode(Long.MAX_VALUE, new byte[10], 0));
+
+		ByteBuffer smallHeapBuffer = ByteBuffer.wrap(new byte[64], 0, 10);
+		ByteBuffer smallDirectBuffer = ByteBuffer.allocateDirect(10);
+
+		assertThatExceptionOfType(BufferOverflowException.class)
+			.isThrownBy(() -> keyEncoder.encode(Long.MAX_VALUE, smallHeapBuffer));
+		assertThatExceptionOfType(BufferOverflowException.class)
+			.isThrownBy(() -> keyEncoder.encode(Long.MAX_VALUE, smallDirectBuffer));
+		assertThat(smallHeapBuffer.position()).isZero();
+		assertThat(smallDirectBuffer.position()).isZero();
+	}
+
+	@Test
+	public void encodesUuidsInSixteenBytes() {
+
+		SplittableRandom random = new SplittableRandom(42L);
+		byte[] buffer = new byte[BinaryUuidRedisSerializer.UUID_LENGTH];
+
+		for (int count = 0; count < 1_000; count++) {
+
+			UUID uuid = UUID.randomUUID();
+			byte[] bytes = BinaryUuidRedisSerializer.INSTANCE.serialize(uuid);
+
+			assertThat(bytes).hasSize(BinaryUuidRedisSerializer.UUID_LENGTH);
+			assertThat(BinaryUuidRedisSerializer.INSTANCE.deserialize(bytes)).isEqualTo(uuid);
+			assertThat(BinaryUuidRedisSerializer.INSTANCE.deserialize(uuid.toString().getBytes())).isEqualTo(uuid);
+
+			BinaryUuidRedisSerializer.writeRandom(random, buffer, 0);
+
+			UUID randomUuid = BinaryUuidRedisSerializer.read(buffer, 0);
+
+			assertThat(randomUuid.version()).isEqualTo(4);
+			assertThat(randomUuid.variant()).isEqualTo(2);
+		}
+
+		assertThatExceptionOfType(SerializationException.class)
+			.isThrownBy(() -> BinaryUuidRedisSerializer.INSTANCE.deserialize(new byte[20]));
+	}
+
+	@Test
+	public void storesEncodedKeysAndValuesInRedis() {
+
+		UUID uuid = UUID.randomUUID();
+
+		getUuidRedisTemplate().opsForValue().set(42L, uuid);
+
+		assertThat(getUuidRedisTemplate().opsForValue().get(42L)).isEqualTo(uuid);
+		assertThat(getUuidRedisTemplate().keys(42L)).containsExactly(42L);
+		assertThat(getStringRedisTemplate().hasKey(KEY_PREFIX + 42)).isTrue();
+		assertThat(getStringRedisTemplate().opsForValue().size(KEY_PREFIX + 42))
+			.isEqualTo(BinaryUuidRedisSerializer.UUID_LENGTH);
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		RedisTemplate<Long, UUID> uuidRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+			RedisTemplate<Long, UUID> uuidRedisTemplate = new RedisTemplate<>();
+
+			uuidRedisTemplate.setConnectionFactory(connectionFactory);
+			uuidRedisTemplate.setKeySerializer(PrefixedKeyEncoder.forPrefix(KEY_PREFIX));
+			uuidRedisTemplate.setValueSerializer(BinaryUuidRedisSerializer.INSTANCE);
+
+			return uuidRedisTemplate;
+		}
+	}
+}
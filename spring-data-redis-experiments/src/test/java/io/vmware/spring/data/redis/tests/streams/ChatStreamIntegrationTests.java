@@ -0,0 +1,237 @@
+/*
+ * Copyright 2023-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.vmware.spring.data.redis.tests.streams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import example.chat.model.Chat;
+import example.chat.model.Person;
+import io.vmware.spring.data.redis.pubsub.client.event.BatchingChatPublisher;
+import io.vmware.spring.data.redis.pubsub.client.event.ChatMessageListener;
+import io.vmware.spring.data.redis.pubsub.client.serializer.ChatEnvelopeRedisSerializer;
+import io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamConsumer;
+import io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamPublisher;
+import io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests;
+import lombok.Getter;
+
+/**
+ * Integration Tests for the Redis Streams chat transport using {@link ChatStreamPublisher}
+ * and {@link ChatStreamConsumer}.
+ *
+ * @author John Blum
+ * @see org.junit.jupiter.api.Test
+ * @see org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamConsumer
+ * @see io.vmware.spring.data.redis.pubsub.client.stream.ChatStreamPublisher
+ * @see io.vmware.spring.data.redis.tests.AbstractRedisIntegrationTests
+ * @since 0.1.0
+ */
+@Getter
+@ActiveProfiles("lettuce")
+@DataRedisTest(properties = "spring.data.redis.repositories.enabled=false")
+@SuppressWarnings("unused")
+public class ChatStreamIntegrationTests extends AbstractRedisIntegrationTests {
+
+	private static final int CHAT_COUNT = 10_000;
+
+	private static final String GROUP = "chat-clients";
+
+	@Autowired
+	private RedisTemplate<String, Chat> chatRedisTemplate;
+
+	private final Person jonDoe = Person.newPerson("Jon", "Doe").identifiedBy("jdoe");
+
+	private final String streamKey = "chatroom:stream:" + System.nanoTime();
+
+	@AfterEach
+	public void deleteStream() {
+		getChatRedisTemplate().delete(this.streamKey);
+	}
+
+	@Test
+	public void consumersShareStreamAndAcknowledgeEveryEntry() {
+
+		Set<String> messages = ConcurrentHashMap.newKeySet();
+
+		ChatMessageListener chatMessageListener = chat -> messages.add(chat.getMessage());
+
+		try (ChatStreamConsumer consumer = newConsumer(chatMessageListener).withConsumerCount(4).start();
+				BatchingChatPublisher publisher = newPublisher().start()) {
+
+			Duration duration = timed(() -> {
+
+				for (int count = 0; count < CHAT_COUNT; count++) {
+					publisher.publish(Chat.newChat(this.jonDoe, "Message " + count));
+				}
+
+				await(() -> messages.size() == CHAT_COUNT);
+			});
+
+			log("Streamed [%d] chats in [%d ms]", CHAT_COUNT, duration.toMillis());
+
+			await(() -> consumer.getPendingCount() == 0);
+
+			assertThat(publisher.getStatistics().published()).isEqualTo(CHAT_COUNT);
+			assertThat(consumer.getStatistics().failed()).isZero();
+		}
+
+		assertThat(messages).hasSize(CHAT_COUNT);
+	}
+
+	@Test
+	public void failedEntriesAreReclaimed() {
+
+		AtomicBoolean failing = new AtomicBoolean(true);
+		Set<String> messages = Collections.synchronizedSet(new HashSet<>());
+
+		ChatMessageListener chatMessageListener = chat -> {
+			if (failing.getAndSet(false)) {
+				throw new IllegalStateException("TEST");
+			}
+			messages.add(chat.getMessage());
+		};
+
+		try (ChatStreamConsumer consumer = newConsumer(chatMessageListener)
+				.withMinIdleTime(Duration.ofMillis(100))
+				.withReclaimInterval(Duration.ofMillis(100))
+				.start();
+				BatchingChatPublisher publisher = newPublisher().start()) {
+
+			publisher.publish(Chat.newChat(this.jonDoe, "Hello"));
+			publisher.publish(Chat.newChat(this.jonDoe, "World"));
+
+			await(() -> messages.size() == 2);
+			await(() -> consumer.getPendingCount() == 0);
+
+			assertThat(messages).containsExactlyInAnyOrder("Hello", "World");
+			assertThat(consumer.getStatistics().failed()).isOne();
+			assertThat(consumer.getStatistics().reclaimed()).isOne();
+		}
+	}
+
+	@Test
+	public void streamIsTrimmedToMaxLength() {
+
+		try (BatchingChatPublisher publisher = newPublisher()
+				.withMaxLength(100)
+				.withApproximateTrimming(false)
+				.start()) {
+
+			for (int count = 0; count < 1_000; count++) {
+				publisher.publish(Chat.newChat(this.jonDoe, "Message " + count));
+			}
+		}
+
+		assertThat(getChatRedisTemplate().opsForStream().size(this.streamKey)).isEqualTo(100L);
+	}
+
+	private ChatStreamConsumer newConsumer(ChatMessageListener chatMessageListener) {
+
+		return new ChatStreamConsumer(getChatRedisTemplate(), this.streamKey, GROUP, chatMessageListener)
+			.withBlockTimeout(Duration.ofMillis(100));
+	}
+
+	@Test
+	public void eachStreamEntryContainsOneChat() {
+
+		try (BatchingChatPublisher publisher = newPublisher().withBatchSize(64).start()) {
+
+			for (int count = 0; count < 1_000; count++) {
+				publisher.publish(Chat.newChat(this.jonDoe, "Message " + count));
+			}
+		}
+
+		assertThat(getChatRedisTemplate().opsForStream().size(this.streamKey)).isEqualTo(1_000L);
+	}
+
+	@Test
+	public void batchedFlushModeIsRejected() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> newPublisher().withFlushMode(BatchingChatPublisher.FlushMode.BATCHED));
+	}
+
+	private ChatStreamPublisher newPublisher() {
+		return new ChatStreamPublisher(getChatRedisTemplate(), this.streamKey, CHAT_COUNT);
+	}
+
+	private static void await(Condition condition) {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (!condition.isSatisfied()) {
+
+			assertThat(System.nanoTime()).describedAs("Timed out waiting for condition").isLessThan(deadline);
+
+			try {
+				Thread.sleep(10);
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	interface Condition {
+		boolean isSatisfied();
+	}
+
+	@SpringBootConfiguration
+	static class RedisTestConfiguration {
+
+		@Bean
+		RedisConfiguration redisConfiguration(RedisProperties redisProperties) {
+			return redisStandaloneConfiguration(redisProperties);
+		}
+
+		@Bean
+		RedisTemplate<String, Chat> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
+
+			RedisTemplate<String, Chat> chatRedisTemplate = new RedisTemplate<>();
+
+			chatRedisTemplate.setConnectionFactory(connectionFactory);
+			chatRedisTemplate.setKeySerializer(RedisSerializer.string());
+			chatRedisTemplate.setValueSerializer(ChatEnvelopeRedisSerializer.INSTANCE);
+
+			return chatRedisTemplate;
+		}
+	}
+}